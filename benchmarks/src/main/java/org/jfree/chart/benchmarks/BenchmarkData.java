@@ -0,0 +1,121 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * BenchmarkData.java
+ * ------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.DefaultXYDataset;
+
+/**
+ * Creates the (reproducible) datasets and drawing surfaces used by the
+ * benchmarks.
+ */
+public final class BenchmarkData {
+
+    /** The seed for the random number generators. */
+    private static final long SEED = 20220515L;
+
+    private BenchmarkData() {
+        // no requirement to instantiate
+    }
+
+    /**
+     * Creates a dataset where each series is a random walk with x-values
+     * in ascending order.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The dataset.
+     */
+    public static DefaultXYDataset<String> createXYDataset(int seriesCount,
+            int itemCount) {
+        Random random = new Random(SEED);
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        for (int s = 0; s < seriesCount; s++) {
+            double[] x = new double[itemCount];
+            double[] y = new double[itemCount];
+            double value = 100.0;
+            for (int i = 0; i < itemCount; i++) {
+                value += random.nextGaussian();
+                x[i] = i;
+                y[i] = value;
+            }
+            dataset.addSeries("S" + s, new double[][] {x, y});
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a category dataset with random values.
+     *
+     * @param rowCount  the number of rows (series).
+     * @param columnCount  the number of columns (categories).
+     *
+     * @return The dataset.
+     */
+    public static DefaultCategoryDataset<String, String> createCategoryDataset(
+            int rowCount, int columnCount) {
+        Random random = new Random(SEED);
+        DefaultCategoryDataset<String, String> dataset
+                = new DefaultCategoryDataset<>();
+        for (int c = 0; c < columnCount; c++) {
+            String column = "C" + c;
+            for (int r = 0; r < rowCount; r++) {
+                dataset.addValue(random.nextDouble() * 100.0, "R" + r, column);
+            }
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates an image for the benchmarks to draw on.  This does not require
+     * a display, so the benchmarks can run with
+     * {@code -Djava.awt.headless=true}.
+     *
+     * @param width  the width.
+     * @param height  the height.
+     *
+     * @return The image.
+     */
+    public static BufferedImage createImage(int width, int height) {
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+}
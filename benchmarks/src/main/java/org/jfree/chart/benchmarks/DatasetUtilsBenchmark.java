@@ -0,0 +1,131 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * DatasetUtilsBenchmark.java
+ * --------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetUtils;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to find the range bounds for a dataset.  The
+ * {@code findRangeBounds} benchmarks use the public entry point (which
+ * takes advantage of any cached bounds the dataset maintains) and the
+ * {@code iterateRangeBounds} benchmarks visit every item.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+public class DatasetUtilsBenchmark {
+
+    /** The total number of items in the dataset. */
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int itemCount;
+
+    private DefaultXYDataset<String> xyDataset;
+
+    private DefaultCategoryDataset<String, String> categoryDataset;
+
+    /**
+     * Creates the datasets.
+     */
+    @Setup
+    public void setUp() {
+        this.xyDataset = BenchmarkData.createXYDataset(10,
+                this.itemCount / 10);
+        // category datasets with millions of items are not realistic
+        this.categoryDataset = BenchmarkData.createCategoryDataset(10,
+                Math.min(this.itemCount, 100000) / 10);
+    }
+
+    /**
+     * Finds the range bounds for an XY dataset.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range findRangeBoundsXY() {
+        return DatasetUtils.findRangeBounds(this.xyDataset);
+    }
+
+    /**
+     * Finds the range bounds for an XY dataset by visiting every item.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range iterateRangeBoundsXY() {
+        return DatasetUtils.iterateRangeBounds(this.xyDataset);
+    }
+
+    /**
+     * Finds the range bounds for a category dataset.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range findRangeBoundsCategory() {
+        return DatasetUtils.findRangeBounds(this.categoryDataset);
+    }
+
+    /**
+     * Finds the range bounds for a category dataset by visiting every item.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range iterateRangeBoundsCategory() {
+        return DatasetUtils.iterateRangeBounds(this.categoryDataset);
+    }
+
+}
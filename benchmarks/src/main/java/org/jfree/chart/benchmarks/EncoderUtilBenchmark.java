@@ -0,0 +1,110 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * EncoderUtilBenchmark.java
+ * -------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.encoders.EncoderUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to encode a chart image with
+ * {@link EncoderUtil#encode(BufferedImage, String)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+public class EncoderUtilBenchmark {
+
+    /** The image size (width x height). */
+    @Param({"400x300", "800x600", "1920x1080"})
+    public String size;
+
+    /** The image format. */
+    @Param({"png", "jpeg"})
+    public String format;
+
+    private BufferedImage image;
+
+    /**
+     * Draws a chart to the image that is encoded by the benchmark.
+     */
+    @Setup
+    public void setUp() {
+        int x = this.size.indexOf('x');
+        int width = Integer.parseInt(this.size.substring(0, x));
+        int height = Integer.parseInt(this.size.substring(x + 1));
+        JFreeChart chart = ChartFactory.createXYLineChart("Encoder", "X", "Y",
+                BenchmarkData.createXYDataset(3, 1000));
+        this.image = BenchmarkData.createImage(width, height);
+        Graphics2D g2 = this.image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, width, height));
+        g2.dispose();
+    }
+
+    /**
+     * Encodes the image.
+     *
+     * @return The encoded image.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return EncoderUtil.encode(this.image, this.format);
+    }
+
+}
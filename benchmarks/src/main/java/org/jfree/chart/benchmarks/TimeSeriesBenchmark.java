@@ -0,0 +1,149 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * TimeSeriesBenchmark.java
+ * ------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.TimeSeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to append items to a {@link TimeSeries}, both with no
+ * limit on the item count and with a limit of 10,000 items (in which case
+ * the oldest items are discarded, as in a typical "live" chart, with and
+ * without the ring buffer mode).  Each
+ * benchmark invocation adds {@code itemCount} items to an empty series.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+public class TimeSeriesBenchmark {
+
+    /** The number of items to add. */
+    @Param({"1000", "100000", "1000000"})
+    public int itemCount;
+
+    /** The time periods for the items (created once, in the set-up). */
+    private FixedMillisecond[] periods;
+
+    /**
+     * Creates the time periods.
+     */
+    @Setup
+    public void setUp() {
+        this.periods = new FixedMillisecond[this.itemCount];
+        for (int i = 0; i < this.itemCount; i++) {
+            this.periods[i] = new FixedMillisecond(i * 1000L);
+        }
+    }
+
+    /**
+     * Adds items to a series with no limit on the item count.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries<String> add() {
+        TimeSeries<String> series = new TimeSeries<>("S1");
+        for (int i = 0; i < this.itemCount; i++) {
+            series.add(this.periods[i], i, false);
+        }
+        return series;
+    }
+
+    /**
+     * Adds items to a series that retains at most 10,000 items.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries<String> addWithMaximumItemCount() {
+        TimeSeries<String> series = new TimeSeries<>("S1");
+        series.setMaximumItemCount(10000);
+        for (int i = 0; i < this.itemCount; i++) {
+            series.add(this.periods[i], i, false);
+        }
+        return series;
+    }
+
+    /**
+     * Adds items to a series that retains at most 10,000 items, using the
+     * ring buffer mode.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries<String> addWithMaximumItemCountRingBuffer() {
+        TimeSeries<String> series = new TimeSeries<>("S1");
+        series.setMaximumItemCount(10000);
+        series.setRingBufferMode(true);
+        for (int i = 0; i < this.itemCount; i++) {
+            series.add(this.periods[i], i, false);
+        }
+        return series;
+    }
+
+    /**
+     * Adds items to a series with no limit on the item count, sending a
+     * change event for each item.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries<String> addWithNotify() {
+        TimeSeries<String> series = new TimeSeries<>("S1");
+        for (int i = 0; i < this.itemCount; i++) {
+            series.add(this.periods[i], i);
+        }
+        return series;
+    }
+
+}
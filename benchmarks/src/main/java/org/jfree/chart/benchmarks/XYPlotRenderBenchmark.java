@@ -0,0 +1,127 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * XYPlotRenderBenchmark.java
+ * --------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to draw an XY line chart (which is dominated by
+ * {@code XYPlot.render()}) to an 800 x 600 image.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+public class XYPlotRenderBenchmark {
+
+    /** The number of items in the (single) series. */
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int itemCount;
+
+    /** Draw with M4 decimation enabled in the renderer? */
+    @Param({"false", "true"})
+    public boolean useDecimation;
+
+    private JFreeChart chart;
+
+    private BufferedImage image;
+
+    private Graphics2D g2;
+
+    private Rectangle2D area;
+
+    /**
+     * Creates the chart and the drawing surface.
+     */
+    @Setup
+    public void setUp() {
+        this.chart = ChartFactory.createXYLineChart("XYPlot", "X", "Y",
+                BenchmarkData.createXYDataset(1, this.itemCount),
+                PlotOrientation.VERTICAL, false, false, false);
+        XYPlot<?> plot = (XYPlot) this.chart.getPlot();
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(true,
+                false);
+        renderer.setUseDecimation(this.useDecimation);
+        plot.setRenderer(renderer);
+        this.image = BenchmarkData.createImage(800, 600);
+        this.g2 = this.image.createGraphics();
+        this.area = new Rectangle2D.Double(0, 0, 800, 600);
+    }
+
+    /**
+     * Releases the drawing surface.
+     */
+    @TearDown
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage draw() {
+        this.chart.draw(this.g2, this.area);
+        return this.image;
+    }
+
+}
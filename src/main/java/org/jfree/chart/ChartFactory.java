@@ -68,6 +68,7 @@ import org.jfree.chart.labels.StandardPieToolTipGenerator;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.labels.StandardXYZToolTipGenerator;
 import org.jfree.chart.labels.XYToolTipGenerator;
+import org.jfree.chart.legend.PaintScaleLegend;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Marker;
 import org.jfree.chart.plot.pie.MultiplePiePlot;
@@ -80,6 +81,7 @@ import org.jfree.chart.plot.WaferMapPlot;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.AbstractRenderer;
 import org.jfree.chart.renderer.DefaultPolarItemRenderer;
+import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.renderer.WaferMapRenderer;
 import org.jfree.chart.renderer.category.AreaRenderer;
 import org.jfree.chart.renderer.category.BarRenderer;
@@ -102,12 +104,14 @@ import org.jfree.chart.renderer.xy.XYAreaRenderer;
 import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYBoxAndWhiskerRenderer;
 import org.jfree.chart.renderer.xy.XYBubbleRenderer;
+import org.jfree.chart.renderer.xy.XYDensityRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.renderer.xy.XYStepAreaRenderer;
 import org.jfree.chart.renderer.xy.XYStepRenderer;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.api.Layer;
+import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.api.RectangleInsets;
 import org.jfree.chart.text.TextAnchor;
 import org.jfree.chart.urls.PieURLGenerator;
@@ -1225,6 +1229,51 @@ public abstract class ChartFactory {
 
     }
 
+    /**
+     * Creates a density chart for a scatter plot with too many points to
+     * draw individually.  The chart object returned by this method uses an
+     * {@link XYPlot} instance as the plot, with a {@link NumberAxis} for the
+     * domain and range axes, and an {@link XYDensityRenderer} as the
+     * renderer.  A {@link PaintScaleLegend} showing the paint scale is added
+     * to the right of the plot.
+     *
+     * @param title  the chart title ({@code null} permitted).
+     * @param xAxisLabel  a label for the X-axis ({@code null} permitted).
+     * @param yAxisLabel  a label for the Y-axis ({@code null} permitted).
+     * @param dataset  the dataset for the chart ({@code null} permitted).
+     * @param paintScale  the paint scale for the number of points in each
+     *     bin ({@code null} not permitted).
+     *
+     * @return A density chart.
+     *
+     * @since 2.0.0
+     */
+    public static <S extends Comparable<S>> JFreeChart createDensityChart(
+            String title, String xAxisLabel, String yAxisLabel,
+            XYDataset<S> dataset, PaintScale paintScale) {
+
+        Args.nullNotPermitted(paintScale, "paintScale");
+        NumberAxis xAxis = new NumberAxis(xAxisLabel);
+        xAxis.setAutoRangeIncludesZero(false);
+        NumberAxis yAxis = new NumberAxis(yAxisLabel);
+        yAxis.setAutoRangeIncludesZero(false);
+        XYDensityRenderer renderer = new XYDensityRenderer();
+        renderer.setPaintScale(paintScale);
+        XYPlot<S> plot = new XYPlot<>(dataset, xAxis, yAxis, renderer);
+
+        JFreeChart chart = new JFreeChart(title, JFreeChart.DEFAULT_TITLE_FONT,
+                plot, false);
+        NumberAxis scaleAxis = new NumberAxis("Count");
+        PaintScaleLegend legend = new PaintScaleLegend(paintScale, scaleAxis);
+        legend.setPosition(RectangleEdge.RIGHT);
+        legend.setAxisOffset(5.0);
+        legend.setMargin(new RectangleInsets(5.0, 5.0, 5.0, 5.0));
+        chart.addSubtitle(legend);
+        currentTheme.apply(chart);
+        return chart;
+
+    }
+
     /**
      * Creates and returns a default instance of an XY bar chart.
      * <P>
@@ -62,6 +62,44 @@ public final class ChartHints {
      * The key for a hint that ends an element.
      */
     public static final Key KEY_END_ELEMENT = new ChartHints.Key(1);
+
+    /**
+     * The key for a hint that selects the layer to draw.  When the value is
+     * {@link #VALUE_LAYER_BASE}, the chart draws everything that is drawn
+     * before the data (background, titles, axes and gridlines) and when the
+     * value is {@link #VALUE_LAYER_DATA} it draws the remainder (the data
+     * items, markers, annotations, crosshairs and the plot outline) over a
+     * transparent background.  Drawing the base layer then the data layer
+     * gives the same result as drawing the whole chart.  At present only
+     * the {@code XYPlot} class supports layers (other plots draw everything
+     * in both layers).
+     *
+     * @since 2.0.0
+     */
+    public static final Key KEY_LAYER = new ChartHints.Key(2);
+
+    /**
+     * The hint value that selects the base layer.
+     *
+     * @since 2.0.0
+     */
+    public static final Object VALUE_LAYER_BASE = "BASE";
+
+    /**
+     * The hint value that selects the data layer.
+     *
+     * @since 2.0.0
+     */
+    public static final Object VALUE_LAYER_DATA = "DATA";
+
+    /**
+     * The key for a hint that carries a {@link ChartProgressMonitor}, which
+     * the plots use to report the progress of the drawing and to check
+     * whether it has been cancelled.
+     *
+     * @since 2.0.0
+     */
+    public static final Key KEY_PROGRESS_MONITOR = new ChartHints.Key(3);
     
     /**
      * A key for rendering hints that can be used with JFreeChart (in 
@@ -94,6 +132,11 @@ public final class ChartHints {
                             || val instanceof Map;
                 case 1:
                     return val == null || val instanceof Object;
+                case 2:
+                    return val == null || val == VALUE_LAYER_BASE
+                            || val == VALUE_LAYER_DATA;
+                case 3:
+                    return val == null || val instanceof ChartProgressMonitor;
                 default:
                     throw new RuntimeException("Not possible!");
             }
@@ -0,0 +1,252 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ChartProgressMonitor.java
+ * -------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.Graphics2D;
+import java.util.concurrent.CancellationException;
+
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressEventType;
+
+/**
+ * Tracks the progress of drawing a chart and allows the drawing to be
+ * cancelled.  To use a monitor, set it as the value of the
+ * {@link ChartHints#KEY_PROGRESS_MONITOR} rendering hint on the graphics
+ * target before calling {@link JFreeChart#draw(Graphics2D,
+ * java.awt.geom.Rectangle2D)} (if there is no monitor, the chart uses one
+ * of its own to report the progress).
+ * <br><br>
+ * The plots report the number of data items drawn as they render each
+ * series (for a renderer with several passes, each pass counts as a
+ * fraction of the items), and the chart sends a {@link ChartProgressEvent} with the type
+ * {@link ChartProgressEventType#DRAWING_IN_PROGRESS} to its progress
+ * listeners each time the percentage of items drawn increases.  The plots
+ * also check for cancellation between series and rendering passes (and
+ * every few thousand items within a series), and throw a
+ * {@link CancellationException} when the monitor has been cancelled.
+ * <br><br>
+ * The {@link #cancel()} method can be called from any thread.
+ *
+ * @since 2.0.0
+ */
+public class ChartProgressMonitor {
+
+    /** The number of items between checks for cancellation. */
+    public static final int CHECK_INTERVAL = 8192;
+
+    /** A flag that indicates the drawing has been cancelled. */
+    private volatile boolean cancelled;
+
+    /** The chart being drawn ({@code null} permitted). */
+    private JFreeChart chart;
+
+    /** The total amount of work (the number of items to draw). */
+    private double total;
+
+    /** The amount of work done. */
+    private double done;
+
+    /** The number of items in the current sequence. */
+    private int itemCount;
+
+    /** The number of items drawn in the current sequence. */
+    private int itemsDrawn;
+
+    /** The amount of work that the current sequence represents. */
+    private double itemsWork;
+
+    /** The amount of work reported for the current sequence. */
+    private double itemsWorkReported;
+
+    /** The percentage of items drawn. */
+    private int percent;
+
+    /**
+     * Creates a new monitor.
+     */
+    public ChartProgressMonitor() {
+        super();
+    }
+
+    /**
+     * Returns the monitor that is set as a rendering hint on the graphics
+     * target.
+     *
+     * @param g2  the graphics target ({@code null} not permitted).
+     *
+     * @return The monitor ({@code null} if there is no monitor).
+     */
+    public static ChartProgressMonitor getMonitor(Graphics2D g2) {
+        Object hint = g2.getRenderingHint(ChartHints.KEY_PROGRESS_MONITOR);
+        return hint instanceof ChartProgressMonitor
+                ? (ChartProgressMonitor) hint : null;
+    }
+
+    /**
+     * Sets the chart that the progress is reported for.
+     *
+     * @param chart  the chart ({@code null} permitted).
+     */
+    void setChart(JFreeChart chart) {
+        this.chart = chart;
+    }
+
+    /**
+     * Cancels the drawing.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Returns {@code true} if the drawing has been cancelled.
+     *
+     * @return A boolean.
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Throws an exception if the drawing has been cancelled.
+     *
+     * @throws CancellationException if the drawing has been cancelled.
+     */
+    public void checkCancelled() {
+        if (this.cancelled) {
+            throw new CancellationException("Chart drawing cancelled.");
+        }
+    }
+
+    /**
+     * Returns the percentage of items drawn.
+     *
+     * @return The percentage (0 to 100).
+     */
+    public int getPercent() {
+        return this.percent;
+    }
+
+    /**
+     * Adds to the total amount of work (the number of items to be drawn).
+     * A plot calls this method before it renders its datasets.
+     *
+     * @param work  the amount of work.
+     */
+    public void addToTotal(double work) {
+        this.total += work;
+    }
+
+    /**
+     * Starts a sequence of items (typically one series in one rendering
+     * pass).
+     *
+     * @param itemCount  the number of items in the sequence.
+     * @param work  the amount of work that the sequence represents.
+     */
+    public void beginItems(int itemCount, double work) {
+        this.itemCount = Math.max(itemCount, 1);
+        this.itemsDrawn = 0;
+        this.itemsWork = work;
+        this.itemsWorkReported = 0.0;
+    }
+
+    /**
+     * Records that an item in the current sequence has been drawn.  Every
+     * {@link #CHECK_INTERVAL} items, the progress is reported and the
+     * monitor checks for cancellation.
+     *
+     * @throws CancellationException if the drawing has been cancelled.
+     */
+    public void itemDrawn() {
+        this.itemsDrawn++;
+        if (this.itemsDrawn % CHECK_INTERVAL == 0) {
+            double w = Math.min(this.itemsWork, this.itemsWork
+                    * this.itemsDrawn / this.itemCount);
+            worked(w - this.itemsWorkReported);
+            this.itemsWorkReported = w;
+            checkCancelled();
+        }
+    }
+
+    /**
+     * Ends the current sequence of items, reports the progress and checks
+     * for cancellation.
+     *
+     * @throws CancellationException if the drawing has been cancelled.
+     */
+    public void endItems() {
+        worked(this.itemsWork - this.itemsWorkReported);
+        this.itemsWorkReported = this.itemsWork;
+        checkCancelled();
+    }
+
+    /**
+     * Records some work and, if the percentage of items drawn has increased,
+     * reports the progress.
+     *
+     * @param work  the amount of work.
+     */
+    private void worked(double work) {
+        this.done += work;
+        if (this.total <= 0.0) {
+            return;
+        }
+        int p = (int) Math.min(100.0, this.done * 100.0 / this.total);
+        if (p > this.percent) {
+            this.percent = p;
+            if (this.chart != null) {
+                new ChartProgressEvent(this.chart, this.chart,
+                        ChartProgressEventType.DRAWING_IN_PROGRESS, p)
+                        .notifyListeners(this.chart);
+            }
+            progressChanged(p);
+        }
+    }
+
+    /**
+     * Called on the drawing thread when the percentage of items drawn
+     * increases.  This method does nothing, but subclasses can override it
+     * (for example, to show a partially drawn chart).
+     *
+     * @param percent  the percentage of items drawn.
+     */
+    protected void progressChanged(int percent) {
+        // nothing to do by default
+    }
+
+}
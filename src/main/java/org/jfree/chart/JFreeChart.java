@@ -70,6 +70,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import javax.swing.Timer;
 import javax.swing.UIManager;
 import javax.swing.event.EventListenerList;
 
@@ -90,6 +91,7 @@ import org.jfree.chart.event.TitleChangeEvent;
 import org.jfree.chart.event.TitleChangeListener;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.legend.LegendItemSource;
 import org.jfree.chart.legend.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
@@ -220,6 +222,22 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      */
     private boolean notify;
 
+    /**
+     * The minimum interval (in milliseconds) between the change events sent
+     * to registered listeners (0 means that every change is sent
+     * immediately).
+     */
+    private int changeEventInterval;
+
+    /** A change event that is waiting to be sent (usually {@code null}). */
+    private transient ChartChangeEvent pendingChangeEvent;
+
+    /** The time (in milliseconds) that the last change event was sent. */
+    private transient long lastChangeEventTime;
+
+    /** The timer used to send a pending change event. */
+    private transient Timer changeEventTimer;
+
     /** 
      * A flag that controls whether or not rendering hints that identify
      * chart element should be added during rendering.  This defaults to false
@@ -980,6 +998,131 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         }
     }
 
+    /**
+     * Returns the minimum interval (in milliseconds) between the
+     * {@link ChartChangeEvent} notifications sent to registered listeners.
+     * The default value is {@code 0}.
+     *
+     * @return The interval (in milliseconds).
+     *
+     * @see #setChangeEventInterval(int)
+     *
+     * @since 2.0.0
+     */
+    public int getChangeEventInterval() {
+        return this.changeEventInterval;
+    }
+
+    /**
+     * Sets the minimum interval (in milliseconds) between the
+     * {@link ChartChangeEvent} notifications sent to registered listeners.
+     * When this is greater than zero, a change that occurs less than
+     * {@code millis} milliseconds after the previous notification is
+     * deferred, and all the changes that arrive in the meantime are merged
+     * into a single event that is sent (on the Swing event dispatch thread)
+     * when the interval has elapsed.  For a chart that is updated from a
+     * high-rate data feed, an interval of 40 milliseconds limits the
+     * {@link ChartPanel} to 25 redraws per second however many data items
+     * arrive.  Setting the interval to {@code 0} (the default) sends every
+     * change immediately.
+     *
+     * @param millis  the interval in milliseconds (must be non-negative).
+     *
+     * @see #getChangeEventInterval()
+     * @see #flushChangeEvents()
+     *
+     * @since 2.0.0
+     */
+    public void setChangeEventInterval(int millis) {
+        Args.requireNonNegative(millis, "millis");
+        this.changeEventInterval = millis;
+        if (millis == 0) {
+            flushChangeEvents();
+        }
+    }
+
+    /**
+     * Returns {@code true} if a change event has been deferred (see
+     * {@link #setChangeEventInterval(int)}) and not yet sent.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public synchronized boolean isChangeEventPending() {
+        return this.pendingChangeEvent != null;
+    }
+
+    /**
+     * Defers a change event if it arrives within the change event interval
+     * of the previous notification, merging it with any event that is
+     * already waiting to be sent.  This method is called by
+     * {@link ChartChangeEvent#notifyListeners(JFreeChart)}, you should not
+     * need to call it directly.
+     *
+     * @param event  the event ({@code null} not permitted).
+     *
+     * @return {@code true} if the event has been deferred, and
+     *     {@code false} if it should be sent now.
+     *
+     * @since 2.0.0
+     */
+    public synchronized boolean deferChangeEvent(ChartChangeEvent event) {
+        if (this.changeEventInterval <= 0) {
+            return false;
+        }
+        if (this.pendingChangeEvent != null) {
+            if (this.pendingChangeEvent.getType() == event.getType()) {
+                this.pendingChangeEvent = event;
+            }
+            else {
+                this.pendingChangeEvent = new ChartChangeEvent(this, this);
+            }
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        long wait = this.lastChangeEventTime + this.changeEventInterval - now;
+        if (wait <= 0) {
+            this.lastChangeEventTime = now;
+            return false;
+        }
+        this.pendingChangeEvent = event;
+        if (this.changeEventTimer == null) {
+            this.changeEventTimer = new Timer(0, e -> flushChangeEvents());
+            this.changeEventTimer.setRepeats(false);
+        }
+        this.changeEventTimer.setInitialDelay((int) wait);
+        this.changeEventTimer.restart();
+        return true;
+    }
+
+    /**
+     * Sends the deferred change event (if there is one) to all registered
+     * listeners immediately.  Call this method before exporting the chart,
+     * for example, to ensure that listeners have seen the latest changes.
+     *
+     * @see #setChangeEventInterval(int)
+     *
+     * @since 2.0.0
+     */
+    public void flushChangeEvents() {
+        ChartChangeEvent event;
+        synchronized (this) {
+            event = this.pendingChangeEvent;
+            this.pendingChangeEvent = null;
+            if (this.changeEventTimer != null) {
+                this.changeEventTimer.stop();
+            }
+            if (event == null) {
+                return;
+            }
+            this.lastChangeEventTime = System.currentTimeMillis();
+        }
+        if (this.notify) {
+            event.dispatch(this);
+        }
+    }
+
     @Override
     public void receive(ChartElementVisitor visitor) {
         this.title.receive(visitor);
@@ -1126,16 +1269,57 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      * @param anchor  the anchor point (in Java2D space) for the chart
      *                ({@code null} permitted).
      * @param info  records info about the drawing (null means collect no info).
+     *
+     * @throws java.util.concurrent.CancellationException if the drawing is
+     *     cancelled by the {@link ChartProgressMonitor} that is set as a
+     *     rendering hint.
      */
     public void draw(Graphics2D g2, Rectangle2D chartArea, Point2D anchor,
              ChartRenderingInfo info) {
         (new ChartProgressEvent(this, this, ChartProgressEventType.DRAWING_STARTED,
                 0)).notifyListeners(this);
         if (this.elementHinting) hasher(g2);
-        
+
+        // the plot reports its progress to a monitor (see
+        // ChartProgressMonitor), the caller may have supplied one
+        ChartProgressMonitor monitor = ChartProgressMonitor.getMonitor(g2);
+        boolean addedMonitor = (monitor == null);
+        if (addedMonitor) {
+            monitor = new ChartProgressMonitor();
+            g2.setRenderingHint(ChartHints.KEY_PROGRESS_MONITOR, monitor);
+        }
+        monitor.setChart(this);
+        try {
+            drawChart(g2, chartArea, anchor, info);
+        }
+        finally {
+            if (addedMonitor) {
+                g2.setRenderingHint(ChartHints.KEY_PROGRESS_MONITOR, null);
+            }
+        }
+
+        new ChartProgressEvent(this, this,
+                ChartProgressEventType.DRAWING_FINISHED, 100).notifyListeners(this);
+    }
+
+    /**
+     * Draws the chart (called by the draw() method, which handles the
+     * progress monitor and events).
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the area within which the chart should be drawn.
+     * @param anchor  the anchor point ({@code null} permitted).
+     * @param info  records info about the drawing ({@code null} permitted).
+     */
+    private void drawChart(Graphics2D g2, Rectangle2D chartArea,
+            Point2D anchor, ChartRenderingInfo info) {
         EntityCollection entities = setEntities(info, chartArea);
+        // in the data layer, the background and titles are laid out but not
+        // drawn (see ChartHints.KEY_LAYER)
+        boolean dataLayer = ChartHints.VALUE_LAYER_DATA.equals(
+                g2.getRenderingHint(ChartHints.KEY_LAYER));
         // record the chart area, if info is requested...
-        if (entities != null) entities.add(new JFreeChartEntity((Rectangle2D) chartArea.clone(), this));
+        if (entities != null && !dataLayer) entities.add(new JFreeChartEntity((Rectangle2D) chartArea.clone(), this));
 
         // ensure no drawing occurs outside chart area...
         Shape savedClip = g2.getClip();
@@ -1143,15 +1327,23 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         g2.addRenderingHints(this.renderingHints);
 
         // draw the chart background, the title and the subtitles...
-        Rectangle2D nonTitleArea = drawingHelper(g2, chartArea);
-
-        addToEntities(entities, g2, nonTitleArea);
+        Rectangle2D nonTitleArea;
+        if (dataLayer) {
+            nonTitleArea = new Rectangle2D.Double();
+            nonTitleArea.setRect(chartArea);
+            this.padding.trim(nonTitleArea);
+            Graphics2D titleG2 = (Graphics2D) g2.create();
+            titleG2.clipRect(0, 0, 0, 0);
+            addToEntities(null, titleG2, nonTitleArea);
+            titleG2.dispose();
+        }
+        else {
+            nonTitleArea = drawingHelper(g2, chartArea);
+            addToEntities(entities, g2, nonTitleArea);
+        }
 
         // draw the plot (axes and data visualisation)
         plotDrawing(g2, nonTitleArea, savedClip, info, anchor);
-
-        new ChartProgressEvent(this, this,
-                ChartProgressEventType.DRAWING_FINISHED, 100).notifyListeners(this);
     }
 
     /**
@@ -1545,6 +1737,9 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         if (this.notify != that.notify) {
             return false;
         }
+        if (this.changeEventInterval != that.changeEventInterval) {
+            return false;
+        }
         return true;
     }
 
@@ -1564,6 +1759,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         hash = 59 * hash + Objects.hashCode(this.backgroundImageAlignment);
         hash = 59 * hash + Float.floatToIntBits(this.backgroundImageAlpha);
         hash = 59 * hash + (this.notify ? 1 : 0);
+        hash = 59 * hash + this.changeEventInterval;
         return hash;
     }
 
@@ -1645,11 +1841,33 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 
         if (this.plot != null) {
             chart.plot = (Plot) this.plot.clone();
+            chart.plot.setChart(chart);
             chart.plot.addChangeListener(chart);
         }
 
         chart.progressListeners = new EventListenerList();
         chart.changeListeners = new EventListenerList();
+        chart.pendingChangeEvent = null;
+        chart.changeEventTimer = null;
+
+        // legends that display the items for this chart's plot should
+        // display the items for the cloned plot
+        for (Title subtitle : chart.subtitles) {
+            if (subtitle instanceof LegendTitle) {
+                LegendTitle legend = (LegendTitle) subtitle;
+                LegendItemSource[] sources = legend.getSources().clone();
+                boolean changed = false;
+                for (int i = 0; i < sources.length; i++) {
+                    if (sources[i] == this.plot) {
+                        sources[i] = (LegendItemSource) chart.plot;
+                        changed = true;
+                    }
+                }
+                if (changed) {
+                    legend.setSources(sources);
+                }
+            }
+        }
         return chart;
     }
 
@@ -307,6 +307,17 @@ public class CyclicNumberAxis extends NumberAxis {
 
 
 
+    /**
+     * Returns {@code false}, because this axis updates the tick that marks
+     * the cycle bound while it calculates the ticks.
+     *
+     * @return {@code false}.
+     */
+    @Override
+    protected boolean isTickReuseEnabled() {
+        return false;
+    }
+
     /**
      * Builds a list of ticks for the axis.  This method is called when the
      * axis is at the top or bottom of the chart (so the axis is "horizontal").
@@ -48,7 +48,6 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.font.FontRenderContext;
-import java.awt.font.LineMetrics;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
 import java.text.DateFormat;
@@ -68,6 +67,7 @@ import org.jfree.chart.plot.ValueAxisPlot;
 import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.api.RectangleInsets;
 import org.jfree.chart.text.TextAnchor;
+import org.jfree.chart.text.TextMeasurementCache;
 import org.jfree.chart.internal.Args;
 import org.jfree.data.Range;
 import org.jfree.data.time.DateRange;
@@ -1321,11 +1321,11 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
 
         Font tickLabelFont = tickLabel.getTickLabelFont();
         FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics lm = tickLabelFont.getLineMetrics("ABCxyz", frc);
         if (isVerticalTickLabels()) {
             // all tick labels have the same width (equal to the height of
             // the font)...
-            result += lm.getHeight();
+            result += TextMeasurementCache.getLineHeight("ABCxyz",
+                    tickLabelFont, frc);
         }
         else {
             // look at lower and upper bounds...
@@ -1343,8 +1343,8 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 upperStr = unit.dateToString(upper);
             }
             FontMetrics fm = g2.getFontMetrics(tickLabelFont);
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            double w1 = TextMeasurementCache.getStringWidth(lowerStr, fm);
+            double w2 = TextMeasurementCache.getStringWidth(upperStr, fm);
             result += Math.max(w1, w2);
         }
 
@@ -1373,11 +1373,11 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
 
         Font tickLabelFont = tickLabel.getTickLabelFont();
         FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics lm = tickLabelFont.getLineMetrics("ABCxyz", frc);
         if (!isVerticalTickLabels()) {
             // all tick labels have the same width (equal to the height of
             // the font)...
-            result += lm.getHeight();
+            result += TextMeasurementCache.getLineHeight("ABCxyz",
+                    tickLabelFont, frc);
         }
         else {
             // look at lower and upper bounds...
@@ -1395,8 +1395,8 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 upperStr = unit.dateToString(upper);
             }
             FontMetrics fm = g2.getFontMetrics(tickLabelFont);
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            double w1 = TextMeasurementCache.getStringWidth(lowerStr, fm);
+            double w2 = TextMeasurementCache.getStringWidth(upperStr, fm);
             result += Math.max(w1, w2);
         }
 
@@ -1419,6 +1419,19 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
     public List<? extends Tick> refreshTicks(Graphics2D g2, AxisState state, 
             Rectangle2D dataArea, RectangleEdge edge) {
 
+        // reuse the ticks from an earlier call if nothing has changed
+        List<Object> key = null;
+        if (isTickReuseEnabled()) {
+            key = TickCache.createKey(this, g2, dataArea, edge,
+                    getTickUnit());
+            TickCache.Entry previous = getTickCache().get(key);
+            if (previous != null) {
+                g2.setFont(tickLabel.getTickLabelFont());
+                setTickUnit((DateTickUnit) previous.getTickUnit(), false,
+                        false);
+                return previous.getTicks();
+            }
+        }
         List<? extends Tick> result = null;
         if (RectangleEdge.isTopOrBottom(edge)) {
             result = refreshTicksHorizontal(g2, dataArea, edge);
@@ -1426,6 +1439,9 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
         else if (RectangleEdge.isLeftOrRight(edge)) {
             result = refreshTicksVertical(g2, dataArea, edge);
         }
+        if (key != null && result != null) {
+            getTickCache().put(key, result, getTickUnit());
+        }
         return result;
 
     }
@@ -39,7 +39,6 @@ package org.jfree.chart.axis;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.font.FontRenderContext;
-import java.awt.font.LineMetrics;
 import java.awt.font.TextAttribute;
 import java.awt.geom.Rectangle2D;
 import java.text.AttributedString;
@@ -57,6 +56,7 @@ import org.jfree.chart.plot.ValueAxisPlot;
 import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.api.RectangleInsets;
 import org.jfree.chart.text.TextAnchor;
+import org.jfree.chart.text.TextMeasurementCache;
 import org.jfree.chart.util.AttrStringUtils;
 import org.jfree.chart.internal.Args;
 import org.jfree.data.Range;
@@ -516,11 +516,27 @@ public class LogAxis extends ValueAxis {
     @Override
     public List refreshTicks(Graphics2D g2, AxisState state,
                              Rectangle2D dataArea, RectangleEdge edge) {
-        List result = new java.util.ArrayList();
-        if (RectangleEdge.isTopOrBottom(edge)) {
-            result = refreshTicksHorizontal(g2, dataArea, edge);
-        } else if (RectangleEdge.isLeftOrRight(edge)) {
-            result = refreshTicksVertical(g2, dataArea, edge);
+        // reuse the ticks from an earlier call if nothing has changed
+        List<Object> key = null;
+        if (isTickReuseEnabled()) {
+            key = TickCache.createKey(this, g2, dataArea, edge, getTickUnit());
+            TickCache.Entry previous = getTickCache().get(key);
+            if (previous != null) {
+                g2.setFont(tickLabel.getTickLabelFont());
+                setTickUnit((NumberTickUnit) previous.getTickUnit(), false,
+                        false);
+                return previous.getTicks();
+            }
+        }
+        // the refreshTicksXXX() methods return lists of ValueTick
+        @SuppressWarnings("unchecked")
+        List<ValueTick> result = RectangleEdge.isTopOrBottom(edge)
+                ? refreshTicksHorizontal(g2, dataArea, edge)
+                : RectangleEdge.isLeftOrRight(edge)
+                ? refreshTicksVertical(g2, dataArea, edge)
+                : new java.util.ArrayList<>();
+        if (key != null) {
+            getTickCache().put(key, result, getTickUnit());
         }
         return result;
     }
@@ -817,7 +833,8 @@ public class LogAxis extends ValueAxis {
 
         Font tickLabelFont = tickLabel.getTickLabelFont();
         FontRenderContext frc = g2.getFontRenderContext();
-        result += tickLabelFont.getLineMetrics("123", frc).getHeight();
+        result += TextMeasurementCache.getLineHeight("123", tickLabelFont,
+                frc);
         return result;
     }
 
@@ -844,8 +861,8 @@ public class LogAxis extends ValueAxis {
             // all tick labels have the same width (equal to the height of the
             // font)...
             FontRenderContext frc = g2.getFontRenderContext();
-            LineMetrics lm = tickLabel.getTickLabelFont().getLineMetrics("0", frc);
-            result += lm.getHeight();
+            result += TextMeasurementCache.getLineHeight("0",
+                    tickLabel.getTickLabelFont(), frc);
         }
         else {
             // look at lower and upper bounds...
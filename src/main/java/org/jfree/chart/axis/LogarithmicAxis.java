@@ -377,6 +377,17 @@ public class LogarithmicAxis extends NumberAxis {
         setRange(adjusted);
     }
 
+    /**
+     * Returns {@code false}, because the flags that control the tick labels
+     * for this axis can be changed without an {@code AxisChangeEvent}.
+     *
+     * @return {@code false}.
+     */
+    @Override
+    protected boolean isTickReuseEnabled() {
+        return false;
+    }
+
     /**
      * Calculates the positions of the tick labels for the axis, storing the
      * results in the tick label list (ready for drawing).
@@ -45,12 +45,12 @@ import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueAxisPlot;
 import org.jfree.chart.text.TextAnchor;
+import org.jfree.chart.text.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.data.RangeType;
 
 import java.awt.*;
 import java.awt.font.FontRenderContext;
-import java.awt.font.LineMetrics;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
 import java.text.DecimalFormat;
@@ -614,7 +614,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
 
         Font tickLabelFont = tickLabel.getTickLabelFont();
         FontRenderContext frc = g2.getFontRenderContext();
-        result += tickLabelFont.getLineMetrics("123", frc).getHeight();
+        result += TextMeasurementCache.getLineHeight("123", tickLabelFont,
+                frc);
         return result;
     }
 
@@ -640,8 +641,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
             // all tick labels have the same width (equal to the height of the
             // font)...
             FontRenderContext frc = g2.getFontRenderContext();
-            LineMetrics lm = tickLabel.getTickLabelFont().getLineMetrics("0", frc);
-            result += lm.getHeight();
+            result += TextMeasurementCache.getLineHeight("0",
+                    tickLabel.getTickLabelFont(), frc);
         } else {
             // look at lower and upper bounds...
             FontMetrics fm = g2.getFontMetrics(tickLabel.getTickLabelFont());
@@ -657,8 +658,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
                 lowerStr = unit.valueToString(lower);
                 upperStr = unit.valueToString(upper);
             }
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            double w1 = TextMeasurementCache.getStringWidth(lowerStr, fm);
+            double w2 = TextMeasurementCache.getStringWidth(upperStr, fm);
             result += Math.max(w1, w2);
         }
 
@@ -784,11 +785,27 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
     public List refreshTicks(Graphics2D g2, AxisState state,
                              Rectangle2D dataArea, RectangleEdge edge) {
 
-        List result = new java.util.ArrayList();
-        if (RectangleEdge.isTopOrBottom(edge)) {
-            result = refreshTicksHorizontal(g2, dataArea, edge);
-        } else if (RectangleEdge.isLeftOrRight(edge)) {
-            result = refreshTicksVertical(g2, dataArea, edge);
+        // reuse the ticks from an earlier call if nothing has changed
+        List<Object> key = null;
+        if (isTickReuseEnabled()) {
+            key = TickCache.createKey(this, g2, dataArea, edge, getTickUnit());
+            TickCache.Entry previous = getTickCache().get(key);
+            if (previous != null) {
+                g2.setFont(tickLabel.getTickLabelFont());
+                setTickUnit((NumberTickUnit) previous.getTickUnit(), false,
+                        false);
+                return previous.getTicks();
+            }
+        }
+        // the refreshTicksXXX() methods return lists of ValueTick
+        @SuppressWarnings("unchecked")
+        List<ValueTick> result = RectangleEdge.isTopOrBottom(edge)
+                ? refreshTicksHorizontal(g2, dataArea, edge)
+                : RectangleEdge.isLeftOrRight(edge)
+                ? refreshTicksVertical(g2, dataArea, edge)
+                : new java.util.ArrayList<>();
+        if (key != null) {
+            getTickCache().put(key, result, getTickUnit());
         }
         return result;
 
@@ -0,0 +1,172 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------
+ * TickCache.java
+ * --------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.axis;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.api.RectangleEdge;
+
+/**
+ * Holds the ticks from recent calls to an axis' {@code refreshTicks()}
+ * method, so that they can be reused when the axis is drawn again with the
+ * same range, area and font.  An axis calculates its ticks at least twice
+ * for each chart drawn (once to reserve space and once to draw), so a few
+ * entries are kept.  The axis clears the cache whenever it changes.  The
+ * cache is safe to use from multiple threads.
+ */
+final class TickCache {
+
+    /** The maximum number of entries. */
+    static final int CAPACITY = 4;
+
+    /** The entries, in access order. */
+    private final Map<List<Object>, Entry> entries;
+
+    /**
+     * Creates a new, empty, cache.
+     */
+    TickCache() {
+        this.entries = new LinkedHashMap<List<Object>, Entry>(8, 0.75f,
+                true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<List<Object>, TickCache.Entry> eldest) {
+                return size() > CAPACITY;
+            }
+        };
+    }
+
+    /**
+     * Creates the key for a call to {@code refreshTicks()}.  The key
+     * includes the tick unit in use before the call, because the automatic
+     * tick unit selection starts from the current tick unit.
+     *
+     * @param axis  the axis.
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param edge  the axis location.
+     * @param unit  the current tick unit ({@code null} permitted).
+     *
+     * @return The key.
+     */
+    static List<Object> createKey(ValueAxis axis, Graphics2D g2,
+            Rectangle2D dataArea, RectangleEdge edge, TickUnit unit) {
+        return Arrays.asList(axis.getRange(), dataArea.getBounds2D(), edge,
+                g2.getFontRenderContext(), unit,
+                axis.isAutoTickUnitSelection(), axis.isVerticalTickLabels(),
+                axis.getMinorTickCount(), axis.tickLabel.getTickLabelFont());
+    }
+
+    /**
+     * Returns the entry for the specified key.
+     *
+     * @param key  the key.
+     *
+     * @return The entry ({@code null} if there is no entry for the key).
+     */
+    synchronized Entry get(List<Object> key) {
+        return this.entries.get(key);
+    }
+
+    /**
+     * Adds an entry to the cache.
+     *
+     * @param key  the key.
+     * @param ticks  the ticks.
+     * @param unit  the tick unit in use after the ticks were calculated.
+     */
+    synchronized void put(List<Object> key, List<? extends Tick> ticks,
+            TickUnit unit) {
+        this.entries.put(key, new Entry(ticks, unit));
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    synchronized void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * The ticks and tick unit from one call to {@code refreshTicks()}.
+     */
+    static final class Entry {
+
+        /** The ticks. */
+        private final List<Tick> ticks;
+
+        /** The tick unit. */
+        private final TickUnit tickUnit;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param ticks  the ticks.
+         * @param tickUnit  the tick unit.
+         */
+        Entry(List<? extends Tick> ticks, TickUnit tickUnit) {
+            this.ticks = new ArrayList<>(ticks);
+            this.tickUnit = tickUnit;
+        }
+
+        /**
+         * Returns a new list containing the ticks (the ticks themselves
+         * are immutable).
+         *
+         * @return The ticks.
+         */
+        List<Tick> getTicks() {
+            return new ArrayList<>(this.ticks);
+        }
+
+        /**
+         * Returns the tick unit in use after the ticks were calculated.
+         *
+         * @return The tick unit.
+         */
+        TickUnit getTickUnit() {
+            return this.tickUnit;
+        }
+    }
+
+}
@@ -48,12 +48,12 @@ import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.SerialUtils;
 import org.jfree.chart.plot.Plot;
+import org.jfree.chart.text.TextMeasurementCache;
 import org.jfree.chart.text.TextUtils;
 import org.jfree.chart.util.AttrStringUtils;
 import org.jfree.data.Range;
 
 import java.awt.*;
-import java.awt.font.LineMetrics;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
@@ -184,6 +184,12 @@ public abstract class ValueAxis extends Axis
      */
     private boolean verticalTickLabels;
 
+    /**
+     * The ticks from recent calls to {@code refreshTicks()}, reused while
+     * the axis is unchanged ({@code null} until first required).
+     */
+    private transient TickCache tickCache;
+
     /**
      * Constructs a value axis.
      *
@@ -687,8 +693,9 @@ public abstract class ValueAxis extends Axis
                 }
             }
         } else {
-            LineMetrics metrics = font.getLineMetrics("ABCxyz", g2.getFontRenderContext());
-            maxHeight = metrics.getHeight() + insets.getTop() + insets.getBottom();
+            maxHeight = TextMeasurementCache.getLineHeight("ABCxyz", font,
+                    g2.getFontRenderContext()) + insets.getTop()
+                    + insets.getBottom();
         }
         return maxHeight;
 
@@ -722,8 +729,9 @@ public abstract class ValueAxis extends Axis
                 }
             }
         } else {
-            LineMetrics metrics = font.getLineMetrics("ABCxyz", g2.getFontRenderContext());
-            maxWidth = metrics.getHeight() + insets.getTop() + insets.getBottom();
+            maxWidth = TextMeasurementCache.getLineHeight("ABCxyz", font,
+                    g2.getFontRenderContext()) + insets.getTop()
+                    + insets.getBottom();
         }
         return maxWidth;
 
@@ -1185,6 +1193,50 @@ public abstract class ValueAxis extends Axis
         }
     }
 
+    /**
+     * Returns {@code true} if the ticks calculated by
+     * {@code refreshTicks()} can be reused by a later call with the same
+     * arguments, as long as the axis has not changed (the ticks are
+     * discarded whenever the axis sends an {@link AxisChangeEvent}).  The
+     * default implementation returns {@code true}.  Subclasses that calculate
+     * the ticks using state that can change without an
+     * {@code AxisChangeEvent} should override this method to return
+     * {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    protected boolean isTickReuseEnabled() {
+        return true;
+    }
+
+    /**
+     * Returns the cache for the ticks calculated by {@code refreshTicks()}.
+     *
+     * @return The cache (never {@code null}).
+     */
+    synchronized TickCache getTickCache() {
+        if (this.tickCache == null) {
+            this.tickCache = new TickCache();
+        }
+        return this.tickCache;
+    }
+
+    /**
+     * Discards any ticks that are held for reuse, then sends the event to
+     * all registered listeners.
+     *
+     * @param event  the event.
+     */
+    @Override
+    protected void notifyListeners(AxisChangeEvent event) {
+        if (this.tickCache != null) {
+            this.tickCache.clear();
+        }
+        super.notifyListeners(event);
+    }
+
     /**
      * Returns the number of minor tick marks to display.
      *
@@ -1437,7 +1489,9 @@ public abstract class ValueAxis extends Axis
      */
     @Override
     public Object clone() throws CloneNotSupportedException {
-        return super.clone();
+        ValueAxis clone = (ValueAxis) super.clone();
+        clone.tickCache = null;
+        return clone;
     }
 
     @Override
@@ -0,0 +1,424 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * IndexedEntityCollection.java
+ * ----------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+
+/**
+ * An implementation of the {@link EntityCollection} interface that builds a
+ * spatial index (a uniform grid over the bounds of the entities) the first
+ * time {@link #getEntity(double, double)} is called after the collection has
+ * been modified.  Hit testing then only needs to look at the entities that
+ * overlap one grid cell, rather than every entity in the collection, which
+ * makes a big difference for tooltips on charts with many data items.
+ * <p>
+ * As for {@link StandardEntityCollection}, when more than one entity contains
+ * a point the entity that was added last (the topmost one) is returned.
+ * <p>
+ * To use this collection with a chart, pass an instance to the
+ * {@link org.jfree.chart.ChartRenderingInfo#ChartRenderingInfo(EntityCollection)}
+ * constructor or to
+ * {@link org.jfree.chart.ChartRenderingInfo#setEntityCollection(EntityCollection)}.
+ *
+ * @since 2.0.0
+ */
+public class IndexedEntityCollection implements EntityCollection,
+        Cloneable, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2815394117423470172L;
+
+    /** The maximum number of grid cells along each axis. */
+    private static final int MAX_CELLS_PER_AXIS = 256;
+
+    /**
+     * The minimum number of entities before an index is built (below this a
+     * linear search is used).
+     */
+    private static final int INDEX_THRESHOLD = 32;
+
+    /** Storage for the entities. */
+    private List<ChartEntity> entities;
+
+    /** The spatial index ({@code null} until required). */
+    private transient Grid grid;
+
+    /**
+     * Creates a new (empty) entity collection.
+     */
+    public IndexedEntityCollection() {
+        this.entities = new ArrayList<>();
+    }
+
+    /**
+     * Returns the number of entities in the collection.
+     *
+     * @return The entity count.
+     */
+    @Override
+    public int getEntityCount() {
+        return this.entities.size();
+    }
+
+    /**
+     * Returns a chart entity from the collection.
+     *
+     * @param index  the entity index.
+     *
+     * @return The entity.
+     */
+    @Override
+    public ChartEntity getEntity(int index) {
+        return this.entities.get(index);
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        this.entities.clear();
+        this.grid = null;
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity ({@code null} not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        Args.nullNotPermitted(entity, "entity");
+        this.entities.add(entity);
+        this.grid = null;
+    }
+
+    /**
+     * Adds all the entities from the specified collection.
+     *
+     * @param collection  the collection of entities ({@code null} not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        this.entities.addAll(collection.getEntities());
+        this.grid = null;
+    }
+
+    /**
+     * Returns the last entity in the list with an area that encloses the
+     * specified coordinates, or {@code null} if there is no such entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        int entityCount = this.entities.size();
+        if (entityCount < INDEX_THRESHOLD) {
+            for (int i = entityCount - 1; i >= 0; i--) {
+                ChartEntity entity = this.entities.get(i);
+                if (entity.getArea().contains(x, y)) {
+                    return entity;
+                }
+            }
+            return null;
+        }
+        if (this.grid == null) {
+            this.grid = new Grid(this.entities);
+        }
+        return this.grid.find(this.entities, x, y);
+    }
+
+    /**
+     * Returns the entities in an unmodifiable collection.
+     *
+     * @return The entities.
+     */
+    @Override
+    public Collection<ChartEntity> getEntities() {
+        return Collections.unmodifiableCollection(this.entities);
+    }
+
+    /**
+     * Returns an iterator for the entities in the collection.
+     *
+     * @return An iterator.
+     */
+    @Override
+    public Iterator<ChartEntity> iterator() {
+        return getEntities().iterator();
+    }
+
+    /**
+     * Tests this object for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof IndexedEntityCollection)) {
+            return false;
+        }
+        IndexedEntityCollection that = (IndexedEntityCollection) obj;
+        return Objects.equals(this.entities, that.entities);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 29 * hash + Objects.hashCode(this.entities);
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this entity collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        IndexedEntityCollection clone
+                = (IndexedEntityCollection) super.clone();
+        clone.entities = new ArrayList<>(this.entities.size());
+        for (ChartEntity entity : this.entities) {
+            clone.entities.add((ChartEntity) entity.clone());
+        }
+        clone.grid = null;
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.grid = null;
+    }
+
+    /**
+     * A uniform grid over the bounds of a list of entities.  For each cell,
+     * the indices of the entities whose bounds overlap the cell are stored
+     * in ascending order in a single array (cell {@code c} uses the
+     * positions {@code cellStart[c]} to {@code cellStart[c + 1] - 1}).
+     */
+    private static class Grid {
+
+        /** The bounds of each entity (minX, minY, maxX, maxY). */
+        private final double[] bounds;
+
+        /** The minimum x-coordinate covered by the grid. */
+        private final double originX;
+
+        /** The minimum y-coordinate covered by the grid. */
+        private final double originY;
+
+        /** The width of one cell. */
+        private final double cellWidth;
+
+        /** The height of one cell. */
+        private final double cellHeight;
+
+        /** The number of columns. */
+        private final int columns;
+
+        /** The number of rows. */
+        private final int rows;
+
+        /** The start position of each cell in {@code cellEntities}. */
+        private final int[] cellStart;
+
+        /** The entity indices for all cells. */
+        private final int[] cellEntities;
+
+        /**
+         * Builds a grid for the specified entities.
+         *
+         * @param entities  the entities.
+         */
+        Grid(List<ChartEntity> entities) {
+            int n = entities.size();
+            this.bounds = new double[n * 4];
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                Rectangle2D r = entities.get(i).getArea().getBounds2D();
+                this.bounds[i * 4] = r.getMinX();
+                this.bounds[i * 4 + 1] = r.getMinY();
+                this.bounds[i * 4 + 2] = r.getMaxX();
+                this.bounds[i * 4 + 3] = r.getMaxY();
+                minX = Math.min(minX, r.getMinX());
+                minY = Math.min(minY, r.getMinY());
+                maxX = Math.max(maxX, r.getMaxX());
+                maxY = Math.max(maxY, r.getMaxY());
+            }
+            int cellsPerAxis = (int) Math.ceil(Math.sqrt(n / 2.0));
+            cellsPerAxis = Math.max(1, Math.min(MAX_CELLS_PER_AXIS,
+                    cellsPerAxis));
+            this.columns = cellsPerAxis;
+            this.rows = cellsPerAxis;
+            this.originX = minX;
+            this.originY = minY;
+            this.cellWidth = Math.max((maxX - minX) / this.columns,
+                    Double.MIN_VALUE);
+            this.cellHeight = Math.max((maxY - minY) / this.rows,
+                    Double.MIN_VALUE);
+
+            // first pass counts the entities per cell, second pass fills in
+            // the indices
+            int cellCount = this.columns * this.rows;
+            this.cellStart = new int[cellCount + 1];
+            for (int i = 0; i < n; i++) {
+                int c0 = column(this.bounds[i * 4]);
+                int r0 = row(this.bounds[i * 4 + 1]);
+                int c1 = column(this.bounds[i * 4 + 2]);
+                int r1 = row(this.bounds[i * 4 + 3]);
+                for (int r = r0; r <= r1; r++) {
+                    for (int c = c0; c <= c1; c++) {
+                        this.cellStart[r * this.columns + c + 1]++;
+                    }
+                }
+            }
+            for (int c = 0; c < cellCount; c++) {
+                this.cellStart[c + 1] += this.cellStart[c];
+            }
+            this.cellEntities = new int[this.cellStart[cellCount]];
+            int[] fill = new int[cellCount];
+            for (int i = 0; i < n; i++) {
+                int c0 = column(this.bounds[i * 4]);
+                int r0 = row(this.bounds[i * 4 + 1]);
+                int c1 = column(this.bounds[i * 4 + 2]);
+                int r1 = row(this.bounds[i * 4 + 3]);
+                for (int r = r0; r <= r1; r++) {
+                    for (int c = c0; c <= c1; c++) {
+                        int cell = r * this.columns + c;
+                        this.cellEntities[this.cellStart[cell] + fill[cell]]
+                                = i;
+                        fill[cell]++;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the column for an x-coordinate (clamped to the grid).
+         *
+         * @param x  the x-coordinate.
+         *
+         * @return The column index.
+         */
+        private int column(double x) {
+            int c = (int) ((x - this.originX) / this.cellWidth);
+            return Math.max(0, Math.min(this.columns - 1, c));
+        }
+
+        /**
+         * Returns the row for a y-coordinate (clamped to the grid).
+         *
+         * @param y  the y-coordinate.
+         *
+         * @return The row index.
+         */
+        private int row(double y) {
+            int r = (int) ((y - this.originY) / this.cellHeight);
+            return Math.max(0, Math.min(this.rows - 1, r));
+        }
+
+        /**
+         * Returns the topmost entity containing the specified point.
+         *
+         * @param entities  the entities (the same list used to build the
+         *     grid).
+         * @param x  the x-coordinate.
+         * @param y  the y-coordinate.
+         *
+         * @return The entity (possibly {@code null}).
+         */
+        ChartEntity find(List<ChartEntity> entities, double x, double y) {
+            int cell = row(y) * this.columns + column(x);
+            for (int p = this.cellStart[cell + 1] - 1;
+                    p >= this.cellStart[cell]; p--) {
+                int i = this.cellEntities[p];
+                if (x < this.bounds[i * 4] || y < this.bounds[i * 4 + 1]
+                        || x > this.bounds[i * 4 + 2]
+                        || y > this.bounds[i * 4 + 3]) {
+                    continue;
+                }
+                ChartEntity entity = entities.get(i);
+                if (entity.getArea().contains(x, y)) {
+                    return entity;
+                }
+            }
+            return null;
+        }
+    }
+
+}
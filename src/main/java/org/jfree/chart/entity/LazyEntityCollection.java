@@ -0,0 +1,606 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * LazyEntityCollection.java
+ * -------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * An implementation of the {@link EntityCollection} interface that records
+ * the items drawn by the XY renderers in compact form (the series and item
+ * indices and the bounds of the hotspot, in primitive arrays) instead of
+ * creating an {@link XYItemEntity} (with its area, tool tip and URL) for
+ * every item.  The entity for an item is created only when it is required,
+ * typically by {@link #getEntity(double, double)} when a tool tip is
+ * displayed, which saves a lot of memory for charts with many data items.
+ * Other entities are stored as they are added.
+ * <p>
+ * The entity for an item has the same area as an entity created by the
+ * renderer.  Hotspots that are rectangles or ellipses (including the default
+ * hotspot, a circle around the data point) are recorded as bounds, other
+ * hotspots (for example, the polygons drawn by the {@code XYAreaRenderer})
+ * are kept as they are.  The tool tip and URL are generated from the
+ * dataset when the entity is created, so the recorded items are valid only
+ * until the dataset changes.  The collection does not listen for dataset
+ * changes (it holds no references that outlive its own use): the items are
+ * discarded when the collection is cleared, which
+ * {@link org.jfree.chart.ChartRenderingInfo#clear()} does each time the
+ * chart is drawn, and the chart should be redrawn after a dataset changes
+ * before entities are requested again (as the {@code ChartPanel} class
+ * does).
+ * <p>
+ * To use this collection with a chart, pass an instance to the
+ * {@link org.jfree.chart.ChartRenderingInfo#ChartRenderingInfo(EntityCollection)}
+ * constructor or to
+ * {@link org.jfree.chart.ChartRenderingInfo#setEntityCollection(EntityCollection)}.
+ * When an instance is serialized, the entities for the recorded items are
+ * created and written in their place.
+ *
+ * @since 2.0.0
+ */
+public class LazyEntityCollection implements EntityCollection, Cloneable,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3105834457018346203L;
+
+    /** The initial capacity for the recorded items. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Storage for the entities that are not recorded items. */
+    private transient List<ChartEntity> entities;
+
+    /** The entity factories for the recorded items. */
+    private transient List<XYItemEntityFactory> factories;
+
+    /** The datasets for the recorded items (in step with the factories). */
+    private transient List<XYDataset<?>> datasets;
+
+    /** The number of recorded items. */
+    private transient int itemCount;
+
+    /**
+     * For each recorded item, the number of other entities that were added
+     * to the collection before it.
+     */
+    private transient int[] positions;
+
+    /**
+     * For each recorded item, the index of its factory and dataset shifted
+     * left by one, with the lowest bit set if the hotspot is an ellipse.
+     */
+    private transient int[] sources;
+
+    /**
+     * The hotspot for each recorded item with a hotspot that is not a
+     * rectangle or an ellipse ({@code null} for the other items).
+     */
+    private transient Shape[] shapes;
+
+    /** The series index for each recorded item. */
+    private transient int[] seriesIndices;
+
+    /** The item index for each recorded item. */
+    private transient int[] itemIndices;
+
+    /** The bounds (x, y, width and height) of each recorded item. */
+    private transient float[] bounds;
+
+    /** The index of the recorded item for the most recent entity created. */
+    private transient int lastItem;
+
+    /**
+     * The most recent entity created for a recorded item ({@code null} if
+     * there is none).
+     */
+    private transient ChartEntity lastEntity;
+
+    /**
+     * Creates a new (empty) entity collection.
+     */
+    public LazyEntityCollection() {
+        init();
+    }
+
+    /**
+     * Initialises the (empty) storage.
+     */
+    private void init() {
+        this.entities = new ArrayList<>();
+        this.factories = new ArrayList<>();
+        this.datasets = new ArrayList<>();
+        this.itemCount = 0;
+        this.positions = new int[0];
+        this.sources = new int[0];
+        this.shapes = new Shape[0];
+        this.seriesIndices = new int[0];
+        this.itemIndices = new int[0];
+        this.bounds = new float[0];
+        this.lastEntity = null;
+    }
+
+    /**
+     * Returns the number of entities in the collection, including the
+     * recorded items.
+     *
+     * @return The entity count.
+     */
+    @Override
+    public int getEntityCount() {
+        return this.entities.size() + this.itemCount;
+    }
+
+    /**
+     * Returns the number of recorded items in the collection.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns a chart entity from the collection.  If the entity is for a
+     * recorded item, it is created by this method.
+     *
+     * @param index  the entity index.
+     *
+     * @return The entity.
+     */
+    @Override
+    public ChartEntity getEntity(int index) {
+        Objects.checkIndex(index, getEntityCount());
+        // find the first recorded item at or after the index, the items
+        // before it are all before the index
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.positions[mid] + mid < index) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        if (low < this.itemCount && this.positions[low] + low == index) {
+            return getItemEntity(low);
+        }
+        return this.entities.get(index - low);
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        this.entities.clear();
+        this.factories.clear();
+        this.datasets.clear();
+        Arrays.fill(this.shapes, 0, this.itemCount, null);
+        this.itemCount = 0;
+        this.lastEntity = null;
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity ({@code null} not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        Args.nullNotPermitted(entity, "entity");
+        this.entities.add(entity);
+    }
+
+    /**
+     * Records an item in the collection.  The entity for the item is created
+     * by the factory when it is required (from the dataset as it is then,
+     * so the dataset should not change in the meantime).
+     *
+     * @param factory  the entity factory ({@code null} not permitted).
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param hotspot  the hotspot for the item, or {@code null} for a
+     *     circle with the specified radius centred on
+     *     {@code (entityX, entityY)}.
+     * @param entityX  the x-coordinate of the item (in Java2D space).
+     * @param entityY  the y-coordinate of the item (in Java2D space).
+     * @param radius  the radius of the default hotspot.
+     */
+    public void addItem(XYItemEntityFactory factory, XYDataset<?> dataset,
+            int series, int item, Shape hotspot, double entityX,
+            double entityY, double radius) {
+        Args.nullNotPermitted(factory, "factory");
+        int source = sourceIndex(factory, dataset) << 1;
+        if (hotspot == null) {
+            appendItem(source | 1, series, item, entityX - radius,
+                    entityY - radius, radius * 2, radius * 2, null);
+        }
+        else if (hotspot instanceof Rectangle2D
+                || hotspot instanceof Ellipse2D) {
+            Rectangle2D r = hotspot.getBounds2D();
+            appendItem(hotspot instanceof Ellipse2D ? source | 1 : source,
+                    series, item, r.getX(), r.getY(), r.getWidth(),
+                    r.getHeight(), null);
+        }
+        else {
+            appendItem(source, series, item, 0.0, 0.0, 0.0, 0.0, hotspot);
+        }
+    }
+
+    /**
+     * Appends a recorded item to the arrays.
+     *
+     * @param source  the factory and dataset index and the ellipse flag.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param x  the x-coordinate of the hotspot bounds.
+     * @param y  the y-coordinate of the hotspot bounds.
+     * @param w  the width of the hotspot bounds.
+     * @param h  the height of the hotspot bounds.
+     * @param shape  the hotspot, if it is not a rectangle or an ellipse
+     *     ({@code null} otherwise).
+     */
+    private void appendItem(int source, int series, int item, double x,
+            double y, double w, double h, Shape shape) {
+        if (this.itemCount == this.positions.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, this.itemCount * 2);
+            this.positions = Arrays.copyOf(this.positions, capacity);
+            this.sources = Arrays.copyOf(this.sources, capacity);
+            this.shapes = Arrays.copyOf(this.shapes, capacity);
+            this.seriesIndices = Arrays.copyOf(this.seriesIndices, capacity);
+            this.itemIndices = Arrays.copyOf(this.itemIndices, capacity);
+            this.bounds = Arrays.copyOf(this.bounds, capacity * 4);
+        }
+        int i = this.itemCount;
+        this.positions[i] = this.entities.size();
+        this.sources[i] = source;
+        this.shapes[i] = shape;
+        this.seriesIndices[i] = series;
+        this.itemIndices[i] = item;
+        this.bounds[i * 4] = (float) x;
+        this.bounds[i * 4 + 1] = (float) y;
+        this.bounds[i * 4 + 2] = (float) w;
+        this.bounds[i * 4 + 3] = (float) h;
+        this.itemCount++;
+    }
+
+    /**
+     * Returns the index of a factory and dataset pair, adding the pair if
+     * necessary.  Items are usually recorded in
+     * long runs for the same pair, so the last pair is checked first.
+     *
+     * @param factory  the factory.
+     * @param dataset  the dataset.
+     *
+     * @return The index.
+     */
+    private int sourceIndex(XYItemEntityFactory factory,
+            XYDataset<?> dataset) {
+        for (int s = this.factories.size() - 1; s >= 0; s--) {
+            if (this.factories.get(s) == factory
+                    && this.datasets.get(s) == dataset) {
+                return s;
+            }
+        }
+        this.factories.add(factory);
+        this.datasets.add(dataset);
+        return this.factories.size() - 1;
+    }
+
+    /**
+     * Copies a recorded item from another collection.
+     *
+     * @param other  the other collection.
+     * @param i  the index of the recorded item in the other collection.
+     */
+    private void addItem(LazyEntityCollection other, int i) {
+        int s = other.sources[i] >> 1;
+        int source = (sourceIndex(other.factories.get(s),
+                other.datasets.get(s)) << 1) | (other.sources[i] & 1);
+        appendItem(source, other.seriesIndices[i], other.itemIndices[i],
+                other.bounds[i * 4], other.bounds[i * 4 + 1],
+                other.bounds[i * 4 + 2], other.bounds[i * 4 + 3],
+                other.shapes[i]);
+    }
+
+    /**
+     * Adds all the entities from the specified collection.  If the other
+     * collection is a {@code LazyEntityCollection}, its recorded items are
+     * copied without creating the entities.
+     *
+     * @param collection  the collection of entities ({@code null} not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        Args.nullNotPermitted(collection, "collection");
+        if (collection instanceof LazyEntityCollection) {
+            LazyEntityCollection other = (LazyEntityCollection) collection;
+            int i = 0;
+            for (int e = 0; e < other.entities.size(); e++) {
+                while (i < other.itemCount && other.positions[i] == e) {
+                    addItem(other, i);
+                    i++;
+                }
+                add(other.entities.get(e));
+            }
+            while (i < other.itemCount) {
+                addItem(other, i);
+                i++;
+            }
+        }
+        else {
+            for (ChartEntity entity : collection.getEntities()) {
+                add(entity);
+            }
+        }
+    }
+
+    /**
+     * Returns the last entity in the collection with an area that encloses
+     * the specified coordinates, or {@code null} if there is no such entity.
+     * If the entity is for a recorded item, it is created by this method.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        int e = this.entities.size() - 1;
+        int i = this.itemCount - 1;
+        while (e >= 0 || i >= 0) {
+            // recorded item i comes after entity e if it was added later
+            if (i >= 0 && (e < 0 || this.positions[i] > e)) {
+                if (itemContains(i, x, y)) {
+                    return getItemEntity(i);
+                }
+                i--;
+            }
+            else {
+                ChartEntity entity = this.entities.get(e);
+                if (entity.getArea().contains(x, y)) {
+                    return entity;
+                }
+                e--;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if the hotspot for a recorded item contains the
+     * specified point, using the same test as the {@code contains()} method
+     * in {@code Ellipse2D} or {@code Rectangle2D} for hotspots that are
+     * recorded as bounds.
+     *
+     * @param i  the index of the recorded item.
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return A boolean.
+     */
+    private boolean itemContains(int i, double x, double y) {
+        if (this.shapes[i] != null) {
+            return this.shapes[i].contains(x, y);
+        }
+        double x0 = this.bounds[i * 4];
+        double y0 = this.bounds[i * 4 + 1];
+        double w = this.bounds[i * 4 + 2];
+        double h = this.bounds[i * 4 + 3];
+        if (w <= 0.0 || h <= 0.0) {
+            return false;
+        }
+        if ((this.sources[i] & 1) != 0) {
+            double normX = (x - x0) / w - 0.5;
+            double normY = (y - y0) / h - 0.5;
+            return (normX * normX + normY * normY) < 0.25;
+        }
+        return x >= x0 && y >= y0 && x < x0 + w && y < y0 + h;
+    }
+
+    /**
+     * Returns the entity for a recorded item, creating it if necessary.
+     *
+     * @param i  the index of the recorded item.
+     *
+     * @return The entity.
+     */
+    private ChartEntity getItemEntity(int i) {
+        if (this.lastEntity != null && this.lastItem == i) {
+            return this.lastEntity;
+        }
+        int s = this.sources[i] >> 1;
+        Shape area;
+        if (this.shapes[i] != null) {
+            area = this.shapes[i];
+        }
+        else if ((this.sources[i] & 1) != 0) {
+            area = new Ellipse2D.Double(this.bounds[i * 4],
+                    this.bounds[i * 4 + 1], this.bounds[i * 4 + 2],
+                    this.bounds[i * 4 + 3]);
+        }
+        else {
+            area = new Rectangle2D.Double(this.bounds[i * 4],
+                    this.bounds[i * 4 + 1], this.bounds[i * 4 + 2],
+                    this.bounds[i * 4 + 3]);
+        }
+        ChartEntity entity = this.factories.get(s).createItemEntity(area,
+                this.datasets.get(s), this.seriesIndices[i],
+                this.itemIndices[i]);
+        this.lastItem = i;
+        this.lastEntity = entity;
+        return entity;
+    }
+
+    /**
+     * Returns the entities in an unmodifiable collection.  The entities for
+     * the recorded items are created as they are accessed.
+     *
+     * @return The entities.
+     */
+    @Override
+    public Collection<ChartEntity> getEntities() {
+        return new AbstractList<ChartEntity>() {
+            @Override
+            public ChartEntity get(int index) {
+                return getEntity(index);
+            }
+
+            @Override
+            public int size() {
+                return getEntityCount();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator for the entities in the collection.
+     *
+     * @return An iterator.
+     */
+    @Override
+    public Iterator<ChartEntity> iterator() {
+        return getEntities().iterator();
+    }
+
+    /**
+     * Tests this object for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof LazyEntityCollection)) {
+            return false;
+        }
+        LazyEntityCollection that = (LazyEntityCollection) obj;
+        return getEntities().equals(that.getEntities());
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 29 * hash + getEntities().hashCode();
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this entity collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        LazyEntityCollection clone = (LazyEntityCollection) super.clone();
+        clone.entities = new ArrayList<>(this.entities.size());
+        for (ChartEntity entity : this.entities) {
+            clone.entities.add((ChartEntity) entity.clone());
+        }
+        clone.factories = new ArrayList<>(this.factories);
+        clone.datasets = new ArrayList<>(this.datasets);
+        clone.positions = this.positions.clone();
+        clone.sources = this.sources.clone();
+        clone.shapes = this.shapes.clone();
+        clone.seriesIndices = this.seriesIndices.clone();
+        clone.itemIndices = this.itemIndices.clone();
+        clone.bounds = this.bounds.clone();
+        clone.lastEntity = null;
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeObject(new ArrayList<>(getEntities()));
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        init();
+        this.entities.addAll((List<ChartEntity>) stream.readObject());
+    }
+
+}
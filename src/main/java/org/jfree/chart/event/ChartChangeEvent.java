@@ -128,17 +128,30 @@ public class ChartChangeEvent extends EventObject {
 
     /**
      * author:Gustavo Ferreira-> moved from JFreeChart
-     * Sends a {@link ChartChangeEvent} to all registered listeners.
+     * Sends a {@link ChartChangeEvent} to all registered listeners.  If the
+     * chart has a change event interval, the event may be deferred and
+     * merged with subsequent events (see
+     * {@link JFreeChart#setChangeEventInterval(int)}).
      *
      */
     public void notifyListeners(JFreeChart jFreeChart) {
-        if (jFreeChart.isNotify()) {
-            Object[] listeners = jFreeChart.getChangeListeners().getListenerList();
-            for (int i = listeners.length - 2; i >= 0; i -= 2) {
-                if (listeners[i] == ChartChangeListener.class) {
-                    ((ChartChangeListener) listeners[i + 1]).chartChanged(
-                            this);
-                }
+        if (jFreeChart.isNotify() && !jFreeChart.deferChangeEvent(this)) {
+            dispatch(jFreeChart);
+        }
+    }
+
+    /**
+     * Sends this event to the chart's registered listeners immediately.
+     *
+     * @param jFreeChart  the chart ({@code null} not permitted).
+     *
+     * @since 2.0.0
+     */
+    public void dispatch(JFreeChart jFreeChart) {
+        Object[] listeners = jFreeChart.getChangeListeners().getListenerList();
+        for (int i = listeners.length - 2; i >= 0; i -= 2) {
+            if (listeners[i] == ChartChangeListener.class) {
+                ((ChartChangeListener) listeners[i + 1]).chartChanged(this);
             }
         }
     }
@@ -48,6 +48,15 @@ public enum ChartChangeEventType {
     NEW_DATASET,
 
     /** DATASET_UPDATED. */
-    DATASET_UPDATED
+    DATASET_UPDATED,
+
+    /**
+     * A change that affects only the items drawn within the data area of a
+     * plot (markers, annotations and crosshairs), and not the axes, titles
+     * or legend.
+     *
+     * @since 2.0.0
+     */
+    DATA_AREA_UPDATED
 
 }
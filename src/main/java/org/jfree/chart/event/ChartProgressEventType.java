@@ -45,5 +45,13 @@ public enum ChartProgressEventType {
     DRAWING_STARTED, 
     
     /** Drawing finished. */
-    DRAWING_FINISHED
+    DRAWING_FINISHED,
+
+    /**
+     * Drawing in progress (the percentage is the proportion of the data
+     * items drawn so far).
+     *
+     * @since 2.0.0
+     */
+    DRAWING_IN_PROGRESS
 }
@@ -102,7 +102,10 @@ public class ImageMapUtils {
     }
 
     /**
-     * Writes an image map to an output stream.
+     * Writes an image map to an output stream.  The area tags are written
+     * one at a time, so the map is not built as a single string first (see
+     * also {@link ImageMapWriter}, which can also reduce the size of the
+     * map).
      *
      * @param writer  the writer ({@code null} not permitted).
      * @param name  the map name ({@code null} not permitted).
@@ -122,8 +125,27 @@ public class ImageMapUtils {
             URLTagFragmentGenerator urlTagFragmentGenerator)
         throws IOException {
 
-        writer.println(ImageMapUtils.getImageMap(name, info,
-                toolTipTagFragmentGenerator, urlTagFragmentGenerator));
+        writer.print("<map id=\"" + htmlEscape(name) + "\" name=\""
+                + htmlEscape(name) + "\">");
+        writer.print(StringUtils.getLineSeparator());
+        EntityCollection entities = info.getEntityCollection();
+        if (entities != null) {
+            int count = entities.getEntityCount();
+            for (int i = count - 1; i >= 0; i--) {
+                ChartEntity entity = entities.getEntity(i);
+                if (entity.getToolTipText() != null
+                        || entity.getURLText() != null) {
+                    String area = entity.getImageMapAreaTag(
+                            toolTipTagFragmentGenerator,
+                            urlTagFragmentGenerator);
+                    if (area.length() > 0) {
+                        writer.print(area);
+                        writer.print(StringUtils.getLineSeparator());
+                    }
+                }
+            }
+        }
+        writer.println("</map>");
     }
 
     /**
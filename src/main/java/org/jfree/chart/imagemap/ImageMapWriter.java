@@ -0,0 +1,474 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * ImageMapWriter.java
+ * -------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.imagemap;
+
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.util.StringUtils;
+
+/**
+ * Writes an HTML image map for a chart directly to a {@code Writer} or an
+ * {@code OutputStream}, one area tag at a time, so that the map for a chart
+ * with a very large number of entities is not built in memory first.  The
+ * tags are the same as those created by
+ * {@link ImageMapUtils#getImageMap(String, ChartRenderingInfo,
+ * ToolTipTagFragmentGenerator, URLTagFragmentGenerator)}, except that:
+ * <ul>
+ * <li>coordinates are rounded to the nearest pixel, and points in a
+ * polygon that lie within the <i>tolerance</i> of the line through their
+ * neighbours are removed;</li>
+ * <li>if a <i>cell size</i> is set, entities that fit within one cell are
+ * clustered on a grid, and only the topmost entity with its centre in each
+ * cell is written;</li>
+ * <li>no more than the <i>maximum area count</i> tags are written.</li>
+ * </ul>
+ * An instance reuses its working storage and should not be used by more
+ * than one thread at the same time.
+ *
+ * @since 2.0.0
+ */
+public class ImageMapWriter {
+
+    /** The default tolerance for polygon simplification (in pixels). */
+    public static final double DEFAULT_TOLERANCE = 0.5;
+
+    /** The flatness used to approximate curves with line segments. */
+    private static final double FLATNESS = 1.0;
+
+    /** The tool tip fragment generator. */
+    private final ToolTipTagFragmentGenerator toolTipTagFragmentGenerator;
+
+    /** The URL fragment generator. */
+    private final URLTagFragmentGenerator urlTagFragmentGenerator;
+
+    /** The tolerance for polygon simplification (in pixels). */
+    private double tolerance;
+
+    /** The cell size for clustering (zero for no clustering). */
+    private double cellSize;
+
+    /** The maximum number of area tags to write. */
+    private int maxAreaCount;
+
+    /** Working storage for the x-coordinates of a polygon. */
+    private int[] xs;
+
+    /** Working storage for the y-coordinates of a polygon. */
+    private int[] ys;
+
+    /** Working storage for an area tag. */
+    private final StringBuilder tag;
+
+    /**
+     * Creates a new writer that uses a
+     * {@link StandardToolTipTagFragmentGenerator} and a
+     * {@link StandardURLTagFragmentGenerator}.
+     */
+    public ImageMapWriter() {
+        this(new StandardToolTipTagFragmentGenerator(),
+                new StandardURLTagFragmentGenerator());
+    }
+
+    /**
+     * Creates a new writer.
+     *
+     * @param toolTipTagFragmentGenerator  a generator for the HTML fragment
+     *     that will contain the tooltip text ({@code null} not permitted).
+     * @param urlTagFragmentGenerator  a generator for the HTML fragment that
+     *     will contain the URL reference ({@code null} not permitted).
+     */
+    public ImageMapWriter(
+            ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
+            URLTagFragmentGenerator urlTagFragmentGenerator) {
+        Args.nullNotPermitted(toolTipTagFragmentGenerator,
+                "toolTipTagFragmentGenerator");
+        Args.nullNotPermitted(urlTagFragmentGenerator,
+                "urlTagFragmentGenerator");
+        this.toolTipTagFragmentGenerator = toolTipTagFragmentGenerator;
+        this.urlTagFragmentGenerator = urlTagFragmentGenerator;
+        this.tolerance = DEFAULT_TOLERANCE;
+        this.cellSize = 0.0;
+        this.maxAreaCount = Integer.MAX_VALUE;
+        this.xs = new int[16];
+        this.ys = new int[16];
+        this.tag = new StringBuilder(256);
+    }
+
+    /**
+     * Returns the tolerance for polygon simplification.
+     *
+     * @return The tolerance (in pixels).
+     */
+    public double getTolerance() {
+        return this.tolerance;
+    }
+
+    /**
+     * Sets the tolerance for polygon simplification.  A point is removed
+     * from a polygon if it is no further than this distance from the line
+     * through the points before and after it.  Points that round to the
+     * same pixel as the previous point are always removed.
+     *
+     * @param tolerance  the tolerance (in pixels, zero or greater).
+     */
+    public void setTolerance(double tolerance) {
+        Args.requireNonNegative(tolerance, "tolerance");
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Returns the cell size for clustering.
+     *
+     * @return The cell size (in pixels, zero if clustering is disabled).
+     */
+    public double getCellSize() {
+        return this.cellSize;
+    }
+
+    /**
+     * Sets the cell size for clustering.  When this is greater than zero,
+     * only the topmost entity with its centre in each cell of a grid (with
+     * cells of the specified size) is written, for entities whose bounds fit
+     * within one cell.  Larger entities are always written.
+     *
+     * @param cellSize  the cell size (in pixels, zero or greater).
+     */
+    public void setCellSize(double cellSize) {
+        Args.requireNonNegative(cellSize, "cellSize");
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Returns the maximum number of area tags written.
+     *
+     * @return The maximum area count.
+     */
+    public int getMaxAreaCount() {
+        return this.maxAreaCount;
+    }
+
+    /**
+     * Sets the maximum number of area tags written.  The entities are
+     * written from the topmost down, and the remaining entities are ignored
+     * once the limit is reached.
+     *
+     * @param count  the maximum area count (zero or greater).
+     */
+    public void setMaxAreaCount(int count) {
+        Args.requireNonNegative(count, "count");
+        this.maxAreaCount = count;
+    }
+
+    /**
+     * Writes an image map to an output stream, using the UTF-8 encoding.
+     * The stream is flushed but not closed.
+     *
+     * @param out  the output stream ({@code null} not permitted).
+     * @param name  the map name ({@code null} not permitted).
+     * @param info  the chart rendering info ({@code null} not permitted).
+     *
+     * @return The number of area tags written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public int write(OutputStream out, String name, ChartRenderingInfo info)
+            throws IOException {
+        Args.nullNotPermitted(out, "out");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out,
+                StandardCharsets.UTF_8));
+        int count = write(writer, name, info);
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Writes an image map to a writer.  The writer is not flushed or
+     * closed.
+     *
+     * @param writer  the writer ({@code null} not permitted).
+     * @param name  the map name ({@code null} not permitted).
+     * @param info  the chart rendering info ({@code null} not permitted).
+     *
+     * @return The number of area tags written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public int write(Writer writer, String name, ChartRenderingInfo info)
+            throws IOException {
+        Args.nullNotPermitted(writer, "writer");
+        Args.nullNotPermitted(name, "name");
+        Args.nullNotPermitted(info, "info");
+        String lineSeparator = StringUtils.getLineSeparator();
+        String escapedName = ImageMapUtils.htmlEscape(name);
+        writer.write("<map id=\"" + escapedName + "\" name=\""
+                + escapedName + "\">");
+        writer.write(lineSeparator);
+        int written = 0;
+        EntityCollection entities = info.getEntityCollection();
+        if (entities != null) {
+            Rectangle2D chartArea = info.getChartArea();
+            int columns = 0;
+            BitSet cells = null;
+            if (this.cellSize > 0.0) {
+                columns = (int) Math.ceil(chartArea.getWidth()
+                        / this.cellSize) + 1;
+                cells = new BitSet();
+            }
+            for (int i = entities.getEntityCount() - 1;
+                    i >= 0 && written < this.maxAreaCount; i--) {
+                ChartEntity entity = entities.getEntity(i);
+                if (isEmpty(entity.getToolTipText())
+                        && isEmpty(entity.getURLText())) {
+                    continue;
+                }
+                if (cells != null) {
+                    Rectangle2D bounds = entity.getArea().getBounds2D();
+                    if (bounds.getWidth() <= this.cellSize
+                            && bounds.getHeight() <= this.cellSize) {
+                        int column = cellIndex(bounds.getCenterX()
+                                - chartArea.getX(), columns);
+                        int row = cellIndex(bounds.getCenterY()
+                                - chartArea.getY(), Integer.MAX_VALUE
+                                / columns);
+                        int cell = row * columns + column;
+                        if (cells.get(cell)) {
+                            continue;
+                        }
+                        cells.set(cell);
+                    }
+                }
+                this.tag.setLength(0);
+                appendAreaTag(entity);
+                this.tag.append(lineSeparator);
+                writer.append(this.tag);
+                written++;
+            }
+        }
+        writer.write("</map>");
+        writer.write(lineSeparator);
+        return written;
+    }
+
+    /**
+     * Returns {@code true} if the text is {@code null} or empty.
+     *
+     * @param text  the text ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean isEmpty(String text) {
+        return text == null || text.isEmpty();
+    }
+
+    /**
+     * Returns the index of the grid cell for a coordinate.
+     *
+     * @param offset  the offset of the coordinate from the chart origin.
+     * @param count  the number of cells.
+     *
+     * @return The cell index (in the range {@code 0} to
+     *     {@code count - 1}).
+     */
+    private int cellIndex(double offset, int count) {
+        double index = Math.floor(offset / this.cellSize);
+        return (int) Math.max(0.0, Math.min(count - 1, index));
+    }
+
+    /**
+     * Appends the area tag for an entity to the tag buffer.
+     *
+     * @param entity  the entity.
+     */
+    private void appendAreaTag(ChartEntity entity) {
+        Shape area = entity.getArea();
+        if (area instanceof Rectangle2D || !appendPolygon(area)) {
+            appendRectangle(area.getBounds2D());
+        }
+        String toolTipText = entity.getToolTipText();
+        String urlText = entity.getURLText();
+        boolean hasToolTip = !isEmpty(toolTipText);
+        if (hasToolTip) {
+            this.tag.append(this.toolTipTagFragmentGenerator
+                    .generateToolTipFragment(toolTipText));
+        }
+        if (!isEmpty(urlText)) {
+            this.tag.append(this.urlTagFragmentGenerator.generateURLFragment(
+                    urlText));
+        }
+        else {
+            this.tag.append(" nohref=\"nohref\"");
+        }
+        // if there is a tool tip, we expect it to generate the title and
+        // alt values, so we only add an empty alt if there is no tooltip
+        if (!hasToolTip) {
+            this.tag.append(" alt=\"\"");
+        }
+        this.tag.append("/>");
+    }
+
+    /**
+     * Appends the start of a rectangle area tag to the tag buffer.
+     *
+     * @param r  the rectangle.
+     */
+    private void appendRectangle(Rectangle2D r) {
+        long x1 = Math.round(r.getMinX());
+        long y1 = Math.round(r.getMinY());
+        long x2 = Math.max(x1 + 1, Math.round(r.getMaxX()));
+        long y2 = Math.max(y1 + 1, Math.round(r.getMaxY()));
+        this.tag.append("<area shape=\"rect\" coords=\"").append(x1)
+                .append(',').append(y1).append(',').append(x2).append(',')
+                .append(y2).append('"');
+    }
+
+    /**
+     * Appends the start of a polygon area tag to the tag buffer, unless the
+     * simplified polygon has fewer than three points.
+     *
+     * @param shape  the shape.
+     *
+     * @return A boolean that indicates whether the tag was appended.
+     */
+    private boolean appendPolygon(Shape shape) {
+        int n = simplify(shape);
+        if (n < 3) {
+            return false;
+        }
+        this.tag.append("<area shape=\"poly\" coords=\"");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                this.tag.append(',');
+            }
+            this.tag.append(this.xs[i]).append(',').append(this.ys[i]);
+        }
+        this.tag.append('"');
+        return true;
+    }
+
+    /**
+     * Flattens a shape into the working storage, rounding the coordinates
+     * and removing repeated points and points that are within the tolerance
+     * of the line through their neighbours.
+     *
+     * @param shape  the shape.
+     *
+     * @return The number of points.
+     */
+    private int simplify(Shape shape) {
+        int n = 0;
+        double[] coords = new double[6];
+        PathIterator pi = shape.getPathIterator(null, FLATNESS);
+        while (!pi.isDone()) {
+            if (pi.currentSegment(coords) != PathIterator.SEG_CLOSE) {
+                int x = (int) Math.round(coords[0]);
+                int y = (int) Math.round(coords[1]);
+                if (n == 0 || x != this.xs[n - 1] || y != this.ys[n - 1]) {
+                    if (n == this.xs.length) {
+                        this.xs = Arrays.copyOf(this.xs, n * 2);
+                        this.ys = Arrays.copyOf(this.ys, n * 2);
+                    }
+                    // the previous point is removed if it is close to the
+                    // line from the point before it to this point
+                    if (n >= 2 && isNearLine(n - 1, this.xs[n - 2],
+                            this.ys[n - 2], x, y)) {
+                        n--;
+                    }
+                    this.xs[n] = x;
+                    this.ys[n] = y;
+                    n++;
+                }
+            }
+            pi.next();
+        }
+        // the polygon is closed, so a last point that repeats the first one
+        // is not needed
+        if (n > 1 && this.xs[n - 1] == this.xs[0]
+                && this.ys[n - 1] == this.ys[0]) {
+            n--;
+        }
+        if (n >= 3 && isNearLine(n - 1, this.xs[n - 2], this.ys[n - 2],
+                this.xs[0], this.ys[0])) {
+            n--;
+        }
+        return n;
+    }
+
+    /**
+     * Returns {@code true} if a point in the working storage is within the
+     * tolerance of the line through two other points.
+     *
+     * @param i  the index of the point.
+     * @param x0  the x-coordinate of the start of the line.
+     * @param y0  the y-coordinate of the start of the line.
+     * @param x1  the x-coordinate of the end of the line.
+     * @param y1  the y-coordinate of the end of the line.
+     *
+     * @return A boolean.
+     */
+    private boolean isNearLine(int i, int x0, int y0, int x1, int y1) {
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        double length = Math.sqrt(dx * dx + dy * dy);
+        if (length == 0.0) {
+            return false;
+        }
+        // the distance from the point to the line, but only for a point
+        // between the two ends of the line (so that a spike is kept)
+        double px = this.xs[i] - x0;
+        double py = this.ys[i] - y0;
+        double t = (px * dx + py * dy) / (length * length);
+        if (t < 0.0 || t > 1.0) {
+            return false;
+        }
+        return Math.abs(px * dy - py * dx) / length <= this.tolerance;
+    }
+
+}
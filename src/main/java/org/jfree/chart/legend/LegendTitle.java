@@ -648,6 +648,29 @@ public class LegendTitle extends Title
         return true;
     }
 
+    /**
+     * Returns a clone of the legend.  The clone shares the legend item
+     * sources with this legend, but has its own container for the legend
+     * items (unless a wrapper container has been set), so that the two
+     * legends can be drawn independently.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        LegendTitle clone = (LegendTitle) super.clone();
+        clone.sources = this.sources.clone();
+        if (this.wrapper == null) {
+            // the items are fetched again each time the legend is arranged
+            clone.items = new BlockContainer(this.items.getArrangement());
+        }
+        return clone;
+    }
+
     /**
      * Provides serialization support.
      *
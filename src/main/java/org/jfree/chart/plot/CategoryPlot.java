@@ -71,6 +71,7 @@ import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeMap;
 import org.jfree.chart.ChartElementVisitor;
+import org.jfree.chart.ChartProgressMonitor;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.StandardChartTheme;
 import org.jfree.chart.legend.LegendItemCollection;
@@ -3382,6 +3383,16 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
 
         DatasetRenderingOrder order = getDatasetRenderingOrder();
         List<Integer> datasetIndices = getDatasetIndices(order);
+        ChartProgressMonitor monitor = ChartProgressMonitor.getMonitor(g2);
+        if (monitor != null) {
+            for (int i : datasetIndices) {
+                CategoryDataset<R, C> dataset = getDataset(i);
+                if (dataset != null) {
+                    monitor.addToTotal((double) dataset.getRowCount()
+                            * dataset.getColumnCount());
+                }
+            }
+        }
         for (int i : datasetIndices) {
             foundData = render(g2, dataArea, i, state, crosshairState)
                     || foundData;
@@ -3642,14 +3653,22 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
             int columnCount = currentDataset.getColumnCount();
             int rowCount = currentDataset.getRowCount();
             int passCount = renderer.getPassCount();
+            ChartProgressMonitor monitor = ChartProgressMonitor.getMonitor(g2);
             for (int pass = 0; pass < passCount; pass++) {
                 if (this.columnRenderingOrder == SortOrder.ASCENDING) {
                     for (int column = 0; column < columnCount; column++) {
+                        if (monitor != null) {
+                            monitor.beginItems(rowCount,
+                                    rowCount / (double) passCount);
+                        }
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
                                         domainAxis, rangeAxis, currentDataset,
                                         row, column, pass);
+                                if (monitor != null) {
+                                    monitor.itemDrawn();
+                                }
                             }
                         }
                         else {
@@ -3657,17 +3676,30 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
                                 renderer.drawItem(g2, state, dataArea, this,
                                         domainAxis, rangeAxis, currentDataset,
                                         row, column, pass);
+                                if (monitor != null) {
+                                    monitor.itemDrawn();
+                                }
                             }
                         }
+                        if (monitor != null) {
+                            monitor.endItems();
+                        }
                     }
                 }
                 else {
                     for (int column = columnCount - 1; column >= 0; column--) {
+                        if (monitor != null) {
+                            monitor.beginItems(rowCount,
+                                    rowCount / (double) passCount);
+                        }
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
                                         domainAxis, rangeAxis, currentDataset,
                                         row, column, pass);
+                                if (monitor != null) {
+                                    monitor.itemDrawn();
+                                }
                             }
                         }
                         else {
@@ -3675,8 +3707,14 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
                                 renderer.drawItem(g2, state, dataArea, this,
                                         domainAxis, rangeAxis, currentDataset,
                                         row, column, pass);
+                                if (monitor != null) {
+                                    monitor.itemDrawn();
+                                }
                             }
                         }
+                        if (monitor != null) {
+                            monitor.endItems();
+                        }
                     }
                 }
             }
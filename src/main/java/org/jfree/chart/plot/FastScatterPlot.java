@@ -49,6 +49,8 @@ import java.awt.Stroke;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -66,15 +68,24 @@ import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.api.PublicCloneable;
 import org.jfree.chart.api.RectangleInsets;
 import org.jfree.chart.internal.ArrayUtils;
 import org.jfree.chart.internal.PaintUtils;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.SerialUtils;
+import org.jfree.chart.renderer.ColorLookupTable;
+import org.jfree.chart.renderer.PaintScale;
 import org.jfree.data.Range;
 
 /**
  * A fast scatter plot.
+ * <br><br>
+ * For very large arrays of data, the plot can be switched to raster mode
+ * (see {@link #setUseRaster(boolean)}), where the points are counted into
+ * the pixels of an image that is drawn in one step.  In this mode the points
+ * can optionally be colored by the number of points in each pixel (see
+ * {@link #setDensityPaintScale(PaintScale)}).
  */
 public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         Zoomable, Cloneable, Serializable {
@@ -126,6 +137,24 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
     /** The paint used to draw the range grid-lines. */
     private transient Paint rangeGridlinePaint;
 
+    /**
+     * A flag that controls whether the points are counted into an image
+     * that is drawn in one step.
+     */
+    private boolean useRaster;
+
+    /**
+     * The paint scale used to color the pixels by the number of points in
+     * each pixel, in raster mode ({@code null} permitted).
+     */
+    private PaintScale densityPaintScale;
+
+    /**
+     * A flag that controls whether the points are counted in parallel, in
+     * raster mode.
+     */
+    private boolean useParallelRaster;
+
     /**
      * A flag that controls whether or not panning is enabled for the domain
      * axis.
@@ -307,6 +336,111 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         fireChangeEvent();
     }
 
+    /**
+     * Returns {@code true} if the plot counts the points into the pixels of
+     * an image that is drawn in one step, and {@code false} if each point is
+     * filled individually.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setUseRaster(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getUseRaster() {
+        return this.useRaster;
+    }
+
+    /**
+     * Sets the flag that controls whether the plot counts the points into
+     * the pixels of an image that is drawn in one step (rather than filling
+     * a 1 x 1 rectangle for each point through the {@code Graphics2D}
+     * pipeline), and sends a {@link PlotChangeEvent} to all registered
+     * listeners.  The points are drawn in the same positions in both modes.
+     * If the plot paint (or the density paint scale) returns paints that are
+     * not instances of {@code Color}, each point is filled individually.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #getUseRaster()
+     * @see #setDensityPaintScale(PaintScale)
+     * @see #setUseParallelRaster(boolean)
+     *
+     * @since 2.0.0
+     */
+    public void setUseRaster(boolean flag) {
+        this.useRaster = flag;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the paint scale used to color each pixel by the number of
+     * points it contains, in raster mode.  The default value is
+     * {@code null}.
+     *
+     * @return The paint scale (possibly {@code null}).
+     *
+     * @see #setDensityPaintScale(PaintScale)
+     *
+     * @since 2.0.0
+     */
+    public PaintScale getDensityPaintScale() {
+        return this.densityPaintScale;
+    }
+
+    /**
+     * Sets the paint scale used to color each pixel by the number of points
+     * it contains, in raster mode, and sends a {@link PlotChangeEvent} to all
+     * registered listeners.  The scale is passed the point count (1 or more)
+     * for each pixel that contains points.  If the scale is {@code null},
+     * the plot paint is used for every pixel that contains points.
+     *
+     * @param scale  the paint scale ({@code null} permitted).
+     *
+     * @see #getDensityPaintScale()
+     *
+     * @since 2.0.0
+     */
+    public void setDensityPaintScale(PaintScale scale) {
+        this.densityPaintScale = scale;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns {@code true} if the points are counted in parallel (using the
+     * common fork/join pool) in raster mode, and {@code false} otherwise.
+     * The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setUseParallelRaster(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getUseParallelRaster() {
+        return this.useParallelRaster;
+    }
+
+    /**
+     * Sets the flag that controls whether the points are counted in
+     * parallel (using the common fork/join pool) in raster mode, and sends
+     * a {@link PlotChangeEvent} to all registered listeners.  Each task
+     * counts the points into its own raster, so this uses more memory and
+     * only helps for large arrays of data (small arrays are always counted
+     * on the calling thread).  The axes must support concurrent calls to
+     * {@code valueToJava2D()}, as the standard axes do.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #getUseParallelRaster()
+     *
+     * @since 2.0.0
+     */
+    public void setUseParallelRaster(boolean flag) {
+        this.useParallelRaster = flag;
+        fireChangeEvent();
+    }
+
     /**
      * Returns {@code true} if the domain gridlines are visible, and
      * {@code false} otherwise.
@@ -554,6 +688,10 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
      */
     public void render(Graphics2D g2, Rectangle2D dataArea,
                        PlotRenderingInfo info, CrosshairState crosshairState) {
+        if (this.useRaster && this.data != null
+                && renderRaster(g2, dataArea)) {
+            return;
+        }
         g2.setPaint(this.paint);
 
         // if the axes use a linear scale, you can uncomment the code below and
@@ -585,6 +723,60 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         }
     }
 
+    /**
+     * Draws the data by counting the points into the pixels of an image,
+     * then drawing the image.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     *
+     * @return A boolean that indicates whether the data was drawn (this is
+     *     {@code false} if a paint that is not a {@code Color} is required).
+     */
+    private boolean renderRaster(Graphics2D g2, Rectangle2D dataArea) {
+        ColorLookupTable densityColors = null;
+        if (this.densityPaintScale != null) {
+            densityColors = ColorLookupTable.createFor(this.densityPaintScale);
+            if (densityColors == null) {
+                return false;
+            }
+        }
+        else if (!(this.paint instanceof Color)) {
+            return false;
+        }
+        int x0 = (int) Math.floor(dataArea.getMinX());
+        int y0 = (int) Math.floor(dataArea.getMinY());
+        int w = (int) Math.ceil(dataArea.getMaxX()) - x0;
+        int h = (int) Math.ceil(dataArea.getMaxY()) - y0;
+        if (w <= 0 || h <= 0) {
+            return true;
+        }
+        PointRasterizer rasterizer = new PointRasterizer(this.data,
+                this.domainAxis, this.rangeAxis, dataArea, x0, y0, w, h);
+        int[] counts = rasterizer.countPoints(this.useParallelRaster);
+        BufferedImage image = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+                .getData();
+        if (densityColors != null) {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    pixels[i] = densityColors.getARGB(counts[i]);
+                }
+            }
+        }
+        else {
+            int argb = ((Color) this.paint).getRGB();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    pixels[i] = argb;
+                }
+            }
+        }
+        g2.drawImage(image, x0, y0, null);
+        return true;
+    }
+
     /**
      * Draws the gridlines for the plot, if they are visible.
      *
@@ -1006,6 +1198,15 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         if (!Objects.equals(this.rangeGridlineStroke, that.rangeGridlineStroke)) {
             return false;
         }
+        if (this.useRaster != that.useRaster) {
+            return false;
+        }
+        if (!Objects.equals(this.densityPaintScale, that.densityPaintScale)) {
+            return false;
+        }
+        if (this.useParallelRaster != that.useParallelRaster) {
+            return false;
+        }
         return true;
     }
 
@@ -1034,6 +1235,10 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
             clone.rangeAxis.setPlot(clone);
             clone.rangeAxis.addChangeListener(clone);
         }
+        if (this.densityPaintScale instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.densityPaintScale;
+            clone.densityPaintScale = (PaintScale) pc.clone();
+        }
         return clone;
 
     }
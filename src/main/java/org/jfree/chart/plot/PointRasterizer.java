@@ -0,0 +1,207 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * PointRasterizer.java
+ * --------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.plot;
+
+import java.awt.geom.Rectangle2D;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.ValueAxis;
+
+/**
+ * Counts the number of (x, y) points that fall in each pixel of a raster,
+ * used by the {@link FastScatterPlot} class.  The points can be split
+ * across fork/join tasks that each count into their own raster, with the
+ * results added together at the end.
+ */
+final class PointRasterizer {
+
+    /** The minimum number of points counted by one task. */
+    static final int MIN_POINTS_PER_TASK = 100000;
+
+    /** The x-values. */
+    private final float[] xValues;
+
+    /** The y-values. */
+    private final float[] yValues;
+
+    /** The x-axis. */
+    private final ValueAxis xAxis;
+
+    /** The y-axis. */
+    private final ValueAxis yAxis;
+
+    /** The data area. */
+    private final Rectangle2D dataArea;
+
+    /** The x-coordinate (in Java2D space) of the first raster column. */
+    private final int x0;
+
+    /** The y-coordinate (in Java2D space) of the first raster row. */
+    private final int y0;
+
+    /** The raster width. */
+    private final int width;
+
+    /** The raster height. */
+    private final int height;
+
+    /**
+     * Creates a new rasterizer.
+     *
+     * @param data  the data (data[0][i] = x, data[1][i] = y).
+     * @param xAxis  the x-axis.
+     * @param yAxis  the y-axis.
+     * @param dataArea  the data area.
+     * @param x0  the x-coordinate (in Java2D space) of the first column.
+     * @param y0  the y-coordinate (in Java2D space) of the first row.
+     * @param width  the raster width.
+     * @param height  the raster height.
+     */
+    PointRasterizer(float[][] data, ValueAxis xAxis, ValueAxis yAxis,
+            Rectangle2D dataArea, int x0, int y0, int width, int height) {
+        this.xValues = data[0];
+        this.yValues = data[1];
+        this.xAxis = xAxis;
+        this.yAxis = yAxis;
+        this.dataArea = dataArea;
+        this.x0 = x0;
+        this.y0 = y0;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Returns the number of points in each pixel of the raster (the count
+     * for the pixel at (x, y) is at index {@code y * width + x}).
+     *
+     * @param parallel  split the points across fork/join tasks?
+     *
+     * @return The counts.
+     */
+    int[] countPoints(boolean parallel) {
+        int n = Math.min(this.xValues.length, this.yValues.length);
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (!parallel || parallelism < 2 || n < 2 * MIN_POINTS_PER_TASK) {
+            return countPoints(0, n);
+        }
+        int pointsPerTask = Math.max(MIN_POINTS_PER_TASK,
+                (n + parallelism - 1) / parallelism);
+        return ForkJoinPool.commonPool().invoke(
+                new CountTask(0, n, pointsPerTask));
+    }
+
+    /**
+     * Counts the points in the specified range into a new raster.
+     *
+     * @param start  the index of the first point.
+     * @param end  the index after the last point.
+     *
+     * @return The counts.
+     */
+    private int[] countPoints(int start, int end) {
+        int[] counts = new int[this.width * this.height];
+        for (int i = start; i < end; i++) {
+            float x = this.xValues[i];
+            float y = this.yValues[i];
+            if (Float.isNaN(x) || Float.isNaN(y)) {
+                continue;
+            }
+            int px = (int) this.xAxis.valueToJava2D(x, this.dataArea,
+                    RectangleEdge.BOTTOM) - this.x0;
+            int py = (int) this.yAxis.valueToJava2D(y, this.dataArea,
+                    RectangleEdge.LEFT) - this.y0;
+            if (px >= 0 && px < this.width && py >= 0 && py < this.height) {
+                counts[py * this.width + px]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * A task that counts a range of points, splitting the range in two
+     * until it is no larger than the number of points per task.
+     */
+    private class CountTask extends RecursiveTask<int[]> {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -8498147630861311200L;
+
+        /** The index of the first point. */
+        private final int start;
+
+        /** The index after the last point. */
+        private final int end;
+
+        /** The maximum number of points counted without splitting. */
+        private final int pointsPerTask;
+
+        /**
+         * Creates a new task.
+         *
+         * @param start  the index of the first point.
+         * @param end  the index after the last point.
+         * @param pointsPerTask  the maximum number of points counted without
+         *     splitting.
+         */
+        CountTask(int start, int end, int pointsPerTask) {
+            this.start = start;
+            this.end = end;
+            this.pointsPerTask = pointsPerTask;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (this.end - this.start <= this.pointsPerTask) {
+                return countPoints(this.start, this.end);
+            }
+            int mid = (this.start + this.end) >>> 1;
+            CountTask left = new CountTask(this.start, mid,
+                    this.pointsPerTask);
+            left.fork();
+            int[] counts = new CountTask(mid, this.end, this.pointsPerTask)
+                    .compute();
+            int[] leftCounts = left.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += leftCounts[i];
+            }
+            return counts;
+        }
+    }
+
+}
@@ -50,6 +50,8 @@
 
 package org.jfree.chart.plot;
 
+import org.jfree.chart.ChartHints;
+import org.jfree.chart.ChartProgressMonitor;
 import org.jfree.chart.ChartElementVisitor;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.StandardChartTheme;
@@ -72,6 +74,8 @@ import org.jfree.chart.legend.LegendItemCollection;
 import org.jfree.chart.renderer.AbstractRenderer;
 import org.jfree.chart.renderer.RendererUtils;
 import org.jfree.chart.renderer.xy.AbstractXYItemRenderer;
+import org.jfree.chart.renderer.xy.DecimatedXYDataset;
+import org.jfree.chart.renderer.xy.DomainOrderCache;
 import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRendererState;
@@ -183,6 +187,17 @@ public class XYPlot<S extends Comparable<S>> extends Plot
     /** The origin point for the quadrants (if drawn). */
     private transient Point2D quadrantOrigin = new Point2D.Double(0.0, 0.0);
 
+    /**
+     * Records which series have x-values in ascending order, for the
+     * decimated rendering (see {@link DecimatedXYDataset}).  The state for
+     * a dataset is kept across dataset change events (so that appended items
+     * are checked incrementally) and removed when the dataset is replaced.
+     * The cache is shared with clones of the plot, since they render the
+     * same datasets.
+     */
+    private transient DomainOrderCache domainOrderCache
+            = new DomainOrderCache();
+
     /** The paint used for each quadrant. */
     private transient Paint[] quadrantPaint
             = new Paint[] {null, null, null, null};
@@ -1190,6 +1205,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         XYDataset<S> existing = getDataset(index);
         if (existing != null) {
             existing.removeChangeListener(this);
+            this.domainOrderCache.remove(existing);
         }
         this.datasets.put(index, dataset);
         if (dataset != null) {
@@ -1212,13 +1228,18 @@ public class XYPlot<S extends Comparable<S>> extends Plot
 
     /**
      * Returns the index of the specified dataset, or {@code -1} if the
-     * dataset does not belong to the plot.
+     * dataset does not belong to the plot.  For a {@link DecimatedXYDataset}
+     * created while rendering, the index of the underlying dataset is
+     * returned.
      *
      * @param dataset  the dataset ({@code null} not permitted).
      *
      * @return The index or -1.
      */
     public int indexOf(XYDataset<S> dataset) {
+        if (dataset instanceof DecimatedXYDataset) {
+            dataset = ((DecimatedXYDataset<S>) dataset).getSource();
+        }
         for (Map.Entry<Integer, XYDataset<S>> entry: this.datasets.entrySet()) {
             if (dataset == entry.getValue()) {
                 return entry.getKey();
@@ -2873,14 +2894,27 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         if (dataArea.isEmpty()) {
             return;
         }
-        createAndAddEntity((Rectangle2D) dataArea.clone(), info, null, null);
+        // see ChartHints.KEY_LAYER
+        Object layer = g2.getRenderingHint(ChartHints.KEY_LAYER);
+        boolean drawBaseLayer = !ChartHints.VALUE_LAYER_DATA.equals(layer);
+        boolean drawDataLayer = !ChartHints.VALUE_LAYER_BASE.equals(layer);
+        if (drawBaseLayer) {
+            createAndAddEntity((Rectangle2D) dataArea.clone(), info, null,
+                    null);
+        }
         if (info != null) {
             info.setDataArea(dataArea);
         }
 
         // draw the plot background and axes...
-        drawBackground(g2, dataArea);
-        Map<Axis, AxisState> axisStateMap = drawAxes(g2, area, dataArea, info);
+        Map<Axis, AxisState> axisStateMap;
+        if (drawBaseLayer) {
+            drawBackground(g2, dataArea);
+            axisStateMap = drawAxes(g2, area, dataArea, info);
+        }
+        else {
+            axisStateMap = Collections.emptyMap();
+        }
 
         PlotOrientation orient = getOrientation();
 
@@ -2947,20 +2981,25 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                         .get(getRangeAxis());
             }
         }
-        if (domainAxisState != null) {
+        if (drawBaseLayer && domainAxisState != null) {
             drawDomainTickBands(g2, dataArea, domainAxisState.getTicks());
         }
-        if (rangeAxisState != null) {
+        if (drawBaseLayer && rangeAxisState != null) {
             drawRangeTickBands(g2, dataArea, rangeAxisState.getTicks());
         }
-        if (domainAxisState != null) {
+        if (drawBaseLayer && domainAxisState != null) {
             drawDomainGridlines(g2, dataArea, domainAxisState.getTicks());
             drawZeroDomainBaseline(g2, dataArea);
         }
-        if (rangeAxisState != null) {
+        if (drawBaseLayer && rangeAxisState != null) {
             drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
             drawZeroRangeBaseline(g2, dataArea);
         }
+        if (!drawDataLayer) {
+            g2.setClip(originalClip);
+            g2.setComposite(originalComposite);
+            return;
+        }
 
         Graphics2D savedG2 = g2;
         BufferedImage dataImage = null;
@@ -3002,6 +3041,15 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         }
 
         // render data items...
+        ChartProgressMonitor monitor = ChartProgressMonitor.getMonitor(g2);
+        if (monitor != null) {
+            for (int datasetIndex : datasetIndices) {
+                XYDataset<S> dataset = getDataset(datasetIndex);
+                for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                    monitor.addToTotal(dataset.getItemCount(s));
+                }
+            }
+        }
         for (int datasetIndex : datasetIndices) {
             foundData = render(g2, dataArea, datasetIndex, info, 
                     crosshairState) || foundData;
@@ -3435,6 +3483,14 @@ public class XYPlot<S extends Comparable<S>> extends Plot
 
             XYItemRendererState state = renderer.initialise(g2, dataArea, this,
                     dataset, info);
+            // progress is reported in items of the original dataset
+            XYDataset<S> source = dataset;
+            ChartProgressMonitor monitor = ChartProgressMonitor.getMonitor(g2);
+            if (state.getUseDecimation()) {
+                // pass the renderer at most four items per pixel column
+                dataset = new DecimatedXYDataset<>(dataset, xAxis, dataArea,
+                        getDomainAxisEdge(), this.domainOrderCache);
+            }
             int passCount = renderer.getPassCount();
 
             SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
@@ -3457,13 +3513,24 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                         }
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
+                        if (monitor != null) {
+                            monitor.beginItems(lastItem - firstItem + 1,
+                                    source.getItemCount(series)
+                                    / (double) passCount);
+                        }
                         for (int item = firstItem; item <= lastItem; item++) {
                             renderer.drawItem(g2, state, dataArea, info,
                                     this, xAxis, yAxis, dataset, series, item,
                                     crosshairState, pass);
+                            if (monitor != null) {
+                                monitor.itemDrawn();
+                            }
                         }
                         state.endSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
+                        if (monitor != null) {
+                            monitor.endItems();
+                        }
                     }
                 }
             }
@@ -3483,13 +3550,24 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                         }
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
+                        if (monitor != null) {
+                            monitor.beginItems(lastItem - firstItem + 1,
+                                    source.getItemCount(series)
+                                    / (double) passCount);
+                        }
                         for (int item = firstItem; item <= lastItem; item++) {
                             renderer.drawItem(g2, state, dataArea, info,
                                     this, xAxis, yAxis, dataset, series, item,
                                     crosshairState, pass);
+                            if (monitor != null) {
+                                monitor.itemDrawn();
+                            }
                         }
                         state.endSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
+                        if (monitor != null) {
+                            monitor.endItems();
+                        }
                     }
                 }
             }
@@ -4204,10 +4282,34 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         }
         else {
             PlotChangeEvent e = new PlotChangeEvent(this);
+            e.setType(ChartChangeEventType.DATA_AREA_UPDATED);
             notifyListeners(e);
         }
     }
 
+    /**
+     * Receives notification of a change to a marker that is assigned to the
+     * plot.  The event sent to the plot's listeners has the type
+     * {@link ChartChangeEventType#DATA_AREA_UPDATED}.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void markerChanged(MarkerChangeEvent event) {
+        fireDataAreaChangeEvent();
+    }
+
+    /**
+     * Sends a {@link PlotChangeEvent} with the type
+     * {@link ChartChangeEventType#DATA_AREA_UPDATED} to all registered
+     * listeners.
+     */
+    private void fireDataAreaChangeEvent() {
+        PlotChangeEvent e = new PlotChangeEvent(this);
+        e.setType(ChartChangeEventType.DATA_AREA_UPDATED);
+        notifyListeners(e);
+    }
+
     /**
      * Receives notification of a change to the plot's dataset.
      * <P>
@@ -4336,7 +4438,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
     public void setDomainCrosshairValue(double value, boolean notify) {
         this.domainCrosshairValue = value;
         if (isDomainCrosshairVisible() && notify) {
-            fireChangeEvent();
+            fireDataAreaChangeEvent();
         }
     }
 
@@ -4488,7 +4590,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
     public void setRangeCrosshairValue(double value, boolean notify) {
         this.rangeCrosshairValue = value;
         if (isRangeCrosshairVisible() && notify) {
-            fireChangeEvent();
+            fireDataAreaChangeEvent();
         }
     }
 
@@ -5342,6 +5444,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         throws IOException, ClassNotFoundException {
 
         stream.defaultReadObject();
+        this.domainOrderCache = new DomainOrderCache();
         this.domainGridlineStroke = SerialUtils.readStroke(stream);
         this.domainGridlinePaint = SerialUtils.readPaint(stream);
         this.rangeGridlineStroke = SerialUtils.readStroke(stream);
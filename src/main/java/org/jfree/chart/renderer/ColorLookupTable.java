@@ -0,0 +1,339 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * ColorLookupTable.java
+ * ---------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.awt.Color;
+import java.awt.Paint;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * A table that maps data values to packed ARGB colors (in the format used by
+ * {@code BufferedImage.TYPE_INT_ARGB}), derived from a {@link PaintScale}.
+ * This is used to write colors directly into the pixels of an image,
+ * avoiding a call to {@link PaintScale#getPaint(double)} (and the creation
+ * of a new {@code Color} instance) for every value.
+ * <br><br>
+ * The colors returned for a {@link GrayPaintScale} or a
+ * {@link LookupPaintScale} are identical to the colors returned by the paint
+ * scale.  For other paint scales the table holds a sample of
+ * {@link #SAMPLE_COUNT} colors, evenly spaced between the lower and upper
+ * bounds of the scale, and values outside the bounds take the color at the
+ * nearest bound.
+ *
+ * @since 2.0.0
+ */
+public abstract class ColorLookupTable {
+
+    /** The number of colors sampled from a general paint scale. */
+    public static final int SAMPLE_COUNT = 1024;
+
+    /** The color for {@code Double.NaN}. */
+    private final int nanARGB;
+
+    /**
+     * Creates a new table.
+     *
+     * @param nanARGB  the color for {@code Double.NaN}.
+     */
+    private ColorLookupTable(int nanARGB) {
+        this.nanARGB = nanARGB;
+    }
+
+    /**
+     * Creates a lookup table for the specified paint scale.  If the scale
+     * returns any paint that is not an instance of {@code Color} (a
+     * {@code GradientPaint} for example) this method returns {@code null},
+     * and the caller should use the paint scale directly.
+     *
+     * @param scale  the paint scale ({@code null} not permitted).
+     *
+     * @return The lookup table (possibly {@code null}).
+     */
+    public static ColorLookupTable createFor(PaintScale scale) {
+        Args.nullNotPermitted(scale, "scale");
+        Paint nanPaint = scale.getPaint(Double.NaN);
+        if (!(nanPaint instanceof Color)) {
+            return null;
+        }
+        int nanARGB = ((Color) nanPaint).getRGB();
+        // subclasses may override getPaint(), so only the exact classes use
+        // the exact tables
+        if (scale.getClass() == GrayPaintScale.class) {
+            return new Gray((GrayPaintScale) scale, nanARGB);
+        }
+        if (scale.getClass() == LookupPaintScale.class) {
+            return Lookup.create((LookupPaintScale) scale, nanARGB);
+        }
+        return Sampled.create(scale, nanARGB);
+    }
+
+    /**
+     * Returns the color for the specified value, as a packed ARGB int.
+     *
+     * @param value  the value.
+     *
+     * @return The color.
+     */
+    public abstract int getARGB(double value);
+
+    /**
+     * Returns {@code true} if the colors in this table are identical to the
+     * colors returned by the paint scale for every value, and {@code false}
+     * if the table holds a sample of the colors from the scale.
+     *
+     * @return A boolean.
+     */
+    public abstract boolean isExact();
+
+    /**
+     * A table for a {@link GrayPaintScale}.
+     */
+    private static final class Gray extends ColorLookupTable {
+
+        /** The lower bound. */
+        private final double lowerBound;
+
+        /** The upper bound. */
+        private final double upperBound;
+
+        /** The colors for each gray level (0-255). */
+        private final int[] colors;
+
+        /**
+         * Creates a new table.
+         *
+         * @param scale  the paint scale.
+         * @param nanARGB  the color for {@code Double.NaN}.
+         */
+        Gray(GrayPaintScale scale, int nanARGB) {
+            super(nanARGB);
+            this.lowerBound = scale.getLowerBound();
+            this.upperBound = scale.getUpperBound();
+            this.colors = new int[256];
+            for (int g = 0; g < 256; g++) {
+                this.colors[g] = new Color(g, g, g, scale.getAlpha())
+                        .getRGB();
+            }
+        }
+
+        @Override
+        public boolean isExact() {
+            return true;
+        }
+
+        @Override
+        public int getARGB(double value) {
+            if (Double.isNaN(value)) {
+                return super.nanARGB;
+            }
+            // the same calculation as GrayPaintScale.getPaint()
+            double v = Math.max(value, this.lowerBound);
+            v = Math.min(v, this.upperBound);
+            int g = (int) ((v - this.lowerBound) / (this.upperBound
+                    - this.lowerBound) * 255.0);
+            return this.colors[g];
+        }
+    }
+
+    /**
+     * A table for a {@link LookupPaintScale}.
+     */
+    private static final class Lookup extends ColorLookupTable {
+
+        /** The lower bound. */
+        private final double lowerBound;
+
+        /** The upper bound. */
+        private final double upperBound;
+
+        /** The values in the lookup table, in ascending order. */
+        private final double[] values;
+
+        /** The colors for the values in the lookup table. */
+        private final int[] colors;
+
+        /** The color for values that are not covered by the lookup table. */
+        private final int defaultARGB;
+
+        /**
+         * Creates a new table.
+         *
+         * @param scale  the paint scale.
+         * @param nanARGB  the color for {@code Double.NaN}.
+         * @param values  the values from the lookup table.
+         * @param colors  the colors for the values.
+         * @param defaultARGB  the default color.
+         */
+        private Lookup(LookupPaintScale scale, int nanARGB, double[] values,
+                int[] colors, int defaultARGB) {
+            super(nanARGB);
+            this.lowerBound = scale.getLowerBound();
+            this.upperBound = scale.getUpperBound();
+            this.values = values;
+            this.colors = colors;
+            this.defaultARGB = defaultARGB;
+        }
+
+        /**
+         * Creates a table for the specified scale, or returns {@code null}
+         * if the scale uses a paint that is not a {@code Color}.
+         *
+         * @param scale  the paint scale.
+         * @param nanARGB  the color for {@code Double.NaN}.
+         *
+         * @return The table (possibly {@code null}).
+         */
+        static Lookup create(LookupPaintScale scale, int nanARGB) {
+            if (!(scale.getDefaultPaint() instanceof Color)) {
+                return null;
+            }
+            LookupPaintScale.PaintItem[] items = scale.getPaintItems();
+            double[] values = new double[items.length];
+            int[] colors = new int[items.length];
+            for (int i = 0; i < items.length; i++) {
+                if (!(items[i].paint instanceof Color)) {
+                    return null;
+                }
+                values[i] = items[i].value;
+                colors[i] = ((Color) items[i].paint).getRGB();
+            }
+            return new Lookup(scale, nanARGB, values, colors,
+                    ((Color) scale.getDefaultPaint()).getRGB());
+        }
+
+        @Override
+        public boolean isExact() {
+            return true;
+        }
+
+        @Override
+        public int getARGB(double value) {
+            if (Double.isNaN(value)) {
+                return super.nanARGB;
+            }
+            if (value < this.lowerBound || value > this.upperBound
+                    || this.values.length == 0 || value < this.values[0]) {
+                return this.defaultARGB;
+            }
+            // find the last entry with a value less than or equal to the
+            // specified value
+            int low = 0;
+            int high = this.values.length - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (this.values[mid] <= value) {
+                    low = mid;
+                }
+                else {
+                    high = mid - 1;
+                }
+            }
+            return this.colors[low];
+        }
+    }
+
+    /**
+     * A table that holds a sample of the colors from a general paint scale.
+     */
+    private static final class Sampled extends ColorLookupTable {
+
+        /** The lower bound. */
+        private final double lowerBound;
+
+        /** The upper bound. */
+        private final double upperBound;
+
+        /** The sampled colors. */
+        private final int[] colors;
+
+        /**
+         * Creates a new table.
+         *
+         * @param scale  the paint scale.
+         * @param nanARGB  the color for {@code Double.NaN}.
+         * @param colors  the sampled colors.
+         */
+        private Sampled(PaintScale scale, int nanARGB, int[] colors) {
+            super(nanARGB);
+            this.lowerBound = scale.getLowerBound();
+            this.upperBound = scale.getUpperBound();
+            this.colors = colors;
+        }
+
+        /**
+         * Creates a table for the specified scale, or returns {@code null}
+         * if the scale uses a paint that is not a {@code Color}.
+         *
+         * @param scale  the paint scale.
+         * @param nanARGB  the color for {@code Double.NaN}.
+         *
+         * @return The table (possibly {@code null}).
+         */
+        static Sampled create(PaintScale scale, int nanARGB) {
+            double lower = scale.getLowerBound();
+            double upper = scale.getUpperBound();
+            int[] colors = new int[SAMPLE_COUNT];
+            for (int i = 0; i < SAMPLE_COUNT; i++) {
+                double v = lower + (upper - lower) * i / (SAMPLE_COUNT - 1);
+                Paint p = scale.getPaint(Math.min(v, upper));
+                if (!(p instanceof Color)) {
+                    return null;
+                }
+                colors[i] = ((Color) p).getRGB();
+            }
+            return new Sampled(scale, nanARGB, colors);
+        }
+
+        @Override
+        public boolean isExact() {
+            return false;
+        }
+
+        @Override
+        public int getARGB(double value) {
+            if (Double.isNaN(value)) {
+                return super.nanARGB;
+            }
+            double f = (value - this.lowerBound) / (this.upperBound
+                    - this.lowerBound);
+            f = Math.max(0.0, Math.min(f, 1.0));
+            return this.colors[(int) Math.round(f * (SAMPLE_COUNT - 1))];
+        }
+    }
+
+}
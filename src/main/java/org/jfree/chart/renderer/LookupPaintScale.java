@@ -59,7 +59,7 @@ public class LookupPaintScale
     /**
      * Stores the paint for a value.
      */
-    static class PaintItem implements Comparable, Serializable {
+    static class PaintItem implements Comparable<PaintItem>, Serializable {
 
         /** For serialization. */
         static final long serialVersionUID = 698920578512361570L;
@@ -82,15 +82,14 @@ public class LookupPaintScale
         }
 
         /**
-         * Compares this item to an arbitrary object.
+         * Compares this item to another item.
          *
-         * @param obj  the object.
+         * @param that  the other item.
          *
          * @return An int defining the relative order of the objects.
          */
         @Override
-        public int compareTo(Object obj) {
-            PaintItem that = (PaintItem) obj;
+        public int compareTo(PaintItem that) {
             double d1 = this.value;
             double d2 = that.value;
             if (d1 > d2) {
@@ -168,7 +167,7 @@ public class LookupPaintScale
     private transient Paint defaultPaint;
 
     /** The lookup table. */
-    private List lookupTable;
+    private List<PaintItem> lookupTable;
 
     /**
      * Creates a new paint scale.
@@ -195,7 +194,7 @@ public class LookupPaintScale
         this.lowerBound = lowerBound;
         this.upperBound = upperBound;
         this.defaultPaint = defaultPaint;
-        this.lookupTable = new java.util.ArrayList();
+        this.lookupTable = new java.util.ArrayList<>();
     }
 
     /**
@@ -250,6 +249,15 @@ public class LookupPaintScale
         }
     }
 
+    /**
+     * Returns the entries in the lookup table, in ascending order of value.
+     *
+     * @return The entries (never {@code null}).
+     */
+    PaintItem[] getPaintItems() {
+        return this.lookupTable.toArray(new PaintItem[0]);
+    }
+
     /**
      * Returns the paint associated with the specified value.
      *
@@ -276,7 +284,7 @@ public class LookupPaintScale
         }
 
         // handle special case where value is less that item zero
-        PaintItem item = (PaintItem) this.lookupTable.get(0);
+        PaintItem item = this.lookupTable.get(0);
         if (value < item.value) {
             return this.defaultPaint;
         }
@@ -286,7 +294,7 @@ public class LookupPaintScale
         int high = this.lookupTable.size() - 1;
         while (high - low > 1) {
             int current = (low + high) / 2;
-            item = (PaintItem) this.lookupTable.get(current);
+            item = this.lookupTable.get(current);
             if (value >= item.value) {
                 low = current;
             }
@@ -295,9 +303,9 @@ public class LookupPaintScale
             }
         }
         if (high > low) {
-            item = (PaintItem) this.lookupTable.get(high);
+            item = this.lookupTable.get(high);
             if (value < item.value) {
-                item = (PaintItem) this.lookupTable.get(low);
+                item = this.lookupTable.get(low);
             }
         }
         return (item != null ? item.paint : this.defaultPaint);
@@ -346,7 +354,7 @@ public class LookupPaintScale
     @Override
     public Object clone() throws CloneNotSupportedException {
         LookupPaintScale clone = (LookupPaintScale) super.clone();
-        clone.lookupTable = new java.util.ArrayList(this.lookupTable);
+        clone.lookupTable = new java.util.ArrayList<>(this.lookupTable);
         return clone;
     }
 
@@ -68,7 +68,9 @@ import org.jfree.chart.annotations.Annotation;
 import org.jfree.chart.annotations.XYAnnotation;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.LazyEntityCollection;
 import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.entity.XYItemEntityFactory;
 import org.jfree.chart.event.AnnotationChangeEvent;
 import org.jfree.chart.event.AnnotationChangeListener;
 import org.jfree.chart.event.RendererChangeEvent;
@@ -110,8 +112,8 @@ import org.jfree.data.xy.XYItemKey;
  * cloning.
  */
 public abstract class AbstractXYItemRenderer extends AbstractRenderer
-        implements XYItemRenderer, AnnotationChangeListener,
-        Cloneable, Serializable {
+        implements XYItemRenderer, XYItemEntityFactory,
+        AnnotationChangeListener, Cloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 8019124836026607990L;
@@ -1574,7 +1576,10 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
      * Adds an entity to the collection.  Note the the {@code entityX} and
      * {@code entityY} coordinates are in Java2D space, should already be 
      * adjusted for the plot orientation, and will only be used if 
-     * {@code hotspot} is {@code null}.
+     * {@code hotspot} is {@code null}.  If the collection is a
+     * {@link LazyEntityCollection}, the item is recorded and the entity is
+     * created by {@link #createItemEntity(Shape, XYDataset, int, int)} only
+     * when it is required.
      *
      * @param entities  the entity collection being populated.
      * @param hotspot  the entity area (if {@code null} a default will be
@@ -1595,6 +1600,19 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
             return;
         }
 
+        // entities always refer to the plot's dataset, not a rendering view
+        if (dataset instanceof DecimatedXYDataset) {
+            DecimatedXYDataset<?> view = (DecimatedXYDataset<?>) dataset;
+            item = view.getSourceItem(series, item);
+            dataset = view.getSource();
+        }
+
+        if (entities instanceof LazyEntityCollection) {
+            ((LazyEntityCollection) entities).addItem(this, dataset, series,
+                    item, hotspot, entityX, entityY, getDefaultEntityRadius());
+            return;
+        }
+
         // if not hotspot is provided, we create a default based on the 
         // provided data coordinates (which are already in Java2D space)
         if (hotspot == null) {
@@ -1602,6 +1620,25 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
             double w = r * 2;
             hotspot = new Ellipse2D.Double(entityX - r, entityY - r, w, w);
         }
+        entities.add(createItemEntity(hotspot, dataset, series, item));
+    }
+
+    /**
+     * Creates the entity for a data item, with the tool tip and URL from
+     * the renderer's generators.
+     *
+     * @param area  the entity area ({@code null} not permitted).
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The entity.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public XYItemEntity createItemEntity(Shape area, XYDataset<?> dataset,
+            int series, int item) {
         String tip = null;
         XYToolTipGenerator generator = getToolTipGenerator(series, item);
         if (generator != null) {
@@ -1611,9 +1648,7 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         if (getURLGenerator() != null) {
             url = getURLGenerator().generateURL(dataset, series, item);
         }
-        XYItemEntity entity = new XYItemEntity(hotspot, dataset, series, item,
-                tip, url);
-        entities.add(entity);
+        return new XYItemEntity(area, dataset, series, item, tip, url);
     }
 
     /**
@@ -0,0 +1,503 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * DecimatedXYDataset.java
+ * -----------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.renderer.RendererUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.MinMaxPyramid;
+import org.jfree.data.xy.MinMaxPyramidInfo;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A read-only view of an {@link XYDataset} that contains, for each pixel
+ * column of the data area, only the first, last, minimum and maximum items
+ * that fall in that column (the "M4" aggregation).  When the items of a
+ * series are joined by lines in x-order, the lines drawn for the view cover
+ * exactly the same pixels as the lines drawn for all the items, but the
+ * number of items to render is bounded by four times the width of the data
+ * area rather than by the number of items in the series.
+ * <p>
+ * An instance is created by the {@link org.jfree.chart.plot.XYPlot} for each
+ * dataset that is rendered with decimation enabled (see
+ * {@link XYItemRendererState#getUseDecimation()}), it is not intended to be
+ * added to a plot.  Items with a {@code Double.NaN} y-value are always
+ * retained so that gaps in a series are preserved.  Series that are not
+ * sorted by x-value are passed through unchanged (datasets that do not
+ * declare an ascending domain order are checked, since many datasets hold
+ * sorted data without reporting it, and the result can be kept between
+ * rendering passes in a {@link DomainOrderCache}).
+ * <p>
+ * If the underlying dataset implements {@link MinMaxPyramidInfo} and
+ * provides a pyramid for a series, the minimum and maximum in each column
+ * are read from the pyramid instead of visiting every item, so zooming out
+ * and panning over very long series stays interactive.
+ *
+ * @param <S> the type of the series keys.
+ *
+ * @since 2.0.0
+ */
+public class DecimatedXYDataset<S extends Comparable<S>>
+        implements XYDataset<S> {
+
+    /** The underlying dataset. */
+    private final XYDataset<S> source;
+
+    /** The domain axis. */
+    private final ValueAxis domainAxis;
+
+    /** The data area. */
+    private final Rectangle2D dataArea;
+
+    /** The edge for the domain axis. */
+    private final RectangleEdge domainEdge;
+
+    /**
+     * The cache for the domain order of the series ({@code null}
+     * permitted).
+     */
+    private final DomainOrderCache domainOrderCache;
+
+    /**
+     * The source item indices for each series ({@code null} entries are
+     * calculated on demand, and {@link #PASS_THROUGH} indicates a series
+     * that is not decimated).
+     */
+    private final int[][] items;
+
+    /** The item indices for a series that is passed through unchanged. */
+    private static final int[] PASS_THROUGH = new int[0];
+
+    /**
+     * Creates a new view.
+     *
+     * @param source  the underlying dataset ({@code null} not permitted).
+     * @param domainAxis  the domain axis ({@code null} not permitted).
+     * @param dataArea  the data area ({@code null} not permitted).
+     * @param domainEdge  the domain axis edge ({@code null} not permitted).
+     */
+    public DecimatedXYDataset(XYDataset<S> source, ValueAxis domainAxis,
+            Rectangle2D dataArea, RectangleEdge domainEdge) {
+        this(source, domainAxis, dataArea, domainEdge, null);
+    }
+
+    /**
+     * Creates a new view.
+     *
+     * @param source  the underlying dataset ({@code null} not permitted).
+     * @param domainAxis  the domain axis ({@code null} not permitted).
+     * @param dataArea  the data area ({@code null} not permitted).
+     * @param domainEdge  the domain axis edge ({@code null} not permitted).
+     * @param domainOrderCache  a cache for the domain order of the series
+     *     in the underlying dataset ({@code null} permitted).
+     */
+    public DecimatedXYDataset(XYDataset<S> source, ValueAxis domainAxis,
+            Rectangle2D dataArea, RectangleEdge domainEdge,
+            DomainOrderCache domainOrderCache) {
+        Args.nullNotPermitted(source, "source");
+        Args.nullNotPermitted(domainAxis, "domainAxis");
+        Args.nullNotPermitted(dataArea, "dataArea");
+        Args.nullNotPermitted(domainEdge, "domainEdge");
+        this.source = source;
+        this.domainAxis = domainAxis;
+        this.dataArea = dataArea;
+        this.domainEdge = domainEdge;
+        this.domainOrderCache = domainOrderCache;
+        this.items = new int[source.getSeriesCount()][];
+    }
+
+    /**
+     * Returns the underlying dataset.
+     *
+     * @return The underlying dataset (never {@code null}).
+     */
+    public XYDataset<S> getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the index of the item in the underlying dataset that
+     * corresponds to an item in this view.
+     *
+     * @param series  the series index.
+     * @param item  the item index in this view.
+     *
+     * @return The item index in the underlying dataset.
+     */
+    public int getSourceItem(int series, int item) {
+        int[] indices = getItems(series);
+        return indices == PASS_THROUGH ? item : indices[item];
+    }
+
+    /**
+     * Returns the source item indices for a series, calculating them if
+     * necessary.
+     *
+     * @param series  the series index.
+     *
+     * @return The item indices.
+     */
+    private int[] getItems(int series) {
+        int[] result = this.items[series];
+        if (result == null) {
+            result = decimate(series);
+            this.items[series] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if the x-values in a series of the underlying
+     * dataset are in ascending order (with no {@code Double.NaN} values).
+     *
+     * @param series  the series index.
+     *
+     * @return A boolean.
+     */
+    private boolean isAscending(int series) {
+        if (this.domainOrderCache != null) {
+            return this.domainOrderCache.isAscending(this.source, series);
+        }
+        int itemCount = this.source.getItemCount(series);
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < itemCount; i++) {
+            double x = this.source.getXValue(series, i);
+            if (!(x >= previous)) {
+                return false;
+            }
+            previous = x;
+        }
+        return true;
+    }
+
+    /**
+     * Selects the items to include in the view for a series.  Only the
+     * visible items (plus one item either side) are considered.
+     *
+     * @param series  the series index.
+     *
+     * @return The source item indices, in ascending order.
+     */
+    private int[] decimate(int series) {
+        int itemCount = this.source.getItemCount(series);
+        if (itemCount == 0) {
+            return new int[0];
+        }
+        int first = 0;
+        int last = itemCount - 1;
+        if (this.source.getDomainOrder() != DomainOrder.ASCENDING
+                && !isAscending(series)) {
+            return PASS_THROUGH;
+        }
+        int[] bounds = RendererUtils.findLiveItems(this.source, series,
+                this.domainAxis.getLowerBound(),
+                this.domainAxis.getUpperBound());
+        first = Math.max(bounds[0] - 1, 0);
+        last = Math.min(bounds[1] + 1, last);
+        if (this.source instanceof MinMaxPyramidInfo) {
+            MinMaxPyramid pyramid = ((MinMaxPyramidInfo) this.source)
+                    .getMinMaxPyramid(series);
+            if (pyramid != null && pyramid.getItemCount() == itemCount) {
+                return decimate(series, first, last, pyramid);
+            }
+        }
+
+        int[] result = new int[Math.min(last - first + 1, 64)];
+        int count = 0;
+        long column = Long.MIN_VALUE;
+        int firstItem = -1;
+        int lastItem = -1;
+        int minItem = -1;
+        int maxItem = -1;
+        double minY = Double.NaN;
+        double maxY = Double.NaN;
+        for (int item = first; item <= last; item++) {
+            double y = this.source.getYValue(series, item);
+            long c = column(series, item);
+            if (c != column || Double.isNaN(y)) {
+                if (firstItem >= 0) {
+                    result = ensureCapacity(result, count + 4);
+                    count = flush(result, count, firstItem, minItem, maxItem,
+                            lastItem);
+                    firstItem = -1;
+                }
+                if (Double.isNaN(y)) {
+                    // retain the gap in the series
+                    result = ensureCapacity(result, count + 1);
+                    result[count++] = item;
+                    column = Long.MIN_VALUE;
+                    continue;
+                }
+                column = c;
+                firstItem = item;
+                minItem = item;
+                maxItem = item;
+                minY = y;
+                maxY = y;
+            }
+            else {
+                if (y < minY) {
+                    minY = y;
+                    minItem = item;
+                }
+                if (y > maxY) {
+                    maxY = y;
+                    maxItem = item;
+                }
+            }
+            lastItem = item;
+        }
+        if (firstItem >= 0) {
+            result = ensureCapacity(result, count + 4);
+            count = flush(result, count, firstItem, minItem, maxItem,
+                    lastItem);
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Selects the items to include in the view for a series using a
+     * {@link MinMaxPyramid}.  The items in each pixel column are located by
+     * searching on the x-values, then the minimum and maximum items are found
+     * from the pyramid, so the time taken depends on the number of pixel
+     * columns rather than the number of items.
+     *
+     * @param series  the series index.
+     * @param first  the index of the first item to consider.
+     * @param last  the index of the last item to consider.
+     * @param pyramid  the min/max pyramid for the series.
+     *
+     * @return The source item indices, in ascending order.
+     */
+    private int[] decimate(int series, int first, int last,
+            MinMaxPyramid pyramid) {
+        int[] result = new int[64];
+        int count = 0;
+        int item = first;
+        while (item <= last) {
+            int end = findLastItemInColumn(series, item, last);
+            int from = item;
+            while (from <= end) {
+                int nan = pyramid.getNaNIndex(from, end);
+                int to = nan < 0 ? end : nan - 1;
+                if (to >= from) {
+                    result = ensureCapacity(result, count + 4);
+                    count = flush(result, count, from,
+                            pyramid.getMinIndex(from, to),
+                            pyramid.getMaxIndex(from, to), to);
+                }
+                if (nan < 0) {
+                    break;
+                }
+                // retain the gap in the series
+                result = ensureCapacity(result, count + 1);
+                result[count++] = nan;
+                from = nan + 1;
+            }
+            item = end + 1;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Returns the index of the last item that falls in the same pixel column
+     * as the specified item.  Since the x-values are in ascending order, the
+     * items in a column are contiguous, so a galloping search is used.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param last  the index of the last item to consider.
+     *
+     * @return The item index.
+     */
+    private int findLastItemInColumn(int series, int item, int last) {
+        long c = column(series, item);
+        int low = item;
+        int step = 1;
+        while (low + step <= last && column(series, low + step) == c) {
+            low += step;
+            step <<= 1;
+        }
+        int high = Math.min(low + step, last + 1);
+        // the item at 'low' is in the column, the item at 'high' is not
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (column(series, mid) == c) {
+                low = mid;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the pixel column for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The column.
+     */
+    private long column(int series, int item) {
+        double x = this.source.getXValue(series, item);
+        double xx = this.domainAxis.valueToJava2D(x, this.dataArea,
+                this.domainEdge);
+        return Double.isNaN(xx) ? Long.MAX_VALUE : (long) Math.floor(xx);
+    }
+
+    /**
+     * Returns an array with at least the required capacity.
+     *
+     * @param array  the array.
+     * @param required  the required capacity.
+     *
+     * @return The array, or a larger copy of it.
+     */
+    private static int[] ensureCapacity(int[] array, int required) {
+        if (required <= array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(required, array.length * 2));
+    }
+
+    /**
+     * Appends the distinct items for one pixel column, in ascending order.
+     *
+     * @param result  the result array.
+     * @param count  the number of items already in the result array.
+     * @param first  the first item in the column.
+     * @param min  the item with the minimum y-value.
+     * @param max  the item with the maximum y-value.
+     * @param last  the last item in the column.
+     *
+     * @return The new number of items in the result array.
+     */
+    private static int flush(int[] result, int count, int first, int min,
+            int max, int last) {
+        result[count++] = first;
+        int lo = Math.min(min, max);
+        int hi = Math.max(min, max);
+        if (lo != first) {
+            result[count++] = lo;
+        }
+        if (hi != lo && hi != first) {
+            result[count++] = hi;
+        }
+        if (last != hi && last != lo && last != first) {
+            result[count++] = last;
+        }
+        return count;
+    }
+
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.source.getDomainOrder();
+    }
+
+    @Override
+    public int getItemCount(int series) {
+        int[] indices = getItems(series);
+        return indices == PASS_THROUGH ? this.source.getItemCount(series)
+                : indices.length;
+    }
+
+    @Override
+    public Number getX(int series, int item) {
+        return this.source.getX(series, getSourceItem(series, item));
+    }
+
+    @Override
+    public double getXValue(int series, int item) {
+        return this.source.getXValue(series, getSourceItem(series, item));
+    }
+
+    @Override
+    public Number getY(int series, int item) {
+        return this.source.getY(series, getSourceItem(series, item));
+    }
+
+    @Override
+    public double getYValue(int series, int item) {
+        return this.source.getYValue(series, getSourceItem(series, item));
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return this.source.getSeriesCount();
+    }
+
+    @Override
+    public S getSeriesKey(int series) {
+        return this.source.getSeriesKey(series);
+    }
+
+    @Override
+    public int indexOf(S seriesKey) {
+        return this.source.indexOf(seriesKey);
+    }
+
+    /**
+     * Does nothing, the view is created for a single rendering pass and
+     * does not generate change events.
+     *
+     * @param listener  the listener.
+     */
+    @Override
+    public void addChangeListener(DatasetChangeListener listener) {
+        // the view is immutable
+    }
+
+    /**
+     * Does nothing, the view is created for a single rendering pass and
+     * does not generate change events.
+     *
+     * @param listener  the listener.
+     */
+    @Override
+    public void removeChangeListener(DatasetChangeListener listener) {
+        // the view is immutable
+    }
+
+}
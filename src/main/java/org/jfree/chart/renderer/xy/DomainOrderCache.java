@@ -0,0 +1,168 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * DomainOrderCache.java
+ * ---------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Records which series of a dataset have x-values in ascending order, so
+ * that a {@link DecimatedXYDataset} does not have to check every item each
+ * time a chart is drawn (for datasets that do not declare an ascending
+ * domain order).  The state for a series is kept while the dataset
+ * changes: when items are appended to a series, only the new items are
+ * checked.  The series is checked again from the start if its key changes,
+ * if its item count shrinks, or (for a series in ascending order) if the
+ * last x-value checked has changed, for example when the oldest item is
+ * dropped from a series with a maximum item count.  The owner should call {@link #remove(XYDataset)}
+ * when it stops using a dataset (an {@link org.jfree.chart.plot.XYPlot}
+ * does this when a dataset is replaced).
+ * <p>
+ * The cache is safe to use from multiple threads.
+ *
+ * @since 2.0.0
+ */
+public final class DomainOrderCache {
+
+    /** The state for each series, keyed by dataset (by identity). */
+    private final Map<XYDataset<?>, List<SeriesState>> states;
+
+    /**
+     * Creates a new, empty, cache.
+     */
+    public DomainOrderCache() {
+        this.states = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns {@code true} if the x-values in a series are in ascending
+     * order (with no {@code Double.NaN} values).
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     *
+     * @return A boolean.
+     */
+    public synchronized boolean isAscending(XYDataset<?> dataset,
+            int series) {
+        List<SeriesState> list = this.states.computeIfAbsent(dataset,
+                k -> new ArrayList<>());
+        int seriesCount = dataset.getSeriesCount();
+        if (list.size() != seriesCount) {
+            // series were added or removed
+            list.clear();
+            for (int s = 0; s < seriesCount; s++) {
+                list.add(null);
+            }
+        }
+        SeriesState state = list.get(series);
+        Comparable<?> key = dataset.getSeriesKey(series);
+        int itemCount = dataset.getItemCount(series);
+        if (state == null || !Objects.equals(key, state.key)
+                || itemCount < state.itemCount || (state.ascending
+                && state.itemCount > 0 && Double.compare(dataset.getXValue(series,
+                state.itemCount - 1), state.lastX) != 0)) {
+            state = new SeriesState(key);
+            list.set(series, state);
+        }
+        if (state.ascending && itemCount > state.itemCount) {
+            // check the items added since the last check
+            double previous = state.itemCount > 0 ? state.lastX
+                    : Double.NEGATIVE_INFINITY;
+            for (int i = state.itemCount; i < itemCount; i++) {
+                double x = dataset.getXValue(series, i);
+                if (!(x >= previous)) {
+                    state.ascending = false;
+                    break;
+                }
+                previous = x;
+            }
+            state.lastX = previous;
+        }
+        state.itemCount = itemCount;
+        return state.ascending;
+    }
+
+    /**
+     * Removes the state for a dataset.
+     *
+     * @param dataset  the dataset ({@code null} permitted).
+     */
+    public synchronized void remove(XYDataset<?> dataset) {
+        this.states.remove(dataset);
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public synchronized void clear() {
+        this.states.clear();
+    }
+
+    /**
+     * The state recorded for one series.
+     */
+    private static final class SeriesState {
+
+        /** The series key. */
+        final Comparable<?> key;
+
+        /** The number of items checked. */
+        int itemCount;
+
+        /** The last x-value (only used while the items are in order). */
+        double lastX = Double.NEGATIVE_INFINITY;
+
+        /** A flag that indicates the items checked are in order. */
+        boolean ascending = true;
+
+        /**
+         * Creates the state for a series.
+         *
+         * @param key  the series key.
+         */
+        SeriesState(Comparable<?> key) {
+            this.key = key;
+        }
+    }
+
+}
@@ -162,6 +162,12 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
      */
     private GradientPaintTransformer gradientTransformer;
 
+    /**
+     * A flag that controls whether or not the plot reduces each series to
+     * the items required to draw the area at the current resolution.
+     */
+    private boolean useDecimation;
+
     /**
      * Constructs a new renderer.
      */
@@ -222,6 +228,7 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         this.legendArea = area;
         this.useFillPaint = false;
         this.gradientTransformer = new StandardGradientPaintTransformer();
+        this.useDecimation = false;
     }
 
     /**
@@ -340,6 +347,41 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether or not the plot reduces each
+     * series to the first, last, minimum and maximum items in each pixel
+     * column of the data area before passing the items to this renderer (see
+     * {@link DecimatedXYDataset}).  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setUseDecimation(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getUseDecimation() {
+        return this.useDecimation;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the plot reduces each
+     * series to the items required to draw the area at the current
+     * resolution, and sends a {@link RendererChangeEvent} to all registered
+     * listeners.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #getUseDecimation()
+     *
+     * @since 2.0.0
+     */
+    public void setUseDecimation(boolean flag) {
+        if (this.useDecimation != flag) {
+            this.useDecimation = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Initialises the renderer and returns a state object that should be
      * passed to all subsequent calls to the drawItem() method.
@@ -361,6 +403,7 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         // in the rendering process, there is special handling for item
         // zero, so we can't support processing of visible data items only
         state.setProcessVisibleItemsOnly(false);
+        state.setUseDecimation(this.useDecimation);
         return state;
     }
 
@@ -668,6 +711,9 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         if (!this.gradientTransformer.equals(that.gradientTransformer)) {
             return false;
         }
+        if (this.useDecimation != that.useDecimation) {
+            return false;
+        }
         if (!ShapeUtils.equal(this.legendArea, that.legendArea)) {
             return false;
         }
@@ -686,6 +732,7 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         result = HashUtils.hashCode(result, this.plotLines);
         result = HashUtils.hashCode(result, this.plotShapes);
         result = HashUtils.hashCode(result, this.useFillPaint);
+        result = HashUtils.hashCode(result, this.useDecimation);
         return result;
     }
 
@@ -38,7 +38,10 @@ package org.jfree.chart.renderer.xy;
 
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.Serializable;
 
 import org.jfree.chart.axis.ValueAxis;
@@ -48,6 +51,7 @@ import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.ColorLookupTable;
 import org.jfree.chart.renderer.LookupPaintScale;
 import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.api.RectangleAnchor;
@@ -66,6 +70,9 @@ import org.jfree.data.xy.XYZDataset;
  * demo collection:
  * <br><br>
  * <img src="doc-files/XYBlockRendererSample.png" alt="XYBlockRendererSample.png">
+ * <br><br>
+ * For datasets with a large number of items, the renderer can be switched
+ * to raster mode (see {@link #setUseRaster(boolean)}).
  */
 public class XYBlockRenderer extends AbstractXYItemRenderer
         implements XYItemRenderer, Cloneable, PublicCloneable, Serializable {
@@ -104,6 +111,12 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
      */
     private boolean useOutlinePaint;
 
+    /**
+     * A flag that controls whether the blocks are drawn to an image that is
+     * then drawn to the output in one step.
+     */
+    private boolean useRaster;
+
     /**
      * Creates a new {@code XYBlockRenderer} instance with default
      * attributes.
@@ -281,6 +294,51 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns {@code true} if the renderer draws the blocks for each series
+     * to an image that is then drawn to the output in one step, and
+     * {@code false} if each block is filled individually.  The default value
+     * is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setUseRaster(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getUseRaster() {
+        return this.useRaster;
+    }
+
+    /**
+     * Sets the flag that controls whether the renderer draws the blocks for
+     * each series to an image that is then drawn to the output in one step,
+     * and sends a {@link RendererChangeEvent} to all registered listeners.
+     * <br><br>
+     * In raster mode the block colors are written directly to the pixels of
+     * an image (at the resolution of the output device), using a
+     * {@link ColorLookupTable} derived from the paint scale, which is much
+     * faster than filling each block through the {@code Graphics2D} pipeline
+     * when there are many blocks.  For paint scales other than
+     * {@link org.jfree.chart.renderer.GrayPaintScale} and
+     * {@link LookupPaintScale} the table holds a
+     * sample of the colors, so the block colors are approximate.  Every block covers at least one pixel,
+     * the block outlines are not drawn, and blocks that overlap are not
+     * blended (the block drawn last is visible).  Item labels, crosshairs
+     * and entities are unaffected.  If the paint scale returns paints that
+     * are not instances of {@code Color}, the blocks are filled individually.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #getUseRaster()
+     *
+     * @since 2.0.0
+     */
+    public void setUseRaster(boolean flag) {
+        this.useRaster = flag;
+        fireChangeEvent();
+    }
+
     /**
      * Updates the offsets to take into account the block width, height and
      * anchor.
@@ -377,35 +435,39 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
     }
 
     /**
-     * Draws the block representing the specified item.
+     * Initialises the renderer and returns a state object that should be
+     * passed to all subsequent calls to the drawItem() method.
      *
      * @param g2  the graphics device.
-     * @param state  the state.
-     * @param dataArea  the data area.
-     * @param info  the plot rendering info.
+     * @param dataArea  the area inside the axes.
      * @param plot  the plot.
-     * @param domainAxis  the x-axis.
-     * @param rangeAxis  the y-axis.
      * @param dataset  the dataset.
-     * @param series  the series index.
-     * @param item  the item index.
-     * @param crosshairState  the crosshair state.
-     * @param pass  the pass index.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return The renderer state.
      */
     @Override
-    public void drawItem(Graphics2D g2, XYItemRendererState state,
-            Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
-            ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
-            int series, int item, CrosshairState crosshairState, int pass) {
-
-        double x = dataset.getXValue(series, item);
-        double y = dataset.getYValue(series, item);
-        double z = 0.0;
-        if (dataset instanceof XYZDataset) {
-            z = ((XYZDataset) dataset).getZValue(series, item);
-        }
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        return new State(info);
+    }
 
-        Paint p = this.paintScale.getPaint(z);
+    /**
+     * Returns the rectangle (in Java2D space) for the block at the specified
+     * (x, y) location.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the x-axis.
+     * @param rangeAxis  the y-axis.
+     *
+     * @return The block.
+     */
+    private Rectangle2D createBlock(double x, double y, Rectangle2D dataArea,
+            XYPlot<?> plot, ValueAxis domainAxis, ValueAxis rangeAxis) {
         double xx0 = domainAxis.valueToJava2D(x + this.xOffset, dataArea,
                 plot.getDomainAxisEdge());
         double yy0 = rangeAxis.valueToJava2D(y + this.yOffset, dataArea,
@@ -426,14 +488,144 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
                     Math.min(yy0, yy1), Math.abs(xx1 - xx0),
                     Math.abs(yy1 - yy0));
         }
-        g2.setPaint(p);
-        g2.fill(block);
-        if (getDrawOutlines()) {
-            if (getUseOutlinePaint()) {
-                g2.setPaint(getItemOutlinePaint(series, item));
+        return block;
+    }
+
+    /**
+     * Draws the blocks for the items in the current series pass to an image,
+     * then draws the image to the data area.
+     *
+     * @param g2  the graphics device.
+     * @param state  the state.
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the x-axis.
+     * @param rangeAxis  the y-axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return A boolean that indicates whether the blocks were drawn (this
+     *     is {@code false} if the paint scale returns paints that are not
+     *     instances of {@code Color}).
+     */
+    private boolean drawSeriesImage(Graphics2D g2, XYItemRendererState state,
+            Rectangle2D dataArea, XYPlot<?> plot, ValueAxis domainAxis,
+            ValueAxis rangeAxis, XYDataset<?> dataset, int series) {
+        ColorLookupTable colors = ColorLookupTable.createFor(this.paintScale);
+        if (colors == null) {
+            return false;
+        }
+        // match the resolution of the output device, unless it is rotated
+        double sx = 1.0;
+        double sy = 1.0;
+        AffineTransform t = g2.getTransform();
+        if ((t.getType() & (AffineTransform.TYPE_GENERAL_ROTATION
+                | AffineTransform.TYPE_QUADRANT_ROTATION
+                | AffineTransform.TYPE_GENERAL_TRANSFORM)) == 0) {
+            sx = Math.abs(t.getScaleX());
+            sy = Math.abs(t.getScaleY());
+        }
+        int w = (int) Math.ceil(dataArea.getWidth() * sx);
+        int h = (int) Math.ceil(dataArea.getHeight() * sy);
+        if (w <= 0 || h <= 0) {
+            return true;
+        }
+        BufferedImage image = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+                .getData();
+        XYZDataset<?> xyz = dataset instanceof XYZDataset
+                ? (XYZDataset<?>) dataset : null;
+        for (int item = state.getFirstItemIndex();
+                item <= state.getLastItemIndex(); item++) {
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            Rectangle2D block = createBlock(x, y, dataArea, plot, domainAxis,
+                    rangeAxis);
+            double bx0 = (block.getMinX() - dataArea.getX()) * sx;
+            double by0 = (block.getMinY() - dataArea.getY()) * sy;
+            double bx1 = (block.getMaxX() - dataArea.getX()) * sx;
+            double by1 = (block.getMaxY() - dataArea.getY()) * sy;
+            if (!(bx1 >= 0.0 && bx0 <= w && by1 >= 0.0 && by0 <= h)) {
+                continue;  // outside the data area, or NaN
+            }
+            // every block covers at least one pixel
+            int px0 = (int) Math.round(Math.max(bx0, -1.0));
+            int px1 = Math.max((int) Math.round(Math.min(bx1, w + 1.0)),
+                    px0 + 1);
+            int py0 = (int) Math.round(Math.max(by0, -1.0));
+            int py1 = Math.max((int) Math.round(Math.min(by1, h + 1.0)),
+                    py0 + 1);
+            px0 = Math.max(px0, 0);
+            px1 = Math.min(px1, w);
+            py0 = Math.max(py0, 0);
+            py1 = Math.min(py1, h);
+            double z = xyz != null ? xyz.getZValue(series, item) : 0.0;
+            int argb = colors.getARGB(z);
+            for (int py = py0; py < py1; py++) {
+                int offset = py * w;
+                for (int px = px0; px < px1; px++) {
+                    pixels[offset + px] = argb;
+                }
+            }
+        }
+        g2.drawImage(image, new AffineTransform(1.0 / sx, 0.0, 0.0, 1.0 / sy,
+                dataArea.getX(), dataArea.getY()), null);
+        return true;
+    }
+
+    /**
+     * Draws the block representing the specified item.
+     *
+     * @param g2  the graphics device.
+     * @param state  the state.
+     * @param dataArea  the data area.
+     * @param info  the plot rendering info.
+     * @param plot  the plot.
+     * @param domainAxis  the x-axis.
+     * @param rangeAxis  the y-axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param crosshairState  the crosshair state.
+     * @param pass  the pass index.
+     */
+    @Override
+    public void drawItem(Graphics2D g2, XYItemRendererState state,
+            Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+            ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+            int series, int item, CrosshairState crosshairState, int pass) {
+
+        double x = dataset.getXValue(series, item);
+        double y = dataset.getYValue(series, item);
+        boolean rasterised = false;
+        if (this.useRaster && state instanceof State) {
+            State s = (State) state;
+            if (item == state.getFirstItemIndex()) {
+                s.seriesImageDrawn = drawSeriesImage(g2, state, dataArea,
+                        plot, domainAxis, rangeAxis, dataset, series);
+            }
+            rasterised = s.seriesImageDrawn;
+        }
+
+        Rectangle2D block = createBlock(x, y, dataArea, plot, domainAxis,
+                rangeAxis);
+        PlotOrientation orientation = plot.getOrientation();
+        if (!rasterised) {
+            double z = 0.0;
+            if (dataset instanceof XYZDataset) {
+                z = ((XYZDataset) dataset).getZValue(series, item);
+            }
+            Paint p = this.paintScale.getPaint(z);
+            g2.setPaint(p);
+            g2.fill(block);
+            if (getDrawOutlines()) {
+                if (getUseOutlinePaint()) {
+                    g2.setPaint(getItemOutlinePaint(series, item));
+                }
+                g2.setStroke(lookupSeriesOutlineStroke(series));
+                g2.draw(block);
             }
-            g2.setStroke(lookupSeriesOutlineStroke(series));
-            g2.draw(block);
         }
 
         if (isItemLabelVisible(series, item)) {
@@ -498,6 +690,9 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         if (this.useOutlinePaint != that.useOutlinePaint) {
             return false;
         }
+        if (this.useRaster != that.useRaster) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -519,4 +714,26 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         return clone;
     }
 
+    /**
+     * The state for the renderer.
+     */
+    private static class State extends XYItemRendererState {
+
+        /**
+         * A flag that indicates that the blocks for the current series have
+         * been drawn to an image.
+         */
+        private boolean seriesImageDrawn;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  the plot rendering info.
+         */
+        State(PlotRenderingInfo info) {
+            super(info);
+        }
+
+    }
+
 }
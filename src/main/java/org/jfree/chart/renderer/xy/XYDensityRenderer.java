@@ -0,0 +1,410 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * XYDensityRenderer.java
+ * ----------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.io.Serializable;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.RendererChangeEvent;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.legend.PaintScaleLegend;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.LookupPaintScale;
+import org.jfree.chart.renderer.PaintScale;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A renderer that shows the density of the points in a series, for scatter
+ * plots with too many points to draw individually.  The points are counted
+ * into square or hexagonal bins of a fixed size in screen space, in a single
+ * pass over the data, and each bin that contains points is filled with the
+ * paint that a {@link PaintScale} returns for the number of points in the
+ * bin.  The time taken to draw the bins depends on the number of bins, not
+ * the number of points.  A {@link PaintScaleLegend} using the same paint
+ * scale can be added to the chart to show the counts for each color (see
+ * {@code ChartFactory.createDensityChart()}).
+ * <br><br>
+ * No entities (for tool tips or mouse events) are created for the data
+ * items.
+ *
+ * @see org.jfree.data.xy.XYDensityDataset
+ *
+ * @since 2.0.0
+ */
+public class XYDensityRenderer extends AbstractXYItemRenderer
+        implements XYItemRenderer, Cloneable, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -691271073293721016L;
+
+    /** The ratio of the row spacing to the bin size for hexagonal bins. */
+    private static final double HEX_ROW_RATIO = Math.sqrt(3.0) / 2.0;
+
+    /** The bin size (in Java2D units). */
+    private double binSize;
+
+    /** The bin shape. */
+    private DensityBinShape binShape;
+
+    /** The paint scale (maps the number of points in a bin to a paint). */
+    private PaintScale paintScale;
+
+    /**
+     * Creates a new renderer with square bins that are 8 units wide.
+     */
+    public XYDensityRenderer() {
+        this.binSize = 8.0;
+        this.binShape = DensityBinShape.SQUARE;
+        LookupPaintScale scale = new LookupPaintScale(0.0, Double.MAX_VALUE,
+                Color.WHITE);
+        scale.add(1.0, new Color(198, 219, 239));
+        scale.add(10.0, new Color(107, 174, 214));
+        scale.add(100.0, new Color(33, 113, 181));
+        scale.add(1000.0, new Color(8, 48, 107));
+        this.paintScale = scale;
+    }
+
+    /**
+     * Returns the bin size, in Java2D units.  For square bins this is the
+     * width and height of the bin, for hexagonal bins it is the distance
+     * between the centers of adjacent bins in the same row.  The default
+     * value is {@code 8.0}.
+     *
+     * @return The bin size.
+     *
+     * @see #setBinSize(double)
+     */
+    public double getBinSize() {
+        return this.binSize;
+    }
+
+    /**
+     * Sets the bin size, in Java2D units, and sends a
+     * {@link RendererChangeEvent} to all registered listeners.
+     *
+     * @param size  the bin size (must be at least 1.0).
+     *
+     * @see #getBinSize()
+     */
+    public void setBinSize(double size) {
+        if (!(size >= 1.0)) {
+            throw new IllegalArgumentException(
+                    "The 'size' argument must be >= 1.0");
+        }
+        this.binSize = size;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the bin shape.  The default value is
+     * {@link DensityBinShape#SQUARE}.
+     *
+     * @return The bin shape (never {@code null}).
+     *
+     * @see #setBinShape(DensityBinShape)
+     */
+    public DensityBinShape getBinShape() {
+        return this.binShape;
+    }
+
+    /**
+     * Sets the bin shape and sends a {@link RendererChangeEvent} to all
+     * registered listeners.
+     *
+     * @param shape  the bin shape ({@code null} not permitted).
+     *
+     * @see #getBinShape()
+     */
+    public void setBinShape(DensityBinShape shape) {
+        Args.nullNotPermitted(shape, "shape");
+        this.binShape = shape;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the paint scale used to color the bins.  The value passed to
+     * the scale is the number of points in the bin.  The default scale has
+     * four shades of blue, starting at 1, 10, 100 and 1000 points.
+     *
+     * @return The paint scale (never {@code null}).
+     *
+     * @see #setPaintScale(PaintScale)
+     */
+    public PaintScale getPaintScale() {
+        return this.paintScale;
+    }
+
+    /**
+     * Sets the paint scale used to color the bins and sends a
+     * {@link RendererChangeEvent} to all registered listeners.
+     *
+     * @param scale  the scale ({@code null} not permitted).
+     *
+     * @see #getPaintScale()
+     */
+    public void setPaintScale(PaintScale scale) {
+        Args.nullNotPermitted(scale, "scale");
+        this.paintScale = scale;
+        fireChangeEvent();
+    }
+
+    /**
+     * Draws the bins for the series when called for the first item in the
+     * series, and does nothing for the other items.
+     *
+     * @param g2  the graphics device.
+     * @param state  the state.
+     * @param dataArea  the data area.
+     * @param info  the plot rendering info.
+     * @param plot  the plot.
+     * @param domainAxis  the x-axis.
+     * @param rangeAxis  the y-axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param crosshairState  the crosshair state.
+     * @param pass  the pass index.
+     */
+    @Override
+    public void drawItem(Graphics2D g2, XYItemRendererState state,
+            Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+            ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+            int series, int item, CrosshairState crosshairState, int pass) {
+
+        if (item != state.getFirstItemIndex() || dataArea.isEmpty()) {
+            return;
+        }
+        boolean hexagon = this.binShape == DensityBinShape.HEXAGON;
+        double rowHeight = hexagon ? this.binSize * HEX_ROW_RATIO
+                : this.binSize;
+        int columns = (int) Math.ceil(dataArea.getWidth() / this.binSize) + 1;
+        int rows = (int) Math.ceil(dataArea.getHeight() / rowHeight) + 1;
+        int[] counts = new int[columns * rows];
+        RectangleEdge xEdge = plot.getDomainAxisEdge();
+        RectangleEdge yEdge = plot.getRangeAxisEdge();
+        boolean horizontal = plot.getOrientation()
+                == PlotOrientation.HORIZONTAL;
+        double x0 = dataArea.getX();
+        double y0 = dataArea.getY();
+        for (int i = state.getFirstItemIndex(); i <= state.getLastItemIndex();
+                i++) {
+            double x = dataset.getXValue(series, i);
+            double y = dataset.getYValue(series, i);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            double tx = domainAxis.valueToJava2D(x, dataArea, xEdge);
+            double ty = rangeAxis.valueToJava2D(y, dataArea, yEdge);
+            double u = (horizontal ? ty : tx) - x0;
+            double v = (horizontal ? tx : ty) - y0;
+            int bin = hexagon ? findHexagonBin(u, v, columns, rows)
+                    : findSquareBin(u, v, columns, rows);
+            if (bin >= 0) {
+                counts[bin]++;
+            }
+        }
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int count = counts[row * columns + column];
+                if (count == 0) {
+                    continue;
+                }
+                Shape shape;
+                if (hexagon) {
+                    double offset = (row & 1) == 1 ? this.binSize / 2.0 : 0.0;
+                    shape = createHexagon(x0 + column * this.binSize + offset,
+                            y0 + row * rowHeight);
+                }
+                else {
+                    shape = new Rectangle2D.Double(
+                            x0 + column * this.binSize, y0 + row * rowHeight,
+                            this.binSize, this.binSize);
+                }
+                g2.setPaint(this.paintScale.getPaint(count));
+                g2.fill(shape);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the square bin containing the point (u, v), or
+     * -1 if the point is outside the grid.
+     *
+     * @param u  the x-coordinate relative to the data area.
+     * @param v  the y-coordinate relative to the data area.
+     * @param columns  the number of columns.
+     * @param rows  the number of rows.
+     *
+     * @return The bin index.
+     */
+    private int findSquareBin(double u, double v, int columns, int rows) {
+        if (!(u >= 0.0 && v >= 0.0)) {
+            return -1;
+        }
+        double c = u / this.binSize;
+        double r = v / this.binSize;
+        if (c >= columns || r >= rows) {
+            return -1;
+        }
+        return (int) r * columns + (int) c;
+    }
+
+    /**
+     * Returns the index of the hexagonal bin containing the point (u, v)
+     * (that is, the bin with the nearest center), or -1 if the point is
+     * outside the grid.  The bin centers are at (column * binSize, row *
+     * rowHeight), with the odd rows offset by half the bin size.
+     *
+     * @param u  the x-coordinate relative to the data area.
+     * @param v  the y-coordinate relative to the data area.
+     * @param columns  the number of columns.
+     * @param rows  the number of rows.
+     *
+     * @return The bin index.
+     */
+    private int findHexagonBin(double u, double v, int columns, int rows) {
+        if (!(u >= -this.binSize && v >= -this.binSize
+                && u < (columns + 1) * this.binSize
+                && v < (rows + 1) * this.binSize)) {
+            return -1;
+        }
+        double rowHeight = this.binSize * HEX_ROW_RATIO;
+        // the nearest center is in one of the rows above and below
+        int row = (int) Math.floor(v / rowHeight);
+        int bestRow = -1;
+        int bestColumn = -1;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int r = row; r <= row + 1; r++) {
+            double offset = (r & 1) == 1 ? this.binSize / 2.0 : 0.0;
+            int c = (int) Math.round((u - offset) / this.binSize);
+            double du = u - (c * this.binSize + offset);
+            double dv = v - r * rowHeight;
+            double distance = du * du + dv * dv;
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                bestRow = r;
+                bestColumn = c;
+            }
+        }
+        if (bestRow < 0 || bestRow >= rows || bestColumn < 0
+                || bestColumn >= columns) {
+            return -1;
+        }
+        return bestRow * columns + bestColumn;
+    }
+
+    /**
+     * Creates a hexagon (with a vertex at the top and bottom) that fills the
+     * bin with the specified center.
+     *
+     * @param cx  the x-coordinate of the center.
+     * @param cy  the y-coordinate of the center.
+     *
+     * @return The hexagon.
+     */
+    private Shape createHexagon(double cx, double cy) {
+        double halfWidth = this.binSize / 2.0;
+        double radius = this.binSize / Math.sqrt(3.0);
+        Path2D path = new Path2D.Double();
+        path.moveTo(cx, cy - radius);
+        path.lineTo(cx + halfWidth, cy - radius / 2.0);
+        path.lineTo(cx + halfWidth, cy + radius / 2.0);
+        path.lineTo(cx, cy + radius);
+        path.lineTo(cx - halfWidth, cy + radius / 2.0);
+        path.lineTo(cx - halfWidth, cy - radius / 2.0);
+        path.closePath();
+        return path;
+    }
+
+    /**
+     * Tests this renderer for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof XYDensityRenderer)) {
+            return false;
+        }
+        XYDensityRenderer that = (XYDensityRenderer) obj;
+        if (this.binSize != that.binSize) {
+            return false;
+        }
+        if (this.binShape != that.binShape) {
+            return false;
+        }
+        if (!this.paintScale.equals(that.paintScale)) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a clone of this renderer.
+     *
+     * @return A clone of this renderer.
+     *
+     * @throws CloneNotSupportedException if there is a problem creating the
+     *     clone.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        XYDensityRenderer clone = (XYDensityRenderer) super.clone();
+        if (this.paintScale instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.paintScale;
+            clone.paintScale = (PaintScale) pc.clone();
+        }
+        return clone;
+    }
+
+}
@@ -88,6 +88,15 @@ public class XYItemRendererState extends RendererState {
      */
     private boolean processVisibleItemsOnly;
 
+    /**
+     * A flag that controls whether the plot should reduce each series to the
+     * items required to draw one line per pixel column (see
+     * {@link DecimatedXYDataset}) before passing them to the renderer.
+     *
+     * @since 2.0.0
+     */
+    private boolean useDecimation;
+
     /**
      * Creates a new state.
      *
@@ -126,6 +135,35 @@ public class XYItemRendererState extends RendererState {
         this.processVisibleItemsOnly = flag;
     }
 
+    /**
+     * Returns the flag that controls whether the plot reduces each series to
+     * the first, last, minimum and maximum items in each pixel column before
+     * passing the items to the renderer.  The default value is
+     * {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     *
+     * @see #setUseDecimation(boolean)
+     */
+    public boolean getUseDecimation() {
+        return this.useDecimation;
+    }
+
+    /**
+     * Sets the flag that controls whether the plot reduces each series to
+     * the first, last, minimum and maximum items in each pixel column before
+     * passing the items to the renderer.
+     *
+     * @param flag  the new flag value.
+     *
+     * @since 2.0.0
+     */
+    public void setUseDecimation(boolean flag) {
+        this.useDecimation = flag;
+    }
+
     /**
      * Returns the first item index (this is updated with each call to
      * {@link #startSeriesPass(XYDataset, int, int, int, int, int)}.
@@ -136,6 +136,12 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
      */
     private boolean drawSeriesLineAsPath;
 
+    /**
+     * A flag that controls whether or not the plot reduces each series to
+     * the items required to draw the lines at the current resolution.
+     */
+    private boolean useDecimation;
+
     /**
      * Creates a new renderer with both lines and shapes visible.
      */
@@ -166,6 +172,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                                        // default, not outline paint
 
         this.drawSeriesLineAsPath = false;
+        this.useDecimation = false;
     }
 
     /**
@@ -196,6 +203,44 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns a flag that controls whether or not the plot reduces each
+     * series to the first, last, minimum and maximum items in each pixel
+     * column of the data area before passing the items to this renderer (see
+     * {@link DecimatedXYDataset}).  The lines drawn are the same, but the
+     * time taken to draw a series with many more items than there are pixels
+     * is much reduced.  Shapes, item labels and entities are only created
+     * for the retained items.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setUseDecimation(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getUseDecimation() {
+        return this.useDecimation;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the plot reduces each
+     * series to the items required to draw the lines at the current
+     * resolution, and sends a {@link RendererChangeEvent} to all registered
+     * listeners.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getUseDecimation()
+     *
+     * @since 2.0.0
+     */
+    public void setUseDecimation(boolean flag) {
+        if (this.useDecimation != flag) {
+            this.useDecimation = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the number of passes through the data that the renderer requires
      * in order to draw the chart.  Most charts will require a single pass, but
@@ -672,7 +717,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
     @Override
     public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
             XYPlot plot, XYDataset data, PlotRenderingInfo info) {
-        return new State(info);
+        State state = new State(info);
+        state.setUseDecimation(this.useDecimation);
+        return state;
     }
 
     /**
@@ -1135,6 +1182,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         if (this.drawSeriesLineAsPath != that.drawSeriesLineAsPath) {
             return false;
         }
+        if (this.useDecimation != that.useDecimation) {
+            return false;
+        }
         return true;
     }
 
@@ -1151,6 +1201,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         result = 31 * result + (useFillPaint ? 1 : 0);
         result = 31 * result + (useOutlinePaint ? 1 : 0);
         result = 31 * result + (drawSeriesLineAsPath ? 1 : 0);
+        result = 31 * result + (useDecimation ? 1 : 0);
         return result;
     }
 
@@ -94,6 +94,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.JFileChooser;
 import javax.swing.JMenu;
@@ -105,6 +111,8 @@ import javax.swing.SwingUtilities;
 import javax.swing.ToolTipManager;
 import javax.swing.event.EventListenerList;
 import javax.swing.filechooser.FileNameExtensionFilter;
+import org.jfree.chart.ChartHints;
+import org.jfree.chart.ChartProgressMonitor;
 import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.ChartTransferable;
 import org.jfree.chart.ChartUtils;
@@ -114,16 +122,27 @@ import org.jfree.chart.swing.editor.ChartEditor;
 import org.jfree.chart.swing.editor.ChartEditorManager;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.LazyEntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Pannable;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.plot.Zoomable;
 import org.jfree.chart.internal.Args;
+import org.jfree.chart.util.ChartRenderingPool;
+import org.jfree.data.Range;
+import org.jfree.data.xy.XYDataset;
 
 /**
  * A Swing GUI component for displaying a {@link JFreeChart} object.
@@ -264,6 +283,19 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         return DEFAULT_DRAG_MODIFIERS_EX;
     }
 
+    /**
+     * The minimum time (in milliseconds) between the partly drawn frames
+     * shown in the asynchronous rendering mode.
+     */
+    private static final long PROGRESSIVE_FRAME_INTERVAL = 100L;
+
+    /**
+     * The time (in milliseconds) after the last completed frame from which
+     * a frame that is being drawn is no longer cancelled when a new frame is
+     * requested (asynchronous rendering mode).
+     */
+    private static final long MAX_FRAME_INTERVAL = 1000L;
+
     /** The chart that is displayed in the panel. */
     protected JFreeChart chart;
 
@@ -285,6 +317,74 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The width of the chart buffer. */
     protected int chartBufferWidth;
 
+    /**
+     * A flag that controls whether or not the chart is buffered in two
+     * layers (see {@link #setLayeredBuffer(boolean)}).
+     */
+    private boolean layeredBuffer;
+
+    /**
+     * A buffer for the base layer of the chart (used when the chart is
+     * buffered in layers).
+     */
+    private transient Image baseLayerBuffer;
+
+    /**
+     * A flag that indicates that the data layer of the chart (but not
+     * necessarily the base layer) should be redrawn.
+     */
+    private boolean refreshDataLayer;
+
+    /**
+     * The axis ranges and series keys when the base layer was last drawn.
+     */
+    private transient List<Object> baseLayerState;
+
+    /** The entities from the base layer. */
+    private transient EntityCollection baseLayerEntities;
+
+    /**
+     * A flag that controls whether or not the chart is drawn on a background
+     * thread (see {@link #setAsyncRendering(boolean)}).
+     */
+    private boolean asyncRendering;
+
+    /** The executor for drawing the chart on a background thread. */
+    private transient ExecutorService renderExecutor;
+
+    /** The task that is drawing the most recently requested frame. */
+    private transient Future<?> renderTask;
+
+    /** The number of frames requested (in the asynchronous mode). */
+    private long requestedFrame;
+
+    /**
+     * The number of the frame in the chart buffer, which may be partially
+     * drawn (asynchronous mode).
+     */
+    private long displayedFrame;
+
+    /** The time that the most recent frame was completed. */
+    private long frameCompletedTime;
+
+    /** The progress monitor for the most recently requested frame. */
+    private transient ChartProgressMonitor renderMonitor;
+
+    /** The width of the most recently requested frame. */
+    private int requestedFrameWidth;
+
+    /** The height of the most recently requested frame. */
+    private int requestedFrameHeight;
+
+    /** The chart area for the frame in the chart buffer. */
+    private transient Rectangle2D frameChartArea;
+
+    /**
+     * The domain and range axis ranges for the frame in the chart buffer
+     * ({@code null} if the frame cannot be previewed at different ranges).
+     */
+    private transient Range[] frameRanges;
+
     /**
      * The minimum width for drawing a chart (uses scaling for smaller widths).
      */
@@ -597,6 +697,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         setPreferredSize(new Dimension(width, height));
         this.useBuffer = useBuffer;
         this.refreshBuffer = false;
+        this.layeredBuffer = false;
         this.minimumDrawWidth = minimumDrawWidth;
         this.minimumDrawHeight = minimumDrawHeight;
         this.maximumDrawWidth = maximumDrawWidth;
@@ -650,6 +751,11 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             this.chart.removeChangeListener(this);
             this.chart.removeProgressListener(this);
         }
+        // and stop drawing it (asynchronous mode)
+        if (this.renderMonitor != null) {
+            this.renderMonitor.cancel();
+            this.renderMonitor = null;
+        }
 
         // add the new chart
         this.chart = chart;
@@ -1391,6 +1497,258 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the flag that controls whether or not the off-screen buffer
+     * is drawn in two layers.
+     *
+     * @return A boolean.
+     *
+     * @see #setLayeredBuffer(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isLayeredBuffer() {
+        return this.layeredBuffer;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the off-screen buffer is
+     * drawn in two layers.  When this flag is set (the default is
+     * {@code false}) and the chart has an {@link XYPlot}, the background, titles, axes and
+     * gridlines are drawn into a separate buffer (the base layer) that is
+     * reused when a change affects only the items in the data area (a
+     * dataset update that leaves the axis ranges and series unchanged, or a
+     * change to a marker, annotation or crosshair).  This flag has no
+     * effect if the off-screen buffer is not used.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see ChartHints#KEY_LAYER
+     *
+     * @since 2.0.0
+     */
+    public void setLayeredBuffer(boolean flag) {
+        this.layeredBuffer = flag;
+        this.baseLayerBuffer = null;
+        this.baseLayerEntities = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns the flag that controls whether or not the chart is drawn on a
+     * background thread.
+     *
+     * @return A boolean.
+     *
+     * @see #setAsyncRendering(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isAsyncRendering() {
+        return this.asyncRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the chart is drawn on a
+     * background thread.  When this flag is set and the off-screen buffer is
+     * used, a change to the chart starts drawing a new frame on a worker
+     * thread and the panel continues to show the last completed frame (for
+     * an {@link XYPlot}, the data area of that frame is scaled and shifted
+     * to match the current axis ranges, so that zooming and panning respond
+     * at once).  The new frame is swapped in on the event dispatch thread
+     * when it is complete, and while a slow frame is being drawn the partly
+     * drawn frame is shown from time to time.  When a newer frame is
+     * requested, the frame that is being drawn is cancelled (see
+     * {@link ChartProgressMonitor}).
+     * <br><br>
+     * Each frame is drawn from a copy of the chart that is taken on the
+     * event dispatch thread when the frame is requested (see
+     * {@link ChartRenderingPool#snapshot(JFreeChart)}), so the chart can be
+     * modified on the event dispatch thread while a frame is drawn (and the
+     * chart must be cloneable).  The datasets are not copied, so they
+     * should only be modified in ways that are safe while they are read by
+     * another thread.  The crosshair values found while drawing a frame
+     * are copied to the chart when the frame is complete.  Chart progress
+     * events are sent from the worker thread, and an exception thrown while
+     * drawing a frame is rethrown on the event dispatch thread.
+     * This flag has no effect if the off-screen buffer is not used.
+     *
+     * @param flag  the new flag value.
+     *
+     * @since 2.0.0
+     */
+    public void setAsyncRendering(boolean flag) {
+        if (this.asyncRendering == flag) {
+            return;
+        }
+        this.asyncRendering = flag;
+        if (this.renderMonitor != null) {
+            this.renderMonitor.cancel();
+            this.renderMonitor = null;
+        }
+        if (!flag && this.renderExecutor != null) {
+            this.renderExecutor.shutdownNow();
+            this.renderExecutor = null;
+            this.renderTask = null;
+        }
+        this.requestedFrame++;
+        this.displayedFrame = this.requestedFrame;
+        this.chartBuffer = null;
+        this.baseLayerBuffer = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns {@code true} if the chart has a single {@link XYPlot} (the
+     * combined plots draw their subplots in a single layer, with separate
+     * axes).
+     *
+     * @return A boolean.
+     */
+    private boolean hasSingleXYPlot() {
+        return this.chart != null && this.chart.getPlot() != null
+                && this.chart.getPlot().getClass() == XYPlot.class;
+    }
+
+    /**
+     * Returns {@code true} if the chart should be buffered in layers.  This
+     * is only supported for an {@link XYPlot}.
+     *
+     * @return A boolean.
+     */
+    private boolean useLayers() {
+        return this.layeredBuffer && hasSingleXYPlot();
+    }
+
+    /**
+     * Returns the state that the base layer of the chart depends on, apart
+     * from the chart settings (a change to those is sent as a general chart
+     * change event): the ranges of the axes (which determine the tick
+     * labels and gridlines) and the series keys (which determine the legend
+     * items).
+     *
+     * @return The state.
+     */
+    private List<Object> createBaseLayerState() {
+        XYPlot<?> plot = (XYPlot) this.chart.getPlot();
+        List<Object> state = new ArrayList<>();
+        for (int i = 0; i < plot.getDomainAxisCount(); i++) {
+            ValueAxis axis = plot.getDomainAxis(i);
+            state.add(axis != null ? axis.getRange() : null);
+        }
+        for (int i = 0; i < plot.getRangeAxisCount(); i++) {
+            ValueAxis axis = plot.getRangeAxis(i);
+            state.add(axis != null ? axis.getRange() : null);
+        }
+        for (int i = 0; i < plot.getDatasetCount(); i++) {
+            XYDataset<?> dataset = plot.getDataset(i);
+            if (dataset != null) {
+                for (int s = 0; s < dataset.getSeriesCount(); s++) {
+                    state.add(dataset.getSeriesKey(s));
+                }
+            }
+            state.add(null);
+        }
+        return state;
+    }
+
+    /**
+     * Draws the chart (or one layer of the chart) into a buffer.
+     *
+     * @param buffer  the buffer.
+     * @param layer  the layer ({@code null} for the whole chart).
+     * @param transform  the transform from chart space to the buffer.
+     * @param chartArea  the chart area.
+     * @param anchor  the anchor point ({@code null} permitted).
+     * @param info  the rendering info.
+     */
+    private void drawChartToBuffer(Image buffer, Object layer,
+            AffineTransform transform, Rectangle2D chartArea, Point2D anchor,
+            ChartRenderingInfo info) {
+
+        Graphics2D bufferG2 = (Graphics2D) buffer.getGraphics();
+
+        // make the background of the buffer clear and transparent
+        Composite savedComposite = bufferG2.getComposite();
+        bufferG2.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR, 0.0f));
+        bufferG2.fillRect(0, 0, buffer.getWidth(null), buffer.getHeight(null));
+        bufferG2.setComposite(savedComposite);
+
+        // the data layer is drawn over the base layer
+        if (layer == ChartHints.VALUE_LAYER_DATA) {
+            bufferG2.drawImage(this.baseLayerBuffer, 0, 0, null);
+        }
+        if (layer != null) {
+            bufferG2.setRenderingHint(ChartHints.KEY_LAYER, layer);
+        }
+
+        bufferG2.transform(transform);
+        this.chart.draw(bufferG2, chartArea, anchor, info);
+        bufferG2.dispose();
+    }
+
+    /**
+     * Redraws the layers of the chart that are out of date into the chart
+     * buffer.  The base layer is redrawn when the chart buffer needs to be
+     * refreshed or the axis ranges or series have changed, otherwise it is
+     * reused and just the data layer is drawn over it.
+     *
+     * @param gc  the graphics configuration.
+     * @param transform  the transform from chart space to the buffer.
+     * @param chartArea  the chart area.
+     */
+    private void refreshLayers(GraphicsConfiguration gc,
+            AffineTransform transform, Rectangle2D chartArea) {
+        if (this.baseLayerBuffer == null
+                || this.baseLayerBuffer.getWidth(null) != this.chartBufferWidth
+                || this.baseLayerBuffer.getHeight(null) != this.chartBufferHeight) {
+            this.baseLayerBuffer = gc.createCompatibleImage(
+                    this.chartBufferWidth, this.chartBufferHeight,
+                    Transparency.TRANSLUCENT);
+            this.refreshBuffer = true;
+        }
+        if (!this.refreshBuffer && this.refreshDataLayer
+                && !createBaseLayerState().equals(this.baseLayerState)) {
+            this.refreshBuffer = true;
+        }
+        if (this.refreshBuffer) {
+            this.refreshBuffer = false;
+            ChartRenderingInfo baseInfo = new ChartRenderingInfo();
+            drawChartToBuffer(this.baseLayerBuffer, ChartHints.VALUE_LAYER_BASE,
+                    transform, chartArea, null, baseInfo);
+            this.baseLayerEntities = baseInfo.getEntityCollection();
+            this.baseLayerState = createBaseLayerState();
+            this.refreshDataLayer = true;
+        }
+        if (this.refreshDataLayer) {
+            this.refreshDataLayer = false;
+            drawChartToBuffer(this.chartBuffer, ChartHints.VALUE_LAYER_DATA,
+                    transform, chartArea, this.anchor, this.info);
+            // the entities are ordered as if the chart was drawn in one pass
+            EntityCollection entities = this.info.getEntityCollection();
+            if (entities != null && this.baseLayerEntities != null) {
+                // a lazy collection copies its recorded items, rather than
+                // creating an entity for each one
+                EntityCollection dataEntities;
+                if (entities instanceof LazyEntityCollection) {
+                    dataEntities = new LazyEntityCollection();
+                    dataEntities.addAll(entities);
+                }
+                else {
+                    dataEntities = new StandardEntityCollection();
+                    for (ChartEntity entity : entities.getEntities()) {
+                        dataEntities.add(entity);
+                    }
+                }
+                entities.clear();
+                entities.addAll(this.baseLayerEntities);
+                entities.addAll(dataEntities);
+            }
+        }
+    }
+
     /**
      * Paints the component by drawing the chart to fill the entire component,
      * but allowing for the insets (which will be non-zero if a border has been
@@ -1458,57 +1816,23 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             final int scaledWidth = (int) (available.getWidth() * globalScaleX);
             final int scaledHeight = (int) (available.getHeight() * globalScaleY);
 
-            // do we need to resize the buffer?
-            if ((this.chartBuffer == null)
-                    || (this.chartBufferWidth != scaledWidth)
-                    || (this.chartBufferHeight != scaledHeight)) {
-                this.chartBufferWidth = scaledWidth;
-                this.chartBufferHeight = scaledHeight;
-                GraphicsConfiguration gc = g2.getDeviceConfiguration();
-                this.chartBuffer = gc.createCompatibleImage(
-                        this.chartBufferWidth, this.chartBufferHeight,
-                        Transparency.TRANSLUCENT);
-                this.refreshBuffer = true;
+            // scale graphics of the buffer to the same value as global
+            // Swing graphics - this allow to paint all elements as usual
+            // but applies all necessary smoothing
+            AffineTransform bufferTransform = AffineTransform.getScaleInstance(
+                    globalScaleX, globalScaleY);
+            if (scale) {
+                bufferTransform.scale(this.scaleX, this.scaleY);
             }
 
-            // do we need to redraw the buffer?
-            if (this.refreshBuffer) {
-
-                this.refreshBuffer = false; // clear the flag
-
-                // scale graphics of the buffer to the same value as global
-                // Swing graphics - this allow to paint all elements as usual
-                // but applies all necessary smoothing
-                Graphics2D bufferG2 = (Graphics2D) this.chartBuffer.getGraphics();
-                bufferG2.scale(globalScaleX, globalScaleY);
-
-                Rectangle2D bufferArea = new Rectangle2D.Double(
-                        0, 0, available.getWidth(), available.getHeight());
-
-                // make the background of the buffer clear and transparent
-                Composite savedComposite = bufferG2.getComposite();
-                bufferG2.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR, 0.0f));
-                Rectangle r = new Rectangle(0, 0, (int) available.getWidth(), (int) available.getHeight());
-                bufferG2.fill(r);
-                bufferG2.setComposite(savedComposite);
-                
-                if (scale) {
-                    AffineTransform saved = bufferG2.getTransform();
-                    AffineTransform st = AffineTransform.getScaleInstance(
-                            this.scaleX, this.scaleY);
-                    bufferG2.transform(st);
-                    this.chart.draw(bufferG2, chartArea, this.anchor,
-                            this.info);
-                    bufferG2.setTransform(saved);
-                } else {
-                    this.chart.draw(bufferG2, bufferArea, this.anchor,
-                            this.info);
-                }
-                bufferG2.dispose();
+            if (this.asyncRendering) {
+                paintAsync(g2, insets, available, chartArea, scaledWidth,
+                        scaledHeight, bufferTransform);
+            }
+            else {
+                paintBuffer(g2, insets, available, chartArea, scaledWidth,
+                        scaledHeight, bufferTransform);
             }
-
-            // zap the buffer onto the panel...
-            g2.drawImage(this.chartBuffer, insets.left, insets.top, (int) available.getWidth(), (int) available.getHeight(), this);
             g2.addRenderingHints(this.chart.getRenderingHints()); // bug#187
 
         } else { // redrawing the chart every time...
@@ -1538,6 +1862,391 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.anchor = null;
     }
 
+    /**
+     * Paints the chart from the off-screen buffer, redrawing the buffer
+     * first if it is out of date.
+     *
+     * @param g2  the graphics target.
+     * @param insets  the insets.
+     * @param available  the available area.
+     * @param chartArea  the chart area.
+     * @param scaledWidth  the width of the buffer.
+     * @param scaledHeight  the height of the buffer.
+     * @param transform  the transform from chart space to the buffer.
+     */
+    private void paintBuffer(Graphics2D g2, Insets insets,
+            Rectangle2D available, Rectangle2D chartArea, int scaledWidth,
+            int scaledHeight, AffineTransform transform) {
+
+        // do we need to resize the buffer?
+        if ((this.chartBuffer == null)
+                || (this.chartBufferWidth != scaledWidth)
+                || (this.chartBufferHeight != scaledHeight)) {
+            this.chartBufferWidth = scaledWidth;
+            this.chartBufferHeight = scaledHeight;
+            GraphicsConfiguration gc = g2.getDeviceConfiguration();
+            this.chartBuffer = gc.createCompatibleImage(
+                    this.chartBufferWidth, this.chartBufferHeight,
+                    Transparency.TRANSLUCENT);
+            this.refreshBuffer = true;
+        }
+
+        // do we need to redraw the buffer?
+        if (useLayers()) {
+            refreshLayers(g2.getDeviceConfiguration(), transform,
+                    chartArea);
+        }
+        else if (this.refreshBuffer) {
+            this.refreshBuffer = false; // clear the flag
+            drawChartToBuffer(this.chartBuffer, null, transform,
+                    chartArea, this.anchor, this.info);
+        }
+
+        // zap the buffer onto the panel...
+        g2.drawImage(this.chartBuffer, insets.left, insets.top, (int) available.getWidth(), (int) available.getHeight(), this);
+    }
+
+    /**
+     * Paints the most recently completed frame and, if the chart has changed
+     * since the frame was requested, requests a new frame (see
+     * {@link #setAsyncRendering(boolean)}).
+     *
+     * @param g2  the graphics target.
+     * @param insets  the insets.
+     * @param available  the available area.
+     * @param chartArea  the chart area.
+     * @param scaledWidth  the width of the buffer.
+     * @param scaledHeight  the height of the buffer.
+     * @param transform  the transform from chart space to the buffer.
+     */
+    private void paintAsync(Graphics2D g2, Insets insets,
+            Rectangle2D available, Rectangle2D chartArea, int scaledWidth,
+            int scaledHeight, AffineTransform transform) {
+        if (this.refreshBuffer || this.refreshDataLayer
+                || this.requestedFrameWidth != scaledWidth
+                || this.requestedFrameHeight != scaledHeight) {
+            this.refreshBuffer = false;
+            this.refreshDataLayer = false;
+            this.requestedFrameWidth = scaledWidth;
+            this.requestedFrameHeight = scaledHeight;
+            requestFrame(g2.getDeviceConfiguration(), scaledWidth,
+                    scaledHeight, transform, chartArea);
+        }
+        if (this.chartBuffer == null) {
+            return;
+        }
+        Graphics2D frameG2 = (Graphics2D) g2.create();
+        frameG2.translate(insets.left, insets.top);
+        frameG2.drawImage(this.chartBuffer, 0, 0, (int) available.getWidth(),
+                (int) available.getHeight(), this);
+        AffineTransform preview = null;
+        if (this.displayedFrame != this.requestedFrame
+                && chartArea.equals(this.frameChartArea)) {
+            preview = createPreviewTransform();
+        }
+        if (preview != null) {
+            // redraw the data area of the frame at the current axis ranges
+            frameG2.scale(available.getWidth() / chartArea.getWidth(),
+                    available.getHeight() / chartArea.getHeight());
+            Rectangle2D dataArea = this.info.getPlotInfo().getDataArea();
+            frameG2.clip(dataArea);
+            Paint background = this.chart.getPlot().getBackgroundPaint();
+            if (background != null) {
+                frameG2.setPaint(background);
+                frameG2.fill(dataArea);
+            }
+            frameG2.transform(preview);
+            frameG2.clip(dataArea);
+            frameG2.drawImage(this.chartBuffer, 0, 0,
+                    (int) chartArea.getWidth(), (int) chartArea.getHeight(),
+                    this);
+        }
+        frameG2.dispose();
+    }
+
+    /**
+     * Starts drawing a new frame on the worker thread.  The frame that is
+     * being drawn (if any) is cancelled, unless no frame has been completed
+     * recently (so that frequent changes to the chart cannot prevent every
+     * frame from completing).  While a frame is being drawn, a copy of the
+     * partly drawn frame is shown from time to time.
+     *
+     * @param gc  the graphics configuration.
+     * @param width  the width of the frame.
+     * @param height  the height of the frame.
+     * @param transform  the transform from chart space to the frame.
+     * @param chartArea  the chart area.
+     */
+    private void requestFrame(GraphicsConfiguration gc, int width,
+            int height, AffineTransform transform, Rectangle2D chartArea) {
+        long frame = ++this.requestedFrame;
+        JFreeChart liveChart = this.chart;
+        JFreeChart frameChart;
+        try {
+            frameChart = ChartRenderingPool.snapshot(liveChart);
+        }
+        catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(
+                    "The chart cannot be copied for asynchronous rendering.",
+                    e);
+        }
+        // the progress of the copy is reported to the chart's listeners
+        frameChart.addProgressListener(event -> new ChartProgressEvent(
+                liveChart, liveChart, event.getType(), event.getPercent())
+                .notifyListeners(liveChart));
+        Point2D frameAnchor = this.anchor;
+        AffineTransform frameTransform = new AffineTransform(transform);
+        Rectangle2D area = (Rectangle2D) chartArea.clone();
+        Range[] ranges = null;
+        if (hasSingleXYPlot()) {
+            XYPlot<?> plot = (XYPlot) this.chart.getPlot();
+            if (plot.getDomainAxis() != null && plot.getRangeAxis() != null) {
+                ranges = new Range[] {plot.getDomainAxis().getRange(),
+                        plot.getRangeAxis().getRange()};
+            }
+        }
+        Range[] frameRanges = ranges;
+        if (this.renderTask != null) {
+            this.renderTask.cancel(false);
+        }
+        long now = System.currentTimeMillis();
+        if (this.renderMonitor != null
+                && now - this.frameCompletedTime < MAX_FRAME_INTERVAL) {
+            this.renderMonitor.cancel();
+        }
+        Image image = gc.createCompatibleImage(width, height,
+                Transparency.TRANSLUCENT);
+        ChartProgressMonitor monitor = new ChartProgressMonitor() {
+            private long lastFrameTime = now;
+            @Override
+            protected void progressChanged(int percent) {
+                long time = System.currentTimeMillis();
+                if (time - this.lastFrameTime < PROGRESSIVE_FRAME_INTERVAL) {
+                    return;
+                }
+                this.lastFrameTime = time;
+                Image copy = gc.createCompatibleImage(width, height,
+                        Transparency.TRANSLUCENT);
+                Graphics copyG = copy.getGraphics();
+                copyG.drawImage(image, 0, 0, null);
+                copyG.dispose();
+                SwingUtilities.invokeLater(() -> framePartial(frame, copy,
+                        area, frameRanges));
+            }
+        };
+        this.renderMonitor = monitor;
+        this.renderTask = getRenderExecutor().submit(() -> {
+            ChartRenderingInfo frameInfo = new ChartRenderingInfo();
+            Graphics2D imageG2 = (Graphics2D) image.getGraphics();
+            try {
+                imageG2.setRenderingHint(ChartHints.KEY_PROGRESS_MONITOR,
+                        monitor);
+                imageG2.transform(frameTransform);
+                frameChart.draw(imageG2, area, frameAnchor, frameInfo);
+            }
+            catch (CancellationException e) {
+                return;
+            }
+            catch (RuntimeException e) {
+                SwingUtilities.invokeLater(() -> {
+                    throw e;
+                });
+                return;
+            }
+            finally {
+                imageG2.dispose();
+            }
+            SwingUtilities.invokeLater(() -> frameCompleted(frame, image,
+                    frameInfo, area, frameRanges, frameChart));
+        });
+    }
+
+    /**
+     * Swaps in a completed frame (on the event dispatch thread), unless a
+     * more recent frame is already displayed.
+     *
+     * @param frame  the frame number.
+     * @param image  the image.
+     * @param frameInfo  the rendering info for the frame.
+     * @param chartArea  the chart area.
+     * @param ranges  the domain and range axis ranges ({@code null}
+     *     permitted).
+     * @param frameChart  the copy of the chart that the frame was drawn
+     *     from.
+     */
+    private void frameCompleted(long frame, Image image,
+            ChartRenderingInfo frameInfo, Rectangle2D chartArea,
+            Range[] ranges, JFreeChart frameChart) {
+        if (!this.asyncRendering || frame < this.displayedFrame) {
+            return;
+        }
+        this.frameCompletedTime = System.currentTimeMillis();
+        this.info = frameInfo;
+        if (frame == this.requestedFrame && this.chart != null) {
+            copyCrosshairs(frameChart.getPlot(), this.chart.getPlot());
+        }
+        showFrame(frame, image, chartArea, ranges);
+    }
+
+    /**
+     * Copies the crosshair values that were found while drawing a copy of
+     * the chart to the chart itself (without sending change events).
+     *
+     * @param source  the plot that was drawn.
+     * @param target  the plot in the chart.
+     */
+    @SuppressWarnings("unchecked")
+    private static void copyCrosshairs(Plot source, Plot target) {
+        if (source instanceof XYPlot && target instanceof XYPlot) {
+            XYPlot<?> s = (XYPlot) source;
+            XYPlot<?> t = (XYPlot) target;
+            t.setDomainCrosshairValue(s.getDomainCrosshairValue(), false);
+            t.setRangeCrosshairValue(s.getRangeCrosshairValue(), false);
+        }
+        else if (source instanceof CategoryPlot
+                && target instanceof CategoryPlot) {
+            CategoryPlot s = (CategoryPlot) source;
+            CategoryPlot t = (CategoryPlot) target;
+            t.setCrosshairDatasetIndex(s.getCrosshairDatasetIndex(), false);
+            t.setDomainCrosshairRowKey(s.getDomainCrosshairRowKey(), false);
+            t.setDomainCrosshairColumnKey(s.getDomainCrosshairColumnKey(),
+                    false);
+            t.setRangeCrosshairValue(s.getRangeCrosshairValue(), false);
+        }
+    }
+
+    /**
+     * Shows a partly drawn frame (on the event dispatch thread), if it is
+     * the most recently requested frame.  The rendering info is not updated
+     * until the frame is complete.
+     *
+     * @param frame  the frame number.
+     * @param image  the image.
+     * @param chartArea  the chart area.
+     * @param ranges  the domain and range axis ranges ({@code null}
+     *     permitted).
+     */
+    private void framePartial(long frame, Image image, Rectangle2D chartArea,
+            Range[] ranges) {
+        if (!this.asyncRendering || frame != this.requestedFrame
+                || frame < this.displayedFrame) {
+            return;
+        }
+        showFrame(frame, image, chartArea, ranges);
+    }
+
+    /**
+     * Puts a frame in the chart buffer and repaints the panel.
+     *
+     * @param frame  the frame number.
+     * @param image  the image.
+     * @param chartArea  the chart area.
+     * @param ranges  the domain and range axis ranges ({@code null}
+     *     permitted).
+     */
+    private void showFrame(long frame, Image image, Rectangle2D chartArea,
+            Range[] ranges) {
+        this.displayedFrame = frame;
+        this.chartBuffer = image;
+        this.chartBufferWidth = image.getWidth(null);
+        this.chartBufferHeight = image.getHeight(null);
+        this.frameChartArea = chartArea;
+        this.frameRanges = ranges;
+        repaint();
+    }
+
+    /**
+     * Returns a transform that maps the data area of the frame in the chart
+     * buffer to the current axis ranges (in chart space).
+     *
+     * @return The transform ({@code null} if the frame cannot be previewed).
+     */
+    private AffineTransform createPreviewTransform() {
+        if (this.frameRanges == null || !hasSingleXYPlot()) {
+            return null;
+        }
+        XYPlot<?> plot = (XYPlot) this.chart.getPlot();
+        ValueAxis domainAxis = plot.getDomainAxis();
+        ValueAxis rangeAxis = plot.getRangeAxis();
+        Rectangle2D dataArea = this.info.getPlotInfo().getDataArea();
+        if (domainAxis == null || rangeAxis == null || dataArea.isEmpty()) {
+            return null;
+        }
+        double[] d = createPreviewMapping(domainAxis, this.frameRanges[0],
+                dataArea, plot.getDomainAxisEdge());
+        double[] r = createPreviewMapping(rangeAxis, this.frameRanges[1],
+                dataArea, plot.getRangeAxisEdge());
+        if (d == null || r == null) {
+            return null;
+        }
+        if (plot.getOrientation() == PlotOrientation.VERTICAL) {
+            return new AffineTransform(d[0], 0.0, 0.0, r[0], d[1], r[1]);
+        }
+        return new AffineTransform(r[0], 0.0, 0.0, d[0], r[1], d[1]);
+    }
+
+    /**
+     * Returns the scale and translation that map the Java2D coordinates for
+     * an axis at the range of a previous frame to the Java2D coordinates at
+     * the current range.
+     *
+     * @param axis  the axis.
+     * @param frameRange  the axis range for the frame.
+     * @param dataArea  the data area.
+     * @param edge  the axis edge.
+     *
+     * @return The scale and translation ({@code null} if they are not
+     *     finite).
+     */
+    private static double[] createPreviewMapping(ValueAxis axis,
+            Range frameRange, Rectangle2D dataArea, RectangleEdge edge) {
+        double q0 = axis.valueToJava2D(frameRange.getLowerBound(), dataArea,
+                edge);
+        double q1 = axis.valueToJava2D(frameRange.getUpperBound(), dataArea,
+                edge);
+        double p0, p1;
+        if (RectangleEdge.isTopOrBottom(edge)) {
+            p0 = dataArea.getMinX();
+            p1 = dataArea.getMaxX();
+        }
+        else {
+            p0 = dataArea.getMaxY();
+            p1 = dataArea.getMinY();
+        }
+        if (axis.isInverted()) {
+            double p = p0;
+            p0 = p1;
+            p1 = p;
+        }
+        double scale = (q1 - q0) / (p1 - p0);
+        double translate = q0 - scale * p0;
+        if (!Double.isFinite(scale) || !Double.isFinite(translate)) {
+            return null;
+        }
+        return new double[] {scale, translate};
+    }
+
+    /**
+     * Returns the executor for drawing frames on a background thread,
+     * creating it if necessary.  The executor has a single daemon thread
+     * that stops when it has been idle for a few seconds.
+     *
+     * @return The executor.
+     */
+    private ExecutorService getRenderExecutor() {
+        if (this.renderExecutor == null) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 5L,
+                    TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                        Thread thread = new Thread(r, "ChartPanel-render");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            this.renderExecutor = executor;
+        }
+        return this.renderExecutor;
+    }
+
     /**
      * Receives notification of changes to the chart, and redraws the chart.
      *
@@ -1545,7 +2254,18 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
-        this.refreshBuffer = true;
+        // a change to the datasets, markers, annotations or crosshairs of
+        // the chart's plot can be handled by redrawing just the data layer
+        ChartChangeEventType type = event.getType();
+        if (useLayers() && (type == ChartChangeEventType.DATASET_UPDATED
+                || type == ChartChangeEventType.DATA_AREA_UPDATED)
+                && event instanceof PlotChangeEvent
+                && ((PlotChangeEvent) event).getPlot() == this.chart.getPlot()) {
+            this.refreshDataLayer = true;
+        }
+        else {
+            this.refreshBuffer = true;
+        }
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
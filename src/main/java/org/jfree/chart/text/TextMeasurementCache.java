@@ -0,0 +1,321 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * TextMeasurementCache.java
+ * -------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.text;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.geom.Rectangle2D;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * A shared, bounded cache of text measurements, keyed by the font, the font
+ * render context and the string.  Charts measure the same strings (tick
+ * labels in particular) every time they are drawn, and measuring text is
+ * relatively slow, so the results are kept in a least-recently-used cache.
+ * This cache is used by {@link TextUtils#getTextBounds(String, Graphics2D,
+ * FontMetrics)} and by the axes when they select a tick unit.
+ * <br><br>
+ * The cache is safe to use from multiple threads.  Setting the capacity to
+ * zero disables the cache.
+ *
+ * @since 2.0.0
+ */
+public final class TextMeasurementCache {
+
+    /** The default capacity. */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** The measurement type for the bounds from getStringBounds(). */
+    private static final int STRING_BOUNDS = 0;
+
+    /** The measurement type for the width from stringWidth(). */
+    private static final int STRING_WIDTH = 1;
+
+    /** The measurement type for the height from the line metrics. */
+    private static final int LINE_HEIGHT = 2;
+
+    /** The lock for access to the cache. */
+    private static final Object LOCK = new Object();
+
+    /** The maximum number of entries in the cache. */
+    private static int capacity = DEFAULT_CAPACITY;
+
+    /** The cached measurements (in access order). */
+    private static final Map<Key, Object> CACHE = new LinkedHashMap<Key,
+            Object>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            return size() > capacity;
+        }
+    };
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private TextMeasurementCache() {
+        // prevent instantiation
+    }
+
+    /**
+     * Returns the maximum number of measurements held in the cache.
+     *
+     * @return The capacity.
+     */
+    public static int getCapacity() {
+        synchronized (LOCK) {
+            return capacity;
+        }
+    }
+
+    /**
+     * Sets the maximum number of measurements held in the cache, discarding
+     * the least recently used measurements if necessary.  A capacity of
+     * zero disables the cache.
+     *
+     * @param newCapacity  the capacity (zero or greater).
+     */
+    public static void setCapacity(int newCapacity) {
+        Args.requireNonNegative(newCapacity, "newCapacity");
+        synchronized (LOCK) {
+            capacity = newCapacity;
+            Iterator<Key> iterator = CACHE.keySet().iterator();
+            while (CACHE.size() > capacity) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of measurements currently held in the cache.
+     *
+     * @return The size.
+     */
+    public static int getSize() {
+        synchronized (LOCK) {
+            return CACHE.size();
+        }
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public static void clear() {
+        synchronized (LOCK) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Returns the bounds of a string, as returned by
+     * {@code FontMetrics.getStringBounds()} but with the height taken from
+     * the line metrics for the string.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param g2  the graphics target ({@code null} not permitted).
+     * @param fm  the font metrics ({@code null} not permitted).
+     *
+     * @return The bounds (a new rectangle that the caller can modify).
+     */
+    public static Rectangle2D getStringBounds(String text, Graphics2D g2,
+            FontMetrics fm) {
+        Args.nullNotPermitted(text, "text");
+        FontRenderContext frc = g2.getFontRenderContext();
+        Key key = new Key(STRING_BOUNDS, fm.getFont(), frc, fm.getClass(),
+                text);
+        Rectangle2D bounds = (Rectangle2D) get(key);
+        if (bounds == null) {
+            bounds = fm.getStringBounds(text, g2);
+            // getStringBounds() can return incorrect height for some Unicode
+            // characters...see bug parade 6183356, let's replace it with
+            // something correct
+            LineMetrics lm = fm.getFont().getLineMetrics(text, frc);
+            bounds.setRect(bounds.getX(), bounds.getY(), bounds.getWidth(),
+                    lm.getHeight());
+            put(key, bounds.clone());
+        }
+        else {
+            bounds = (Rectangle2D) bounds.clone();
+        }
+        return bounds;
+    }
+
+    /**
+     * Returns the width of a string, as returned by
+     * {@code FontMetrics.stringWidth()}.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param fm  the font metrics ({@code null} not permitted).
+     *
+     * @return The width.
+     */
+    public static int getStringWidth(String text, FontMetrics fm) {
+        Args.nullNotPermitted(text, "text");
+        Key key = new Key(STRING_WIDTH, fm.getFont(),
+                fm.getFontRenderContext(), fm.getClass(), text);
+        Integer width = (Integer) get(key);
+        if (width == null) {
+            width = fm.stringWidth(text);
+            put(key, width);
+        }
+        return width;
+    }
+
+    /**
+     * Returns the height of a string, as returned by the
+     * {@code LineMetrics} for the string.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param font  the font ({@code null} not permitted).
+     * @param frc  the font render context ({@code null} not permitted).
+     *
+     * @return The height.
+     */
+    public static float getLineHeight(String text, Font font,
+            FontRenderContext frc) {
+        Args.nullNotPermitted(text, "text");
+        Args.nullNotPermitted(font, "font");
+        Args.nullNotPermitted(frc, "frc");
+        Key key = new Key(LINE_HEIGHT, font, frc, null, text);
+        Float height = (Float) get(key);
+        if (height == null) {
+            height = font.getLineMetrics(text, frc).getHeight();
+            put(key, height);
+        }
+        return height;
+    }
+
+    /**
+     * Returns a measurement from the cache.
+     *
+     * @param key  the key.
+     *
+     * @return The measurement ({@code null} if it is not in the cache).
+     */
+    private static Object get(Key key) {
+        synchronized (LOCK) {
+            return CACHE.get(key);
+        }
+    }
+
+    /**
+     * Adds a measurement to the cache (unless the cache is disabled).
+     *
+     * @param key  the key.
+     * @param value  the measurement.
+     */
+    private static void put(Key key, Object value) {
+        synchronized (LOCK) {
+            if (capacity > 0) {
+                CACHE.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * The key for a measurement.
+     */
+    private static final class Key {
+
+        /** The measurement type. */
+        private final int type;
+
+        /** The font. */
+        private final Font font;
+
+        /** The font render context. */
+        private final FontRenderContext frc;
+
+        /** The font metrics class ({@code null} if not applicable). */
+        private final Class<?> metricsClass;
+
+        /** The text. */
+        private final String text;
+
+        /** The hash code. */
+        private final int hash;
+
+        /**
+         * Creates a new key.
+         *
+         * @param type  the measurement type.
+         * @param font  the font.
+         * @param frc  the font render context.
+         * @param metricsClass  the font metrics class ({@code null}
+         *     permitted).
+         * @param text  the text.
+         */
+        Key(int type, Font font, FontRenderContext frc,
+                Class<?> metricsClass, String text) {
+            this.type = type;
+            this.font = font;
+            this.frc = frc;
+            this.metricsClass = metricsClass;
+            this.text = text;
+            this.hash = Objects.hash(type, font, frc, metricsClass, text);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.type == that.type && this.text.equals(that.text)
+                    && Objects.equals(this.font, that.font)
+                    && Objects.equals(this.frc, that.frc)
+                    && this.metricsClass == that.metricsClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+}
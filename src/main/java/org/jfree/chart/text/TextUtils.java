@@ -259,16 +259,9 @@ public class TextUtils {
 
         Rectangle2D bounds;
         if (TextUtils.useFontMetricsGetStringBounds) {
-            bounds = fm.getStringBounds(text, g2);
-            // getStringBounds() can return incorrect height for some Unicode
-            // characters...see bug parade 6183356, let's replace it with
-            // something correct
-            LineMetrics lm = fm.getFont().getLineMetrics(text,
-                    g2.getFontRenderContext());
-            bounds.setRect(bounds.getX(), bounds.getY(), bounds.getWidth(),
-                    lm.getHeight());
+            bounds = TextMeasurementCache.getStringBounds(text, g2, fm);
         } else {
-            double width = fm.stringWidth(text);
+            double width = TextMeasurementCache.getStringWidth(text, fm);
             double height = fm.getHeight();
             bounds = new Rectangle2D.Double(0.0, -fm.getAscent(), width,
                     height);
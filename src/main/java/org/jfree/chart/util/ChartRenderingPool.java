@@ -0,0 +1,382 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ChartRenderingPool.java
+ * -----------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.encoders.EncoderUtil;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.CombinedDomainCategoryPlot;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.CombinedRangeCategoryPlot;
+import org.jfree.chart.plot.CombinedRangeXYPlot;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.plot.pie.PiePlot;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.PieDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Renders charts to PNG images concurrently, using a fixed pool of worker
+ * threads.  Each request supplies a template chart and (optionally) a
+ * dataset.  The worker draws an independent clone of the template (with the
+ * dataset assigned to the primary dataset index of the cloned plot), so
+ * concurrent requests never share a chart, plot, axis or renderer instance,
+ * or the state that these objects record while drawing.  Each worker thread
+ * draws into its own {@code BufferedImage}, which is reused for subsequent
+ * requests with the same size.
+ * <p>
+ * Templates and datasets may be shared between requests (and used by
+ * several workers at the same time), but they must not be modified while
+ * requests that use them are still pending.
+ *
+ * @since 2.0.0
+ */
+public class ChartRenderingPool implements AutoCloseable {
+
+    /** The executor that runs the rendering tasks. */
+    private final ExecutorService executor;
+
+    /** The number of worker threads. */
+    private final int threadCount;
+
+    /** The image most recently used by each worker thread. */
+    private final ThreadLocal<BufferedImage> images;
+
+    /**
+     * Creates a new pool with one worker thread per available processor.
+     */
+    public ChartRenderingPool() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new pool with the specified number of worker threads.
+     *
+     * @param threadCount  the number of threads (must be positive).
+     */
+    public ChartRenderingPool(int threadCount) {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'threadCount' > 0.");
+        }
+        this.threadCount = threadCount;
+        this.images = new ThreadLocal<>();
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = r -> {
+            Thread t = new Thread(r, "ChartRenderingPool-"
+                    + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        this.executor = Executors.newFixedThreadPool(threadCount, factory);
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return The number of worker threads.
+     */
+    public int getThreadCount() {
+        return this.threadCount;
+    }
+
+    /**
+     * Submits a request to render a chart to a PNG image.
+     *
+     * @param template  the template chart ({@code null} not permitted).
+     * @param dataset  the dataset for the chart ({@code null} permitted, in
+     *     which case the datasets of the template are used).
+     * @param width  the image width.
+     * @param height  the image height.
+     *
+     * @return A future that returns the PNG-encoded image.
+     */
+    public Future<byte[]> submit(JFreeChart template, Dataset dataset,
+            int width, int height) {
+        return submit(template, dataset, width, height, null);
+    }
+
+    /**
+     * Submits a request to render a chart to a PNG image.  If {@code info}
+     * is not {@code null} it is updated by the worker thread, so it should
+     * not be accessed until the returned future is complete.
+     *
+     * @param template  the template chart ({@code null} not permitted).
+     * @param dataset  the dataset for the chart ({@code null} permitted, in
+     *     which case the datasets of the template are used).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  carries back chart rendering info ({@code null}
+     *     permitted).
+     *
+     * @return A future that returns the PNG-encoded image.
+     *
+     * @throws IllegalArgumentException if a dataset is specified and the
+     *     template's plot type does not support datasets of that type.
+     */
+    public Future<byte[]> submit(JFreeChart template, Dataset dataset,
+            int width, int height, ChartRenderingInfo info) {
+        Args.nullNotPermitted(template, "template");
+        Args.requireInRange(width, "width", 1, Integer.MAX_VALUE);
+        Args.requireInRange(height, "height", 1, Integer.MAX_VALUE);
+        if (dataset != null) {
+            checkDatasetType(template.getPlot(), dataset);
+        }
+        return this.executor.submit(() -> render(template, dataset, width,
+                height, info));
+    }
+
+    /**
+     * Renders a chart in the current (worker) thread.
+     *
+     * @param template  the template chart.
+     * @param dataset  the dataset ({@code null} permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  the rendering info ({@code null} permitted).
+     *
+     * @return The PNG-encoded image.
+     *
+     * @throws Exception if there is a problem cloning the template or
+     *     encoding the image.
+     */
+    private byte[] render(JFreeChart template, Dataset dataset, int width,
+            int height, ChartRenderingInfo info) throws Exception {
+        JFreeChart chart;
+        synchronized (template) {
+            chart = (JFreeChart) template.clone();
+        }
+        if (dataset != null) {
+            setDataset(chart.getPlot(), dataset);
+        }
+        // the cloned plots listen to the (shared) datasets
+        detach(chart.getPlot());
+        BufferedImage image = getImage(width, height);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setComposite(AlphaComposite.Clear);
+            g2.fillRect(0, 0, width, height);
+            g2.setComposite(AlphaComposite.SrcOver);
+            chart.draw(g2, new Rectangle2D.Double(0, 0, width, height),
+                    null, info);
+        } finally {
+            g2.dispose();
+        }
+        return EncoderUtil.encode(image, ImageFormat.PNG);
+    }
+
+    /**
+     * Returns a copy of a chart that can be drawn on another thread while
+     * the original chart is used (and modified) on the current thread.  The
+     * chart, plot, axes, renderers and titles are cloned, so the copy does
+     * not share the state that these objects record while drawing.  The
+     * datasets are shared, but the copy does not listen to them (so a
+     * change to a dataset does not modify the copy, and the copy can be
+     * discarded without being deregistered).
+     *
+     * @param chart  the chart ({@code null} not permitted).
+     *
+     * @return The copy.
+     *
+     * @throws CloneNotSupportedException if the chart cannot be cloned.
+     */
+    public static JFreeChart snapshot(JFreeChart chart)
+            throws CloneNotSupportedException {
+        Args.nullNotPermitted(chart, "chart");
+        JFreeChart copy = (JFreeChart) chart.clone();
+        detach(copy.getPlot());
+        return copy;
+    }
+
+    /**
+     * Returns an image for the current worker thread, reusing the previous
+     * image if it has the required size.
+     *
+     * @param width  the width.
+     * @param height  the height.
+     *
+     * @return The image.
+     */
+    private BufferedImage getImage(int width, int height) {
+        BufferedImage image = this.images.get();
+        if (image == null || image.getWidth() != width
+                || image.getHeight() != height) {
+            image = new BufferedImage(width, height,
+                    BufferedImage.TYPE_INT_ARGB);
+            this.images.set(image);
+        }
+        return image;
+    }
+
+    /**
+     * Checks that a dataset can be assigned to a plot.
+     *
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     */
+    private static void checkDatasetType(Plot plot, Dataset dataset) {
+        boolean ok = (plot instanceof XYPlot && dataset instanceof XYDataset)
+                || (plot instanceof CategoryPlot
+                        && dataset instanceof CategoryDataset)
+                || (plot instanceof PiePlot && dataset instanceof PieDataset);
+        if (!ok) {
+            throw new IllegalArgumentException("Cannot assign a "
+                    + dataset.getClass().getName() + " to a "
+                    + plot.getClass().getName() + ".");
+        }
+    }
+
+    /**
+     * Sets the primary dataset for a plot.
+     *
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     */
+    @SuppressWarnings("unchecked")
+    private static void setDataset(Plot plot, Dataset dataset) {
+        if (plot instanceof XYPlot) {
+            ((XYPlot) plot).setDataset((XYDataset) dataset);
+        }
+        else if (plot instanceof CategoryPlot) {
+            ((CategoryPlot) plot).setDataset((CategoryDataset) dataset);
+        }
+        else if (plot instanceof PiePlot) {
+            ((PiePlot) plot).setDataset((PieDataset) dataset);
+        }
+    }
+
+    /**
+     * Deregisters a plot (and its subplots) from the datasets it listens to,
+     * so that the datasets do not retain references to cloned plots.
+     *
+     * @param plot  the plot ({@code null} permitted).
+     */
+    private static void detach(Plot plot) {
+        if (plot instanceof XYPlot) {
+            XYPlot<?> xyPlot = (XYPlot) plot;
+            for (XYDataset<?> d : xyPlot.getDatasets().values()) {
+                if (d != null) {
+                    d.removeChangeListener(xyPlot);
+                }
+            }
+        }
+        else if (plot instanceof CategoryPlot) {
+            CategoryPlot<?, ?> categoryPlot = (CategoryPlot) plot;
+            for (CategoryDataset<?, ?> d
+                    : categoryPlot.getDatasets().values()) {
+                if (d != null) {
+                    d.removeChangeListener(categoryPlot);
+                }
+            }
+        }
+        else if (plot instanceof PiePlot) {
+            PiePlot<?> piePlot = (PiePlot) plot;
+            if (piePlot.getDataset() != null) {
+                piePlot.getDataset().removeChangeListener(piePlot);
+            }
+        }
+        if (plot instanceof CombinedDomainXYPlot) {
+            for (XYPlot<?> subplot
+                    : ((CombinedDomainXYPlot<?>) plot).getSubplots()) {
+                detach(subplot);
+            }
+        }
+        else if (plot instanceof CombinedRangeXYPlot) {
+            for (XYPlot<?> subplot
+                    : ((CombinedRangeXYPlot<?>) plot).getSubplots()) {
+                detach(subplot);
+            }
+        }
+        else if (plot instanceof CombinedDomainCategoryPlot) {
+            for (CategoryPlot<?, ?> subplot
+                    : ((CombinedDomainCategoryPlot) plot).getSubplots()) {
+                detach(subplot);
+            }
+        }
+        else if (plot instanceof CombinedRangeCategoryPlot) {
+            for (CategoryPlot<?, ?> subplot
+                    : ((CombinedRangeCategoryPlot) plot).getSubplots()) {
+                detach(subplot);
+            }
+        }
+    }
+
+    /**
+     * Stops accepting new requests, waits (for at most the specified time)
+     * for the pending requests to complete, then stops the worker threads.
+     *
+     * @param timeout  the maximum time to wait.
+     * @param unit  the time unit ({@code null} not permitted).
+     *
+     * @return {@code true} if all the requests completed, and {@code false}
+     *     if the timeout elapsed first.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean shutdown(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        Args.nullNotPermitted(unit, "unit");
+        this.executor.shutdown();
+        return this.executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Stops the worker threads.  Requests that have been submitted but not
+     * started are cancelled.
+     */
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+}
@@ -49,23 +49,36 @@
 package org.jfree.data.category;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
 
 import org.jfree.data.DefaultKeyedValues2D;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.BoundsTracker;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetUtils;
 
 /**
  * A default implementation of the {@link CategoryDataset} interface.
+ * <p>
+ * The dataset implements {@link RangeInfo} and {@link CategoryRangeInfo}
+ * using the bounds for each row, which are maintained as values are added,
+ * updated and removed (a row is only rescanned after one of its extreme
+ * values is removed or overwritten), so that auto-ranging an axis does not
+ * require iterating over all the values after each change.
  * 
  * @param <R> The type for the row (series) keys.
  * @param <C> The type for the column (item) keys.
  */
 public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparable<C>> 
         extends AbstractDataset implements CategoryDataset<R, C>, 
-        PublicCloneable, Serializable {
+        RangeInfo, CategoryRangeInfo, PublicCloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -8168173757291644622L;
@@ -73,6 +86,15 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
     /** A storage structure for the data. */
     private DefaultKeyedValues2D<R, C> data;
 
+    /**
+     * The bounds of the values in each row, keyed by row key.  This is
+     * {@code null} until the bounds are first requested.  All access is
+     * synchronized on this dataset, because the bounds are filled in by
+     * the (read-only) range methods, which several threads may call at
+     * the same time.
+     */
+    private transient Map<R, BoundsTracker> rowBounds;
+
     /**
      * Creates a new (empty) dataset.
      */
@@ -232,7 +254,9 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
      * @see #removeValue(Comparable, Comparable)
      */
     public void addValue(Number value, R rowKey, C columnKey) {
+        Number old = lookupValue(rowKey, columnKey);
         this.data.addValue(value, rowKey, columnKey);
+        rowBoundsChanged(rowKey, old, value);
         fireDatasetChanged();
     }
 
@@ -260,7 +284,9 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
      * @see #getValue(Comparable, Comparable)
      */
     public void setValue(Number value, R rowKey, C columnKey) {
+        Number old = lookupValue(rowKey, columnKey);
         this.data.setValue(value, rowKey, columnKey);
+        rowBoundsChanged(rowKey, old, value);
         fireDatasetChanged();
     }
 
@@ -307,7 +333,12 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
      * @see #addValue(Number, Comparable, Comparable)
      */
     public void removeValue(R rowKey, C columnKey) {
+        Number old = lookupValue(rowKey, columnKey);
         this.data.removeValue(rowKey, columnKey);
+        rowBoundsChanged(rowKey, old, null);
+        if (this.data.getRowIndex(rowKey) < 0) {
+            removeRowBounds(rowKey);
+        }
         fireDatasetChanged();
     }
 
@@ -320,7 +351,9 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
      * @see #removeColumn(int)
      */
     public void removeRow(int rowIndex) {
+        R rowKey = this.data.getRowKey(rowIndex);
         this.data.removeRow(rowIndex);
+        removeRowBounds(rowKey);
         fireDatasetChanged();
     }
 
@@ -334,6 +367,7 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
      */
     public void removeRow(R rowKey) {
         this.data.removeRow(rowKey);
+        removeRowBounds(rowKey);
         fireDatasetChanged();
     }
 
@@ -346,8 +380,7 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
      * @see #removeRow(int)
      */
     public void removeColumn(int columnIndex) {
-        this.data.removeColumn(columnIndex);
-        fireDatasetChanged();
+        removeColumn(this.data.getColumnKey(columnIndex));
     }
 
     /**
@@ -362,6 +395,11 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
      *         in the dataset.
      */
     public void removeColumn(C columnKey) {
+        if (columnKey != null && this.data.getColumnIndex(columnKey) >= 0) {
+            for (R rowKey : this.data.getRowKeys()) {
+                rowBoundsChanged(rowKey, lookupValue(rowKey, columnKey), null);
+            }
+        }
         this.data.removeColumn(columnKey);
         fireDatasetChanged();
     }
@@ -372,9 +410,195 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
      */
     public void clear() {
         this.data.clear();
+        synchronized (this) {
+            this.rowBounds = null;
+        }
         fireDatasetChanged();
     }
 
+    /**
+     * Returns the value for a pair of keys, or {@code null} if either key is
+     * {@code null} or not defined in the dataset.
+     *
+     * @param rowKey  the row key ({@code null} permitted).
+     * @param columnKey  the column key ({@code null} permitted).
+     *
+     * @return The value (possibly {@code null}).
+     */
+    private Number lookupValue(R rowKey, C columnKey) {
+        if (rowKey == null || columnKey == null) {
+            return null;
+        }
+        int row = this.data.getRowIndex(rowKey);
+        int column = this.data.getColumnIndex(columnKey);
+        if (row < 0 || column < 0) {
+            return null;
+        }
+        return this.data.getValue(row, column);
+    }
+
+    /**
+     * Updates the bounds for a row after a value in the row has changed.
+     * This does nothing for a row whose bounds have not been requested yet
+     * (they are calculated from all the values in the row when they are
+     * first requested).
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param oldValue  the old value ({@code null} permitted).
+     * @param newValue  the new value ({@code null} permitted).
+     */
+    private synchronized void rowBoundsChanged(R rowKey, Number oldValue,
+            Number newValue) {
+        if (this.rowBounds == null) {
+            return;
+        }
+        BoundsTracker tracker = this.rowBounds.get(rowKey);
+        if (tracker == null) {
+            return;
+        }
+        if (oldValue != null) {
+            tracker.remove(oldValue.doubleValue());
+        }
+        if (newValue != null) {
+            tracker.add(newValue.doubleValue());
+        }
+    }
+
+    /**
+     * Discards the bounds for a row.
+     *
+     * @param rowKey  the row key.
+     */
+    private synchronized void removeRowBounds(R rowKey) {
+        if (this.rowBounds != null) {
+            this.rowBounds.remove(rowKey);
+        }
+    }
+
+    /**
+     * Returns the bounds tracker for a row, first (re)calculating the bounds
+     * by iterating over the values in the row if necessary.
+     *
+     * @param row  the row index.
+     *
+     * @return The bounds tracker (never {@code null}).
+     */
+    private synchronized BoundsTracker getRowBounds(int row) {
+        if (this.rowBounds == null) {
+            this.rowBounds = new HashMap<>();
+        }
+        R rowKey = this.data.getRowKey(row);
+        BoundsTracker tracker = this.rowBounds.get(rowKey);
+        if (tracker == null) {
+            tracker = new BoundsTracker();
+            tracker.invalidate();
+            this.rowBounds.put(rowKey, tracker);
+        }
+        if (!tracker.isValid()) {
+            tracker.clear();
+            int columnCount = this.data.getColumnCount();
+            for (int column = 0; column < columnCount; column++) {
+                Number value = this.data.getValue(row, column);
+                if (value != null) {
+                    tracker.add(value.doubleValue());
+                }
+            }
+        }
+        return tracker;
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The minimum value ({@code Double.NaN} if the dataset contains
+     *     no values).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return range != null ? range.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The maximum value ({@code Double.NaN} if the dataset contains
+     *     no values).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return range != null ? range.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the values in this dataset's range.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        return getRangeBounds(getRowKeys(), includeInterval);
+    }
+
+    /**
+     * Returns the range of the values in the specified rows.  Keys that are
+     * not defined in the dataset are ignored.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     ({@code null} not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (or {@code null} if the rows contain no values).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Range getRangeBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        if (includeInterval && this instanceof IntervalCategoryDataset) {
+            // the y-intervals are defined by a subclass, not tracked here
+            return DatasetUtils.iterateToFindRangeBounds(this,
+                    (List<R>) visibleSeriesKeys, includeInterval);
+        }
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (Object key : visibleSeriesKeys) {
+            int row = this.data.getRowIndex((R) key);
+            if (row < 0) {
+                continue;
+            }
+            BoundsTracker tracker = getRowBounds(row);
+            if (tracker.getCount() > 0) {
+                lower = Math.min(lower, tracker.getLowerBound());
+                upper = Math.max(upper, tracker.getUpperBound());
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
     /**
      * Tests this dataset for equality with an arbitrary object.
      *
@@ -438,6 +662,7 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
     public Object clone() throws CloneNotSupportedException {
         DefaultCategoryDataset<R, C> clone = (DefaultCategoryDataset) super.clone();
         clone.data = (DefaultKeyedValues2D) this.data.clone();
+        clone.rowBounds = null;
         return clone;
     }
 
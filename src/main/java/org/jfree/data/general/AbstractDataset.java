@@ -62,6 +62,18 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      */
     private boolean notify;
 
+    /**
+     * The number of calls to {@link #beginUpdate()} that have not yet been
+     * matched by a call to {@link #endUpdate()}.
+     */
+    private transient int updateDepth;
+
+    /**
+     * A flag that records that a change event was suppressed during an
+     * update.
+     */
+    private transient boolean changePending;
+
     /**
      * Constructs a dataset.
      */
@@ -97,6 +109,61 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         }    
     }
     
+    /**
+     * Starts a batch of changes to the dataset.  Until the matching call to
+     * {@link #endUpdate()}, change events are not sent to registered
+     * listeners; instead a single {@link DatasetChangeEvent} is sent when the
+     * batch ends (and only if there was a change).  Calls can be nested, in
+     * which case the event is sent when the outermost batch ends.  This is
+     * more efficient than sending an event (and redrawing the chart) for
+     * each change when many items are added at once, for example when
+     * appending a block of data from a live feed.  Callers should use a
+     * {@code try/finally} block to ensure that {@code endUpdate()} is always
+     * called.
+     *
+     * @see #endUpdate()
+     *
+     * @since 2.0.0
+     */
+    public void beginUpdate() {
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends a batch of changes that was started with {@link #beginUpdate()}.
+     * If this ends the outermost batch and the dataset was changed during
+     * the batch, a single {@link DatasetChangeEvent} is sent to all
+     * registered listeners.
+     *
+     * @throws IllegalStateException if there is no batch in progress.
+     *
+     * @see #beginUpdate()
+     *
+     * @since 2.0.0
+     */
+    public void endUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException("No update in progress.");
+        }
+        this.updateDepth--;
+        if (this.updateDepth == 0 && this.changePending) {
+            this.changePending = false;
+            notifyListeners(new DatasetChangeEvent(this, this));
+        }
+    }
+
+    /**
+     * Returns {@code true} if a batch of changes started with
+     * {@link #beginUpdate()} is in progress.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public boolean isUpdating() {
+        return this.updateDepth > 0;
+    }
+
     /**
      * Registers an object to receive notification of changes to the dataset.
      *
@@ -153,7 +220,9 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     }
 
     /**
-     * Notifies all registered listeners that the dataset has changed.
+     * Notifies all registered listeners that the dataset has changed.  If a
+     * batch of changes is in progress (see {@link #beginUpdate()}), the
+     * event is not sent but a single event will be sent when the batch ends.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
@@ -162,6 +231,10 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      * @see #removeChangeListener(DatasetChangeListener)
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        if (this.updateDepth > 0) {
+            this.changePending = true;
+            return;
+        }
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
@@ -185,6 +258,8 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
         clone.listenerList = new EventListenerList();
+        clone.updateDepth = 0;
+        clone.changePending = false;
         return clone;
     }
 
@@ -0,0 +1,267 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * BoundsTracker.java
+ * ------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+import org.jfree.data.Range;
+
+/**
+ * Maintains the minimum and maximum of a changing collection of values, so
+ * that a dataset can report its bounds without iterating over all its items
+ * each time the bounds are requested.  The owner calls {@link #add(double)}
+ * and {@link #remove(double)} as values are added to and removed from the
+ * collection.  Adding a value never requires a rescan; removing a value only
+ * invalidates the tracker when the value removed is one of the current
+ * extremes, in which case the owner should {@link #clear()} the tracker and
+ * add all the remaining values again (see {@link #isValid()}).
+ * <p>
+ * {@code Double.NaN} values are counted but do not contribute to the bounds.
+ *
+ * @since 2.0.0
+ */
+public class BoundsTracker implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6889779463351962811L;
+
+    /** The number of (non-NaN) values that contribute to the bounds. */
+    private int count;
+
+    /** The number of {@code Double.NaN} values. */
+    private int nanCount;
+
+    /** The minimum value (only meaningful if {@code count > 0}). */
+    private double min;
+
+    /** The maximum value (only meaningful if {@code count > 0}). */
+    private double max;
+
+    /**
+     * A flag that indicates whether the minimum and maximum values are
+     * correct.
+     */
+    private boolean valid;
+
+    /**
+     * Creates a new tracker for an empty collection of values.
+     */
+    public BoundsTracker() {
+        clear();
+    }
+
+    /**
+     * Returns the number of values (excluding {@code Double.NaN} values)
+     * that contribute to the bounds.
+     *
+     * @return The value count.
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the number of {@code Double.NaN} values.
+     *
+     * @return The count.
+     */
+    public int getNaNCount() {
+        return this.nanCount;
+    }
+
+    /**
+     * Returns {@code true} if the bounds are correct, and {@code false} if
+     * an extreme value has been removed since the tracker was last cleared
+     * (in which case the owner must recalculate the bounds).
+     *
+     * @return A boolean.
+     */
+    public boolean isValid() {
+        return this.valid;
+    }
+
+    /**
+     * Marks the bounds as invalid.  The owner should call this method when
+     * the values change in a way that is not reported via the
+     * {@link #add(double)} and {@link #remove(double)} methods.
+     */
+    public void invalidate() {
+        this.valid = false;
+    }
+
+    /**
+     * Resets the tracker to the state for an empty collection of values.
+     */
+    public void clear() {
+        this.count = 0;
+        this.nanCount = 0;
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+        this.valid = true;
+    }
+
+    /**
+     * Records that a value has been added to the collection.
+     *
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            this.nanCount++;
+            return;
+        }
+        this.count++;
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+    }
+
+    /**
+     * Records that a value has been removed from the collection.  If the
+     * value is one of the extremes, the tracker becomes invalid.
+     *
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    public void remove(double value) {
+        if (Double.isNaN(value)) {
+            this.nanCount = Math.max(this.nanCount - 1, 0);
+            return;
+        }
+        this.count = Math.max(this.count - 1, 0);
+        if (this.count == 0) {
+            // nothing is left, so the bounds are known to be empty
+            this.min = Double.POSITIVE_INFINITY;
+            this.max = Double.NEGATIVE_INFINITY;
+        }
+        else if (value <= this.min || value >= this.max) {
+            this.valid = false;
+        }
+    }
+
+    /**
+     * Returns the minimum value, or {@code Double.NaN} if there are no
+     * (non-NaN) values.
+     *
+     * @return The minimum value.
+     */
+    public double getLowerBound() {
+        return this.count > 0 ? this.min : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum value, or {@code Double.NaN} if there are no
+     * (non-NaN) values.
+     *
+     * @return The maximum value.
+     */
+    public double getUpperBound() {
+        return this.count > 0 ? this.max : Double.NaN;
+    }
+
+    /**
+     * Returns the bounds of the values.
+     *
+     * @return The bounds (or {@code null} if there are no (non-NaN) values).
+     */
+    public Range getBounds() {
+        return this.count > 0 ? new Range(this.min, this.max) : null;
+    }
+
+    /**
+     * Tests this tracker for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof BoundsTracker)) {
+            return false;
+        }
+        BoundsTracker that = (BoundsTracker) obj;
+        if (this.count != that.count) {
+            return false;
+        }
+        if (this.nanCount != that.nanCount) {
+            return false;
+        }
+        if (this.valid != that.valid) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.min)
+                != Double.doubleToLongBits(that.min)) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.max)
+                != Double.doubleToLongBits(that.max)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 41 * hash + this.count;
+        hash = 41 * hash + this.nanCount;
+        hash = 41 * hash + Double.hashCode(this.min);
+        hash = 41 * hash + Double.hashCode(this.max);
+        hash = 41 * hash + (this.valid ? 1 : 0);
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this tracker.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but
+     *     subclasses may differ.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        return super.clone();
+    }
+
+}
@@ -987,33 +987,59 @@ public final class DatasetUtils {
         Args.nullNotPermitted(dataset, "dataset");
         Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
 
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
+        double[] bounds = new double[] {Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
         int columnCount = dataset.getColumnCount();
+        for (R seriesKey : visibleSeriesKeys) {
+            int series = dataset.getRowIndex(seriesKey);
+            includeRangeBounds(dataset, series, 0, columnCount,
+                    includeInterval, bounds);
+        }
+        return toRange(bounds);
+    }
+
+    /**
+     * Updates the bounds (minimum and maximum) of the values with the items
+     * in a range of columns within one row.  This performs the iteration for
+     * {@link #iterateToFindRangeBounds(CategoryDataset, List, boolean)} and
+     * is also used, for ranges of columns in parallel, by
+     * {@link ParallelDatasetUtils}.
+     *
+     * @param dataset  the dataset.
+     * @param series  the row index.
+     * @param start  the index of the first column.
+     * @param end  the index after the last column.
+     * @param includeInterval  include the y-interval?
+     * @param bounds  the minimum and maximum (updated by this method).
+     *
+     * @param <R>  the type for the row keys.
+     * @param <C>  the type for the column keys.
+     */
+    static <R extends Comparable<R>, C extends Comparable<C>> void
+            includeRangeBounds(CategoryDataset<R, C> dataset, int series,
+            int start, int end, boolean includeInterval, double[] bounds) {
+        double minimum = bounds[0];
+        double maximum = bounds[1];
         if (includeInterval
                 && dataset instanceof BoxAndWhiskerCategoryDataset) {
             // handle special case of BoxAndWhiskerDataset
             @SuppressWarnings("unchecked")
             BoxAndWhiskerCategoryDataset<R, C> bx
                     = (BoxAndWhiskerCategoryDataset) dataset;
-            for (R seriesKey : visibleSeriesKeys) {
-                int series = dataset.getRowIndex(seriesKey);
-                int itemCount = dataset.getColumnCount();
-                for (int item = 0; item < itemCount; item++) {
-                    Number lvalue = bx.getMinRegularValue(series, item);
-                    if (lvalue == null) {
-                        lvalue = bx.getValue(series, item);
-                    }
-                    Number uvalue = bx.getMaxRegularValue(series, item);
-                    if (uvalue == null) {
-                        uvalue = bx.getValue(series, item);
-                    }
-                    if (lvalue != null) {
-                        minimum = Math.min(minimum, lvalue.doubleValue());
-                    }
-                    if (uvalue != null) {
-                        maximum = Math.max(maximum, uvalue.doubleValue());
-                    }
+            for (int item = start; item < end; item++) {
+                Number lvalue = bx.getMinRegularValue(series, item);
+                if (lvalue == null) {
+                    lvalue = bx.getValue(series, item);
+                }
+                Number uvalue = bx.getMaxRegularValue(series, item);
+                if (uvalue == null) {
+                    uvalue = bx.getValue(series, item);
+                }
+                if (lvalue != null) {
+                    minimum = Math.min(minimum, lvalue.doubleValue());
+                }
+                if (uvalue != null) {
+                    maximum = Math.max(maximum, uvalue.doubleValue());
                 }
             }
         }
@@ -1024,17 +1050,14 @@ public final class DatasetUtils {
             @SuppressWarnings("unchecked")
             IntervalCategoryDataset<R, C> icd = (IntervalCategoryDataset) dataset;
             Number lvalue, uvalue;
-            for (R seriesKey : visibleSeriesKeys) {
-                int series = dataset.getRowIndex(seriesKey);
-                for (int column = 0; column < columnCount; column++) {
-                    lvalue = icd.getStartValue(series, column);
-                    uvalue = icd.getEndValue(series, column);
-                    if (lvalue != null && !Double.isNaN(lvalue.doubleValue())) {
-                        minimum = Math.min(minimum, lvalue.doubleValue());
-                    }
-                    if (uvalue != null && !Double.isNaN(uvalue.doubleValue())) {
-                        maximum = Math.max(maximum, uvalue.doubleValue());
-                    }
+            for (int column = start; column < end; column++) {
+                lvalue = icd.getStartValue(series, column);
+                uvalue = icd.getEndValue(series, column);
+                if (lvalue != null && !Double.isNaN(lvalue.doubleValue())) {
+                    minimum = Math.min(minimum, lvalue.doubleValue());
+                }
+                if (uvalue != null && !Double.isNaN(uvalue.doubleValue())) {
+                    maximum = Math.max(maximum, uvalue.doubleValue());
                 }
             }
         }
@@ -1045,16 +1068,13 @@ public final class DatasetUtils {
             @SuppressWarnings("unchecked")
             MultiValueCategoryDataset<R, C> mvcd
                     = (MultiValueCategoryDataset) dataset;
-            for (R seriesKey : visibleSeriesKeys) {
-                int series = dataset.getRowIndex(seriesKey);
-                for (int column = 0; column < columnCount; column++) {
-                    List<? extends Number> values = mvcd.getValues(series, column);
-                    for (Number n : values) {
-                        double v = n.doubleValue();
-                        if (!Double.isNaN(v)){
-                            minimum = Math.min(minimum, v);
-                            maximum = Math.max(maximum, v);
-                        }
+            for (int column = start; column < end; column++) {
+                List<? extends Number> values = mvcd.getValues(series, column);
+                for (Number n : values) {
+                    double v = n.doubleValue();
+                    if (!Double.isNaN(v)){
+                        minimum = Math.min(minimum, v);
+                        maximum = Math.max(maximum, v);
                     }
                 }
             }
@@ -1066,50 +1086,40 @@ public final class DatasetUtils {
             @SuppressWarnings("unchecked")
             StatisticalCategoryDataset<R, C> scd
                     = (StatisticalCategoryDataset) dataset;
-            for (R seriesKey : visibleSeriesKeys) {
-                int series = dataset.getRowIndex(seriesKey);
-                for (int column = 0; column < columnCount; column++) {
-                    Number meanN = scd.getMeanValue(series, column);
-                    if (meanN != null) {
-                        double std = 0.0;
-                        Number stdN = scd.getStdDevValue(series, column);
-                        if (stdN != null) {
-                            std = stdN.doubleValue();
-                            if (Double.isNaN(std)) {
-                                std = 0.0;
-                            }
-                        }
-                        double mean = meanN.doubleValue();
-                        if (!Double.isNaN(mean)) {
-                            minimum = Math.min(minimum, mean - std);
-                            maximum = Math.max(maximum, mean + std);
+            for (int column = start; column < end; column++) {
+                Number meanN = scd.getMeanValue(series, column);
+                if (meanN != null) {
+                    double std = 0.0;
+                    Number stdN = scd.getStdDevValue(series, column);
+                    if (stdN != null) {
+                        std = stdN.doubleValue();
+                        if (Double.isNaN(std)) {
+                            std = 0.0;
                         }
                     }
+                    double mean = meanN.doubleValue();
+                    if (!Double.isNaN(mean)) {
+                        minimum = Math.min(minimum, mean - std);
+                        maximum = Math.max(maximum, mean + std);
+                    }
                 }
             }
         }
         else {
             // handle the standard case (plain CategoryDataset)
-            for (R seriesKey : visibleSeriesKeys) {
-                int series = dataset.getRowIndex(seriesKey);
-                for (int column = 0; column < columnCount; column++) {
-                    Number value = dataset.getValue(series, column);
-                    if (value != null) {
-                        double v = value.doubleValue();
-                        if (!Double.isNaN(v)) {
-                            minimum = Math.min(minimum, v);
-                            maximum = Math.max(maximum, v);
-                        }
+            for (int column = start; column < end; column++) {
+                Number value = dataset.getValue(series, column);
+                if (value != null) {
+                    double v = value.doubleValue();
+                    if (!Double.isNaN(v)) {
+                        minimum = Math.min(minimum, v);
+                        maximum = Math.max(maximum, v);
                     }
                 }
             }
         }
-        if (minimum == Double.POSITIVE_INFINITY) {
-            return null;
-        }
-        else {
-            return new Range(minimum, maximum);
-        }
+        bounds[0] = minimum;
+        bounds[1] = maximum;
     }
 
     /**
@@ -1377,51 +1387,83 @@ public final class DatasetUtils {
         Args.nullNotPermitted(dataset, "dataset");
         Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
 
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
+        double[] bounds = new double[] {Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
+        for (S seriesKey : visibleSeriesKeys) {
+            int series = dataset.indexOf(seriesKey);
+            includeDomainBounds(dataset, series, 0,
+                    dataset.getItemCount(series), includeInterval, bounds);
+        }
+        return toRange(bounds);
+    }
 
+    /**
+     * Updates the bounds (minimum and maximum) of the x-values with the
+     * items in a range within one series.  This performs the iteration for
+     * {@link #iterateToFindDomainBounds(XYDataset, List, boolean)} and is
+     * also used, for ranges of items in parallel, by
+     * {@link ParallelDatasetUtils}.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param start  the index of the first item.
+     * @param end  the index after the last item.
+     * @param includeInterval  include the x-interval?
+     * @param bounds  the minimum and maximum (updated by this method).
+     *
+     * @param <S>  the type for the series keys.
+     */
+    static <S extends Comparable<S>> void includeDomainBounds(
+            XYDataset<S> dataset, int series, int start, int end,
+            boolean includeInterval, double[] bounds) {
+        double minimum = bounds[0];
+        double maximum = bounds[1];
         if (includeInterval && dataset instanceof IntervalXYDataset) {
             // handle special case of IntervalXYDataset
             @SuppressWarnings("unchecked")
             IntervalXYDataset<S> ixyd = (IntervalXYDataset) dataset;
-            for (S seriesKey : visibleSeriesKeys) {
-                int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double xvalue = ixyd.getXValue(series, item);
-                    double lvalue = ixyd.getStartXValue(series, item);
-                    double uvalue = ixyd.getEndXValue(series, item);
-                    if (!Double.isNaN(xvalue)) {
-                        minimum = Math.min(minimum, xvalue);
-                        maximum = Math.max(maximum, xvalue);
-                    }
-                    if (!Double.isNaN(lvalue)) {
-                        minimum = Math.min(minimum, lvalue);
-                    }
-                    if (!Double.isNaN(uvalue)) {
-                        maximum = Math.max(maximum, uvalue);
-                    }
+            for (int item = start; item < end; item++) {
+                double xvalue = ixyd.getXValue(series, item);
+                double lvalue = ixyd.getStartXValue(series, item);
+                double uvalue = ixyd.getEndXValue(series, item);
+                if (!Double.isNaN(xvalue)) {
+                    minimum = Math.min(minimum, xvalue);
+                    maximum = Math.max(maximum, xvalue);
+                }
+                if (!Double.isNaN(lvalue)) {
+                    minimum = Math.min(minimum, lvalue);
+                }
+                if (!Double.isNaN(uvalue)) {
+                    maximum = Math.max(maximum, uvalue);
                 }
             }
         } else {
             // standard case - plain XYDataset
-            for (S seriesKey : visibleSeriesKeys) {
-                int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double x = dataset.getXValue(series, item);
-                    if (!Double.isNaN(x)) {
-                        minimum = Math.min(minimum, x);
-                        maximum = Math.max(maximum, x);
-                    }
+            for (int item = start; item < end; item++) {
+                double x = dataset.getXValue(series, item);
+                if (!Double.isNaN(x)) {
+                    minimum = Math.min(minimum, x);
+                    maximum = Math.max(maximum, x);
                 }
             }
         }
+        bounds[0] = minimum;
+        bounds[1] = maximum;
+    }
 
-        if (minimum == Double.POSITIVE_INFINITY) {
+    /**
+     * Returns a range for the specified bounds.
+     *
+     * @param bounds  the minimum and maximum.
+     *
+     * @return The range ({@code null} if the minimum is
+     *     {@code Double.POSITIVE_INFINITY}, which means no value was found).
+     */
+    static Range toRange(double[] bounds) {
+        if (bounds[0] == Double.POSITIVE_INFINITY) {
             return null;
         } else {
-            return new Range(minimum, maximum);
+            return new Range(bounds[0], bounds[1]);
         }
     }
 
@@ -1452,27 +1494,55 @@ public final class DatasetUtils {
         Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
         Args.nullNotPermitted(xRange, "xRange");
 
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
+        double[] bounds = new double[] {Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
+        for (S seriesKey : visibleSeriesKeys) {
+            int series = dataset.indexOf(seriesKey);
+            includeRangeBounds(dataset, series, 0,
+                    dataset.getItemCount(series), xRange, includeInterval,
+                    bounds);
+        }
+        return toRange(bounds);
+    }
+
+    /**
+     * Updates the bounds (minimum and maximum) of the y-values with the
+     * items in a range within one series, for items with x-values in the
+     * given range.  This performs the iteration for
+     * {@link #iterateToFindRangeBounds(XYDataset, List, Range, boolean)} and
+     * is also used, for ranges of items in parallel, by
+     * {@link ParallelDatasetUtils}.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param start  the index of the first item.
+     * @param end  the index after the last item.
+     * @param xRange  the x-range.
+     * @param includeInterval  include the y-interval?
+     * @param bounds  the minimum and maximum (updated by this method).
+     *
+     * @param <S>  the type for the series keys.
+     */
+    static <S extends Comparable<S>> void includeRangeBounds(
+            XYDataset<S> dataset, int series, int start, int end,
+            Range xRange, boolean includeInterval, double[] bounds) {
+        double minimum = bounds[0];
+        double maximum = bounds[1];
 
         // handle three cases by dataset type
         if (includeInterval && dataset instanceof OHLCDataset) {
             // handle special case of OHLCDataset
             OHLCDataset ohlc = (OHLCDataset) dataset;
-            for (S seriesKey : visibleSeriesKeys) {
-                int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double x = ohlc.getXValue(series, item);
-                    if (xRange.contains(x)) {
-                        double lvalue = ohlc.getLowValue(series, item);
-                        double uvalue = ohlc.getHighValue(series, item);
-                        if (!Double.isNaN(lvalue)) {
-                            minimum = Math.min(minimum, lvalue);
-                        }
-                        if (!Double.isNaN(uvalue)) {
-                            maximum = Math.max(maximum, uvalue);
-                        }
+            for (int item = start; item < end; item++) {
+                double x = ohlc.getXValue(series, item);
+                if (xRange.contains(x)) {
+                    double lvalue = ohlc.getLowValue(series, item);
+                    double uvalue = ohlc.getHighValue(series, item);
+                    if (!Double.isNaN(lvalue)) {
+                        minimum = Math.min(minimum, lvalue);
+                    }
+                    if (!Double.isNaN(uvalue)) {
+                        maximum = Math.max(maximum, uvalue);
                     }
                 }
             }
@@ -1481,20 +1551,16 @@ public final class DatasetUtils {
             // handle special case of BoxAndWhiskerXYDataset
             @SuppressWarnings("unchecked")
             BoxAndWhiskerXYDataset<S> bx = (BoxAndWhiskerXYDataset) dataset;
-            for (S seriesKey : visibleSeriesKeys) {
-                int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double x = bx.getXValue(series, item);
-                    if (xRange.contains(x)) {
-                        Number lvalue = bx.getMinRegularValue(series, item);
-                        Number uvalue = bx.getMaxRegularValue(series, item);
-                        if (lvalue != null) {
-                            minimum = Math.min(minimum, lvalue.doubleValue());
-                        }
-                        if (uvalue != null) {
-                            maximum = Math.max(maximum, uvalue.doubleValue());
-                        }
+            for (int item = start; item < end; item++) {
+                double x = bx.getXValue(series, item);
+                if (xRange.contains(x)) {
+                    Number lvalue = bx.getMinRegularValue(series, item);
+                    Number uvalue = bx.getMaxRegularValue(series, item);
+                    if (lvalue != null) {
+                        minimum = Math.min(minimum, lvalue.doubleValue());
+                    }
+                    if (uvalue != null) {
+                        maximum = Math.max(maximum, uvalue.doubleValue());
                     }
                 }
             }
@@ -1503,50 +1569,39 @@ public final class DatasetUtils {
             // handle special case of IntervalXYDataset
             @SuppressWarnings("unchecked")
             IntervalXYDataset<S> ixyd = (IntervalXYDataset) dataset;
-            for (S seriesKey : visibleSeriesKeys) {
-                int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double x = ixyd.getXValue(series, item);
-                    if (xRange.contains(x)) {
-                        double yvalue = ixyd.getYValue(series, item);
-                        double lvalue = ixyd.getStartYValue(series, item);
-                        double uvalue = ixyd.getEndYValue(series, item);
-                        if (!Double.isNaN(yvalue)) {
-                            minimum = Math.min(minimum, yvalue);
-                            maximum = Math.max(maximum, yvalue);
-                        }
-                        if (!Double.isNaN(lvalue)) {
-                            minimum = Math.min(minimum, lvalue);
-                        }
-                        if (!Double.isNaN(uvalue)) {
-                            maximum = Math.max(maximum, uvalue);
-                        }
+            for (int item = start; item < end; item++) {
+                double x = ixyd.getXValue(series, item);
+                if (xRange.contains(x)) {
+                    double yvalue = ixyd.getYValue(series, item);
+                    double lvalue = ixyd.getStartYValue(series, item);
+                    double uvalue = ixyd.getEndYValue(series, item);
+                    if (!Double.isNaN(yvalue)) {
+                        minimum = Math.min(minimum, yvalue);
+                        maximum = Math.max(maximum, yvalue);
+                    }
+                    if (!Double.isNaN(lvalue)) {
+                        minimum = Math.min(minimum, lvalue);
+                    }
+                    if (!Double.isNaN(uvalue)) {
+                        maximum = Math.max(maximum, uvalue);
                     }
                 }
             }
         } else {
             // standard case - plain XYDataset
-            for (S seriesKey : visibleSeriesKeys) {
-                int series = dataset.indexOf(seriesKey);
-                int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
-                    double x = dataset.getXValue(series, item);
-                    double y = dataset.getYValue(series, item);
-                    if (xRange.contains(x)) {
-                        if (!Double.isNaN(y)) {
-                            minimum = Math.min(minimum, y);
-                            maximum = Math.max(maximum, y);
-                        }
+            for (int item = start; item < end; item++) {
+                double x = dataset.getXValue(series, item);
+                double y = dataset.getYValue(series, item);
+                if (xRange.contains(x)) {
+                    if (!Double.isNaN(y)) {
+                        minimum = Math.min(minimum, y);
+                        maximum = Math.max(maximum, y);
                     }
                 }
             }
         }
-        if (minimum == Double.POSITIVE_INFINITY) {
-            return null;
-        } else {
-            return new Range(minimum, maximum);
-        }
+        bounds[0] = minimum;
+        bounds[1] = maximum;
     }
 
     /**
@@ -1978,11 +2033,38 @@ public final class DatasetUtils {
     public static <R extends Comparable<R>, C extends Comparable<C>> Range 
             findStackedRangeBounds(CategoryDataset<R, C> dataset, double base) {
         Args.nullNotPermitted(dataset, "dataset");
-        Range result = null;
-        double minimum = Double.POSITIVE_INFINITY;
-        double maximum = Double.NEGATIVE_INFINITY;
-        int categoryCount = dataset.getColumnCount();
-        for (int item = 0; item < categoryCount; item++) {
+        double[] bounds = new double[] {Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
+        includeStackedRangeBounds(dataset, 0, dataset.getColumnCount(), base,
+                bounds);
+        if (bounds[0] <= bounds[1]) {
+            return new Range(bounds[0], bounds[1]);
+        }
+        return null;
+    }
+
+    /**
+     * Updates the bounds (minimum and maximum) of the stacked values with
+     * the items in a range of columns (categories).  This performs the
+     * iteration for {@link #findStackedRangeBounds(CategoryDataset, double)}
+     * and is also used, for ranges of columns in parallel, by
+     * {@link ParallelDatasetUtils}.
+     *
+     * @param dataset  the dataset.
+     * @param start  the index of the first column.
+     * @param end  the index after the last column.
+     * @param base  the base value for the bars.
+     * @param bounds  the minimum and maximum (updated by this method).
+     *
+     * @param <R>  the type for the row keys.
+     * @param <C>  the type for the column keys.
+     */
+    static <R extends Comparable<R>, C extends Comparable<C>> void
+            includeStackedRangeBounds(CategoryDataset<R, C> dataset,
+            int start, int end, double base, double[] bounds) {
+        double minimum = bounds[0];
+        double maximum = bounds[1];
+        for (int item = start; item < end; item++) {
             double positive = base;
             double negative = base;
             int seriesCount = dataset.getRowCount();
@@ -2002,11 +2084,8 @@ public final class DatasetUtils {
             minimum = Math.min(minimum, negative);
             maximum = Math.max(maximum, positive);
         }
-        if (minimum <= maximum) {
-            result = new Range(minimum, maximum);
-        }
-        return result;
-
+        bounds[0] = minimum;
+        bounds[1] = maximum;
     }
 
     /**
@@ -2188,9 +2267,37 @@ public final class DatasetUtils {
     public static <S extends Comparable<S>> Range findStackedRangeBounds(
             TableXYDataset<S> dataset, double base) {
         Args.nullNotPermitted(dataset, "dataset");
-        double minimum = base;
-        double maximum = base;
-        for (int itemNo = 0; itemNo < dataset.getItemCount(); itemNo++) {
+        double[] bounds = new double[] {base, base};
+        includeStackedRangeBounds(dataset, 0, dataset.getItemCount(), base,
+                bounds);
+        if (bounds[0] <= bounds[1]) {
+            return new Range(bounds[0], bounds[1]);
+        }
+        else {
+            return null;
+        }
+    }
+
+    /**
+     * Updates the bounds (minimum and maximum) of the stacked values with
+     * the items in a range.  This performs the iteration for
+     * {@link #findStackedRangeBounds(TableXYDataset, double)} and is also
+     * used, for ranges of items in parallel, by {@link ParallelDatasetUtils}.
+     *
+     * @param dataset  the dataset.
+     * @param start  the index of the first item.
+     * @param end  the index after the last item.
+     * @param base  the base value.
+     * @param bounds  the minimum and maximum (updated by this method).
+     *
+     * @param <S>  the type for the series keys.
+     */
+    static <S extends Comparable<S>> void includeStackedRangeBounds(
+            TableXYDataset<S> dataset, int start, int end, double base,
+            double[] bounds) {
+        double minimum = bounds[0];
+        double maximum = bounds[1];
+        for (int itemNo = start; itemNo < end; itemNo++) {
             double positive = base;
             double negative = base;
             int seriesCount = dataset.getSeriesCount();
@@ -2212,12 +2319,8 @@ public final class DatasetUtils {
                 minimum = negative;
             }
         }
-        if (minimum <= maximum) {
-            return new Range(minimum, maximum);
-        }
-        else {
-            return null;
-        }
+        bounds[0] = minimum;
+        bounds[1] = maximum;
     }
 
     /**
@@ -39,6 +39,8 @@ package org.jfree.data.general;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import org.jfree.chart.renderer.ColorLookupTable;
 import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.internal.Args;
 import org.jfree.data.xy.XYDataset;
@@ -96,6 +98,10 @@ public abstract class HeatMapUtils {
 
     /**
      * Creates an image that displays the values from the specified dataset.
+     * If a {@link ColorLookupTable} for the paint scale returns exactly the
+     * colors of the scale (see {@link ColorLookupTable#isExact()}), the
+     * pixels are written directly to the image data, otherwise each pixel is
+     * filled using the paint returned by the scale.
      *
      * @param dataset  the dataset ({@code null} not permitted).
      * @param paintScale  the paint scale for the z-values ({@code null}
@@ -112,6 +118,19 @@ public abstract class HeatMapUtils {
         int yCount = dataset.getYSampleCount();
         BufferedImage image = new BufferedImage(xCount, yCount,
                 BufferedImage.TYPE_INT_ARGB);
+        ColorLookupTable colors = ColorLookupTable.createFor(paintScale);
+        if (colors != null && colors.isExact()) {
+            int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer())
+                    .getData();
+            for (int yIndex = 0; yIndex < yCount; yIndex++) {
+                int offset = (yCount - yIndex - 1) * xCount;
+                for (int xIndex = 0; xIndex < xCount; xIndex++) {
+                    pixels[offset + xIndex] = colors.getARGB(
+                            dataset.getZValue(xIndex, yIndex));
+                }
+            }
+            return image;
+        }
         Graphics2D g2 = image.createGraphics();
         for (int xIndex = 0; xIndex < xCount; xIndex++) {
             for (int yIndex = 0; yIndex < yCount; yIndex++) {
@@ -121,6 +140,7 @@ public abstract class HeatMapUtils {
                 g2.fillRect(xIndex, yCount - yIndex - 1, 1, 1);
             }
         }
+        g2.dispose();
         return image;
     }
 
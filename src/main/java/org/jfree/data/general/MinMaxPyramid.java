@@ -0,0 +1,536 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * MinMaxPyramid.java
+ * ------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * A multi-resolution (level-of-detail) index over a sequence of values.
+ * Level {@code k} of the pyramid divides the sequence into buckets of
+ * {@code 2^k} consecutive items and records, for each bucket, the index of
+ * the minimum value, the index of the maximum value and the index of the
+ * first {@code Double.NaN} value (the first and last items of a bucket are
+ * implied by its position).  Any range of items is covered by at most
+ * {@code 2 log2(n)} of the coarsest buckets that fit inside it, so the
+ * minimum and maximum over a range are found in logarithmic time rather than
+ * by visiting every item.
+ * <p>
+ * Appending an item, removing the first item and updating an item are
+ * cheap, so the pyramid can be maintained incrementally alongside a series
+ * that grows at the end and discards its oldest items.  Series that support
+ * a pyramid (for example {@link org.jfree.data.xy.XYSeries} and
+ * {@link org.jfree.data.time.TimeSeries}) rebuild it on demand after other
+ * changes.
+ *
+ * @since 2.0.0
+ */
+public class MinMaxPyramid implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6190543310437582815L;
+
+    /**
+     * The values, stored by absolute position (item {@code i} is at position
+     * {@code base + i}).
+     */
+    private double[] values;
+
+    /** The absolute position of the first item. */
+    private int base;
+
+    /** The number of items. */
+    private int count;
+
+    /**
+     * For each level {@code k >= 1} (at array index {@code k - 1}), the
+     * absolute position of the minimum value in each complete bucket, or
+     * -1 if all the values in the bucket are {@code Double.NaN}.
+     */
+    private int[][] minIndex;
+
+    /** As for {@code minIndex}, but for the maximum value. */
+    private int[][] maxIndex;
+
+    /** As for {@code minIndex}, but for the first {@code Double.NaN}. */
+    private int[][] nanIndex;
+
+    /**
+     * Creates a new empty pyramid.
+     */
+    public MinMaxPyramid() {
+        this(16);
+    }
+
+    /**
+     * Creates a new empty pyramid with the specified initial capacity.
+     *
+     * @param initialCapacity  the initial capacity (must be positive).
+     */
+    public MinMaxPyramid(int initialCapacity) {
+        Args.requireInRange(initialCapacity, "initialCapacity", 1,
+                Integer.MAX_VALUE);
+        allocate(Math.max(16, initialCapacity));
+    }
+
+    /**
+     * Creates a new pyramid for the specified values.
+     *
+     * @param values  the values ({@code null} not permitted).
+     */
+    public MinMaxPyramid(double[] values) {
+        Args.nullNotPermitted(values, "values");
+        allocate(Math.max(16, values.length));
+        System.arraycopy(values, 0, this.values, 0, values.length);
+        this.count = values.length;
+        rebuild();
+    }
+
+    /**
+     * Returns the number of items in the pyramid.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the value of an item.
+     *
+     * @param index  the item index.
+     *
+     * @return The value.
+     */
+    public double getValue(int index) {
+        checkIndex(index);
+        return this.values[this.base + index];
+    }
+
+    /**
+     * Returns the number of levels that currently contain at least one
+     * complete bucket, excluding level 0 (the items themselves).
+     *
+     * @return The level count.
+     */
+    public int getLevelCount() {
+        int end = this.base + this.count;
+        int levels = 0;
+        while (levels < this.minIndex.length) {
+            int k = levels + 1;
+            int first = (this.base + (1 << k) - 1) >> k;
+            if ((first + 1) << k > end) {
+                break;
+            }
+            levels = k;
+        }
+        return levels;
+    }
+
+    /**
+     * Adds a value at the end of the sequence.
+     *
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    public void add(double value) {
+        if (this.base + this.count == this.values.length) {
+            ensureSpace();
+        }
+        this.values[this.base + this.count] = value;
+        this.count++;
+        int end = this.base + this.count;
+        for (int k = 1; k <= this.minIndex.length
+                && (end & ((1 << k) - 1)) == 0; k++) {
+            update(k, (end >> k) - 1);
+        }
+    }
+
+    /**
+     * Removes the first value in the sequence.
+     */
+    public void removeFirst() {
+        if (this.count == 0) {
+            throw new IllegalStateException("The pyramid is empty.");
+        }
+        this.base++;
+        this.count--;
+        if (this.count == 0) {
+            this.base = 0;
+        }
+    }
+
+    /**
+     * Sets the value of an item.
+     *
+     * @param index  the item index.
+     * @param value  the new value ({@code Double.NaN} permitted).
+     */
+    public void set(int index, double value) {
+        checkIndex(index);
+        int p = this.base + index;
+        this.values[p] = value;
+        int end = this.base + this.count;
+        for (int k = 1; k <= this.minIndex.length; k++) {
+            int bucket = p >> k;
+            if ((bucket + 1) << k > end) {
+                break;
+            }
+            update(k, bucket);
+        }
+    }
+
+    /**
+     * Removes all the values.
+     */
+    public void clear() {
+        this.base = 0;
+        this.count = 0;
+    }
+
+    /**
+     * Returns the index of the smallest value in a range of items, ignoring
+     * {@code Double.NaN} values.  If there is more than one smallest value,
+     * the index of one of them is returned.
+     *
+     * @param start  the index of the first item in the range.
+     * @param end  the index of the last item in the range.
+     *
+     * @return The item index, or -1 if all values in the range are
+     *     {@code Double.NaN}.
+     */
+    public int getMinIndex(int start, int end) {
+        return query(start, end, this.minIndex, true);
+    }
+
+    /**
+     * Returns the index of the largest value in a range of items, ignoring
+     * {@code Double.NaN} values.  If there is more than one largest value,
+     * the index of one of them is returned.
+     *
+     * @param start  the index of the first item in the range.
+     * @param end  the index of the last item in the range.
+     *
+     * @return The item index, or -1 if all values in the range are
+     *     {@code Double.NaN}.
+     */
+    public int getMaxIndex(int start, int end) {
+        return query(start, end, this.maxIndex, false);
+    }
+
+    /**
+     * Returns the index of the first {@code Double.NaN} value in a range of
+     * items.
+     *
+     * @param start  the index of the first item in the range.
+     * @param end  the index of the last item in the range.
+     *
+     * @return The item index, or -1 if there is no {@code Double.NaN} value
+     *     in the range.
+     */
+    public int getNaNIndex(int start, int end) {
+        checkRange(start, end);
+        int p = this.base + start;
+        int stop = this.base + end + 1;
+        while (p < stop) {
+            int k = largestBucket(p, stop);
+            if (k == 0) {
+                if (Double.isNaN(this.values[p])) {
+                    return p - this.base;
+                }
+            }
+            else {
+                int candidate = this.nanIndex[k - 1][p >> k];
+                if (candidate >= 0) {
+                    return candidate - this.base;
+                }
+            }
+            p += 1 << k;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the minimum or maximum in a range using the coarsest buckets
+     * that fit inside the range.
+     *
+     * @param start  the index of the first item in the range.
+     * @param end  the index of the last item in the range.
+     * @param levels  the bucket indices to use.
+     * @param min  {@code true} to find the minimum, {@code false} for the
+     *     maximum.
+     *
+     * @return The item index, or -1.
+     */
+    private int query(int start, int end, int[][] levels, boolean min) {
+        checkRange(start, end);
+        int p = this.base + start;
+        int stop = this.base + end + 1;
+        int result = -1;
+        while (p < stop) {
+            int k = largestBucket(p, stop);
+            int candidate = k == 0 ? p : levels[k - 1][p >> k];
+            result = select(result, candidate, min);
+            p += 1 << k;
+        }
+        return result < 0 ? -1 : result - this.base;
+    }
+
+    /**
+     * Returns the highest level with a bucket that starts at the specified
+     * position and ends before {@code stop}.
+     *
+     * @param p  the absolute position.
+     * @param stop  the absolute position after the end of the range.
+     *
+     * @return The level (0 if no bucket fits).
+     */
+    private int largestBucket(int p, int stop) {
+        int k = 0;
+        while (k < this.minIndex.length
+                && (p & ((2 << k) - 1)) == 0 && p + (2 << k) <= stop) {
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Selects the position with the smaller (or larger) value, ignoring
+     * positions that are -1 or that hold {@code Double.NaN}.
+     *
+     * @param a  the first position.
+     * @param b  the second position.
+     * @param min  select the smaller value?
+     *
+     * @return The selected position, or -1.
+     */
+    private int select(int a, int b, boolean min) {
+        double va = a < 0 ? Double.NaN : this.values[a];
+        double vb = b < 0 ? Double.NaN : this.values[b];
+        if (Double.isNaN(vb)) {
+            return Double.isNaN(va) ? -1 : a;
+        }
+        if (Double.isNaN(va)) {
+            return b;
+        }
+        if (min) {
+            return vb < va ? b : a;
+        }
+        return vb > va ? b : a;
+    }
+
+    /**
+     * Recalculates one bucket from the two buckets below it.
+     *
+     * @param k  the level (1 or higher).
+     * @param bucket  the bucket index.
+     */
+    private void update(int k, int bucket) {
+        int left;
+        int right;
+        int nan;
+        if (k == 1) {
+            left = bucket << 1;
+            right = left + 1;
+            this.minIndex[0][bucket] = select(left, right, true);
+            this.maxIndex[0][bucket] = select(left, right, false);
+            nan = Double.isNaN(this.values[left]) ? left
+                    : Double.isNaN(this.values[right]) ? right : -1;
+        }
+        else {
+            left = bucket << 1;
+            right = left + 1;
+            int[] mins = this.minIndex[k - 2];
+            int[] maxs = this.maxIndex[k - 2];
+            int[] nans = this.nanIndex[k - 2];
+            this.minIndex[k - 1][bucket] = select(mins[left], mins[right],
+                    true);
+            this.maxIndex[k - 1][bucket] = select(maxs[left], maxs[right],
+                    false);
+            nan = nans[left] >= 0 ? nans[left] : nans[right];
+        }
+        this.nanIndex[k - 1][bucket] = nan;
+    }
+
+    /**
+     * Recalculates every complete bucket.
+     */
+    private void rebuild() {
+        int end = this.base + this.count;
+        for (int k = 1; k <= this.minIndex.length; k++) {
+            for (int b = this.base >> k; (b + 1) << k <= end; b++) {
+                update(k, b);
+            }
+        }
+    }
+
+    /**
+     * Allocates storage for the specified capacity.
+     *
+     * @param capacity  the capacity.
+     */
+    private void allocate(int capacity) {
+        this.values = new double[capacity];
+        int levels = 31 - Integer.numberOfLeadingZeros(capacity);
+        this.minIndex = new int[levels][];
+        this.maxIndex = new int[levels][];
+        this.nanIndex = new int[levels][];
+        for (int k = 1; k <= levels; k++) {
+            this.minIndex[k - 1] = new int[capacity >> k];
+            this.maxIndex[k - 1] = new int[capacity >> k];
+            this.nanIndex[k - 1] = new int[capacity >> k];
+        }
+    }
+
+    /**
+     * Makes room for at least one more value at the end of the storage,
+     * either by moving the values back to the start (when at least half of
+     * the capacity is unused) or by growing the storage.  In both cases
+     * the buckets are recalculated.
+     */
+    private void ensureSpace() {
+        double[] old = this.values;
+        int capacity = old.length;
+        if (this.base > 0 && this.count <= capacity / 2) {
+            System.arraycopy(old, this.base, old, 0, this.count);
+        }
+        else {
+            allocate(capacity * 2);
+            System.arraycopy(old, this.base, this.values, 0, this.count);
+        }
+        this.base = 0;
+        rebuild();
+    }
+
+    /**
+     * Checks that an item index is valid.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.count);
+        }
+    }
+
+    /**
+     * Checks that a range of item indices is valid.
+     *
+     * @param start  the index of the first item.
+     * @param end  the index of the last item.
+     */
+    private void checkRange(int start, int end) {
+        Args.requireInRange(start, "start", 0, this.count - 1);
+        Args.requireInRange(end, "end", start, this.count - 1);
+    }
+
+    /**
+     * Returns an independent copy of the pyramid.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but
+     *     subclasses may differ.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        MinMaxPyramid clone = (MinMaxPyramid) super.clone();
+        clone.values = this.values.clone();
+        clone.minIndex = deepCopy(this.minIndex);
+        clone.maxIndex = deepCopy(this.maxIndex);
+        clone.nanIndex = deepCopy(this.nanIndex);
+        return clone;
+    }
+
+    /**
+     * Returns a deep copy of a two-dimensional array.
+     *
+     * @param array  the array.
+     *
+     * @return The copy.
+     */
+    private static int[][] deepCopy(int[][] array) {
+        int[][] result = new int[array.length][];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i].clone();
+        }
+        return result;
+    }
+
+    /**
+     * Tests this pyramid for equality with an arbitrary object.  Two
+     * pyramids are equal if they contain the same sequence of values.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MinMaxPyramid)) {
+            return false;
+        }
+        MinMaxPyramid that = (MinMaxPyramid) obj;
+        if (this.count != that.count) {
+            return false;
+        }
+        for (int i = 0; i < this.count; i++) {
+            if (Double.doubleToLongBits(this.values[this.base + i])
+                    != Double.doubleToLongBits(that.values[that.base + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(Arrays.copyOfRange(this.values, this.base,
+                this.base + this.count));
+    }
+
+}
@@ -0,0 +1,543 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ParallelDatasetUtils.java
+ * -------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.Range;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.xy.TableXYDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Parallel versions of the {@link DatasetUtils} methods that iterate over
+ * all the items in a dataset to find its bounds.  The items are divided
+ * into chunks (ranges of items within each series) that are scanned in
+ * parallel in the common fork/join pool, and the results are combined.
+ * Each method gives the same result as the corresponding method in
+ * {@link DatasetUtils}, which is used directly when the number of items is
+ * below a threshold (since there is a cost to splitting up the work).
+ * <br><br>
+ * The dataset is read from several threads at once, so it must not be
+ * modified while these methods run, and its methods for reading values must
+ * be safe to call concurrently (this is true of the datasets in JFreeChart,
+ * which do not change when they are read).
+ *
+ * @since 2.0.0
+ */
+public final class ParallelDatasetUtils {
+
+    /**
+     * The default number of items below which the bounds are found without
+     * using multiple threads.
+     */
+    public static final int DEFAULT_THRESHOLD = 100000;
+
+    /** The smallest number of items in a chunk. */
+    private static final int MIN_CHUNK_SIZE = 8192;
+
+    /**
+     * Private constructor for non-instanceability.
+     */
+    private ParallelDatasetUtils() {
+        // no instances
+    }
+
+    /**
+     * Finds the bounds of the x-values in the specified dataset, including
+     * only those series that are listed in {@code visibleSeriesKeys}, using
+     * multiple threads if the series contain at least
+     * {@link #DEFAULT_THRESHOLD} items in total.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param visibleSeriesKeys  the visible series keys ({@code null} not
+     *     permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *     x-interval for the dataset is included (this only applies if the
+     *     dataset is an instance of IntervalXYDataset).
+     *
+     * @param <S>  the type for the series keys.
+     *
+     * @return The x-range (possibly {@code null}).
+     *
+     * @see DatasetUtils#iterateToFindDomainBounds(XYDataset, List, boolean)
+     */
+    public static <S extends Comparable<S>> Range iterateToFindDomainBounds(
+            XYDataset<S> dataset, List<S> visibleSeriesKeys,
+            boolean includeInterval) {
+        return iterateToFindDomainBounds(dataset, visibleSeriesKeys,
+                includeInterval, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Finds the bounds of the x-values in the specified dataset, including
+     * only those series that are listed in {@code visibleSeriesKeys}, using
+     * multiple threads if the series contain at least {@code threshold}
+     * items in total.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param visibleSeriesKeys  the visible series keys ({@code null} not
+     *     permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *     x-interval for the dataset is included (this only applies if the
+     *     dataset is an instance of IntervalXYDataset).
+     * @param threshold  the item count threshold (zero or greater).
+     *
+     * @param <S>  the type for the series keys.
+     *
+     * @return The x-range (possibly {@code null}).
+     */
+    public static <S extends Comparable<S>> Range iterateToFindDomainBounds(
+            XYDataset<S> dataset, List<S> visibleSeriesKeys,
+            boolean includeInterval, int threshold) {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.requireNonNegative(threshold, "threshold");
+        Chunks chunks = Chunks.forSeries(dataset, visibleSeriesKeys,
+                threshold);
+        if (chunks == null) {
+            return DatasetUtils.iterateToFindDomainBounds(dataset,
+                    visibleSeriesKeys, includeInterval);
+        }
+        return DatasetUtils.toRange(scan(chunks.count, emptyBounds(),
+                (c, bounds) -> DatasetUtils.includeDomainBounds(dataset,
+                chunks.series[c], chunks.start[c], chunks.end[c],
+                includeInterval, bounds)));
+    }
+
+    /**
+     * Finds the bounds of the y-values in the specified dataset, including
+     * only those series that are listed in {@code visibleSeriesKeys} and
+     * those items with x-values in the specified range, using multiple
+     * threads if the series contain at least {@link #DEFAULT_THRESHOLD}
+     * items in total.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param visibleSeriesKeys  the visible series keys ({@code null} not
+     *     permitted).
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *     y-interval for the dataset is included (this only applies if the
+     *     dataset is an instance of IntervalXYDataset).
+     *
+     * @param <S>  the type for the series keys.
+     *
+     * @return The y-range (possibly {@code null}).
+     *
+     * @see DatasetUtils#iterateToFindRangeBounds(XYDataset, List, Range,
+     *     boolean)
+     */
+    public static <S extends Comparable<S>> Range iterateToFindRangeBounds(
+            XYDataset<S> dataset, List<S> visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        return iterateToFindRangeBounds(dataset, visibleSeriesKeys, xRange,
+                includeInterval, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Finds the bounds of the y-values in the specified dataset, including
+     * only those series that are listed in {@code visibleSeriesKeys} and
+     * those items with x-values in the specified range, using multiple
+     * threads if the series contain at least {@code threshold} items in
+     * total.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param visibleSeriesKeys  the visible series keys ({@code null} not
+     *     permitted).
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *     y-interval for the dataset is included (this only applies if the
+     *     dataset is an instance of IntervalXYDataset).
+     * @param threshold  the item count threshold (zero or greater).
+     *
+     * @param <S>  the type for the series keys.
+     *
+     * @return The y-range (possibly {@code null}).
+     */
+    public static <S extends Comparable<S>> Range iterateToFindRangeBounds(
+            XYDataset<S> dataset, List<S> visibleSeriesKeys, Range xRange,
+            boolean includeInterval, int threshold) {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.nullNotPermitted(xRange, "xRange");
+        Args.requireNonNegative(threshold, "threshold");
+        Chunks chunks = Chunks.forSeries(dataset, visibleSeriesKeys,
+                threshold);
+        if (chunks == null) {
+            return DatasetUtils.iterateToFindRangeBounds(dataset,
+                    visibleSeriesKeys, xRange, includeInterval);
+        }
+        return DatasetUtils.toRange(scan(chunks.count, emptyBounds(),
+                (c, bounds) -> DatasetUtils.includeRangeBounds(dataset,
+                chunks.series[c], chunks.start[c], chunks.end[c], xRange,
+                includeInterval, bounds)));
+    }
+
+    /**
+     * Finds the bounds of the values in the specified dataset, including
+     * only those rows that are listed in {@code visibleSeriesKeys}, using
+     * multiple threads if the rows contain at least
+     * {@link #DEFAULT_THRESHOLD} items in total.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param visibleSeriesKeys  the visible series keys ({@code null} not
+     *     permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *     y-interval is taken into account.
+     *
+     * @param <R>  the type for the row keys.
+     * @param <C>  the type for the column keys.
+     *
+     * @return The range (possibly {@code null}).
+     *
+     * @see DatasetUtils#iterateToFindRangeBounds(CategoryDataset, List,
+     *     boolean)
+     */
+    public static <R extends Comparable<R>, C extends Comparable<C>>
+            Range iterateToFindRangeBounds(CategoryDataset<R, C> dataset,
+            List<R> visibleSeriesKeys, boolean includeInterval) {
+        return iterateToFindRangeBounds(dataset, visibleSeriesKeys,
+                includeInterval, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Finds the bounds of the values in the specified dataset, including
+     * only those rows that are listed in {@code visibleSeriesKeys}, using
+     * multiple threads if the rows contain at least {@code threshold} items
+     * in total.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param visibleSeriesKeys  the visible series keys ({@code null} not
+     *     permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *     y-interval is taken into account.
+     * @param threshold  the item count threshold (zero or greater).
+     *
+     * @param <R>  the type for the row keys.
+     * @param <C>  the type for the column keys.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    public static <R extends Comparable<R>, C extends Comparable<C>>
+            Range iterateToFindRangeBounds(CategoryDataset<R, C> dataset,
+            List<R> visibleSeriesKeys, boolean includeInterval,
+            int threshold) {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.requireNonNegative(threshold, "threshold");
+        int[] rows = new int[visibleSeriesKeys.size()];
+        int[] itemCounts = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = dataset.getRowIndex(visibleSeriesKeys.get(i));
+            itemCounts[i] = dataset.getColumnCount();
+        }
+        Chunks chunks = Chunks.split(rows, itemCounts, 1, threshold);
+        if (chunks == null) {
+            return DatasetUtils.iterateToFindRangeBounds(dataset,
+                    visibleSeriesKeys, includeInterval);
+        }
+        return DatasetUtils.toRange(scan(chunks.count, emptyBounds(),
+                (c, bounds) -> DatasetUtils.includeRangeBounds(dataset,
+                chunks.series[c], chunks.start[c], chunks.end[c],
+                includeInterval, bounds)));
+    }
+
+    /**
+     * Returns the minimum and maximum values for the dataset's range
+     * (y-values), assuming that the series in one category are stacked,
+     * using multiple threads if the dataset contains at least
+     * {@link #DEFAULT_THRESHOLD} items.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param base  the base value for the bars.
+     *
+     * @param <R>  the type for the row keys.
+     * @param <C>  the type for the column keys.
+     *
+     * @return The range ({@code null} if the dataset contains no values).
+     *
+     * @see DatasetUtils#findStackedRangeBounds(CategoryDataset, double)
+     */
+    public static <R extends Comparable<R>, C extends Comparable<C>> Range
+            findStackedRangeBounds(CategoryDataset<R, C> dataset,
+            double base) {
+        return findStackedRangeBounds(dataset, base, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Returns the minimum and maximum values for the dataset's range
+     * (y-values), assuming that the series in one category are stacked,
+     * using multiple threads if the dataset contains at least
+     * {@code threshold} items.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param base  the base value for the bars.
+     * @param threshold  the item count threshold (zero or greater).
+     *
+     * @param <R>  the type for the row keys.
+     * @param <C>  the type for the column keys.
+     *
+     * @return The range ({@code null} if the dataset contains no values).
+     */
+    public static <R extends Comparable<R>, C extends Comparable<C>> Range
+            findStackedRangeBounds(CategoryDataset<R, C> dataset,
+            double base, int threshold) {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.requireNonNegative(threshold, "threshold");
+        // each chunk is a range of columns, with all the rows
+        Chunks chunks = Chunks.split(new int[] {0},
+                new int[] {dataset.getColumnCount()},
+                Math.max(1, dataset.getRowCount()), threshold);
+        if (chunks == null) {
+            return DatasetUtils.findStackedRangeBounds(dataset, base);
+        }
+        double[] bounds = scan(chunks.count, emptyBounds(),
+                (c, b) -> DatasetUtils.includeStackedRangeBounds(dataset,
+                chunks.start[c], chunks.end[c], base, b));
+        if (bounds[0] <= bounds[1]) {
+            return new Range(bounds[0], bounds[1]);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the minimum and maximum values for the dataset's range,
+     * assuming that the series are stacked, using the specified base value
+     * and using multiple threads if the dataset contains at least
+     * {@link #DEFAULT_THRESHOLD} items.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param base  the base value.
+     *
+     * @param <S>  the type for the series keys.
+     *
+     * @return The range ({@code null} if the dataset contains no values).
+     *
+     * @see DatasetUtils#findStackedRangeBounds(TableXYDataset, double)
+     */
+    public static <S extends Comparable<S>> Range findStackedRangeBounds(
+            TableXYDataset<S> dataset, double base) {
+        return findStackedRangeBounds(dataset, base, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Returns the minimum and maximum values for the dataset's range,
+     * assuming that the series are stacked, using the specified base value
+     * and using multiple threads if the dataset contains at least
+     * {@code threshold} items.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param base  the base value.
+     * @param threshold  the item count threshold (zero or greater).
+     *
+     * @param <S>  the type for the series keys.
+     *
+     * @return The range ({@code null} if the dataset contains no values).
+     */
+    public static <S extends Comparable<S>> Range findStackedRangeBounds(
+            TableXYDataset<S> dataset, double base, int threshold) {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.requireNonNegative(threshold, "threshold");
+        // each chunk is a range of items, with all the series
+        Chunks chunks = Chunks.split(new int[] {0},
+                new int[] {dataset.getItemCount()},
+                Math.max(1, dataset.getSeriesCount()), threshold);
+        if (chunks == null) {
+            return DatasetUtils.findStackedRangeBounds(dataset, base);
+        }
+        double[] bounds = scan(chunks.count, new double[] {base, base},
+                (c, b) -> DatasetUtils.includeStackedRangeBounds(dataset,
+                chunks.start[c], chunks.end[c], base, b));
+        if (bounds[0] <= bounds[1]) {
+            return new Range(bounds[0], bounds[1]);
+        }
+        return null;
+    }
+
+    /**
+     * Returns new bounds that contain no values.
+     *
+     * @return The bounds.
+     */
+    private static double[] emptyBounds() {
+        return new double[] {Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
+    }
+
+    /**
+     * Scans the chunks in parallel and combines the bounds.
+     *
+     * @param chunkCount  the number of chunks.
+     * @param initial  the initial bounds for each chunk (these must not
+     *     change the result when combined with the bounds for any chunk).
+     * @param scanner  the scanner.
+     *
+     * @return The combined bounds.
+     */
+    private static double[] scan(int chunkCount, double[] initial,
+            ChunkScanner scanner) {
+        return IntStream.range(0, chunkCount).parallel().mapToObj(c -> {
+            double[] bounds = initial.clone();
+            scanner.scan(c, bounds);
+            return bounds;
+        }).reduce(initial, (a, b) -> new double[] {Math.min(a[0], b[0]),
+                Math.max(a[1], b[1])});
+    }
+
+    /**
+     * Updates the bounds with the items in one chunk.
+     */
+    @FunctionalInterface
+    private interface ChunkScanner {
+
+        /**
+         * Updates the bounds with the items in a chunk.
+         *
+         * @param chunk  the chunk index.
+         * @param bounds  the minimum and maximum (updated by this method).
+         */
+        void scan(int chunk, double[] bounds);
+
+    }
+
+    /**
+     * The division of the items into chunks, each being a range of items
+     * within one series.
+     */
+    private static final class Chunks {
+
+        /** The number of chunks. */
+        final int count;
+
+        /** The series index for each chunk. */
+        final int[] series;
+
+        /** The index of the first item in each chunk. */
+        final int[] start;
+
+        /** The index after the last item in each chunk. */
+        final int[] end;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param count  the number of chunks.
+         * @param series  the series index for each chunk.
+         * @param start  the index of the first item in each chunk.
+         * @param end  the index after the last item in each chunk.
+         */
+        private Chunks(int count, int[] series, int[] start, int[] end) {
+            this.count = count;
+            this.series = series;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Divides the items in the visible series of an XY dataset into
+         * chunks.
+         *
+         * @param dataset  the dataset.
+         * @param visibleSeriesKeys  the visible series keys.
+         * @param threshold  the item count threshold.
+         *
+         * @param <S>  the type for the series keys.
+         *
+         * @return The chunks ({@code null} if there are fewer items than
+         *     the threshold).
+         */
+        static <S extends Comparable<S>> Chunks forSeries(
+                XYDataset<S> dataset, List<S> visibleSeriesKeys,
+                int threshold) {
+            int[] series = new int[visibleSeriesKeys.size()];
+            int[] itemCounts = new int[series.length];
+            for (int i = 0; i < series.length; i++) {
+                series[i] = dataset.indexOf(visibleSeriesKeys.get(i));
+                itemCounts[i] = dataset.getItemCount(series[i]);
+            }
+            return split(series, itemCounts, 1, threshold);
+        }
+
+        /**
+         * Divides the items in some series into chunks, so that there are
+         * a few chunks for each thread in the common fork/join pool.
+         *
+         * @param series  the series indices.
+         * @param itemCounts  the item count for each series.
+         * @param weight  the number of values read for each item.
+         * @param threshold  the threshold for the number of values.
+         *
+         * @return The chunks ({@code null} if there are fewer values than
+         *     the threshold).
+         */
+        static Chunks split(int[] series, int[] itemCounts, int weight,
+                int threshold) {
+            long total = 0L;
+            for (int itemCount : itemCounts) {
+                total += (long) itemCount * weight;
+            }
+            if (total < threshold || total == 0L) {
+                return null;
+            }
+            long target = total
+                    / (4L * ForkJoinPool.getCommonPoolParallelism());
+            long chunkSize = Math.max(1L, Math.max(MIN_CHUNK_SIZE, target)
+                    / weight);
+            int count = 0;
+            for (int itemCount : itemCounts) {
+                count += (int) ((itemCount + chunkSize - 1) / chunkSize);
+            }
+            int[] chunkSeries = new int[count];
+            int[] start = new int[count];
+            int[] end = new int[count];
+            int c = 0;
+            for (int i = 0; i < series.length; i++) {
+                for (long s = 0; s < itemCounts[i]; s += chunkSize) {
+                    chunkSeries[c] = series[i];
+                    start[c] = (int) s;
+                    end[c] = (int) Math.min(s + chunkSize, itemCounts[i]);
+                    c++;
+                }
+            }
+            return new Chunks(count, chunkSeries, start, end);
+        }
+    }
+
+}
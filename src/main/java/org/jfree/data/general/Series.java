@@ -66,6 +66,18 @@ public abstract class Series<K extends Comparable<K>>
     /** A flag that controls whether changes are notified. */
     private boolean notify;
 
+    /**
+     * The number of calls to {@link #beginUpdate()} that have not yet been
+     * matched by a call to {@link #endUpdate()}.
+     */
+    private transient int updateDepth;
+
+    /**
+     * A flag that records that a change event was suppressed during an
+     * update.
+     */
+    private transient boolean changePending;
+
     /**
      * Creates a new series with the specified key and description.
      *
@@ -114,6 +126,59 @@ public abstract class Series<K extends Comparable<K>>
         }
     }
 
+    /**
+     * Starts a batch of changes to the series.  Until the matching call to
+     * {@link #endUpdate()}, change events are not sent to registered
+     * listeners; instead a single {@link SeriesChangeEvent} is sent when the
+     * batch ends (and only if there was a change).  Calls can be nested, in
+     * which case the event is sent when the outermost batch ends.  Unlike
+     * {@link #setNotify(boolean)}, no event is sent for a batch that does not
+     * change the series.  Callers should use a {@code try/finally} block to
+     * ensure that {@code endUpdate()} is always called.
+     *
+     * @see #endUpdate()
+     *
+     * @since 2.0.0
+     */
+    public void beginUpdate() {
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends a batch of changes that was started with {@link #beginUpdate()}.
+     * If this ends the outermost batch and the series was changed during the
+     * batch, a single {@link SeriesChangeEvent} is sent to all registered
+     * listeners.
+     *
+     * @throws IllegalStateException if there is no batch in progress.
+     *
+     * @see #beginUpdate()
+     *
+     * @since 2.0.0
+     */
+    public void endUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException("No update in progress.");
+        }
+        this.updateDepth--;
+        if (this.updateDepth == 0 && this.changePending) {
+            this.changePending = false;
+            notifyListeners(new SeriesChangeEvent(this));
+        }
+    }
+
+    /**
+     * Returns {@code true} if a batch of changes started with
+     * {@link #beginUpdate()} is in progress.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public boolean isUpdating() {
+        return this.updateDepth > 0;
+    }
+
     /**
      * Returns {@code true} if the series contains no data items, and
      * {@code false} otherwise.
@@ -155,6 +220,8 @@ public abstract class Series<K extends Comparable<K>>
         @SuppressWarnings("unchecked")
         Series<K> clone = (Series) super.clone();
         clone.listeners = new EventListenerList();
+        clone.updateDepth = 0;
+        clone.changePending = false;
         return clone;
     }
 
@@ -225,12 +292,18 @@ public abstract class Series<K extends Comparable<K>>
     }
 
     /**
-     * Sends a change event to all registered listeners.
+     * Sends a change event to all registered listeners.  If a batch of
+     * changes is in progress (see {@link #beginUpdate()}), the event is
+     * not sent but a single event will be sent when the batch ends.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
      */
     protected void notifyListeners(SeriesChangeEvent event) {
+        if (this.updateDepth > 0) {
+            this.changePending = true;
+            return;
+        }
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
             if (listenerList[i] == SeriesChangeListener.class) {
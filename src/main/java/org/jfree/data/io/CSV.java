@@ -40,27 +40,61 @@
 
 package org.jfree.data.io;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.jfree.chart.internal.Args;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.Series;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.PrimitiveXYSeries;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 
 /**
- * A utility class for reading {@link CategoryDataset} data from a CSV file.
- * This initial version is very basic, and won't handle errors in the data
- * file very gracefully.
+ * A utility class for reading {@link CategoryDataset},
+ * {@link XYSeriesCollection} and {@link TimeSeriesCollection} data from a
+ * CSV file.  The first record in the file contains the keys (the first
+ * field is ignored) and each of the remaining records contains a key (a
+ * row key, an x-value or a time) followed by one value for each of the
+ * keys.  Empty fields are read as {@code null} values.
+ * <p>
+ * The data is read in a single pass with a buffered tokenizer that parses
+ * the numeric fields without creating intermediate strings, so large files
+ * can be read efficiently (see also {@link MappedFileReader}).  The records
+ * are added to the dataset in chunks (see {@link #setChunkSize(int)}), with
+ * a single change event for each chunk, so a chart that displays the
+ * dataset can be updated while the data is still being read.  Note that in
+ * that case the dataset is modified in the thread that reads the data.
  */
 public class CSV {
 
+    /** The default number of records in each chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 10000;
+
     /** The field delimiter. */
     private char fieldDelimiter;
 
     /** The text delimiter. */
     private char textDelimiter;
 
+    /** The number of records that are added to the dataset in one batch. */
+    private int chunkSize;
+
+    /** A listener that receives progress notifications ({@code null}). */
+    private CSVProgressListener progressListener;
+
     /**
      * Creates a new CSV reader where the field delimiter is a comma, and the
      * text delimiter is a double-quote.
@@ -80,6 +114,54 @@ public class CSV {
     public CSV(char fieldDelimiter, char textDelimiter) {
         this.fieldDelimiter = fieldDelimiter;
         this.textDelimiter = textDelimiter;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+    }
+
+    /**
+     * Returns the number of records that are added to the dataset in one
+     * batch (with a single change event, followed by a progress
+     * notification).  The default is {@link #DEFAULT_CHUNK_SIZE}.
+     *
+     * @return The chunk size.
+     *
+     * @since 2.0.0
+     */
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * Sets the number of records that are added to the dataset in one batch.
+     *
+     * @param chunkSize  the chunk size (must be positive).
+     *
+     * @since 2.0.0
+     */
+    public void setChunkSize(int chunkSize) {
+        Args.requireInRange(chunkSize, "chunkSize", 1, Integer.MAX_VALUE);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns the listener that receives progress notifications.
+     *
+     * @return The listener (possibly {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public CSVProgressListener getProgressListener() {
+        return this.progressListener;
+    }
+
+    /**
+     * Sets the listener that receives progress notifications.
+     *
+     * @param listener  the listener ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    public void setProgressListener(CSVProgressListener listener) {
+        this.progressListener = listener;
     }
 
     /**
@@ -91,111 +173,318 @@ public class CSV {
      *
      * @throws IOException if there is an I/O problem.
      */
-    public CategoryDataset readCategoryDataset(Reader in) throws IOException {
+    public CategoryDataset<String, String> readCategoryDataset(Reader in)
+            throws IOException {
+        return readCategoryDataset(in, new DefaultCategoryDataset<>());
+    }
 
-        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-        BufferedReader reader = new BufferedReader(in);
-        List columnKeys = null;
-        int lineIndex = 0;
-        String line = reader.readLine();
-        while (line != null) {
-            if (lineIndex == 0) {  // first line contains column keys
-                columnKeys = extractColumnKeys(line);
-            }
-            else {  // remaining lines contain a row key and data values
-                extractRowKeyAndData(line, dataset, columnKeys);
+    /**
+     * Reads category data from a CSV file or input source and adds it to
+     * an existing dataset.  The first record contains the column keys and
+     * the first field in each of the remaining records is the row key.
+     *
+     * @param in  the input source ({@code null} not permitted).
+     * @param dataset  the dataset ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @since 2.0.0
+     */
+    public DefaultCategoryDataset<String, String> readCategoryDataset(
+            Reader in, DefaultCategoryDataset<String, String> dataset)
+            throws IOException {
+        Args.nullNotPermitted(in, "in");
+        Args.nullNotPermitted(dataset, "dataset");
+        CSVTokenizer tokenizer = new CSVTokenizer(in, this.fieldDelimiter,
+                this.textDelimiter);
+        if (!tokenizer.nextRecord()) {
+            return dataset;
+        }
+        List<String> columnKeys = readKeys(tokenizer);
+        long count = 0;
+        dataset.beginUpdate();
+        try {
+            while (tokenizer.nextRecord()) {
+                String rowKey = tokenizer.getString(0);
+                for (int c = 0; c < columnKeys.size(); c++) {
+                    dataset.addValue(getNumber(tokenizer, c + 1), rowKey,
+                            columnKeys.get(c));
+                }
+                count++;
+                if (count % this.chunkSize == 0) {
+                    dataset.endUpdate();
+                    dataset.beginUpdate();
+                    fireProgress(count);
+                }
             }
-            line = reader.readLine();
-            lineIndex++;
+        } finally {
+            dataset.endUpdate();
         }
+        fireProgress(count);
         return dataset;
+    }
 
+    /**
+     * Reads an {@link XYSeriesCollection} from a CSV file or input source.
+     * The first field in each data record is the x-value, and the
+     * remaining fields are the y-values for the series.  The series are
+     * created as {@link PrimitiveXYSeries} instances.
+     *
+     * @param in  the input source ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @since 2.0.0
+     */
+    public XYSeriesCollection<String> readXYSeriesCollection(Reader in)
+            throws IOException {
+        return readXYSeriesCollection(in, new XYSeriesCollection<>());
     }
 
     /**
-     * Extracts the column keys from a string.
+     * Reads XY data from a CSV file or input source and adds it to an
+     * existing dataset.  The first field in each data record is the x-value,
+     * and the remaining fields are the y-values for the series with the keys
+     * in the first record.  Existing series with these keys are appended
+     * to, and any other series are created (as {@link PrimitiveXYSeries}
+     * instances) and added to the dataset.
+     *
+     * @param in  the input source ({@code null} not permitted).
+     * @param dataset  the dataset ({@code null} not permitted).
      *
-     * @param line  a line from the input file.
+     * @return The dataset.
      *
-     * @return A list of column keys.
+     * @throws IOException if there is an I/O problem.
+     *
+     * @since 2.0.0
      */
-    private List extractColumnKeys(String line) {
-        List keys = new java.util.ArrayList();
-        int fieldIndex = 0;
-        int start = 0;
-        for (int i = 0; i < line.length(); i++) {
-            if (line.charAt(i) == this.fieldDelimiter) {
-                if (fieldIndex > 0) {  // first field is ignored, since
-                                       // column 0 is for row keys
-                    String key = line.substring(start, i);
-                    keys.add(removeStringDelimiters(key));
+    public XYSeriesCollection<String> readXYSeriesCollection(Reader in,
+            XYSeriesCollection<String> dataset) throws IOException {
+        Args.nullNotPermitted(in, "in");
+        Args.nullNotPermitted(dataset, "dataset");
+        CSVTokenizer tokenizer = new CSVTokenizer(in, this.fieldDelimiter,
+                this.textDelimiter);
+        if (!tokenizer.nextRecord()) {
+            return dataset;
+        }
+        List<XYSeries<String>> series = new ArrayList<>();
+        for (String key : readKeys(tokenizer)) {
+            int index = dataset.getSeriesIndex(key);
+            if (index >= 0) {
+                series.add(dataset.getSeries(index));
+            }
+            else {
+                XYSeries<String> s = new PrimitiveXYSeries<>(key);
+                dataset.addSeries(s);
+                series.add(s);
+            }
+        }
+        long count = 0;
+        beginUpdate(series);
+        try {
+            while (tokenizer.nextRecord()) {
+                double x = tokenizer.getDouble(0);
+                for (int i = 0; i < series.size(); i++) {
+                    XYSeries<String> s = series.get(i);
+                    if (tokenizer.isEmpty(i + 1)) {
+                        s.add(x, null);
+                    }
+                    else {
+                        s.add(x, tokenizer.getDouble(i + 1));
+                    }
+                }
+                count++;
+                if (count % this.chunkSize == 0) {
+                    endUpdate(series);
+                    beginUpdate(series);
+                    fireProgress(count);
                 }
-                start = i + 1;
-                fieldIndex++;
             }
+        } finally {
+            endUpdate(series);
         }
-        String key = line.substring(start, line.length());
-        keys.add(removeStringDelimiters(key));
-        return keys;
+        fireProgress(count);
+        return dataset;
+    }
+
+    /**
+     * Reads a {@link TimeSeriesCollection} from a CSV file or input source.
+     * The first field in each data record is the time, see
+     * {@link #readTimeSeriesCollection(Reader, TimeSeriesCollection)}.
+     *
+     * @param in  the input source ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @since 2.0.0
+     */
+    public TimeSeriesCollection<String> readTimeSeriesCollection(Reader in)
+            throws IOException {
+        return readTimeSeriesCollection(in, new TimeSeriesCollection<>());
     }
 
     /**
-     * Extracts the row key and data for a single line from the input source.
+     * Reads time series data from a CSV file or input source and adds it to
+     * an existing dataset.  The first field in each data record is the time,
+     * either as a number of milliseconds since 1-Jan-1970 or as an ISO-8601
+     * date or date-time (for example {@code 2022-05-15T21:35:57Z}, or
+     * {@code 2022-05-15 21:35:57} in the default time zone).  Each time is
+     * added as a {@link FixedMillisecond} period.  The remaining fields are
+     * the values for the series with the keys in the first record.  Existing
+     * series with these keys are appended to, and any other series are
+     * created and added to the dataset.
+     *
+     * @param in  the input source ({@code null} not permitted).
+     * @param dataset  the dataset ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem.
      *
-     * @param line  the line from the input source.
-     * @param dataset  the dataset to be populated.
-     * @param columnKeys  the column keys.
+     * @since 2.0.0
      */
-    private void extractRowKeyAndData(String line,
-                                      DefaultCategoryDataset dataset,
-                                      List columnKeys) {
-        Comparable rowKey = null;
-        int fieldIndex = 0;
-        int start = 0;
-        for (int i = 0; i < line.length(); i++) {
-            if (line.charAt(i) == this.fieldDelimiter) {
-                if (fieldIndex == 0) {  // first field contains the row key
-                    String key = line.substring(start, i);
-                    rowKey = removeStringDelimiters(key);
+    public TimeSeriesCollection<String> readTimeSeriesCollection(Reader in,
+            TimeSeriesCollection<String> dataset) throws IOException {
+        Args.nullNotPermitted(in, "in");
+        Args.nullNotPermitted(dataset, "dataset");
+        CSVTokenizer tokenizer = new CSVTokenizer(in, this.fieldDelimiter,
+                this.textDelimiter);
+        if (!tokenizer.nextRecord()) {
+            return dataset;
+        }
+        List<TimeSeries<String>> series = new ArrayList<>();
+        for (String key : readKeys(tokenizer)) {
+            TimeSeries<String> s = dataset.getSeries(key);
+            if (s == null) {
+                s = new TimeSeries<>(key);
+                dataset.addSeries(s);
+            }
+            series.add(s);
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        long count = 0;
+        beginUpdate(series);
+        try {
+            while (tokenizer.nextRecord()) {
+                FixedMillisecond period = new FixedMillisecond(
+                        readTime(tokenizer, zone));
+                for (int i = 0; i < series.size(); i++) {
+                    series.get(i).add(period, getNumber(tokenizer, i + 1));
                 }
-                else {  // remaining fields contain values
-                    Double value = Double.valueOf(
-                        removeStringDelimiters(line.substring(start, i))
-                    );
-                    dataset.addValue(
-                        value, rowKey,
-                        (Comparable) columnKeys.get(fieldIndex - 1)
-                    );
+                count++;
+                if (count % this.chunkSize == 0) {
+                    endUpdate(series);
+                    beginUpdate(series);
+                    fireProgress(count);
                 }
-                start = i + 1;
-                fieldIndex++;
             }
+        } finally {
+            endUpdate(series);
+        }
+        fireProgress(count);
+        return dataset;
+    }
+
+    /**
+     * Returns the keys from the current (header) record, ignoring the first
+     * field.
+     *
+     * @param tokenizer  the tokenizer.
+     *
+     * @return A list of keys.
+     */
+    private static List<String> readKeys(CSVTokenizer tokenizer) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 1; i < tokenizer.getFieldCount(); i++) {
+            keys.add(tokenizer.getString(i));
         }
-        Double value = Double.valueOf(
-            removeStringDelimiters(line.substring(start, line.length()))
-        );
-        dataset.addValue(
-            value, rowKey, (Comparable) columnKeys.get(fieldIndex - 1)
-        );
+        return keys;
     }
 
     /**
-     * Removes the string delimiters from a key (as well as any white space
-     * outside the delimiters).
+     * Returns the value of a field in the current record.
      *
-     * @param key  the key (including delimiters).
+     * @param tokenizer  the tokenizer.
+     * @param field  the field index.
      *
-     * @return The key without delimiters.
+     * @return The value (possibly {@code null}).
      */
-    private String removeStringDelimiters(String key) {
-        String k = key.trim();
-        if (k.charAt(0) == this.textDelimiter) {
-            k = k.substring(1);
+    private static Double getNumber(CSVTokenizer tokenizer, int field) {
+        if (tokenizer.isEmpty(field)) {
+            return null;
         }
-        if (k.charAt(k.length() - 1) == this.textDelimiter) {
-            k = k.substring(0, k.length() - 1);
+        return tokenizer.getDouble(field);
+    }
+
+    /**
+     * Returns the time (in milliseconds since 1-Jan-1970) from the first
+     * field of the current record.
+     *
+     * @param tokenizer  the tokenizer.
+     * @param zone  the time zone for dates and times without an offset.
+     *
+     * @return The time.
+     *
+     * @throws java.time.format.DateTimeParseException if the field cannot
+     *     be parsed.
+     */
+    private static long readTime(CSVTokenizer tokenizer, ZoneId zone) {
+        if (tokenizer.isInteger(0)) {
+            return tokenizer.getLong(0);
+        }
+        String text = tokenizer.getString(0);
+        if (text.length() <= 10) {
+            return LocalDate.parse(text).atStartOfDay(zone).toInstant()
+                    .toEpochMilli();
+        }
+        if (text.charAt(10) == ' ') {
+            text = text.substring(0, 10) + 'T' + text.substring(11);
+        }
+        TemporalAccessor t = DateTimeFormatter.ISO_DATE_TIME.parseBest(text,
+                OffsetDateTime::from, LocalDateTime::from);
+        if (t instanceof OffsetDateTime) {
+            return ((OffsetDateTime) t).toInstant().toEpochMilli();
+        }
+        return ((LocalDateTime) t).atZone(zone).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Starts a batch of updates for each series in a list.
+     *
+     * @param series  the series.
+     */
+    private static void beginUpdate(List<? extends Series> series) {
+        for (Series s : series) {
+            s.beginUpdate();
+        }
+    }
+
+    /**
+     * Ends a batch of updates for each series in a list.
+     *
+     * @param series  the series.
+     */
+    private static void endUpdate(List<? extends Series> series) {
+        for (Series s : series) {
+            s.endUpdate();
+        }
+    }
+
+    /**
+     * Sends a progress notification to the listener (if there is one).
+     *
+     * @param recordCount  the number of data records read so far.
+     */
+    private void fireProgress(long recordCount) {
+        if (this.progressListener != null) {
+            this.progressListener.progress(recordCount);
         }
-        return k;
     }
 
 }
@@ -0,0 +1,60 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * CSVProgressListener.java
+ * ------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.util.EventListener;
+
+/**
+ * The interface that must be supported by classes that wish to receive
+ * progress notifications while a {@link CSV} reader loads data.  The
+ * notifications are sent (in the thread that is reading the data) after
+ * each chunk of records has been added to the dataset, and once more when
+ * all the records have been read.
+ *
+ * @since 2.0.0
+ */
+public interface CSVProgressListener extends EventListener {
+
+    /**
+     * Receives notification that records have been added to the dataset.
+     *
+     * @param recordCount  the total number of data records read so far
+     *     (excluding the header record).
+     */
+    void progress(long recordCount);
+
+}
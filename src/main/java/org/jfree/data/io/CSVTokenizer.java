@@ -0,0 +1,519 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------
+ * CSVTokenizer.java
+ * -----------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Splits character data into records and fields, working directly on a
+ * character buffer that is filled from a {@link Reader}.  The fields of the
+ * current record are recorded as offsets into the buffer, so numeric fields
+ * can be parsed (see {@link #getDouble(int)} and {@link #getLong(int)})
+ * without creating a {@code String} for each field.
+ * <p>
+ * Records are terminated by a line feed, a carriage return or both.  Blank
+ * lines are skipped.  A field that starts with the text delimiter may
+ * contain field delimiters and line breaks, and a doubled text delimiter
+ * inside such a field stands for a single text delimiter.  White space
+ * around the fields is ignored.
+ */
+final class CSVTokenizer {
+
+    /** The default buffer size (in characters). */
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /** Powers of ten that can be represented exactly as doubles. */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4,
+            1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+            1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** The source of the characters. */
+    private final Reader in;
+
+    /** The field delimiter. */
+    private final char fieldDelimiter;
+
+    /** The text delimiter. */
+    private final char textDelimiter;
+
+    /** The character buffer. */
+    private char[] buffer;
+
+    /** The number of valid characters in the buffer. */
+    private int limit;
+
+    /** The index of the first character after the current record. */
+    private int position;
+
+    /** A flag that indicates that the reader has no more characters. */
+    private boolean endOfInput;
+
+    /** The number of fields in the current record. */
+    private int fieldCount;
+
+    /** The start index of each field (excluding white space and quotes). */
+    private int[] fieldStart;
+
+    /** The end index (exclusive) of each field. */
+    private int[] fieldEnd;
+
+    /** Flags for fields that contain doubled text delimiters. */
+    private boolean[] fieldEscaped;
+
+    /** The number of records read so far. */
+    private long recordCount;
+
+    /**
+     * Creates a new tokenizer.
+     *
+     * @param in  the source ({@code null} not permitted).
+     * @param fieldDelimiter  the field delimiter.
+     * @param textDelimiter  the text delimiter.
+     */
+    CSVTokenizer(Reader in, char fieldDelimiter, char textDelimiter) {
+        this(in, fieldDelimiter, textDelimiter, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new tokenizer.
+     *
+     * @param in  the source ({@code null} not permitted).
+     * @param fieldDelimiter  the field delimiter.
+     * @param textDelimiter  the text delimiter.
+     * @param bufferSize  the initial buffer size (the buffer grows if a
+     *     record does not fit).
+     */
+    CSVTokenizer(Reader in, char fieldDelimiter, char textDelimiter,
+            int bufferSize) {
+        this.in = in;
+        this.fieldDelimiter = fieldDelimiter;
+        this.textDelimiter = textDelimiter;
+        this.buffer = new char[Math.max(bufferSize, 16)];
+        this.fieldStart = new int[16];
+        this.fieldEnd = new int[16];
+        this.fieldEscaped = new boolean[16];
+    }
+
+    /**
+     * Returns the number of records read so far.
+     *
+     * @return The record count.
+     */
+    long getRecordCount() {
+        return this.recordCount;
+    }
+
+    /**
+     * Returns the number of fields in the current record.
+     *
+     * @return The field count.
+     */
+    int getFieldCount() {
+        return this.fieldCount;
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return {@code false} if there are no more records.
+     *
+     * @throws IOException if there is a problem reading the source.
+     */
+    boolean nextRecord() throws IOException {
+        while (true) {
+            // skip blank lines
+            while (this.position < this.limit
+                    && isLineBreak(this.buffer[this.position])) {
+                this.position++;
+            }
+            if (this.position == this.limit) {
+                if (this.endOfInput || !fill()) {
+                    this.fieldCount = 0;
+                    return false;
+                }
+                continue;
+            }
+            if (parseRecord()) {
+                this.recordCount++;
+                return true;
+            }
+            // the record is incomplete, so read more characters and retry
+            fill();
+        }
+    }
+
+    /**
+     * Parses the record that starts at the current position.
+     *
+     * @return {@code true} if a complete record was found, and
+     *     {@code false} if more characters are required.
+     */
+    private boolean parseRecord() {
+        char[] b = this.buffer;
+        int p = this.position;
+        int n = 0;
+        while (true) {
+            int start = skipSpace(p);
+            int end;
+            boolean escaped = false;
+            if (start < this.limit && b[start] == this.textDelimiter) {
+                int q = start + 1;
+                while (true) {
+                    while (q < this.limit && b[q] != this.textDelimiter) {
+                        q++;
+                    }
+                    if (q + 1 >= this.limit && !this.endOfInput) {
+                        return false;
+                    }
+                    if (q + 1 < this.limit && b[q + 1] == this.textDelimiter) {
+                        escaped = true;
+                        q += 2;
+                    }
+                    else {
+                        break;
+                    }
+                }
+                start = start + 1;
+                end = Math.min(q, this.limit);
+                // ignore anything between the closing quote and the delimiter
+                p = Math.min(q + 1, this.limit);
+                while (p < this.limit && b[p] != this.fieldDelimiter
+                        && !isLineBreak(b[p])) {
+                    p++;
+                }
+            }
+            else {
+                p = start;
+                while (p < this.limit && b[p] != this.fieldDelimiter
+                        && !isLineBreak(b[p])) {
+                    p++;
+                }
+                end = p;
+                while (end > start && isSpace(b[end - 1])) {
+                    end--;
+                }
+            }
+            if (p >= this.limit && !this.endOfInput) {
+                return false;
+            }
+            addField(n++, start, end, escaped);
+            if (p < this.limit && b[p] == this.fieldDelimiter) {
+                p++;
+                continue;
+            }
+            break;
+        }
+        this.fieldCount = n;
+        this.position = p;
+        return true;
+    }
+
+    /**
+     * Returns the index of the first character at or after {@code p} that
+     * is not a space or tab (or {@code limit}).
+     *
+     * @param p  the index.
+     *
+     * @return The index.
+     */
+    private int skipSpace(int p) {
+        while (p < this.limit && isSpace(this.buffer[p])) {
+            p++;
+        }
+        return p;
+    }
+
+    /**
+     * Returns {@code true} if the character is white space that is ignored
+     * around field values.
+     *
+     * @param c  the character.
+     *
+     * @return A boolean.
+     */
+    private boolean isSpace(char c) {
+        return (c == ' ' || c == '\t') && c != this.fieldDelimiter;
+    }
+
+    /**
+     * Returns {@code true} if the character ends a record.
+     *
+     * @param c  the character.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    /**
+     * Records the bounds of a field in the current record.
+     *
+     * @param index  the field index.
+     * @param start  the start index in the buffer.
+     * @param end  the end index in the buffer.
+     * @param escaped  a flag indicating that the field contains doubled
+     *     text delimiters.
+     */
+    private void addField(int index, int start, int end, boolean escaped) {
+        if (index == this.fieldStart.length) {
+            int capacity = index * 2;
+            this.fieldStart = Arrays.copyOf(this.fieldStart, capacity);
+            this.fieldEnd = Arrays.copyOf(this.fieldEnd, capacity);
+            this.fieldEscaped = Arrays.copyOf(this.fieldEscaped, capacity);
+        }
+        this.fieldStart[index] = start;
+        this.fieldEnd[index] = end;
+        this.fieldEscaped[index] = escaped;
+    }
+
+    /**
+     * Moves the unprocessed characters to the start of the buffer (growing
+     * the buffer if it is full) then reads more characters from the source.
+     *
+     * @return {@code true} if more characters were read.
+     *
+     * @throws IOException if there is a problem reading the source.
+     */
+    private boolean fill() throws IOException {
+        int remaining = this.limit - this.position;
+        if (this.position > 0) {
+            System.arraycopy(this.buffer, this.position, this.buffer, 0,
+                    remaining);
+        }
+        else if (remaining == this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+        }
+        this.position = 0;
+        this.limit = remaining;
+        int count = this.in.read(this.buffer, this.limit,
+                this.buffer.length - this.limit);
+        if (count < 0) {
+            this.endOfInput = true;
+            return false;
+        }
+        this.limit += count;
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the specified field is missing from the
+     * current record or is empty.
+     *
+     * @param field  the field index.
+     *
+     * @return A boolean.
+     */
+    boolean isEmpty(int field) {
+        return field >= this.fieldCount
+                || this.fieldStart[field] >= this.fieldEnd[field];
+    }
+
+    /**
+     * Returns the value of a field as a string.
+     *
+     * @param field  the field index.
+     *
+     * @return The string (never {@code null}, empty for a missing field).
+     */
+    String getString(int field) {
+        if (field >= this.fieldCount) {
+            return "";
+        }
+        int start = this.fieldStart[field];
+        int end = this.fieldEnd[field];
+        if (!this.fieldEscaped[field]) {
+            return new String(this.buffer, start, end - start);
+        }
+        StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = this.buffer[i];
+            sb.append(c);
+            if (c == this.textDelimiter) {
+                i++;  // skip the second delimiter
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parses a field as a double value.  The common decimal formats are
+     * parsed directly from the buffer, other formats are passed to
+     * {@link Double#parseDouble(String)}.
+     *
+     * @param field  the field index.
+     *
+     * @return The value ({@code Double.NaN} if the field is empty).
+     *
+     * @throws NumberFormatException if the field is not a number.
+     */
+    double getDouble(int field) {
+        if (isEmpty(field)) {
+            return Double.NaN;
+        }
+        char[] b = this.buffer;
+        int start = this.fieldStart[field];
+        int end = this.fieldEnd[field];
+        int p = start;
+        boolean negative = false;
+        if (b[p] == '-' || b[p] == '+') {
+            negative = (b[p] == '-');
+            p++;
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigits = false;
+        while (p < end && b[p] >= '0' && b[p] <= '9') {
+            mantissa = mantissa * 10 + (b[p] - '0');
+            if (mantissa != 0) {
+                digits++;
+            }
+            anyDigits = true;
+            p++;
+        }
+        if (p < end && b[p] == '.') {
+            p++;
+            while (p < end && b[p] >= '0' && b[p] <= '9') {
+                mantissa = mantissa * 10 + (b[p] - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+                exponent--;
+                anyDigits = true;
+                p++;
+            }
+        }
+        if (anyDigits && p < end && (b[p] == 'e' || b[p] == 'E')) {
+            p++;
+            boolean negativeExponent = false;
+            if (p < end && (b[p] == '-' || b[p] == '+')) {
+                negativeExponent = (b[p] == '-');
+                p++;
+            }
+            int e = 0;
+            boolean anyExponentDigits = false;
+            while (p < end && b[p] >= '0' && b[p] <= '9' && e < 10000) {
+                e = e * 10 + (b[p] - '0');
+                anyExponentDigits = true;
+                p++;
+            }
+            if (!anyExponentDigits) {
+                anyDigits = false;
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        // the result is correctly rounded if the mantissa and the power of
+        // ten are both exact, otherwise use the slow (exact) method
+        if (!anyDigits || p != end || digits > 15
+                || exponent < -22 || exponent > 22) {
+            return Double.parseDouble(getString(field));
+        }
+        double result = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent]
+                : mantissa / POWERS_OF_TEN[-exponent];
+        return negative ? -result : result;
+    }
+
+    /**
+     * Parses a field as a long value.
+     *
+     * @param field  the field index.
+     *
+     * @return The value.
+     *
+     * @throws NumberFormatException if the field is empty or is not an
+     *     integer.
+     */
+    long getLong(int field) {
+        if (isEmpty(field)) {
+            throw new NumberFormatException("Empty field " + field + ".");
+        }
+        char[] b = this.buffer;
+        int start = this.fieldStart[field];
+        int end = this.fieldEnd[field];
+        int p = start;
+        boolean negative = false;
+        if (b[p] == '-' || b[p] == '+') {
+            negative = (b[p] == '-');
+            p++;
+        }
+        // up to 18 digits cannot overflow
+        if (p == end || end - p > 18) {
+            return Long.parseLong(getString(field));
+        }
+        long result = 0L;
+        for (; p < end; p++) {
+            char c = b[p];
+            if (c < '0' || c > '9') {
+                return Long.parseLong(getString(field));
+            }
+            result = result * 10 + (c - '0');
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Returns {@code true} if the field is an integer (an optional sign
+     * followed by digits only).
+     *
+     * @param field  the field index.
+     *
+     * @return A boolean.
+     */
+    boolean isInteger(int field) {
+        if (isEmpty(field)) {
+            return false;
+        }
+        int p = this.fieldStart[field];
+        int end = this.fieldEnd[field];
+        if (this.buffer[p] == '-' || this.buffer[p] == '+') {
+            p++;
+        }
+        if (p == end) {
+            return false;
+        }
+        for (; p < end; p++) {
+            if (this.buffer[p] < '0' || this.buffer[p] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,238 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * MappedFileReader.java
+ * ---------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * A reader that decodes the characters in a file that is mapped into memory
+ * (a window at a time, so files larger than 2GB can be read).  This avoids
+ * copying the file contents through the intermediate buffers of a
+ * {@code FileInputStream} and is useful for reading very large CSV files
+ * with the {@link CSV} class, for example:
+ * <pre>
+ * try (MappedFileReader in = new MappedFileReader(path,
+ *         StandardCharsets.UTF_8)) {
+ *     XYSeriesCollection&lt;String&gt; dataset
+ *             = new CSV().readXYSeriesCollection(in);
+ * }</pre>
+ * The {@link #getPosition()} and {@link #getSize()} methods can be used to
+ * report the progress of a read operation.
+ *
+ * @since 2.0.0
+ */
+public class MappedFileReader extends Reader {
+
+    /** The default window size (64MB). */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /** The file channel. */
+    private final FileChannel channel;
+
+    /** The file size (in bytes). */
+    private final long size;
+
+    /** The maximum number of bytes mapped at any one time. */
+    private final int windowSize;
+
+    /** The decoder. */
+    private final CharsetDecoder decoder;
+
+    /** The file position of the start of the current window. */
+    private long windowStart;
+
+    /** The current window ({@code null} before the first read). */
+    private ByteBuffer window;
+
+    /** A flag that indicates that all the bytes have been decoded. */
+    private boolean endOfInput;
+
+    /** A flag that indicates that the decoder has been flushed. */
+    private boolean flushed;
+
+    /**
+     * Creates a new reader for a file, using the default window size.
+     *
+     * @param file  the file ({@code null} not permitted).
+     * @param charset  the character set ({@code null} not permitted).
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public MappedFileReader(Path file, Charset charset) throws IOException {
+        this(file, charset, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a new reader for a file.
+     *
+     * @param file  the file ({@code null} not permitted).
+     * @param charset  the character set ({@code null} not permitted).
+     * @param windowSize  the maximum number of bytes that are mapped into
+     *     memory at any one time (at least 16).
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public MappedFileReader(Path file, Charset charset, int windowSize)
+            throws IOException {
+        Args.nullNotPermitted(file, "file");
+        Args.nullNotPermitted(charset, "charset");
+        Args.requireInRange(windowSize, "windowSize", 16, Integer.MAX_VALUE);
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = this.channel.size();
+        this.windowSize = windowSize;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     *
+     * @return The size.
+     */
+    public long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of bytes that have been decoded so far.
+     *
+     * @return The position.
+     */
+    public long getPosition() {
+        return this.window == null ? 0L
+                : this.windowStart + this.window.position();
+    }
+
+    /**
+     * Reads characters into a portion of an array.
+     *
+     * @param cbuf  the destination buffer.
+     * @param off  the offset at which to start storing characters.
+     * @param len  the maximum number of characters to read.
+     *
+     * @return The number of characters read, or -1 if the end of the file
+     *     has been reached.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (!this.channel.isOpen()) {
+            throw new IOException("Reader closed.");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (out.position() == off) {
+            if (this.flushed) {
+                return -1;
+            }
+            if (this.endOfInput) {
+                if (this.decoder.flush(out).isUnderflow()) {
+                    this.flushed = true;
+                }
+                continue;
+            }
+            if (this.window == null) {
+                map(0L);
+            }
+            boolean last = isLastWindow();
+            if (this.decoder.decode(this.window, out, last).isOverflow()
+                    || out.position() > off) {
+                break;
+            }
+            if (last) {
+                this.endOfInput = true;
+            }
+            else {
+                // the window is used up, apart from (perhaps) the first
+                // bytes of a character that continues in the next window
+                map(getPosition());
+            }
+        }
+        return out.position() - off;
+    }
+
+    /**
+     * Returns {@code true} if the current window extends to the end of the
+     * file.
+     *
+     * @return A boolean.
+     */
+    private boolean isLastWindow() {
+        return this.windowStart + this.window.limit() >= this.size;
+    }
+
+    /**
+     * Maps the window that starts at the specified file position.
+     *
+     * @param start  the file position.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void map(long start) throws IOException {
+        long length = Math.min(this.windowSize, this.size - start);
+        this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, start,
+                length);
+        this.windowStart = start;
+    }
+
+    /**
+     * Closes the reader (and the underlying file channel).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+        this.window = null;
+    }
+
+}
@@ -0,0 +1,844 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * MappedXYDataset.java
+ * --------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.XYDomainInfo;
+import org.jfree.data.xy.XYRangeInfo;
+
+/**
+ * An {@link org.jfree.data.xy.IntervalXYDataset} where the data for each
+ * series is read from a file that is mapped into memory.  The data is not
+ * copied onto the Java heap, so this dataset can be used to chart series
+ * that are too large to be held in an {@code XYSeries} (the operating
+ * system loads the pages of the file that are accessed as the chart is
+ * drawn).  The files are written with a {@link MappedXYSeriesWriter}.
+ * <br><br>
+ * The x-values in each file are sorted in ascending order, so the dataset
+ * reports a {@link DomainOrder#ASCENDING} domain order and the renderers
+ * use a binary search to find the items that are visible in the current
+ * range of the x-axis.  The bounds of each series are recorded in the file
+ * header, so the axis ranges can also be calculated without reading all the
+ * data.
+ * <br><br>
+ * Each file contains a 96-byte header followed by the data columns, with
+ * all values in little-endian byte order:
+ * <table>
+ * <caption>Binary layout</caption>
+ * <tr><th>Offset</th><th>Type</th><th>Content</th></tr>
+ * <tr><td>0</td><td>byte[4]</td><td>The ASCII characters "JFXY".</td></tr>
+ * <tr><td>4</td><td>int</td><td>The format version (1).</td></tr>
+ * <tr><td>8</td><td>int</td><td>Flags (bit 0 is set if the file contains
+ *     the interval columns).</td></tr>
+ * <tr><td>12</td><td>int</td><td>Reserved (0).</td></tr>
+ * <tr><td>16</td><td>long</td><td>The item count {@code n}.</td></tr>
+ * <tr><td>24</td><td>double[4]</td><td>The minimum x, maximum x, minimum y
+ *     and maximum y values.</td></tr>
+ * <tr><td>56</td><td>double[4]</td><td>The same bounds, including the
+ *     intervals.</td></tr>
+ * <tr><td>88</td><td>long</td><td>Reserved (0).</td></tr>
+ * <tr><td>96</td><td>double[n]</td><td>The x-values (in ascending
+ *     order).</td></tr>
+ * <tr><td>96 + 8n</td><td>double[n]</td><td>The y-values.</td></tr>
+ * <tr><td>96 + 16n</td><td>double[n] x 4</td><td>The start-x, end-x,
+ *     start-y and end-y values (only if bit 0 of the flags is set).</td></tr>
+ * </table>
+ * A y-value of {@code Double.NaN} indicates a missing value, and the bounds
+ * in the header are {@code Double.NaN} if there are no values.
+ *
+ * @param <S>  the type for the series keys.
+ *
+ * @since 2.0.0
+ */
+public class MappedXYDataset<S extends Comparable<S>>
+        extends AbstractIntervalXYDataset<S> implements DomainInfo,
+        RangeInfo, XYDomainInfo<S>, XYRangeInfo, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3281547856995967412L;
+
+    /** The bytes at the start of each file. */
+    static final byte[] MAGIC = {'J', 'F', 'X', 'Y'};
+
+    /** The format version. */
+    static final int VERSION = 1;
+
+    /** The flag that indicates the file contains the interval columns. */
+    static final int FLAG_INTERVALS = 1;
+
+    /** The size of the header in bytes. */
+    static final int HEADER_SIZE = 96;
+
+    /** The number of values in each mapped segment of a column (2^27). */
+    private static final int SEGMENT_SHIFT = 27;
+
+    /** The mask for the index of a value within a segment. */
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    /** The column index for the x-values. */
+    private static final int X = 0;
+
+    /** The column index for the y-values. */
+    private static final int Y = 1;
+
+    /** The column index for the start-x values. */
+    private static final int START_X = 2;
+
+    /** The column index for the end-x values. */
+    private static final int END_X = 3;
+
+    /** The column index for the start-y values. */
+    private static final int START_Y = 4;
+
+    /** The column index for the end-y values. */
+    private static final int END_Y = 5;
+
+    /** The series keys. */
+    private List<S> seriesKeys;
+
+    /** The file names for the series (used to remap after serialization). */
+    private List<String> fileNames;
+
+    /** The mapped series. */
+    private transient List<MappedSeries> seriesList;
+
+    /**
+     * Creates a new dataset, initially empty.
+     */
+    public MappedXYDataset() {
+        this.seriesKeys = new ArrayList<>();
+        this.fileNames = new ArrayList<>();
+        this.seriesList = new ArrayList<>();
+    }
+
+    /**
+     * Adds a series to the dataset, mapping the data from the specified file
+     * into memory, and sends a {@link org.jfree.data.general.DatasetChangeEvent}
+     * to all registered listeners.  If there is already a series with the
+     * same key, it is replaced.
+     *
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param file  the file ({@code null} not permitted).
+     *
+     * @throws IOException if the file cannot be read or is not in the
+     *     expected format.
+     */
+    public void addSeries(S seriesKey, Path file) throws IOException {
+        Args.nullNotPermitted(seriesKey, "seriesKey");
+        Args.nullNotPermitted(file, "file");
+        MappedSeries series = new MappedSeries(file);
+        String fileName = file.toAbsolutePath().toString();
+        int index = this.seriesKeys.indexOf(seriesKey);
+        if (index >= 0) {
+            this.fileNames.set(index, fileName);
+            this.seriesList.set(index, series);
+        }
+        else {
+            this.seriesKeys.add(seriesKey);
+            this.fileNames.add(fileName);
+            this.seriesList.add(series);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the dataset, then sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.  If there is no series with the specified key, this method
+     * does nothing.
+     *
+     * @param seriesKey  the series key ({@code null} not permitted).
+     */
+    public void removeSeries(S seriesKey) {
+        Args.nullNotPermitted(seriesKey, "seriesKey");
+        int index = this.seriesKeys.indexOf(seriesKey);
+        if (index >= 0) {
+            this.seriesKeys.remove(index);
+            this.fileNames.remove(index);
+            this.seriesList.remove(index);
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Returns the file that the data for a series is mapped from.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The file (never {@code null}).
+     */
+    public Path getFile(int series) {
+        Args.requireInRange(series, "series", 0, this.fileNames.size() - 1);
+        return Paths.get(this.fileNames.get(series));
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.seriesKeys.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        Args.requireInRange(series, "series", 0, this.seriesKeys.size() - 1);
+        return this.seriesKeys.get(series);
+    }
+
+    /**
+     * Returns the order of the domain (x-) values in the dataset, which is
+     * always {@link DomainOrder#ASCENDING}.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of items in the specified series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.seriesList.get(series).itemCount;
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.seriesList.get(series).getValue(X, item);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value ({@code Double.NaN} for a missing value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.seriesList.get(series).getValue(Y, item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value ({@code null} for a missing value).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return Double.isNaN(y) ? null : y;
+    }
+
+    /**
+     * Returns the start x-value for an item within a series.  If the file
+     * does not contain the interval columns, this is the x-value.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.seriesList.get(series).getValue(START_X, item);
+    }
+
+    /**
+     * Returns the start x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the end x-value for an item within a series.  If the file
+     * does not contain the interval columns, this is the x-value.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.seriesList.get(series).getValue(END_X, item);
+    }
+
+    /**
+     * Returns the end x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return getEndXValue(series, item);
+    }
+
+    /**
+     * Returns the start y-value for an item within a series.  If the file
+     * does not contain the interval columns, this is the y-value.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return this.seriesList.get(series).getValue(START_Y, item);
+    }
+
+    /**
+     * Returns the start y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The start y-value ({@code null} for a missing value).
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        double y = getStartYValue(series, item);
+        return Double.isNaN(y) ? null : y;
+    }
+
+    /**
+     * Returns the end y-value for an item within a series.  If the file
+     * does not contain the interval columns, this is the y-value.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return this.seriesList.get(series).getValue(END_Y, item);
+    }
+
+    /**
+     * Returns the end y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The end y-value ({@code null} for a missing value).
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        double y = getEndYValue(series, item);
+        return Double.isNaN(y) ? null : y;
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset, read from the file
+     * headers.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r == null ? Double.NaN : r.getLowerBound();
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset, read from the file
+     * headers.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r == null ? Double.NaN : r.getUpperBound();
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset, read from the file
+     * headers.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range ({@code null} if there is no data).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        return getDomainBounds(this.seriesKeys, includeInterval);
+    }
+
+    /**
+     * Returns the range of the x-values in the specified series, read from
+     * the file headers.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     ({@code null} not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range ({@code null} if there is no data).
+     */
+    @Override
+    public Range getDomainBounds(List<S> visibleSeriesKeys,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        int offset = includeInterval ? 4 : 0;
+        Range result = null;
+        for (S key : visibleSeriesKeys) {
+            int index = this.seriesKeys.indexOf(key);
+            if (index >= 0) {
+                MappedSeries s = this.seriesList.get(index);
+                result = Range.combine(result, s.getBounds(offset));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset, read from the file
+     * headers.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The minimum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r == null ? Double.NaN : r.getLowerBound();
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset, read from the file
+     * headers.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The maximum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r == null ? Double.NaN : r.getUpperBound();
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset, read from the file
+     * headers.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range ({@code null} if there is no data).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        int offset = includeInterval ? 6 : 2;
+        Range result = null;
+        for (MappedSeries s : this.seriesList) {
+            result = Range.combine(result, s.getBounds(offset));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the y-values in the specified series, for the
+     * items with an x-value in the specified range.  The bounds are read
+     * from the file headers for any series that lies entirely within the
+     * x-range, otherwise a binary search is used to find the items within
+     * the x-range and only those items are read.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series
+     *     ({@code null} not permitted).
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range ({@code null} if there is no data).
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        for (Object key : visibleSeriesKeys) {
+            int index = this.seriesKeys.indexOf(key);
+            if (index >= 0) {
+                MappedSeries s = this.seriesList.get(index);
+                result = Range.combine(result, s.findRangeBounds(xRange,
+                        includeInterval));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  Two
+     * datasets are equal if they have the same series keys and map the same
+     * files.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MappedXYDataset)) {
+            return false;
+        }
+        MappedXYDataset<?> that = (MappedXYDataset<?>) obj;
+        if (!this.seriesKeys.equals(that.seriesKeys)) {
+            return false;
+        }
+        return this.fileNames.equals(that.fileNames);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.seriesKeys, this.fileNames);
+    }
+
+    /**
+     * Provides serialization support (the files are mapped again).
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.seriesList = new ArrayList<>();
+        for (String fileName : this.fileNames) {
+            this.seriesList.add(new MappedSeries(Paths.get(fileName)));
+        }
+    }
+
+    /**
+     * The data for one series, mapped from a file.
+     */
+    private static final class MappedSeries {
+
+        /** The item count. */
+        private final int itemCount;
+
+        /**
+         * The bounds from the header (x and y, then x and y including the
+         * intervals).
+         */
+        private final double[] bounds;
+
+        /** The segments for each column (indexed by column then segment). */
+        private final DoubleBuffer[][] columns;
+
+        /**
+         * Maps the data from the specified file.
+         *
+         * @param file  the file.
+         *
+         * @throws IOException if the file cannot be read or is not in the
+         *     expected format.
+         */
+        MappedSeries(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                while (header.hasRemaining()) {
+                    if (channel.read(header, header.position()) < 0) {
+                        throw new IOException("Incomplete header: " + file);
+                    }
+                }
+                header.flip();
+                for (byte b : MAGIC) {
+                    if (header.get() != b) {
+                        throw new IOException("Not a mapped XY file: "
+                                + file);
+                    }
+                }
+                int version = header.getInt();
+                if (version != VERSION) {
+                    throw new IOException("Unsupported version " + version
+                            + ": " + file);
+                }
+                int flags = header.getInt();
+                header.getInt();
+                long count = header.getLong();
+                this.bounds = new double[8];
+                for (int i = 0; i < 8; i++) {
+                    this.bounds[i] = header.getDouble();
+                }
+                int columnCount = (flags & FLAG_INTERVALS) != 0 ? 6 : 2;
+                if (count < 0 || count > Integer.MAX_VALUE
+                        || channel.size() < HEADER_SIZE
+                        + count * columnCount * Double.BYTES) {
+                    throw new IOException("Invalid item count " + count
+                            + ": " + file);
+                }
+                this.itemCount = (int) count;
+                this.columns = new DoubleBuffer[6][];
+                for (int c = 0; c < columnCount; c++) {
+                    this.columns[c] = map(channel, HEADER_SIZE
+                            + c * count * Double.BYTES, this.itemCount);
+                }
+                if (columnCount == 2) {
+                    // without the intervals, the start and end values are
+                    // the x and y values
+                    this.columns[START_X] = this.columns[X];
+                    this.columns[END_X] = this.columns[X];
+                    this.columns[START_Y] = this.columns[Y];
+                    this.columns[END_Y] = this.columns[Y];
+                }
+            }
+        }
+
+        /**
+         * Maps a column, in segments of at most 2^27 values so that each
+         * segment is smaller than the 2GB limit for a mapped buffer.
+         *
+         * @param channel  the channel.
+         * @param position  the position of the column in the file.
+         * @param count  the number of values in the column.
+         *
+         * @return The segments.
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        private static DoubleBuffer[] map(FileChannel channel, long position,
+                int count) throws IOException {
+            int segmentCount = (int) ((count + (long) SEGMENT_MASK)
+                    >>> SEGMENT_SHIFT);
+            DoubleBuffer[] segments = new DoubleBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long start = (long) i << SEGMENT_SHIFT;
+                long length = Math.min(count - start, SEGMENT_MASK + 1L);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position + start * Double.BYTES,
+                        length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                        .asDoubleBuffer();
+            }
+            return segments;
+        }
+
+        /**
+         * Returns a value from the specified column.
+         *
+         * @param column  the column index.
+         * @param item  the item index.
+         *
+         * @return The value.
+         */
+        double getValue(int column, int item) {
+            Objects.checkIndex(item, this.itemCount);
+            return this.columns[column][item >>> SEGMENT_SHIFT].get(
+                    item & SEGMENT_MASK);
+        }
+
+        /**
+         * Returns a pair of bounds from the header as a range.
+         *
+         * @param offset  the index of the lower bound.
+         *
+         * @return The range ({@code null} if the bounds are not defined).
+         */
+        Range getBounds(int offset) {
+            double lower = this.bounds[offset];
+            double upper = this.bounds[offset + 1];
+            if (Double.isNaN(lower) || Double.isNaN(upper)) {
+                return null;
+            }
+            return new Range(lower, upper);
+        }
+
+        /**
+         * Returns the range of the y-values for the items with an x-value
+         * in the specified range.
+         *
+         * @param xRange  the x-range.
+         * @param includeInterval  include the y-intervals?
+         *
+         * @return The range ({@code null} if there are no values).
+         */
+        Range findRangeBounds(Range xRange, boolean includeInterval) {
+            if (this.itemCount == 0) {
+                return null;
+            }
+            if (xRange.getLowerBound() <= getValue(X, 0)
+                    && xRange.getUpperBound() >= getValue(X,
+                    this.itemCount - 1)) {
+                return getBounds(includeInterval ? 6 : 2);
+            }
+            int lowColumn = includeInterval ? START_Y : Y;
+            int highColumn = includeInterval ? END_Y : Y;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            double upper = xRange.getUpperBound();
+            for (int i = findFirstItem(xRange.getLowerBound());
+                    i < this.itemCount && getValue(X, i) <= upper; i++) {
+                double low = getValue(lowColumn, i);
+                double high = getValue(highColumn, i);
+                if (!Double.isNaN(low)) {
+                    min = Math.min(min, low);
+                }
+                if (!Double.isNaN(high)) {
+                    max = Math.max(max, high);
+                }
+            }
+            if (min > max) {
+                return null;
+            }
+            return new Range(min, max);
+        }
+
+        /**
+         * Returns the index of the first item with an x-value greater than
+         * or equal to the specified value.
+         *
+         * @param x  the x-value.
+         *
+         * @return The item index (equal to the item count if there is no
+         *     such item).
+         */
+        private int findFirstItem(double x) {
+            int low = 0;
+            int high = this.itemCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (getValue(X, mid) < x) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+}
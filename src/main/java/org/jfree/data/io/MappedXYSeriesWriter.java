@@ -0,0 +1,383 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * MappedXYSeriesWriter.java
+ * -------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * Writes the data for one series to a file in the format that is read by
+ * the {@link MappedXYDataset} class.  Items are added one at a time, in
+ * ascending order of x-value, so that a series can be written without
+ * holding all the data in memory:
+ * <pre>
+ * try (MappedXYSeriesWriter writer = new MappedXYSeriesWriter(path)) {
+ *     for (...) {
+ *         writer.add(x, y);
+ *     }
+ * }
+ * MappedXYDataset&lt;String&gt; dataset = new MappedXYDataset&lt;&gt;();
+ * dataset.addSeries("Series 1", path);</pre>
+ * While the items are being added, each column is written to a temporary
+ * file in the same directory as the target file, and the columns are
+ * copied into the target file (after the header) when the writer is closed.
+ *
+ * @since 2.0.0
+ */
+public class MappedXYSeriesWriter implements Closeable {
+
+    /** The size of the buffer for each column (in bytes). */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The target file. */
+    private final Path file;
+
+    /** A flag that indicates whether the intervals are written. */
+    private final boolean intervals;
+
+    /** The temporary files for the columns. */
+    private final Path[] columnFiles;
+
+    /** The channels for the columns. */
+    private final FileChannel[] channels;
+
+    /** The buffers for the columns. */
+    private final ByteBuffer[] buffers;
+
+    /** The number of items written. */
+    private long itemCount;
+
+    /**
+     * The bounds (x and y, then x and y including the intervals), in the
+     * order they are written to the header.
+     */
+    private final double[] bounds;
+
+    /** The last x-value written. */
+    private double lastX;
+
+    /** A flag that indicates the writer has been closed. */
+    private boolean closed;
+
+    /**
+     * Creates a writer for a file that contains the x- and y-values only.
+     *
+     * @param file  the file ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public MappedXYSeriesWriter(Path file) throws IOException {
+        this(file, false);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param file  the file ({@code null} not permitted).
+     * @param intervals  write the start and end x- and y-values for each
+     *     item (for an {@code IntervalXYDataset})?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public MappedXYSeriesWriter(Path file, boolean intervals)
+            throws IOException {
+        Args.nullNotPermitted(file, "file");
+        this.file = file;
+        this.intervals = intervals;
+        int columnCount = intervals ? 6 : 2;
+        this.columnFiles = new Path[columnCount];
+        this.channels = new FileChannel[columnCount];
+        this.buffers = new ByteBuffer[columnCount];
+        Path dir = file.toAbsolutePath().getParent();
+        try {
+            for (int c = 0; c < columnCount; c++) {
+                this.columnFiles[c] = Files.createTempFile(dir,
+                        file.getFileName().toString(), ".tmp");
+                this.channels[c] = FileChannel.open(this.columnFiles[c],
+                        StandardOpenOption.WRITE);
+                this.buffers[c] = ByteBuffer.allocate(BUFFER_SIZE)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+        catch (IOException e) {
+            for (FileChannel channel : this.channels) {
+                if (channel != null) {
+                    channel.close();
+                }
+            }
+            deleteColumnFiles();
+            throw e;
+        }
+        this.bounds = new double[8];
+        for (int i = 0; i < 8; i += 2) {
+            this.bounds[i] = Double.POSITIVE_INFINITY;
+            this.bounds[i + 1] = Double.NEGATIVE_INFINITY;
+        }
+        this.lastX = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Returns the number of items written so far.
+     *
+     * @return The item count.
+     */
+    public long getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Adds an item.  If the writer includes the intervals, the start and end
+     * values are the same as the x- and y-values.
+     *
+     * @param x  the x-value (not less than the previous x-value and not
+     *     {@code Double.NaN}).
+     * @param y  the y-value ({@code Double.NaN} for a missing value).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void add(double x, double y) throws IOException {
+        add(x, x, x, y, y, y);
+    }
+
+    /**
+     * Adds an item.  If the writer does not include the intervals, the start
+     * and end values are ignored.
+     *
+     * @param x  the x-value (not less than the previous x-value and not
+     *     {@code Double.NaN}).
+     * @param startX  the start x-value.
+     * @param endX  the end x-value.
+     * @param y  the y-value ({@code Double.NaN} for a missing value).
+     * @param startY  the start y-value.
+     * @param endY  the end y-value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void add(double x, double startX, double endX, double y,
+            double startY, double endY) throws IOException {
+        if (this.closed) {
+            throw new IllegalStateException("The writer is closed.");
+        }
+        if (!(x >= this.lastX)) {
+            throw new IllegalArgumentException("The x-values must be in "
+                    + "ascending order (x = " + x + ").");
+        }
+        if (this.itemCount == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many items.");
+        }
+        this.lastX = x;
+        put(0, x);
+        put(1, y);
+        includeInBounds(0, x, x);
+        includeInBounds(2, y, y);
+        if (this.intervals) {
+            put(2, startX);
+            put(3, endX);
+            put(4, startY);
+            put(5, endY);
+            includeInBounds(4, Math.min(x, startX), Math.max(x, endX));
+            includeInBounds(6, min(y, startY), max(y, endY));
+        }
+        else {
+            includeInBounds(4, x, x);
+            includeInBounds(6, y, y);
+        }
+        this.itemCount++;
+    }
+
+    /**
+     * Returns the minimum of two values, ignoring {@code Double.NaN}.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum.
+     */
+    private static double min(double a, double b) {
+        return Double.isNaN(a) ? b : (Double.isNaN(b) ? a : Math.min(a, b));
+    }
+
+    /**
+     * Returns the maximum of two values, ignoring {@code Double.NaN}.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum.
+     */
+    private static double max(double a, double b) {
+        return Double.isNaN(a) ? b : (Double.isNaN(b) ? a : Math.max(a, b));
+    }
+
+    /**
+     * Updates a pair of bounds.
+     *
+     * @param index  the index of the lower bound.
+     * @param low  the low value ({@code Double.NaN} is ignored).
+     * @param high  the high value ({@code Double.NaN} is ignored).
+     */
+    private void includeInBounds(int index, double low, double high) {
+        if (!Double.isNaN(low)) {
+            this.bounds[index] = Math.min(this.bounds[index], low);
+        }
+        if (!Double.isNaN(high)) {
+            this.bounds[index + 1] = Math.max(this.bounds[index + 1], high);
+        }
+    }
+
+    /**
+     * Writes a value to a column.
+     *
+     * @param column  the column index.
+     * @param value  the value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void put(int column, double value) throws IOException {
+        ByteBuffer buffer = this.buffers[column];
+        if (!buffer.hasRemaining()) {
+            flush(column);
+        }
+        buffer.putDouble(value);
+    }
+
+    /**
+     * Writes the buffered values for a column to its temporary file.
+     *
+     * @param column  the column index.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void flush(int column) throws IOException {
+        ByteBuffer buffer = this.buffers[column];
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            this.channels[column].write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes the header and the columns to the target file, then deletes
+     * the temporary files.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            for (int c = 0; c < this.channels.length; c++) {
+                flush(c);
+                this.channels[c].close();
+            }
+            try (FileChannel out = FileChannel.open(this.file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer header = createHeader();
+                while (header.hasRemaining()) {
+                    out.write(header);
+                }
+                for (Path columnFile : this.columnFiles) {
+                    try (FileChannel in = FileChannel.open(columnFile,
+                            StandardOpenOption.READ)) {
+                        long size = in.size();
+                        long position = 0L;
+                        while (position < size) {
+                            position += in.transferTo(position,
+                                    size - position, out);
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            for (FileChannel channel : this.channels) {
+                channel.close();
+            }
+            deleteColumnFiles();
+        }
+    }
+
+    /**
+     * Creates the file header.
+     *
+     * @return The header (ready to be written).
+     */
+    private ByteBuffer createHeader() {
+        ByteBuffer header = ByteBuffer.allocate(MappedXYDataset.HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MappedXYDataset.MAGIC);
+        header.putInt(MappedXYDataset.VERSION);
+        header.putInt(this.intervals ? MappedXYDataset.FLAG_INTERVALS : 0);
+        header.putInt(0);
+        header.putLong(this.itemCount);
+        for (int i = 0; i < 8; i += 2) {
+            boolean empty = this.bounds[i] > this.bounds[i + 1];
+            header.putDouble(empty ? Double.NaN : this.bounds[i]);
+            header.putDouble(empty ? Double.NaN : this.bounds[i + 1]);
+        }
+        header.putLong(0L);
+        header.flip();
+        return header;
+    }
+
+    /**
+     * Deletes the temporary files for the columns.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void deleteColumnFiles() throws IOException {
+        for (Path columnFile : this.columnFiles) {
+            if (columnFile != null) {
+                Files.deleteIfExists(columnFile);
+            }
+        }
+    }
+
+}
@@ -39,7 +39,9 @@ package org.jfree.data.statistics;
 import org.jfree.chart.internal.Args;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -70,6 +72,11 @@ public abstract class BoxAndWhiskerCalculator {
      * from a list of {@code Number} objects.  Any items in the list
      * that are {@code null}, not an instance of {@code Number}, or
      * equivalent to {@code Double.NaN}, will be ignored.
+     * <br><br>
+     * When null and NaN items are stripped, the values are not sorted and
+     * the mean is the sum of the values in list order (divided by the
+     * count), so it may differ in the last bits from the mean of the sorted
+     * values that was returned by earlier versions of this method.
      *
      * @param values  a list of numbers (a {@code null} list is not
      *                permitted).
@@ -85,22 +92,184 @@ public abstract class BoxAndWhiskerCalculator {
 
         Args.nullNotPermitted(values, "values");
 
-        List vlist;
-        if (stripNullAndNaNItems) {
-            vlist = new ArrayList(values.size());
-            for (Object obj : values) {
-                if (obj instanceof Number) {
-                    Number n = (Number) obj;
-                    double v = n.doubleValue();
-                    if (!Double.isNaN(v)) {
-                        vlist.add(n);
-                    }
+        if (!stripNullAndNaNItems) {
+            return calculateFromSortedList(values);
+        }
+        double[] v = new double[values.size()];
+        int count = 0;
+        for (Object obj : values) {
+            if (obj instanceof Number) {
+                double d = ((Number) obj).doubleValue();
+                if (!Double.isNaN(d)) {
+                    v[count++] = d;
+                }
+            }
+        }
+        double[] stats = calculateMeanAndQuartiles(v, count);
+        double q1 = stats[2];
+        double q3 = stats[3];
+        double interQuartileRange = q3 - q1;
+        double upperOutlierThreshold = q3 + (interQuartileRange * 1.5);
+        double lowerOutlierThreshold = q1 - (interQuartileRange * 1.5);
+
+        // the outliers are the original objects, in ascending order
+        List<Number> outliers = new ArrayList<>();
+        for (Object obj : values) {
+            if (obj instanceof Number) {
+                double d = ((Number) obj).doubleValue();
+                if (d > upperOutlierThreshold || d < lowerOutlierThreshold) {
+                    outliers.add((Number) obj);
                 }
             }
         }
-        else {
-            vlist = values;
+        outliers.sort(Comparator.comparingDouble(Number::doubleValue));
+        return createItem(stats, v, count, outliers);
+    }
+
+    /**
+     * Calculates the statistics required for a {@link BoxAndWhiskerItem}
+     * from an array of values.  Any {@code Double.NaN} values are ignored,
+     * and the array is not modified.
+     * <br><br>
+     * The median and quartiles are the same as those calculated by
+     * {@link #calculateBoxAndWhiskerStatistics(List)}, but they are found
+     * with a selection algorithm (in linear time on average) instead of by
+     * sorting the values, and the outliers are found in a single pass, so
+     * this method is much faster for large arrays.  The mean is the sum of
+     * the values in array order (divided by the count), so it may differ in
+     * the last bits from the mean of the same values in a different order.
+     *
+     * @param values  the values ({@code null} not permitted).
+     *
+     * @return A box-and-whisker item (the outliers are in ascending order).
+     *
+     * @since 2.0.0
+     */
+    public static BoxAndWhiskerItem
+            calculateBoxAndWhiskerStatisticsFromArray(double[] values) {
+        Args.nullNotPermitted(values, "values");
+        double[] v = new double[values.length];
+        int count = 0;
+        for (double d : values) {
+            if (!Double.isNaN(d)) {
+                v[count++] = d;
+            }
+        }
+        double[] stats = calculateMeanAndQuartiles(v, count);
+        double interQuartileRange = stats[3] - stats[2];
+        double upperOutlierThreshold = stats[3] + (interQuartileRange * 1.5);
+        double lowerOutlierThreshold = stats[2] - (interQuartileRange * 1.5);
+        double[] outlierValues = new double[count];
+        int outlierCount = 0;
+        for (int i = 0; i < count; i++) {
+            double d = v[i];
+            if (d > upperOutlierThreshold || d < lowerOutlierThreshold) {
+                outlierValues[outlierCount++] = d;
+            }
+        }
+        Arrays.sort(outlierValues, 0, outlierCount);
+        List<Number> outliers = new ArrayList<>(outlierCount);
+        for (int i = 0; i < outlierCount; i++) {
+            outliers.add(outlierValues[i]);
+        }
+        return createItem(stats, v, count, outliers);
+    }
+
+    /**
+     * Calculates the mean, median, first quartile and third quartile for
+     * the first {@code count} values in an array, rearranging those values.
+     *
+     * @param v  the values (no {@code Double.NaN} values).
+     * @param count  the number of values.
+     *
+     * @return An array containing the mean, median, Q1 and Q3 (all
+     *     {@code Double.NaN} if {@code count} is zero).
+     */
+    private static double[] calculateMeanAndQuartiles(double[] v,
+            int count) {
+        if (count == 0) {
+            return new double[] {Double.NaN, Double.NaN, Double.NaN,
+                    Double.NaN};
+        }
+        // the values are summed in input order, before the selection steps
+        // rearrange them
+        double total = 0.0;
+        for (int i = 0; i < count; i++) {
+            total += v[i];
         }
+        int last = count - 1;
+        // after selecting the (lower) median, the values before it are no
+        // greater and the values after it are no smaller, so the quartiles
+        // are selected from the lower and upper parts of the array only
+        int m = last / 2;
+        double median = QuickSelect.median(v, 0, last, 0, last);
+        // these ranks match calculateQ1() and calculateQ3()
+        int q1End = count % 2 == 1 ? count / 2 : count / 2 - 1;
+        double q1 = QuickSelect.median(v, 0, m, 0, q1End);
+        double q3 = QuickSelect.median(v, m, last, count / 2, last);
+        return new double[] {total / count, median, q1, q3};
+    }
+
+    /**
+     * Creates a box-and-whisker item, finding the regular value range and
+     * the outlier range in a single pass through the values.
+     *
+     * @param stats  the mean, median, Q1 and Q3.
+     * @param v  the values (no {@code Double.NaN} values).
+     * @param count  the number of values.
+     * @param outliers  the outliers.
+     *
+     * @return The item.
+     */
+    private static BoxAndWhiskerItem createItem(double[] stats, double[] v,
+            int count, List<Number> outliers) {
+        double q1 = stats[2];
+        double q3 = stats[3];
+        double interQuartileRange = q3 - q1;
+
+        double upperOutlierThreshold = q3 + (interQuartileRange * 1.5);
+        double lowerOutlierThreshold = q1 - (interQuartileRange * 1.5);
+
+        double upperFaroutThreshold = q3 + (interQuartileRange * 2.0);
+        double lowerFaroutThreshold = q1 - (interQuartileRange * 2.0);
+
+        double minRegularValue = Double.POSITIVE_INFINITY;
+        double maxRegularValue = Double.NEGATIVE_INFINITY;
+        double minOutlier = Double.POSITIVE_INFINITY;
+        double maxOutlier = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            double value = v[i];
+            if (value > upperOutlierThreshold) {
+                if (value > maxOutlier && value <= upperFaroutThreshold) {
+                    maxOutlier = value;
+                }
+            }
+            else if (value < lowerOutlierThreshold) {
+                if (value < minOutlier && value >= lowerFaroutThreshold) {
+                    minOutlier = value;
+                }
+            }
+            else {
+                minRegularValue = Math.min(minRegularValue, value);
+                maxRegularValue = Math.max(maxRegularValue, value);
+            }
+        }
+        minOutlier = Math.min(minOutlier, minRegularValue);
+        maxOutlier = Math.max(maxOutlier, maxRegularValue);
+        return new BoxAndWhiskerItem(stats[0], stats[1], q1, q3,
+                minRegularValue, maxRegularValue, minOutlier, maxOutlier,
+                outliers);
+    }
+
+    /**
+     * Calculates the statistics required for a {@link BoxAndWhiskerItem}
+     * by sorting a list of {@code Number} objects (in place).
+     *
+     * @param vlist  the values.
+     *
+     * @return A box-and-whisker item.
+     */
+    private static BoxAndWhiskerItem calculateFromSortedList(List vlist) {
         Collections.sort(vlist);
 
         double mean = Statistics.calculateMean(vlist, false);
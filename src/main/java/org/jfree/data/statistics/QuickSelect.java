@@ -0,0 +1,163 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * QuickSelect.java
+ * ----------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.Arrays;
+
+/**
+ * Selection algorithms for finding the values at particular ranks (the
+ * positions the values would have if they were sorted) in an array of
+ * {@code double} values, in linear time on average and without sorting the
+ * whole array.  The selection is an introselect:  a quickselect with a
+ * median-of-three pivot and a three-way partition (so that repeated values
+ * are handled efficiently), which falls back to sorting the remaining range
+ * if the partitions are persistently unbalanced.
+ * <br><br>
+ * The arrays must not contain {@code Double.NaN} values.
+ */
+final class QuickSelect {
+
+    /** Ranges of this size or smaller are sorted rather than partitioned. */
+    private static final int SORT_THRESHOLD = 16;
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private QuickSelect() {
+        // prevent instantiation
+    }
+
+    /**
+     * Rearranges the values in {@code a[from..to]} so that the value with
+     * rank {@code k} is at index {@code k}, with no greater values before it
+     * and no smaller values after it (within the range), and returns that
+     * value.
+     *
+     * @param a  the values (no {@code Double.NaN} values).
+     * @param from  the index of the first value in the range.
+     * @param to  the index of the last value in the range (inclusive).
+     * @param k  the rank (in the range {@code from} to {@code to}).
+     *
+     * @return The value with rank {@code k}.
+     */
+    static double select(double[] a, int from, int to, int k) {
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from + 1));
+        while (to > from) {
+            if (to - from < SORT_THRESHOLD || depth-- == 0) {
+                Arrays.sort(a, from, to + 1);
+                return a[k];
+            }
+            double pivot = median(a[from], a[(from + to) >>> 1], a[to]);
+            // three-way partition: a[from..lt-1] < pivot,
+            // a[lt..gt] == pivot and a[gt+1..to] > pivot
+            int lt = from;
+            int gt = to;
+            int i = from;
+            while (i <= gt) {
+                double v = a[i];
+                if (v < pivot) {
+                    a[i++] = a[lt];
+                    a[lt++] = v;
+                }
+                else if (v > pivot) {
+                    a[i] = a[gt];
+                    a[gt--] = v;
+                }
+                else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                to = lt - 1;
+            }
+            else if (k > gt) {
+                from = gt + 1;
+            }
+            else {
+                return pivot;
+            }
+        }
+        return a[k];
+    }
+
+    /**
+     * Returns the median of the values with ranks {@code first} to
+     * {@code last} (inclusive), rearranging the values in {@code a[from..to]}
+     * as for {@link #select(double[], int, int, int)}.  The ranks must be in
+     * the range {@code from} to {@code to}.  For an even number of ranks,
+     * the median is the mean of the two middle values.
+     *
+     * @param a  the values (no {@code Double.NaN} values).
+     * @param from  the index of the first value in the range.
+     * @param to  the index of the last value in the range (inclusive).
+     * @param first  the first rank.
+     * @param last  the last rank.
+     *
+     * @return The median.
+     */
+    static double median(double[] a, int from, int to, int first, int last) {
+        int count = last - first + 1;
+        int k = first + (count - 1) / 2;
+        double lower = select(a, from, to, k);
+        if (count % 2 == 1) {
+            return lower;
+        }
+        // the next rank is the smallest value after the selected value
+        double upper = a[k + 1];
+        for (int i = k + 2; i <= to; i++) {
+            upper = Math.min(upper, a[i]);
+        }
+        return (lower + upper) / 2.0;
+    }
+
+    /**
+     * Returns the median of three values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     * @param c  the third value.
+     *
+     * @return The median.
+     */
+    private static double median(double a, double b, double c) {
+        if (a < b) {
+            return b < c ? b : Math.max(a, c);
+        }
+        return a < c ? a : Math.max(b, c);
+    }
+
+}
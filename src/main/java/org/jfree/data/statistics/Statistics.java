@@ -37,6 +37,7 @@
 package org.jfree.data.statistics;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -183,6 +184,10 @@ public abstract class Statistics {
         double result = Double.NaN;
         if (values != null) {
             if (copyAndSort) {
+                double[] array = toDoubleArray(values, 0, values.size() - 1);
+                if (array != null) {
+                    return median(array);
+                }
                 int itemCount = values.size();
                 List copy = new ArrayList(itemCount);
                 for (int i = 0; i < itemCount; i++) {
@@ -246,6 +251,10 @@ public abstract class Statistics {
 
         double result = Double.NaN;
         if (copyAndSort) {
+            double[] array = toDoubleArray(values, start, end);
+            if (array != null) {
+                return median(array);
+            }
             List working = new ArrayList(end - start + 1);
             for (int i = start; i <= end; i++) {
                 working.add(values.get(i));
@@ -279,6 +288,73 @@ public abstract class Statistics {
 
     }
 
+    /**
+     * Calculates the median for an array of values, ignoring any
+     * {@code Double.NaN} values.  The median is found with a selection
+     * algorithm (in linear time on average) rather than by sorting the
+     * values, and the array is not modified.
+     *
+     * @param values  the values ({@code null} not permitted).
+     *
+     * @return The median ({@code Double.NaN} if there are no values).
+     *
+     * @since 2.0.0
+     */
+    public static double calculateMedianFromArray(double[] values) {
+        Args.nullNotPermitted(values, "values");
+        double[] copy = new double[values.length];
+        int count = 0;
+        for (double v : values) {
+            if (!Double.isNaN(v)) {
+                copy[count++] = v;
+            }
+        }
+        return median(Arrays.copyOf(copy, count));
+    }
+
+    /**
+     * Returns the median of an array of values, rearranging the values.
+     *
+     * @param values  the values (no {@code Double.NaN} values).
+     *
+     * @return The median ({@code Double.NaN} if the array is empty).
+     */
+    private static double median(double[] values) {
+        int count = values.length;
+        if (count == 0) {
+            return Double.NaN;
+        }
+        return QuickSelect.median(values, 0, count - 1, 0, count - 1);
+    }
+
+    /**
+     * Copies the values from a sublist into an array, or returns
+     * {@code null} if any item in the sublist is not a {@code Number} or
+     * is equivalent to {@code Double.NaN} (these are handled by sorting the
+     * items, as before).
+     *
+     * @param values  the values.
+     * @param start  the start index.
+     * @param end  the end index (inclusive).
+     *
+     * @return The values (possibly {@code null}).
+     */
+    private static double[] toDoubleArray(List values, int start, int end) {
+        double[] result = new double[Math.max(0, end - start + 1)];
+        for (int i = start; i <= end; i++) {
+            Object obj = values.get(i);
+            if (!(obj instanceof Number)) {
+                return null;
+            }
+            double v = ((Number) obj).doubleValue();
+            if (Double.isNaN(v)) {
+                return null;
+            }
+            result[i - start] = v;
+        }
+        return result;
+    }
+
     /**
      * Returns the standard deviation of a set of numbers.
      *
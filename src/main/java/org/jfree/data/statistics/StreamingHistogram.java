@@ -0,0 +1,439 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * StreamingHistogram.java
+ * -----------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+
+/**
+ * A histogram with a fixed number of equal width bins that is built one
+ * value (or one array of values) at a time, without keeping the values.
+ * The counts are held in a {@code long[]} array.
+ * <br><br>
+ * When a value falls outside the current range of the histogram, the range
+ * is moved (if the bins that are already occupied and the new value can be
+ * covered by the same number of bins) or the histogram is rebinned by
+ * doubling the bin width (merging pairs of bins) until the value is
+ * covered.  The bins always lie on a grid defined by the initial lower bound
+ * and bin width, so no count is ever split between bins, and histograms
+ * created with the same initial settings can be merged exactly whatever
+ * values they have received.  This makes it possible to build partial
+ * histograms in parallel and combine them:
+ * <pre>
+ * StreamingHistogram total = new StreamingHistogram(50, 0.0, 100.0);
+ * List&lt;StreamingHistogram&gt; partials = ... // one per thread, each
+ *         // created with new StreamingHistogram(50, 0.0, 100.0)
+ * for (StreamingHistogram partial : partials) {
+ *     total.merge(partial);
+ * }</pre>
+ * {@code Double.NaN} and infinite values are ignored.  This class is not
+ * safe for use by multiple threads at the same time.
+ *
+ * @see StreamingHistogramDataset
+ *
+ * @since 2.0.0
+ */
+public class StreamingHistogram implements Cloneable, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2046618817813658491L;
+
+    /**
+     * The largest bin index (relative to the origin) that is used before
+     * the bins are made wider, so that the indices are exact as
+     * {@code double} values.
+     */
+    private static final double MAX_INDEX = 0x1p52;
+
+    /** The initial lower bound, which is a boundary of every grid. */
+    private final double origin;
+
+    /** The initial bin width. */
+    private final double initialBinWidth;
+
+    /**
+     * The scale (the bin width is the initial bin width multiplied by two to
+     * the power of this value).
+     */
+    private int scale;
+
+    /** The current bin width. */
+    private double binWidth;
+
+    /**
+     * The index of the first bin, counting in bins of the current width from
+     * the origin.
+     */
+    private long firstBin;
+
+    /** The counts. */
+    private long[] counts;
+
+    /** The total count. */
+    private long total;
+
+    /**
+     * Creates a new, empty, histogram.
+     *
+     * @param binCount  the number of bins (at least 2).
+     * @param lowerBound  the initial lower bound (must be finite).
+     * @param upperBound  the initial upper bound (must be finite and greater
+     *     than {@code lowerBound}).
+     */
+    public StreamingHistogram(int binCount, double lowerBound,
+            double upperBound) {
+        if (binCount < 2) {
+            throw new IllegalArgumentException(
+                    "The 'binCount' value must be at least 2.");
+        }
+        if (!Double.isFinite(lowerBound) || !Double.isFinite(upperBound)
+                || !(lowerBound < upperBound)) {
+            throw new IllegalArgumentException("Requires finite bounds with "
+                    + "'lowerBound' < 'upperBound'.");
+        }
+        this.origin = lowerBound;
+        this.initialBinWidth = (upperBound - lowerBound) / binCount;
+        if (!(this.initialBinWidth > 0.0)) {
+            throw new IllegalArgumentException(
+                    "The range is too small for the number of bins.");
+        }
+        this.binWidth = this.initialBinWidth;
+        this.counts = new long[binCount];
+    }
+
+    /**
+     * Returns the number of bins.
+     *
+     * @return The number of bins.
+     */
+    public int getBinCount() {
+        return this.counts.length;
+    }
+
+    /**
+     * Returns the current bin width.
+     *
+     * @return The bin width.
+     */
+    public double getBinWidth() {
+        return this.binWidth;
+    }
+
+    /**
+     * Returns the current lower bound of the histogram.
+     *
+     * @return The lower bound.
+     */
+    public double getLowerBound() {
+        return getStartBoundary(0);
+    }
+
+    /**
+     * Returns the current upper bound of the histogram.
+     *
+     * @return The upper bound.
+     */
+    public double getUpperBound() {
+        return getEndBoundary(this.counts.length - 1);
+    }
+
+    /**
+     * Returns the start boundary of a bin (the bin contains values from the
+     * start boundary up to, but not including, the end boundary).
+     *
+     * @param bin  the bin index (in the range {@code 0} to
+     *     {@code getBinCount() - 1}).
+     *
+     * @return The start boundary.
+     */
+    public double getStartBoundary(int bin) {
+        return this.origin + (this.firstBin + bin) * this.binWidth;
+    }
+
+    /**
+     * Returns the end boundary of a bin.
+     *
+     * @param bin  the bin index (in the range {@code 0} to
+     *     {@code getBinCount() - 1}).
+     *
+     * @return The end boundary.
+     */
+    public double getEndBoundary(int bin) {
+        return this.origin + (this.firstBin + bin + 1) * this.binWidth;
+    }
+
+    /**
+     * Returns the count for a bin.
+     *
+     * @param bin  the bin index (in the range {@code 0} to
+     *     {@code getBinCount() - 1}).
+     *
+     * @return The count.
+     */
+    public long getCount(int bin) {
+        return this.counts[bin];
+    }
+
+    /**
+     * Returns the total count for all the bins.
+     *
+     * @return The total count.
+     */
+    public long getTotal() {
+        return this.total;
+    }
+
+    /**
+     * Adds a value to the histogram.
+     *
+     * @param value  the value ({@code Double.NaN} and infinite values, and
+     *     values too far from the initial range to be represented, are
+     *     ignored).
+     */
+    public void add(double value) {
+        double offset = value - this.origin;
+        if (!Double.isFinite(offset)) {
+            return;
+        }
+        double k = Math.floor(offset / this.binWidth);
+        while (Math.abs(k) > MAX_INDEX) {
+            coarsen();
+            k = Math.floor(offset / this.binWidth);
+        }
+        add((long) k, this.scale, 1L);
+    }
+
+    /**
+     * Adds an array of values to the histogram.
+     *
+     * @param values  the values ({@code null} not permitted).
+     */
+    public void add(double[] values) {
+        Args.nullNotPermitted(values, "values");
+        add(values, 0, values.length);
+    }
+
+    /**
+     * Adds a range of values from an array to the histogram.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param from  the index of the first value (inclusive).
+     * @param to  the index of the last value (exclusive).
+     */
+    public void add(double[] values, int from, int to) {
+        Args.nullNotPermitted(values, "values");
+        if (from < 0 || to > values.length || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range " + from
+                    + " to " + to + " for an array of length "
+                    + values.length + ".");
+        }
+        long[] c = this.counts;
+        for (int i = from; i < to; i++) {
+            double value = values[i];
+            // the common case, a value in the current range
+            double k = Math.floor((value - this.origin) / this.binWidth)
+                    - this.firstBin;
+            if (k >= 0.0 && k < c.length) {
+                c[(int) k]++;
+                this.total++;
+            }
+            else {
+                add(value);
+                c = this.counts;
+            }
+        }
+    }
+
+    /**
+     * Adds the counts from another histogram to this histogram.  The other
+     * histogram must have been created with the same number of bins and the
+     * same initial bounds as this histogram.  This histogram is moved or
+     * rebinned as necessary, and the other histogram is not changed.
+     *
+     * @param other  the other histogram ({@code null} not permitted).
+     */
+    public void merge(StreamingHistogram other) {
+        Args.nullNotPermitted(other, "other");
+        if (other.counts.length != this.counts.length
+                || Double.compare(other.origin, this.origin) != 0
+                || Double.compare(other.initialBinWidth,
+                        this.initialBinWidth) != 0) {
+            throw new IllegalArgumentException("The histograms must be "
+                    + "created with the same bin count and bounds.");
+        }
+        long[] c = other.counts.clone(); // in case other == this
+        for (int i = 0; i < c.length; i++) {
+            if (c[i] > 0) {
+                add(other.firstBin + i, other.scale, c[i]);
+            }
+        }
+    }
+
+    /**
+     * Clears all the counts (the bins are not changed).
+     */
+    public void clear() {
+        Arrays.fill(this.counts, 0L);
+        this.total = 0L;
+    }
+
+    /**
+     * Adds a count to a bin on the grid at the specified scale, rebinning
+     * this histogram if necessary.
+     *
+     * @param k  the bin index at the specified scale.
+     * @param kScale  the scale.
+     * @param count  the count.
+     */
+    private void add(long k, int kScale, long count) {
+        while (this.scale < kScale) {
+            coarsen();
+        }
+        int d = this.scale - kScale;
+        k = d < Long.SIZE ? k >> d : (k < 0 ? -1L : 0L);
+        int n = this.counts.length;
+        while (k < this.firstBin || k >= this.firstBin + n) {
+            int lo = 0;
+            while (lo < n && this.counts[lo] == 0L) {
+                lo++;
+            }
+            if (lo == n) {
+                // nothing to keep, so just move the bins
+                this.firstBin = k < this.firstBin ? k : k - n + 1;
+                break;
+            }
+            int hi = n - 1;
+            while (this.counts[hi] == 0L) {
+                hi--;
+            }
+            long min = Math.min(k, this.firstBin + lo);
+            long max = Math.max(k, this.firstBin + hi);
+            if (max - min < n) {
+                long newFirst = k < this.firstBin ? k : k - n + 1;
+                int shift = (int) (this.firstBin - newFirst);
+                long[] c = new long[n];
+                System.arraycopy(this.counts, lo, c, lo + shift,
+                        hi - lo + 1);
+                this.counts = c;
+                this.firstBin = newFirst;
+                break;
+            }
+            coarsen();
+            k >>= 1;
+        }
+        this.counts[(int) (k - this.firstBin)] += count;
+        this.total += count;
+    }
+
+    /**
+     * Doubles the bin width, merging pairs of bins.
+     */
+    private void coarsen() {
+        int n = this.counts.length;
+        long newFirst = this.firstBin >> 1;
+        long[] c = new long[n];
+        for (int i = 0; i < n; i++) {
+            if (this.counts[i] != 0L) {
+                c[(int) (((this.firstBin + i) >> 1) - newFirst)]
+                        += this.counts[i];
+            }
+        }
+        this.counts = c;
+        this.firstBin = newFirst;
+        this.scale++;
+        this.binWidth = this.initialBinWidth * Math.pow(2.0, this.scale);
+    }
+
+    /**
+     * Tests this histogram for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StreamingHistogram)) {
+            return false;
+        }
+        StreamingHistogram that = (StreamingHistogram) obj;
+        if (Double.compare(this.origin, that.origin) != 0) {
+            return false;
+        }
+        if (Double.compare(this.initialBinWidth, that.initialBinWidth) != 0) {
+            return false;
+        }
+        if (this.scale != that.scale || this.firstBin != that.firstBin) {
+            return false;
+        }
+        return Arrays.equals(this.counts, that.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 37 * hash + Double.hashCode(this.origin);
+        hash = 37 * hash + Double.hashCode(this.initialBinWidth);
+        hash = 37 * hash + this.scale;
+        hash = 37 * hash + Long.hashCode(this.firstBin);
+        hash = 37 * hash + Arrays.hashCode(this.counts);
+        return hash;
+    }
+
+    /**
+     * Returns a clone of the histogram.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but maybe
+     *         by subclasses (if any).
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        StreamingHistogram clone = (StreamingHistogram) super.clone();
+        clone.counts = this.counts.clone();
+        return clone;
+    }
+
+}
@@ -0,0 +1,512 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * StreamingHistogramDataset.java
+ * ------------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+
+/**
+ * A histogram dataset that is built incrementally:  values can be added to
+ * each series one at a time or in arrays, at any time, and partial
+ * histograms built elsewhere (for example, in parallel on several threads)
+ * can be merged in.  Each series is a {@link StreamingHistogram}, so the
+ * values themselves are not kept and the range of each series grows (by
+ * rebinning) to include all the values added.
+ *
+ * @param <K>  the type for the series keys.
+ *
+ * @see HistogramDataset
+ *
+ * @since 2.0.0
+ */
+public class StreamingHistogramDataset<K extends Comparable<K>>
+        extends AbstractIntervalXYDataset<K> implements IntervalXYDataset<K>,
+        Cloneable, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1795231736578204127L;
+
+    /** The series keys. */
+    private List<K> keys;
+
+    /** The histograms (one per series). */
+    private List<StreamingHistogram> histograms;
+
+    /** The histogram type. */
+    private HistogramType type;
+
+    /**
+     * Creates a new (empty) dataset with a default type of
+     * {@link HistogramType}.FREQUENCY.
+     */
+    public StreamingHistogramDataset() {
+        this.keys = new ArrayList<>();
+        this.histograms = new ArrayList<>();
+        this.type = HistogramType.FREQUENCY;
+    }
+
+    /**
+     * Returns the histogram type.
+     *
+     * @return The type (never {@code null}).
+     */
+    public HistogramType getType() {
+        return this.type;
+    }
+
+    /**
+     * Sets the histogram type and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param type  the type ({@code null} not permitted).
+     */
+    public void setType(HistogramType type) {
+        Args.nullNotPermitted(type, "type");
+        this.type = type;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds an empty series to the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param key  the series key ({@code null} not permitted, and must be
+     *     different to the keys of the existing series).
+     * @param binCount  the number of bins (at least 2).
+     * @param lowerBound  the initial lower bound.
+     * @param upperBound  the initial upper bound.
+     */
+    public void addSeries(K key, int binCount, double lowerBound,
+            double upperBound) {
+        addSeries(key, new StreamingHistogram(binCount, lowerBound,
+                upperBound));
+    }
+
+    /**
+     * Adds a series to the dataset, with the bins and counts copied from a
+     * histogram, and sends a {@link DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param key  the series key ({@code null} not permitted, and must be
+     *     different to the keys of the existing series).
+     * @param histogram  the histogram ({@code null} not permitted).
+     */
+    public void addSeries(K key, StreamingHistogram histogram) {
+        Args.nullNotPermitted(key, "key");
+        Args.nullNotPermitted(histogram, "histogram");
+        if (this.keys.contains(key)) {
+            throw new IllegalArgumentException("Duplicate key: " + key);
+        }
+        this.keys.add(key);
+        this.histograms.add(copy(histogram));
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     */
+    public void removeSeries(K key) {
+        int series = seriesIndex(key);
+        this.keys.remove(series);
+        this.histograms.remove(series);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns a copy of the histogram for a series.  The copy can be used
+     * to start a partial histogram (after calling
+     * {@link StreamingHistogram#clear()}) that is later merged with the
+     * series.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     *
+     * @return A copy of the histogram.
+     */
+    public StreamingHistogram getHistogram(K key) {
+        return copy(this.histograms.get(seriesIndex(key)));
+    }
+
+    /**
+     * Adds a value to a series and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param value  the value ({@code Double.NaN} and infinite values are
+     *     ignored).
+     */
+    public void addValue(K key, double value) {
+        this.histograms.get(seriesIndex(key)).add(value);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds an array of values to a series and sends a single
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param values  the values ({@code null} not permitted).
+     */
+    public void addValues(K key, double[] values) {
+        Args.nullNotPermitted(values, "values");
+        this.histograms.get(seriesIndex(key)).add(values);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds the counts from a partial histogram to a series and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  The partial
+     * histogram must have been created with the same number of bins and the
+     * same initial bounds as the series.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param histogram  the partial histogram ({@code null} not permitted).
+     */
+    public void merge(K key, StreamingHistogram histogram) {
+        Args.nullNotPermitted(histogram, "histogram");
+        this.histograms.get(seriesIndex(key)).merge(histogram);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the index of a series.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     *
+     * @return The series index.
+     *
+     * @throws IllegalArgumentException if there is no series with the key.
+     */
+    private int seriesIndex(K key) {
+        Args.nullNotPermitted(key, "key");
+        int series = this.keys.indexOf(key);
+        if (series < 0) {
+            throw new IllegalArgumentException("Unknown key: " + key);
+        }
+        return series;
+    }
+
+    /**
+     * Returns a copy of a histogram.
+     *
+     * @param histogram  the histogram.
+     *
+     * @return The copy.
+     */
+    private static StreamingHistogram copy(StreamingHistogram histogram) {
+        try {
+            return (StreamingHistogram) histogram.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.keys.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The series key.
+     */
+    @Override
+    public K getSeriesKey(int series) {
+        return this.keys.get(series);
+    }
+
+    /**
+     * Returns the order of the domain values ({@code ASCENDING}, since the
+     * items are the bins in order).
+     *
+     * @return The order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of data items (bins) for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.histograms.get(series).getBinCount();
+    }
+
+    /**
+     * Returns the x-value (the middle of the bin) for an item.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item index (zero based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the x-value (the middle of the bin) for an item.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item index (zero based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        StreamingHistogram h = this.histograms.get(series);
+        return (h.getStartBoundary(item) + h.getEndBoundary(item)) / 2.0;
+    }
+
+    /**
+     * Returns the y-value for an item (calculated to take into account the
+     * histogram type).
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item index (zero based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        StreamingHistogram h = this.histograms.get(series);
+        if (this.type == HistogramType.FREQUENCY) {
+            return h.getCount(item);
+        }
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for an item (calculated to take into account the
+     * histogram type).
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item index (zero based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        StreamingHistogram h = this.histograms.get(series);
+        double count = h.getCount(item);
+        double total = h.getTotal();
+        if (this.type == HistogramType.FREQUENCY) {
+            return count;
+        }
+        else if (this.type == HistogramType.RELATIVE_FREQUENCY) {
+            return count / total;
+        }
+        else if (this.type == HistogramType.SCALE_AREA_TO_1) {
+            return count / (h.getBinWidth() * total);
+        }
+        else { // pretty sure this shouldn't ever happen
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Returns the start x-value (the start of the bin) for an item.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item index (zero based).
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the start x-value (the start of the bin) for an item.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item index (zero based).
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.histograms.get(series).getStartBoundary(item);
+    }
+
+    /**
+     * Returns the end x-value (the end of the bin) for an item.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item index (zero based).
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return getEndXValue(series, item);
+    }
+
+    /**
+     * Returns the end x-value (the end of the bin) for an item.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item index (zero based).
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.histograms.get(series).getEndBoundary(item);
+    }
+
+    /**
+     * Returns the start y-value for an item (which is the same as the
+     * y-value).
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item index (zero based).
+     *
+     * @return The start y-value.
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the end y-value for an item (which is the same as the
+     * y-value).
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     * @param item  the item index (zero based).
+     *
+     * @return The end y-value.
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof StreamingHistogramDataset)) {
+            return false;
+        }
+        StreamingHistogramDataset<?> that = (StreamingHistogramDataset<?>) obj;
+        if (!Objects.equals(this.type, that.type)) {
+            return false;
+        }
+        if (!this.keys.equals(that.keys)) {
+            return false;
+        }
+        return this.histograms.equals(that.histograms);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 47 * hash + this.keys.hashCode();
+        hash = 47 * hash + this.histograms.hashCode();
+        hash = 47 * hash + Objects.hashCode(this.type);
+        return hash;
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        @SuppressWarnings("unchecked")
+        StreamingHistogramDataset<K> clone
+                = (StreamingHistogramDataset<K>) super.clone();
+        clone.keys = new ArrayList<>(this.keys);
+        clone.histograms = CloneUtils.cloneList(this.histograms);
+        return clone;
+    }
+
+}
@@ -0,0 +1,214 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * MillisecondColumns.java
+ * -----------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * The first and last millisecond of each time period in a
+ * {@link TimeSeries}, calculated with one calendar (time zone) and cached
+ * in {@code long} arrays, so that the x-values can be read without
+ * recalculating them with a {@code Calendar} for every access.
+ * <p>
+ * The columns are filled on demand, up to the current item count of the
+ * series, so appending items to the series costs nothing until the new
+ * items are read.  The series calls {@link #removeFirst()} when it removes
+ * its first item and {@link #invalidateFrom(int)} when items are inserted
+ * or removed elsewhere.  Reading from multiple threads is safe, provided
+ * that the series is not modified at the same time.
+ */
+final class MillisecondColumns {
+
+    /** The calendar used to calculate the milliseconds. */
+    private final Calendar calendar;
+
+    /** The first millisecond of each period. */
+    private long[] first;
+
+    /** The last millisecond of each period. */
+    private long[] last;
+
+    /** The position in the arrays of the first item in the series. */
+    private int start;
+
+    /** The number of items (from the first) with valid values. */
+    private volatile int count;
+
+    /**
+     * Creates new (empty) columns.
+     *
+     * @param calendar  the calendar (a copy is taken).
+     */
+    MillisecondColumns(Calendar calendar) {
+        this.calendar = (Calendar) calendar.clone();
+        this.first = new long[0];
+        this.last = new long[0];
+    }
+
+    /**
+     * Returns {@code true} if these columns were calculated with a calendar
+     * that gives the same results as the specified calendar.
+     *
+     * @param c  the calendar.
+     *
+     * @return A boolean.
+     */
+    boolean matches(Calendar c) {
+        return c.getClass() == this.calendar.getClass()
+                && c.getFirstDayOfWeek() == this.calendar.getFirstDayOfWeek()
+                && c.getMinimalDaysInFirstWeek()
+                        == this.calendar.getMinimalDaysInFirstWeek()
+                && c.getTimeZone().equals(this.calendar.getTimeZone());
+    }
+
+    /**
+     * Makes sure that the values are available for all the items in the
+     * series.
+     *
+     * @param data  the items in the series.
+     */
+    void update(List<TimeSeriesDataItem> data) {
+        if (this.count < data.size()) {
+            fill(data);
+        }
+    }
+
+    /**
+     * Calculates the values for the items that do not have them yet.
+     *
+     * @param data  the items in the series.
+     */
+    private synchronized void fill(List<TimeSeriesDataItem> data) {
+        int n = data.size();
+        int valid = this.count;
+        if (valid >= n) {
+            return;
+        }
+        if (this.start + n > this.first.length) {
+            if (n <= this.first.length / 2) {
+                // there is enough room if the values are moved to the start
+                System.arraycopy(this.first, this.start, this.first, 0,
+                        valid);
+                System.arraycopy(this.last, this.start, this.last, 0, valid);
+            }
+            else {
+                int capacity = Math.max(16, n * 3 / 2);
+                long[] f = new long[capacity];
+                long[] l = new long[capacity];
+                System.arraycopy(this.first, this.start, f, 0, valid);
+                System.arraycopy(this.last, this.start, l, 0, valid);
+                this.first = f;
+                this.last = l;
+            }
+            this.start = 0;
+        }
+        for (int i = valid; i < n; i++) {
+            RegularTimePeriod period = data.get(i).getPeriod();
+            this.first[this.start + i] = period.getFirstMillisecond(
+                    this.calendar);
+            this.last[this.start + i] = period.getLastMillisecond(
+                    this.calendar);
+        }
+        // writing the volatile count publishes the values
+        this.count = n;
+    }
+
+    /**
+     * Returns the first millisecond of the period for an item.
+     *
+     * @param item  the item index.
+     *
+     * @return The first millisecond.
+     */
+    long getFirstMillisecond(int item) {
+        return this.first[this.start + item];
+    }
+
+    /**
+     * Returns the middle millisecond of the period for an item, calculated
+     * in the same way as
+     * {@link RegularTimePeriod#getMiddleMillisecond(Calendar)}.
+     *
+     * @param item  the item index.
+     *
+     * @return The middle millisecond.
+     */
+    long getMiddleMillisecond(int item) {
+        long m1 = this.first[this.start + item];
+        long m2 = this.last[this.start + item];
+        return m1 + (m2 - m1) / 2;
+    }
+
+    /**
+     * Returns the last millisecond of the period for an item.
+     *
+     * @param item  the item index.
+     *
+     * @return The last millisecond.
+     */
+    long getLastMillisecond(int item) {
+        return this.last[this.start + item];
+    }
+
+    /**
+     * Updates the columns after the first item has been removed from the
+     * series.
+     */
+    synchronized void removeFirst() {
+        if (this.count > 0) {
+            this.start++;
+            this.count--;
+        }
+    }
+
+    /**
+     * Discards the values for the items from the specified index onwards,
+     * after an item has been inserted or removed at that index.
+     *
+     * @param index  the index of the first item that has changed.
+     */
+    synchronized void invalidateFrom(int index) {
+        if (index < this.count) {
+            this.count = index;
+        }
+        if (this.count == 0) {
+            this.start = 0;
+        }
+    }
+
+}
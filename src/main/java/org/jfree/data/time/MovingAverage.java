@@ -112,47 +112,35 @@ public class MovingAverage {
             // first data item to have an average calculated...
             long firstSerial = source.getTimePeriod(0).getSerialIndex() + skip;
 
-            for (int i = source.getItemCount() - 1; i >= 0; i--) {
-
-                // get the current data item...
-                RegularTimePeriod period = source.getTimePeriod(i);
+            // a single pass with a window (from item j to item i) of the
+            // items less than periodCount periods before item i, with a
+            // running sum of the (non-null) values in the window
+            WindowSum sum = new WindowSum();
+            int j = 0;
+            for (int i = 0; i < source.getItemCount(); i++) {
+                TimeSeriesDataItem item = source.getRawDataItem(i);
+                RegularTimePeriod period = item.getPeriod();
                 long serial = period.getSerialIndex();
-
-                if (serial >= firstSerial) {
-                    // work out the average for the earlier values...
-                    int n = 0;
-                    double sum = 0.0;
-                    long serialLimit = period.getSerialIndex() - periodCount;
-                    int offset = 0;
-                    boolean finished = false;
-
-                    while ((offset < periodCount) && (!finished)) {
-                        if ((i - offset) >= 0) {
-                            TimeSeriesDataItem item = source.getRawDataItem(
-                                    i - offset);
-                            RegularTimePeriod p = item.getPeriod();
-                            Number v = item.getValue();
-                            long currentIndex = p.getSerialIndex();
-                            if (currentIndex > serialLimit) {
-                                if (v != null) {
-                                    sum = sum + v.doubleValue();
-                                    n = n + 1;
-                                }
-                            }
-                            else {
-                                finished = true;
-                            }
-                        }
-                        offset = offset + 1;
+                if (item.getValue() != null) {
+                    sum.add(item.getValue().doubleValue());
+                }
+                long serialLimit = serial - periodCount;
+                while (source.getRawDataItem(j).getPeriod().getSerialIndex()
+                        <= serialLimit) {
+                    Number v = source.getRawDataItem(j).getValue();
+                    if (v != null) {
+                        sum.remove(v.doubleValue());
                     }
-                    if (n > 0) {
-                        result.add(period, sum / n);
+                    j++;
+                }
+                if (serial >= firstSerial) {
+                    if (sum.getCount() > 0) {
+                        result.add(period, sum.getAverage(), false);
                     }
                     else {
-                        result.add(period, null);
+                        result.add(period, null, false);
                     }
                 }
-
             }
         }
         return result;
@@ -279,13 +267,49 @@ public class MovingAverage {
 
         XYSeries result = new XYSeries(name);
 
-        if (source.getItemCount(series) > 0) {
+        int itemCount = source.getItemCount(series);
+        if (itemCount > 0) {
 
             // if the initial averaging period is to be excluded, then
             // calculate the lowest x-value to have an average calculated...
             double first = source.getXValue(series, 0) + skip;
 
-            for (int i = source.getItemCount(series) - 1; i >= 0; i--) {
+            // the average for each item is calculated from the item and the
+            // items before it that have an x-value greater than x - period.
+            // When the x-values are in ascending order this is a window that
+            // slides forward, so a running sum can be used...
+            boolean ascending = true;
+            for (int i = 1; i < itemCount && ascending; i++) {
+                ascending = source.getXValue(series, i)
+                        >= source.getXValue(series, i - 1);
+            }
+            if (ascending) {
+                WindowSum sum = new WindowSum();
+                int j = 0;
+                for (int i = 0; i < itemCount; i++) {
+                    double x = source.getXValue(series, i);
+                    Number y = source.getY(series, i);
+                    if (y != null) {
+                        sum.add(y.doubleValue());
+                    }
+                    double limit = x - period;
+                    while (source.getXValue(series, j) <= limit) {
+                        Number yy = source.getY(series, j);
+                        if (yy != null) {
+                            sum.remove(yy.doubleValue());
+                        }
+                        j++;
+                    }
+                    if (x >= first) {
+                        result.add(x, sum.getCount() > 0
+                                ? sum.getAverage() : null, false);
+                    }
+                }
+                return result;
+            }
+
+            // ...otherwise the items before each item are searched
+            for (int i = itemCount - 1; i >= 0; i--) {
 
                 // get the current data item...
                 double x = source.getXValue(series, i);
@@ -332,4 +356,140 @@ public class MovingAverage {
 
     }
 
+    /**
+     * The sum of the values in a window that slides over a series.  The
+     * result must be the same as adding up the values in the window each
+     * time, so the finite values are summed with compensation (to avoid the
+     * loss of precision from adding and later subtracting a value that is
+     * much larger than the others) and the non-finite values are counted
+     * separately (so that they only affect the windows that contain them).
+     */
+    private static final class WindowSum {
+
+        /** The number of values in the window. */
+        private int count;
+
+        /** The number of finite values in the window. */
+        private int finiteCount;
+
+        /** The number of {@code Double.NaN} values in the window. */
+        private int nanCount;
+
+        /** The number of positive infinite values in the window. */
+        private int positiveInfinityCount;
+
+        /** The number of negative infinite values in the window. */
+        private int negativeInfinityCount;
+
+        /** The sum of the finite values. */
+        private double sum;
+
+        /** The compensation for the rounding errors in the sum. */
+        private double compensation;
+
+        /**
+         * Adds a value to the window.
+         *
+         * @param value  the value.
+         */
+        void add(double value) {
+            this.count++;
+            if (Double.isNaN(value)) {
+                this.nanCount++;
+            }
+            else if (value == Double.POSITIVE_INFINITY) {
+                this.positiveInfinityCount++;
+            }
+            else if (value == Double.NEGATIVE_INFINITY) {
+                this.negativeInfinityCount++;
+            }
+            else {
+                this.finiteCount++;
+                accumulate(value);
+            }
+        }
+
+        /**
+         * Removes a value (that was added earlier) from the window.
+         *
+         * @param value  the value.
+         */
+        void remove(double value) {
+            this.count--;
+            if (Double.isNaN(value)) {
+                this.nanCount--;
+            }
+            else if (value == Double.POSITIVE_INFINITY) {
+                this.positiveInfinityCount--;
+            }
+            else if (value == Double.NEGATIVE_INFINITY) {
+                this.negativeInfinityCount--;
+            }
+            else {
+                this.finiteCount--;
+                if (this.finiteCount == 0) {
+                    // start again from an exact zero
+                    this.sum = 0.0;
+                    this.compensation = 0.0;
+                }
+                else {
+                    accumulate(-value);
+                }
+            }
+        }
+
+        /**
+         * Adds a finite value to the sum (Neumaier's variant of Kahan
+         * summation).  The compensation is then folded back into the sum,
+         * so that the error left over from a large value that has since
+         * been removed does not remain in the compensation.
+         *
+         * @param value  the value.
+         */
+        private void accumulate(double value) {
+            double t = this.sum + value;
+            if (Math.abs(this.sum) >= Math.abs(value)) {
+                this.compensation += (this.sum - t) + value;
+            }
+            else {
+                this.compensation += (value - t) + this.sum;
+            }
+            this.sum = t;
+            t = this.sum + this.compensation;
+            double z = t - this.sum;
+            this.compensation = (this.sum - (t - z))
+                    + (this.compensation - z);
+            this.sum = t;
+        }
+
+        /**
+         * Returns the number of values in the window.
+         *
+         * @return The count.
+         */
+        int getCount() {
+            return this.count;
+        }
+
+        /**
+         * Returns the average of the values in the window (the window
+         * should contain at least one value).
+         *
+         * @return The average.
+         */
+        double getAverage() {
+            if (this.nanCount > 0 || (this.positiveInfinityCount > 0
+                    && this.negativeInfinityCount > 0)) {
+                return Double.NaN;
+            }
+            if (this.positiveInfinityCount > 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            if (this.negativeInfinityCount > 0) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            return (this.sum + this.compensation) / this.count;
+        }
+    }
+
 }
@@ -0,0 +1,222 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * RingBufferList.java
+ * -------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a circular array.  Adding to the end and removing from
+ * the start of the list are constant time operations, which makes this
+ * a good fit for a series that discards its oldest items as new items
+ * arrive.  Insertion and removal elsewhere in the list move the elements
+ * between the index and the end of the list.
+ *
+ * @param <E> the element type.
+ */
+class RingBufferList<E> extends AbstractList<E>
+        implements RandomAccess, Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2236719413823489012L;
+
+    /** Storage for the elements. */
+    private Object[] elements;
+
+    /** The index in {@code elements} of the first element in the list. */
+    private int head;
+
+    /** The number of elements in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     */
+    RingBufferList() {
+        this.elements = new Object[16];
+    }
+
+    /**
+     * Creates a new list containing the elements of the specified collection.
+     *
+     * @param c  the collection ({@code null} not permitted).
+     */
+    RingBufferList(Collection<? extends E> c) {
+        this.elements = new Object[Math.max(16, c.size())];
+        for (E e : c) {
+            this.elements[this.size++] = e;
+        }
+    }
+
+    /**
+     * Returns the position in the storage array for a list index.
+     *
+     * @param index  the list index.
+     *
+     * @return The position in the storage array.
+     */
+    private int position(int index) {
+        int p = this.head + index;
+        return p < this.elements.length ? p : p - this.elements.length;
+    }
+
+    /**
+     * Throws an exception if the index is not valid for element access.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+                    + this.size);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) this.elements[position(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index);
+        int p = position(index);
+        E old = (E) this.elements[p];
+        this.elements[p] = element;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+                    + this.size);
+        }
+        if (this.size == this.elements.length) {
+            grow();
+        }
+        if (index == 0) {
+            this.head = this.head == 0 ? this.elements.length - 1
+                    : this.head - 1;
+        }
+        else {
+            // shift the tail of the list up by one position
+            for (int i = this.size; i > index; i--) {
+                this.elements[position(i)] = this.elements[position(i - 1)];
+            }
+        }
+        this.elements[position(index)] = element;
+        this.size++;
+        this.modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index);
+        int p = position(index);
+        E old = (E) this.elements[p];
+        if (index == 0) {
+            this.elements[p] = null;
+            this.head = position(1);
+        }
+        else {
+            for (int i = index; i < this.size - 1; i++) {
+                this.elements[position(i)] = this.elements[position(i + 1)];
+            }
+            this.elements[position(this.size - 1)] = null;
+        }
+        this.size--;
+        if (this.size == 0) {
+            this.head = 0;
+        }
+        this.modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.elements[position(i)] = null;
+        }
+        this.head = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Doubles the capacity of the storage array, moving the first element to
+     * index 0.
+     */
+    private void grow() {
+        Object[] larger = new Object[this.elements.length * 2];
+        for (int i = 0; i < this.size; i++) {
+            larger[i] = this.elements[position(i)];
+        }
+        this.elements = larger;
+        this.head = 0;
+    }
+
+    /**
+     * Returns a shallow copy of this list.
+     *
+     * @return A clone.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public RingBufferList<E> clone() {
+        try {
+            RingBufferList<E> clone = (RingBufferList<E>) super.clone();
+            clone.elements = this.elements.clone();
+            return clone;
+        }
+        catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+}
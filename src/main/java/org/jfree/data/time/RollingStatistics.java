@@ -0,0 +1,560 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * RollingStatistics.java
+ * ----------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+
+/**
+ * Calculates rolling statistics (the mean, standard deviation, minimum,
+ * maximum and percentiles of the values in a window of the most recent
+ * items, and an exponentially weighted moving average) for a
+ * {@link TimeSeries}.  Each statistic is written to its own time series,
+ * which can be added to a {@link TimeSeriesCollection} and charted:
+ * <pre>
+ * RollingStatistics&lt;String&gt; stats = new RollingStatistics&lt;&gt;(prices, 20);
+ * TimeSeries&lt;String&gt; mean = stats.addMean("Mean");
+ * TimeSeries&lt;String&gt; max = stats.addMaximum("Max");
+ * stats.attach();</pre>
+ * The statistics are calculated in a single pass over the data:  the mean
+ * and standard deviation are updated as values enter and leave the window,
+ * the minimum and maximum are tracked with monotonic deques and the
+ * percentiles with a sorted copy of the window, so the cost for each item
+ * is constant (or a binary search and a block move for the percentiles)
+ * rather than proportional to the window size.
+ * <p>
+ * When attached to the source series (see {@link #attach()}), the
+ * statistics for new items appended to the series are added to the output
+ * series as the items arrive.  Any other change to the source series (a
+ * removal or an update of the last item, for example) causes the
+ * statistics to be recalculated for the whole series.  Changes to earlier
+ * items that are made together with new items (within a single change
+ * event) are not detected, call {@link #rebuild()} after such changes.
+ * The output series have the same maximum item count as the source series
+ * (when the oldest items are removed from the source series, the statistics
+ * already calculated from them are kept).
+ * <p>
+ * Items with a {@code null} value occupy a position in the window but are
+ * not included in the statistics.  A statistic with no values to be
+ * calculated from is {@code null} in the output series.
+ *
+ * @param <S>  the type for the series keys.
+ *
+ * @since 2.0.0
+ */
+public class RollingStatistics<S extends Comparable<S>>
+        implements SeriesChangeListener {
+
+    /** The statistic type for the mean. */
+    private static final int MEAN = 0;
+
+    /** The statistic type for the (sample) standard deviation. */
+    private static final int STANDARD_DEVIATION = 1;
+
+    /** The statistic type for the minimum. */
+    private static final int MINIMUM = 2;
+
+    /** The statistic type for the maximum. */
+    private static final int MAXIMUM = 3;
+
+    /** The statistic type for a percentile. */
+    private static final int PERCENTILE = 4;
+
+    /** The statistic type for an exponentially weighted moving average. */
+    private static final int EWMA = 5;
+
+    /** The source series. */
+    private final TimeSeries<S> source;
+
+    /** The number of items in the window. */
+    private final int windowSize;
+
+    /** The output statistics. */
+    private final List<Output<S>> outputs;
+
+    /** The values in the window (a circular buffer). */
+    private final double[] window;
+
+    /** The position in the buffer of the first value in the window. */
+    private int head;
+
+    /** The number of items in the window. */
+    private int size;
+
+    /** The number of values (excluding NaN) in the window. */
+    private int valueCount;
+
+    /** The mean of the values in the window. */
+    private double mean;
+
+    /**
+     * The sum of the squared differences from the mean of the values in the
+     * window.
+     */
+    private double m2;
+
+    /** The minimum and maximum ({@code null} unless required). */
+    private SlidingWindowMinMax minMax;
+
+    /**
+     * The values (excluding NaN) in the window, sorted ({@code null} unless
+     * a percentile is required).
+     */
+    private double[] sorted;
+
+    /** The period of the last item processed ({@code null} if none). */
+    private RegularTimePeriod lastPeriod;
+
+    /** A flag that indicates whether this object listens to the source. */
+    private boolean attached;
+
+    /**
+     * Creates a new instance with no outputs.
+     *
+     * @param source  the source series ({@code null} not permitted).
+     * @param windowSize  the number of items in the window (one or more).
+     */
+    public RollingStatistics(TimeSeries<S> source, int windowSize) {
+        Args.nullNotPermitted(source, "source");
+        if (windowSize < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'windowSize' >= 1.");
+        }
+        this.source = source;
+        this.windowSize = windowSize;
+        this.outputs = new ArrayList<>();
+        this.window = new double[windowSize];
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (never {@code null}).
+     */
+    public TimeSeries<S> getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the number of items in the window.
+     *
+     * @return The window size.
+     */
+    public int getWindowSize() {
+        return this.windowSize;
+    }
+
+    /**
+     * Adds an output series for the mean of the values in the window.
+     *
+     * @param key  the key for the output series ({@code null} not
+     *     permitted).
+     *
+     * @return The output series.
+     */
+    public TimeSeries<S> addMean(S key) {
+        return addOutput(key, MEAN, 0.0);
+    }
+
+    /**
+     * Adds an output series for the sample standard deviation of the values
+     * in the window (this is {@code null} for fewer than two values).
+     *
+     * @param key  the key for the output series ({@code null} not
+     *     permitted).
+     *
+     * @return The output series.
+     */
+    public TimeSeries<S> addStandardDeviation(S key) {
+        return addOutput(key, STANDARD_DEVIATION, 0.0);
+    }
+
+    /**
+     * Adds an output series for the minimum of the values in the window.
+     *
+     * @param key  the key for the output series ({@code null} not
+     *     permitted).
+     *
+     * @return The output series.
+     */
+    public TimeSeries<S> addMinimum(S key) {
+        return addOutput(key, MINIMUM, 0.0);
+    }
+
+    /**
+     * Adds an output series for the maximum of the values in the window.
+     *
+     * @param key  the key for the output series ({@code null} not
+     *     permitted).
+     *
+     * @return The output series.
+     */
+    public TimeSeries<S> addMaximum(S key) {
+        return addOutput(key, MAXIMUM, 0.0);
+    }
+
+    /**
+     * Adds an output series for a percentile of the values in the window.
+     * The percentile is interpolated between the closest ranks, so that the
+     * 0th percentile is the minimum, the 50th percentile is the median and
+     * the 100th percentile is the maximum.
+     *
+     * @param key  the key for the output series ({@code null} not
+     *     permitted).
+     * @param percent  the percentile (in the range 0 to 100).
+     *
+     * @return The output series.
+     */
+    public TimeSeries<S> addPercentile(S key, double percent) {
+        if (!(percent >= 0.0 && percent <= 100.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 'percent' in the range 0 to 100.");
+        }
+        return addOutput(key, PERCENTILE, percent);
+    }
+
+    /**
+     * Adds an output series for the exponentially weighted moving average of
+     * the values, where each new average is
+     * {@code alpha * value + (1 - alpha) * previousAverage} (the window is
+     * not used for this statistic).  The first average is the first value,
+     * and items with a {@code null} value repeat the previous average.
+     *
+     * @param key  the key for the output series ({@code null} not
+     *     permitted).
+     * @param alpha  the smoothing factor (greater than 0 and not more than
+     *     1).
+     *
+     * @return The output series.
+     */
+    public TimeSeries<S> addExponentialMovingAverage(S key, double alpha) {
+        if (!(alpha > 0.0 && alpha <= 1.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 'alpha' in the range (0, 1].");
+        }
+        return addOutput(key, EWMA, alpha);
+    }
+
+    /**
+     * Adds an output and recalculates all the statistics.
+     *
+     * @param key  the key for the output series.
+     * @param type  the statistic type.
+     * @param parameter  the percentile or smoothing factor.
+     *
+     * @return The output series.
+     */
+    private TimeSeries<S> addOutput(S key, int type, double parameter) {
+        Args.nullNotPermitted(key, "key");
+        Output<S> output = new Output<>(new TimeSeries<>(key), type,
+                parameter);
+        output.series.setMaximumItemCount(this.source.getMaximumItemCount());
+        this.outputs.add(output);
+        rebuild();
+        return output.series;
+    }
+
+    /**
+     * Returns {@code true} if this object is registered as a listener with
+     * the source series, and {@code false} otherwise.
+     *
+     * @return A boolean.
+     */
+    public boolean isAttached() {
+        return this.attached;
+    }
+
+    /**
+     * Registers this object as a listener with the source series, so that
+     * the statistics are updated when the source series changes, and brings
+     * the statistics up to date.
+     */
+    public void attach() {
+        if (!this.attached) {
+            this.source.addChangeListener(this);
+            this.attached = true;
+            seriesChanged(new SeriesChangeEvent(this.source));
+        }
+    }
+
+    /**
+     * Deregisters this object as a listener with the source series.  The
+     * output series keep their current values.
+     */
+    public void detach() {
+        if (this.attached) {
+            this.source.removeChangeListener(this);
+            this.attached = false;
+        }
+    }
+
+    /**
+     * Receives notification that the source series has changed, and updates
+     * the output series.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        int count = this.source.getItemCount();
+        int index = -1;
+        if (this.lastPeriod != null) {
+            index = this.source.getIndex(this.lastPeriod);
+            if (index < 0 || index == count - 1) {
+                // not an append, so start again
+                rebuild();
+                return;
+            }
+        }
+        for (int i = index + 1; i < count; i++) {
+            process(i, true);
+        }
+    }
+
+    /**
+     * Recalculates the statistics for all the items in the source series.
+     */
+    public void rebuild() {
+        this.head = 0;
+        this.size = 0;
+        this.valueCount = 0;
+        this.mean = 0.0;
+        this.m2 = 0.0;
+        this.minMax = null;
+        this.sorted = null;
+        for (Output<S> output : this.outputs) {
+            if (output.type == MINIMUM || output.type == MAXIMUM) {
+                this.minMax = new SlidingWindowMinMax();
+            }
+            else if (output.type == PERCENTILE) {
+                this.sorted = new double[this.windowSize];
+            }
+            output.average = Double.NaN;
+            if (output.series.getItemCount() > 0) {
+                output.series.delete(0, output.series.getItemCount() - 1,
+                        false);
+            }
+        }
+        this.lastPeriod = null;
+        for (int i = 0; i < this.source.getItemCount(); i++) {
+            process(i, false);
+        }
+        for (Output<S> output : this.outputs) {
+            output.series.fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds an item from the source series to the window and adds the
+     * statistics for the item to the output series.
+     *
+     * @param i  the item index.
+     * @param notify  notify the listeners of the output series?
+     */
+    private void process(int i, boolean notify) {
+        TimeSeriesDataItem item = this.source.getRawDataItem(i);
+        Number n = item.getValue();
+        double value = n != null ? n.doubleValue() : Double.NaN;
+        if (this.size == this.windowSize) {
+            removeFirst();
+        }
+        addLast(value);
+        for (Output<S> output : this.outputs) {
+            double result = calculate(output, value);
+            output.series.add(item.getPeriod(),
+                    Double.isNaN(result) ? null : result, notify);
+        }
+        this.lastPeriod = item.getPeriod();
+    }
+
+    /**
+     * Removes the first value from the window.
+     */
+    private void removeFirst() {
+        double value = this.window[this.head];
+        this.head = (this.head + 1) % this.windowSize;
+        this.size--;
+        if (this.minMax != null) {
+            this.minMax.removeFirst();
+        }
+        if (Double.isNaN(value)) {
+            return;
+        }
+        // reverse the update for the mean and sum of squared differences
+        this.valueCount--;
+        if (this.valueCount == 0) {
+            this.mean = 0.0;
+            this.m2 = 0.0;
+        }
+        else {
+            double delta = value - this.mean;
+            this.mean -= delta / this.valueCount;
+            this.m2 = Math.max(0.0, this.m2 - delta * (value - this.mean));
+        }
+        if (this.sorted != null) {
+            int p = Arrays.binarySearch(this.sorted, 0, this.valueCount + 1,
+                    value);
+            System.arraycopy(this.sorted, p + 1, this.sorted, p,
+                    this.valueCount - p);
+        }
+    }
+
+    /**
+     * Adds a value to the end of the window.
+     *
+     * @param value  the value ({@code Double.NaN} for a {@code null} value).
+     */
+    private void addLast(double value) {
+        this.window[(this.head + this.size) % this.windowSize] = value;
+        this.size++;
+        if (this.minMax != null) {
+            this.minMax.add(value);
+        }
+        if (Double.isNaN(value)) {
+            return;
+        }
+        // Welford's update for the mean and sum of squared differences
+        this.valueCount++;
+        double delta = value - this.mean;
+        this.mean += delta / this.valueCount;
+        this.m2 += delta * (value - this.mean);
+        if (this.sorted != null) {
+            int p = Arrays.binarySearch(this.sorted, 0, this.valueCount - 1,
+                    value);
+            if (p < 0) {
+                p = -p - 1;
+            }
+            System.arraycopy(this.sorted, p, this.sorted, p + 1,
+                    this.valueCount - 1 - p);
+            this.sorted[p] = value;
+        }
+    }
+
+    /**
+     * Calculates a statistic for the current window.
+     *
+     * @param output  the output.
+     * @param value  the value that has just been added.
+     *
+     * @return The statistic ({@code Double.NaN} if there is none).
+     */
+    private double calculate(Output<S> output, double value) {
+        switch (output.type) {
+            case MEAN:
+                return this.valueCount > 0 ? this.mean : Double.NaN;
+            case STANDARD_DEVIATION:
+                return this.valueCount > 1
+                        ? Math.sqrt(this.m2 / (this.valueCount - 1))
+                        : Double.NaN;
+            case MINIMUM:
+                return this.minMax.getMin();
+            case MAXIMUM:
+                return this.minMax.getMax();
+            case PERCENTILE:
+                return percentile(output.parameter);
+            case EWMA:
+                if (!Double.isNaN(value)) {
+                    output.average = Double.isNaN(output.average) ? value
+                            : output.parameter * value
+                            + (1.0 - output.parameter) * output.average;
+                }
+                return output.average;
+            default:
+                throw new IllegalStateException("Unknown statistic.");
+        }
+    }
+
+    /**
+     * Returns a percentile of the values in the window, interpolated
+     * between the closest ranks.
+     *
+     * @param percent  the percentile (0 to 100).
+     *
+     * @return The percentile ({@code Double.NaN} if there are no values).
+     */
+    private double percentile(double percent) {
+        if (this.valueCount == 0) {
+            return Double.NaN;
+        }
+        double rank = percent / 100.0 * (this.valueCount - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = Math.min(lower + 1, this.valueCount - 1);
+        double fraction = rank - lower;
+        return this.sorted[lower]
+                + fraction * (this.sorted[upper] - this.sorted[lower]);
+    }
+
+    /**
+     * An output series and the statistic written to it.
+     *
+     * @param <S>  the type for the series keys.
+     */
+    private static final class Output<S extends Comparable<S>> {
+
+        /** The output series. */
+        final TimeSeries<S> series;
+
+        /** The statistic type. */
+        final int type;
+
+        /** The percentile or smoothing factor. */
+        final double parameter;
+
+        /** The current exponentially weighted moving average. */
+        double average;
+
+        /**
+         * Creates a new output.
+         *
+         * @param series  the output series.
+         * @param type  the statistic type.
+         * @param parameter  the percentile or smoothing factor.
+         */
+        Output(TimeSeries<S> series, int type, double parameter) {
+            this.series = series;
+            this.type = type;
+            this.parameter = parameter;
+            this.average = Double.NaN;
+        }
+    }
+
+}
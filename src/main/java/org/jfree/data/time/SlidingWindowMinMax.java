@@ -0,0 +1,299 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * SlidingWindowMinMax.java
+ * ------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+
+/**
+ * Tracks the minimum and maximum of a sequence of values where values are
+ * added at the end and removed from the start (a sliding window).  Two
+ * monotonic deques are maintained so that {@link #add(double)},
+ * {@link #removeFirst()}, {@link #getMin()} and {@link #getMax()} all run in
+ * amortised constant time.  {@code Double.NaN} values occupy a position in
+ * the window but are ignored for the minimum and maximum.
+ */
+class SlidingWindowMinMax implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4153190244624950712L;
+
+    /** The sequence number that will be given to the next value added. */
+    private long nextSeq;
+
+    /** The sequence number of the first value in the window. */
+    private long firstSeq;
+
+    /** A deque of candidates for the minimum (values ascending). */
+    private Deque minDeque;
+
+    /** A deque of candidates for the maximum (values descending). */
+    private Deque maxDeque;
+
+    /**
+     * Creates a new empty window.
+     */
+    SlidingWindowMinMax() {
+        this.minDeque = new Deque();
+        this.maxDeque = new Deque();
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return The number of values.
+     */
+    int size() {
+        return (int) (this.nextSeq - this.firstSeq);
+    }
+
+    /**
+     * Adds a value to the end of the window.
+     *
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    void add(double value) {
+        long seq = this.nextSeq++;
+        if (Double.isNaN(value)) {
+            return;
+        }
+        while (!this.minDeque.isEmpty() && this.minDeque.lastValue() > value) {
+            this.minDeque.removeLast();
+        }
+        this.minDeque.addLast(seq, value);
+        while (!this.maxDeque.isEmpty() && this.maxDeque.lastValue() < value) {
+            this.maxDeque.removeLast();
+        }
+        this.maxDeque.addLast(seq, value);
+    }
+
+    /**
+     * Removes the first value from the window.
+     */
+    void removeFirst() {
+        if (this.firstSeq == this.nextSeq) {
+            throw new IllegalStateException("The window is empty.");
+        }
+        if (!this.minDeque.isEmpty()
+                && this.minDeque.firstSeq() == this.firstSeq) {
+            this.minDeque.removeFirst();
+        }
+        if (!this.maxDeque.isEmpty()
+                && this.maxDeque.firstSeq() == this.firstSeq) {
+            this.maxDeque.removeFirst();
+        }
+        this.firstSeq++;
+    }
+
+    /**
+     * Returns the minimum value in the window, ignoring {@code Double.NaN}.
+     *
+     * @return The minimum ({@code Double.NaN} if there is no value).
+     */
+    double getMin() {
+        return this.minDeque.isEmpty() ? Double.NaN
+                : this.minDeque.firstValue();
+    }
+
+    /**
+     * Returns the maximum value in the window, ignoring {@code Double.NaN}.
+     *
+     * @return The maximum ({@code Double.NaN} if there is no value).
+     */
+    double getMax() {
+        return this.maxDeque.isEmpty() ? Double.NaN
+                : this.maxDeque.firstValue();
+    }
+
+    /**
+     * Removes all values from the window.
+     */
+    void clear() {
+        this.minDeque.clear();
+        this.maxDeque.clear();
+        this.firstSeq = this.nextSeq;
+    }
+
+    /**
+     * Returns an independent copy of this window.
+     *
+     * @return A clone.
+     */
+    @Override
+    public SlidingWindowMinMax clone() {
+        try {
+            SlidingWindowMinMax clone = (SlidingWindowMinMax) super.clone();
+            clone.minDeque = this.minDeque.copy();
+            clone.maxDeque = this.maxDeque.copy();
+            return clone;
+        }
+        catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    /**
+     * A double-ended queue of (sequence, value) pairs stored in primitive
+     * circular arrays.
+     */
+    private static class Deque implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 6219680263279412516L;
+
+        /** The sequence numbers. */
+        private long[] seqs = new long[16];
+
+        /** The values. */
+        private double[] values = new double[16];
+
+        /** The position of the first entry. */
+        private int head;
+
+        /** The number of entries. */
+        private int size;
+
+        /**
+         * Returns {@code true} if the deque is empty.
+         *
+         * @return A boolean.
+         */
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        /**
+         * Returns the array position of the last entry.
+         *
+         * @return The position.
+         */
+        private int last() {
+            return (this.head + this.size - 1) & (this.seqs.length - 1);
+        }
+
+        /**
+         * Returns the sequence number of the first entry.
+         *
+         * @return The sequence number.
+         */
+        long firstSeq() {
+            return this.seqs[this.head];
+        }
+
+        /**
+         * Returns the value of the first entry.
+         *
+         * @return The value.
+         */
+        double firstValue() {
+            return this.values[this.head];
+        }
+
+        /**
+         * Returns the value of the last entry.
+         *
+         * @return The value.
+         */
+        double lastValue() {
+            return this.values[last()];
+        }
+
+        /**
+         * Adds an entry at the end of the deque, growing the storage if
+         * necessary (the capacity is always a power of two).
+         *
+         * @param seq  the sequence number.
+         * @param value  the value.
+         */
+        void addLast(long seq, double value) {
+            if (this.size == this.seqs.length) {
+                int n = this.seqs.length;
+                long[] s = new long[n * 2];
+                double[] v = new double[n * 2];
+                for (int i = 0; i < this.size; i++) {
+                    int p = (this.head + i) & (n - 1);
+                    s[i] = this.seqs[p];
+                    v[i] = this.values[p];
+                }
+                this.seqs = s;
+                this.values = v;
+                this.head = 0;
+            }
+            this.size++;
+            int p = last();
+            this.seqs[p] = seq;
+            this.values[p] = value;
+        }
+
+        /**
+         * Removes the first entry.
+         */
+        void removeFirst() {
+            this.head = (this.head + 1) & (this.seqs.length - 1);
+            this.size--;
+        }
+
+        /**
+         * Removes the last entry.
+         */
+        void removeLast() {
+            this.size--;
+        }
+
+        /**
+         * Removes all entries.
+         */
+        void clear() {
+            this.head = 0;
+            this.size = 0;
+        }
+
+        /**
+         * Returns an independent copy of the deque.
+         *
+         * @return The copy.
+         */
+        Deque copy() {
+            Deque copy = new Deque();
+            copy.seqs = this.seqs.clone();
+            copy.values = this.values.clone();
+            copy.head = this.head;
+            copy.size = this.size;
+            return copy;
+        }
+    }
+
+}
@@ -53,6 +53,7 @@ import java.util.TimeZone;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxPyramid;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -72,6 +73,12 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     /** For serialization. */
     private static final long serialVersionUID = -5032960206869675528L;
 
+    /**
+     * The maximum number of calendars for which the milliseconds of the time
+     * periods are cached.
+     */
+    static final int MAX_MILLISECOND_COLUMNS = 4;
+
     /** The type of period for the data. */
     protected Class timePeriodClass;
 
@@ -101,6 +108,31 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      */
     private double maxY;
 
+    /**
+     * Tracks the minimum and maximum y-values when the series is in ring
+     * buffer mode ({@code null} otherwise).
+     */
+    private SlidingWindowMinMax window;
+
+    /**
+     * A flag that controls whether or not a {@link MinMaxPyramid} is
+     * maintained for the values in the series.
+     */
+    private boolean minMaxPyramidEnabled;
+
+    /**
+     * The min/max pyramid for the values ({@code null} if the pyramid is not
+     * enabled or needs to be rebuilt).
+     */
+    private transient MinMaxPyramid pyramid;
+
+    /**
+     * The first and last millisecond of each time period, for each calendar
+     * used by {@link #getMillisecondColumns(Calendar)} ({@code null} until
+     * required).
+     */
+    private transient volatile MillisecondColumns[] millisecondColumns;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -138,6 +170,172 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         return CloneUtils.cloneList(this.data);
     }
 
+    /**
+     * Returns {@code true} if the series is using ring buffer storage, and
+     * {@code false} otherwise.
+     *
+     * @return A boolean.
+     *
+     * @see #setRingBufferMode(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isRingBufferMode() {
+        return this.window != null;
+    }
+
+    /**
+     * Switches the series to (or from) ring buffer storage.  In ring buffer
+     * mode the items are held in a circular array, so that appending a new
+     * (most recent) item and discarding the oldest item (as a result of the
+     * maximum item count or maximum item age) are both constant time
+     * operations.  The minimum and maximum y-values are tracked with
+     * monotonic deques, so {@link #findValueRange()} does not need to iterate
+     * over the data when the oldest item is discarded.  This is intended for
+     * series that receive a steady stream of new data with a sliding window,
+     * adding items out of order or updating existing items still works but
+     * will cause the y-value bounds to be recalculated.
+     * <p>
+     * No change event is sent since the data in the series is not modified.
+     *
+     * @param ringBuffer  the new mode.
+     *
+     * @see #isRingBufferMode()
+     *
+     * @since 2.0.0
+     */
+    public void setRingBufferMode(boolean ringBuffer) {
+        if (ringBuffer == isRingBufferMode()) {
+            return;
+        }
+        if (ringBuffer) {
+            this.data = new RingBufferList<>(this.data);
+            this.window = new SlidingWindowMinMax();
+            updateMinMaxYByIteration();
+        }
+        else {
+            this.data = new ArrayList<>(this.data);
+            this.window = null;
+        }
+    }
+
+    /**
+     * Returns {@code true} if a {@link MinMaxPyramid} is maintained for the
+     * values in this series, and {@code false} otherwise.  The default value
+     * is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setMinMaxPyramidEnabled(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isMinMaxPyramidEnabled() {
+        return this.minMaxPyramidEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not a {@link MinMaxPyramid} is
+     * maintained for the values in this series.  When enabled, renderers
+     * that reduce the number of items drawn can find the minimum and maximum
+     * value in each pixel column without visiting every item.  New items
+     * at the end of the series, removal of the oldest items (including in
+     * ring buffer mode) and updates are applied to the pyramid incrementally,
+     * other changes cause it to be rebuilt on the next call to
+     * {@link #getMinMaxPyramid()}.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @since 2.0.0
+     */
+    public void setMinMaxPyramidEnabled(boolean enabled) {
+        this.minMaxPyramidEnabled = enabled;
+        this.pyramid = null;
+    }
+
+    /**
+     * Returns the min/max pyramid for the values in this series, building it
+     * if necessary.  The pyramid should be treated as read-only.
+     *
+     * @return The pyramid, or {@code null} if it is not enabled.
+     *
+     * @see #setMinMaxPyramidEnabled(boolean)
+     *
+     * @since 2.0.0
+     */
+    public MinMaxPyramid getMinMaxPyramid() {
+        if (!this.minMaxPyramidEnabled) {
+            return null;
+        }
+        if (this.pyramid == null) {
+            double[] values = new double[this.data.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = toDouble(this.data.get(i).getValue());
+            }
+            this.pyramid = new MinMaxPyramid(values);
+        }
+        return this.pyramid;
+    }
+
+    /**
+     * Returns the first and last millisecond of each time period in the
+     * series, calculated with the specified calendar.  The values are
+     * cached for up to {@link #MAX_MILLISECOND_COLUMNS} different calendars
+     * (time zones) and are updated as the series changes, so that
+     * {@link TimeSeriesCollection} can read its x-values from an array.
+     *
+     * @param calendar  the calendar ({@code null} not permitted).
+     *
+     * @return The columns (up to date for the current items).
+     */
+    MillisecondColumns getMillisecondColumns(Calendar calendar) {
+        MillisecondColumns result = null;
+        MillisecondColumns[] columns = this.millisecondColumns;
+        if (columns != null) {
+            for (MillisecondColumns c : columns) {
+                if (c.matches(calendar)) {
+                    result = c;
+                    break;
+                }
+            }
+        }
+        if (result == null) {
+            result = addMillisecondColumns(calendar);
+        }
+        result.update(this.data);
+        return result;
+    }
+
+    /**
+     * Adds the columns for a calendar, discarding the oldest columns if
+     * there are already {@link #MAX_MILLISECOND_COLUMNS}.
+     *
+     * @param calendar  the calendar.
+     *
+     * @return The columns (for a calendar that matches the specified
+     *     calendar).
+     */
+    private synchronized MillisecondColumns addMillisecondColumns(
+            Calendar calendar) {
+        MillisecondColumns[] columns = this.millisecondColumns;
+        if (columns == null) {
+            columns = new MillisecondColumns[0];
+        }
+        // another thread may have added the columns already
+        for (MillisecondColumns c : columns) {
+            if (c.matches(calendar)) {
+                return c;
+            }
+        }
+        MillisecondColumns result = new MillisecondColumns(calendar);
+        int keep = Math.min(columns.length, MAX_MILLISECOND_COLUMNS - 1);
+        MillisecondColumns[] updated = new MillisecondColumns[keep + 1];
+        System.arraycopy(columns, columns.length - keep, updated, 0, keep);
+        updated[keep] = result;
+        this.millisecondColumns = updated;
+        return result;
+    }
+
     /**
      * Returns the maximum number of items that will be retained in the series.
      * The default value is {@code Integer.MAX_VALUE}.
@@ -556,20 +754,24 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         // make the change (if it's not a duplicate time period)...
         boolean added = false;
         int count = getItemCount();
+        boolean appended = false;
         if (count == 0) {
             this.data.add(item);
             added = true;
+            appended = true;
         }
         else {
             RegularTimePeriod last = getTimePeriod(getItemCount() - 1);
             if (item.getPeriod().compareTo(last) > 0) {
                 this.data.add(item);
                 added = true;
+                appended = true;
             }
             else {
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
                     this.data.add(-index - 1, item);
+                    invalidateMillisecondColumns(-index - 1);
                     added = true;
                 }
                 else {
@@ -585,11 +787,28 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             }
         }
         if (added) {
-            updateBoundsForAddedItem(item);
+            if (appended) {
+                updateBoundsForAppendedItem(item);
+                if (this.pyramid != null) {
+                    this.pyramid.add(toDouble(item.getValue()));
+                }
+            }
+            else {
+                updateBoundsForAddedItem(item);
+                this.pyramid = null;
+                if (this.window != null) {
+                    updateMinMaxYByIteration();
+                }
+            }
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                TimeSeriesDataItem d = removeFirstItem();
+                if (this.window != null) {
+                    updateMinMaxYAfterRemovingFirstItems();
+                }
+                else {
+                    updateBoundsForRemovedItem(d);
+                }
             }
 
             removeAgedItems(false);  // remove old items if necessary, but
@@ -702,7 +921,10 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             }
         }
         item.setValue(value);
-        if (iterate) {
+        if (this.pyramid != null) {
+            this.pyramid.set(index, toDouble(value));
+        }
+        if (iterate || this.window != null) {
             updateMinMaxYByIteration();
         }
         else if (value != null) {
@@ -805,7 +1027,10 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setValue(item.getValue());
-            if (iterate) {
+            if (this.pyramid != null) {
+                this.pyramid.set(index, toDouble(item.getValue()));
+            }
+            if (iterate || this.window != null) {
                 updateMinMaxYByIteration();
             }
             else if (item.getValue() != null) {
@@ -816,13 +1041,32 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         }
         else {
             item = (TimeSeriesDataItem) item.clone();
-            this.data.add(-index - 1, item);
-            updateBoundsForAddedItem(item);
+            int insertAt = -index - 1;
+            this.data.add(insertAt, item);
+            if (insertAt == this.data.size() - 1) {
+                updateBoundsForAppendedItem(item);
+                if (this.pyramid != null) {
+                    this.pyramid.add(toDouble(item.getValue()));
+                }
+            }
+            else {
+                updateBoundsForAddedItem(item);
+                this.pyramid = null;
+                invalidateMillisecondColumns(insertAt);
+                if (this.window != null) {
+                    updateMinMaxYByIteration();
+                }
+            }
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                TimeSeriesDataItem d = removeFirstItem();
+                if (this.window != null) {
+                    updateMinMaxYAfterRemovingFirstItems();
+                }
+                else {
+                    updateBoundsForRemovedItem(d);
+                }
             }
         }
         removeAgedItems(false);  // remove old items if necessary, but
@@ -849,11 +1093,11 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             boolean removed = false;
             while ((latest - getTimePeriod(0).getSerialIndex())
                     > this.maximumItemAge) {
-                this.data.remove(0);
+                removeFirstItem();
                 removed = true;
             }
             if (removed) {
-                updateMinMaxYByIteration();
+                updateMinMaxYAfterRemovingFirstItems();
                 if (notify) {
                     fireSeriesChanged();
                 }
@@ -901,11 +1145,11 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         boolean removed = false;
         while (getItemCount() > 0 && (index
                 - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
-            this.data.remove(0);
+            removeFirstItem();
             removed = true;
         }
         if (removed) {
-            updateMinMaxYByIteration();
+            updateMinMaxYAfterRemovingFirstItems();
             if (notify) {
                 fireSeriesChanged();
             }
@@ -919,9 +1163,14 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            this.pyramid = null;
+            invalidateMillisecondColumns(0);
             this.timePeriodClass = null;
             this.minY = Double.NaN;
             this.maxY = Double.NaN;
+            if (this.window != null) {
+                this.window.clear();
+            }
             fireSeriesChanged();
         }
     }
@@ -938,6 +1187,8 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         int index = getIndex(period);
         if (index >= 0) {
             TimeSeriesDataItem item = this.data.remove(index);
+            this.pyramid = null;
+            invalidateMillisecondColumns(index);
             updateBoundsForRemovedItem(item);
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
@@ -972,6 +1223,8 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         for (int i = 0; i <= (end - start); i++) {
             this.data.remove(start);
         }
+        this.pyramid = null;
+        invalidateMillisecondColumns(start);
         updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
@@ -1000,6 +1253,12 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     public Object clone() throws CloneNotSupportedException {
         TimeSeries<S> clone = (TimeSeries) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
+        clone.pyramid = null;
+        clone.millisecondColumns = null;
+        if (this.window != null) {
+            clone.data = new RingBufferList<>(clone.data);
+            clone.window = this.window.clone();
+        }
         return clone;
     }
 
@@ -1026,7 +1285,13 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         TimeSeries<S> copy = (TimeSeries) super.clone();
         copy.minY = Double.NaN;
         copy.maxY = Double.NaN;
+        copy.pyramid = null;
+        copy.millisecondColumns = null;
         copy.data = new java.util.ArrayList();
+        if (this.window != null) {
+            copy.data = new RingBufferList<>();
+            copy.window = new SlidingWindowMinMax();
+        }
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimeSeriesDataItem item = this.data.get(index);
@@ -1083,6 +1348,12 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         if (emptyRange) {
             TimeSeries<S> copy = (TimeSeries) super.clone();
             copy.data = new java.util.ArrayList();
+            copy.pyramid = null;
+            copy.millisecondColumns = null;
+            if (this.window != null) {
+                copy.data = new RingBufferList<>();
+                copy.window = new SlidingWindowMinMax();
+            }
             return copy;
         }
         return createCopy(startIndex, endIndex);
@@ -1169,6 +1440,76 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         }
     }
     
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the specified item has just been added at the end of
+     * the series.
+     *
+     * @param item  the item added ({@code null} not permitted).
+     */
+    private void updateBoundsForAppendedItem(TimeSeriesDataItem item) {
+        updateBoundsForAddedItem(item);
+        if (this.window != null) {
+            Number yN = item.getValue();
+            this.window.add(yN != null ? yN.doubleValue() : Double.NaN);
+        }
+    }
+
+    /**
+     * Removes the first item in the series.  The caller is responsible for
+     * calling {@link #updateMinMaxYAfterRemovingFirstItems()} once all the
+     * items that need to be removed have been removed.
+     *
+     * @return The item removed.
+     */
+    private TimeSeriesDataItem removeFirstItem() {
+        TimeSeriesDataItem d = this.data.remove(0);
+        if (this.window != null) {
+            this.window.removeFirst();
+        }
+        if (this.pyramid != null) {
+            this.pyramid.removeFirst();
+        }
+        MillisecondColumns[] columns = this.millisecondColumns;
+        if (columns != null) {
+            for (MillisecondColumns c : columns) {
+                c.removeFirst();
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Discards the cached milliseconds for the items from the specified
+     * index onwards, after an item has been inserted or removed at that
+     * index.
+     *
+     * @param index  the index.
+     */
+    private void invalidateMillisecondColumns(int index) {
+        MillisecondColumns[] columns = this.millisecondColumns;
+        if (columns != null) {
+            for (MillisecondColumns c : columns) {
+                c.invalidateFrom(index);
+            }
+        }
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values after
+     * one or more items have been removed from the start of the series.  In
+     * ring buffer mode this does not require any iteration.
+     */
+    private void updateMinMaxYAfterRemovingFirstItems() {
+        if (this.window != null) {
+            this.minY = this.window.getMin();
+            this.maxY = this.window.getMax();
+        }
+        else {
+            updateMinMaxYByIteration();
+        }
+    }
+
     /**
      * Updates the cached values for the minimum and maximum data values on
      * the basis that the specified item has just been removed.
@@ -1178,6 +1519,10 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      * @since 1.0.14
      */
     private void updateBoundsForRemovedItem(TimeSeriesDataItem item) {
+        if (this.window != null) {
+            updateMinMaxYByIteration();
+            return;
+        }
         Number yN = item.getValue();
         if (yN != null) {
             double y = yN.doubleValue();
@@ -1198,11 +1543,25 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     private void updateMinMaxYByIteration() {
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
+        if (this.window != null) {
+            this.window = new SlidingWindowMinMax();
+        }
         for (TimeSeriesDataItem item : this.data) {
-            updateBoundsForAddedItem(item);
+            updateBoundsForAppendedItem(item);
         }
     }
 
+    /**
+     * Returns the value of a number as a {@code double}.
+     *
+     * @param n  the number ({@code null} permitted).
+     *
+     * @return The value, or {@code Double.NaN} for {@code null}.
+     */
+    private static double toDouble(Number n) {
+        return n != null ? n.doubleValue() : Double.NaN;
+    }
+
     /**
      * A function to find the minimum of two values, but ignoring any
      * Double.NaN values.
@@ -42,6 +42,7 @@ import org.jfree.data.DomainInfo;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.MinMaxPyramid;
 import org.jfree.data.general.Series;
 import org.jfree.data.xy.*;
 
@@ -60,7 +61,8 @@ import java.util.*;
 public class TimeSeriesCollection<S extends Comparable<S>> 
         extends AbstractIntervalXYDataset
         implements XYDataset, IntervalXYDataset, DomainInfo, XYDomainInfo,
-        XYRangeInfo, VetoableChangeListener, Serializable {
+        XYRangeInfo, MinMaxPyramidInfo, VetoableChangeListener,
+        Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 834149929022371137L;
@@ -330,6 +332,21 @@ public class TimeSeriesCollection<S extends Comparable<S>>
         return getSeries(series).getItemCount();
     }
 
+    /**
+     * Returns the min/max pyramid for the y-values in a series.
+     *
+     * @param series  the series (zero-based index).
+     *
+     * @return The pyramid, or {@code null} if it is not enabled for the
+     *     series (see {@link TimeSeries#setMinMaxPyramidEnabled(boolean)}).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public MinMaxPyramid getMinMaxPyramid(int series) {
+        return getSeries(series).getMinMaxPyramid();
+    }
+
     /**
      * Returns the x-value (as a double primitive) for an item within a series.
      *
@@ -340,9 +357,7 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      */
     @Override
     public double getXValue(int series, int item) {
-        TimeSeries<S> s = this.data.get(series);
-        RegularTimePeriod period = s.getTimePeriod(item);
-        return getX(period);
+        return getX(this.data.get(series), item);
     }
 
     /**
@@ -355,9 +370,34 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      */
     @Override
     public Number getX(int series, int item) {
-        TimeSeries<S> ts = this.data.get(series);
-        RegularTimePeriod period = ts.getTimePeriod(item);
-        return getX(period);
+        return getX(this.data.get(series), item);
+    }
+
+    /**
+     * Returns the x-value for an item in a series.  The value is read from
+     * the milliseconds that the series caches for the time zone of this
+     * collection, so there is no calculation (or synchronization) required
+     * unless the series has changed.
+     *
+     * @param series  the series.
+     * @param item  the item (zero-based index).
+     *
+     * @return The x-value.
+     */
+    private long getX(TimeSeries<S> series, int item) {
+        MillisecondColumns columns = series.getMillisecondColumns(
+                this.workingCalendar);
+        Objects.checkIndex(item, series.getItemCount());
+        if (this.xPosition == TimePeriodAnchor.START) {
+            return columns.getFirstMillisecond(item);
+        }
+        else if (this.xPosition == TimePeriodAnchor.MIDDLE) {
+            return columns.getMiddleMillisecond(item);
+        }
+        else if (this.xPosition == TimePeriodAnchor.END) {
+            return columns.getLastMillisecond(item);
+        }
+        return 0L;
     }
 
     /**
@@ -390,9 +430,11 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      * @return The value.
      */
     @Override
-    public synchronized Number getStartX(int series, int item) {
+    public Number getStartX(int series, int item) {
         TimeSeries<S> ts = this.data.get(series);
-        return ts.getTimePeriod(item).getFirstMillisecond(this.workingCalendar);
+        Objects.checkIndex(item, ts.getItemCount());
+        return ts.getMillisecondColumns(this.workingCalendar)
+                .getFirstMillisecond(item);
     }
 
     /**
@@ -404,9 +446,11 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      * @return The value.
      */
     @Override
-    public synchronized Number getEndX(int series, int item) {
+    public Number getEndX(int series, int item) {
         TimeSeries<S> ts = this.data.get(series);
-        return ts.getTimePeriod(item).getLastMillisecond(this.workingCalendar);
+        Objects.checkIndex(item, ts.getItemCount());
+        return ts.getMillisecondColumns(this.workingCalendar)
+                .getLastMillisecond(item);
     }
 
     /**
@@ -43,8 +43,8 @@ import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.data.DomainInfo;
 import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
 import org.jfree.data.general.DatasetChangeEvent;
-import org.jfree.data.general.DatasetUtils;
 import org.jfree.data.general.SeriesChangeEvent;
 
 import java.util.ArrayList;
@@ -61,7 +61,7 @@ import java.util.Objects;
 public class DefaultTableXYDataset<S extends Comparable<S>> 
         extends AbstractIntervalXYDataset<S>
         implements TableXYDataset<S>, IntervalXYDataset<S>, DomainInfo,
-                   PublicCloneable {
+                   RangeInfo, PublicCloneable {
 
     /**
      * Storage for the data - this list will contain zero, one or many
@@ -564,8 +564,81 @@ public class DefaultTableXYDataset<S extends Comparable<S>>
             return this.intervalDelegate.getDomainBounds(includeInterval);
         }
         else {
-            return DatasetUtils.iterateDomainBounds(this, includeInterval);
+            // each series maintains the bounds of its x-values
+            double lower = Double.POSITIVE_INFINITY;
+            double upper = Double.NEGATIVE_INFINITY;
+            for (XYSeries<S> series : this.data) {
+                if (!Double.isNaN(series.getMinX())) {
+                    lower = Math.min(lower, series.getMinX());
+                    upper = Math.max(upper, series.getMaxX());
+                }
+            }
+            return lower <= upper ? new Range(lower, upper) : null;
+        }
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored,
+     *                         since the start and end y-values are the
+     *                         same as the y-value).
+     *
+     * @return The minimum value ({@code Double.NaN} if there are no values).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return range != null ? range.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored,
+     *                         since the start and end y-values are the
+     *                         same as the y-value).
+     *
+     * @return The maximum value ({@code Double.NaN} if there are no values).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range range = getRangeBounds(includeInterval);
+        return range != null ? range.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the values in this dataset's range.  The bounds
+     * are maintained by each series as items are added and removed, so this
+     * method does not need to iterate over the data items.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored,
+     *                         since the start and end y-values are the
+     *                         same as the y-value).
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (XYSeries<S> series : this.data) {
+            if (!Double.isNaN(series.getMinY())) {
+                lower = Math.min(lower, series.getMinY());
+                upper = Math.max(upper, series.getMaxY());
+            }
         }
+        return lower <= upper ? new Range(lower, upper) : null;
     }
 
     /**
@@ -0,0 +1,64 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * MinMaxPyramidInfo.java
+ * ----------------------
+ * (C) Copyright 2022, by David Gilbert.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.data.general.MinMaxPyramid;
+
+/**
+ * An interface that can (optionally) be implemented by an {@link XYDataset}
+ * to provide a {@link MinMaxPyramid} over the y-values of each series.
+ * Renderers that draw a reduced number of items can use the pyramid to find
+ * the minimum and maximum y-value in each pixel column without visiting
+ * every item.
+ *
+ * @since 2.0.0
+ */
+public interface MinMaxPyramidInfo {
+
+    /**
+     * Returns the min/max pyramid for the y-values in a series.  The item
+     * indices in the pyramid are the same as the item indices in the
+     * dataset.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The pyramid, or {@code null} if there is no pyramid for the
+     *     series.
+     */
+    MinMaxPyramid getMinMaxPyramid(int series);
+
+}
@@ -0,0 +1,996 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * PrimitiveXYSeries.java
+ * ----------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * An {@link XYSeries} that stores its data in two growable {@code double[]}
+ * columns rather than a list of {@link XYDataItem} objects.  This uses far
+ * less memory for large series and the primitive accessors
+ * {@link #getXValue(int)} and {@link #getYValue(int)} (used by
+ * {@link XYSeriesCollection}) never allocate {@code Number} instances.
+ * <p>
+ * The series follows the same rules as {@link XYSeries} for the
+ * {@code autoSort}, {@code allowDuplicateXValues} and
+ * {@code maximumItemCount} settings.  Missing y-values are stored as
+ * {@code Double.NaN}, so {@code null} and {@code Double.NaN} y-values are
+ * not distinguished (the {@link #getY(int)} method returns {@code null} for
+ * both).
+ * <p>
+ * Items are held in the range {@code [start, start + count)} of the
+ * storage arrays, so that removing the first item (which happens on every
+ * add once the maximum item count has been reached) does not require the
+ * remaining items to be moved.
+ *
+ * @param <K> the type of the series key.
+ *
+ * @since 2.0.0
+ */
+public class PrimitiveXYSeries<K extends Comparable<K>> extends XYSeries<K> {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3175040467185125421L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Storage for the x-values. */
+    private double[] xValues;
+
+    /** Storage for the y-values ({@code Double.NaN} for missing values). */
+    private double[] yValues;
+
+    /** The index of the first item in the storage arrays. */
+    private int start;
+
+    /** The number of items in the series. */
+    private int count;
+
+    /** The lowest x-value in the series, excluding Double.NaN values. */
+    private double minX;
+
+    /** The highest x-value in the series, excluding Double.NaN values. */
+    private double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     */
+    public PrimitiveXYSeries(K key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Creates a new empty series.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public PrimitiveXYSeries(K key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        this(key, autoSort, allowDuplicateXValues, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty series with storage pre-allocated for the
+     * specified number of items.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     * @param initialCapacity  the initial capacity (must be positive).
+     */
+    public PrimitiveXYSeries(K key, boolean autoSort,
+            boolean allowDuplicateXValues, int initialCapacity) {
+        super(key, autoSort, allowDuplicateXValues);
+        Args.requireNonNegative(initialCapacity, "initialCapacity");
+        int capacity = Math.max(1, initialCapacity);
+        this.xValues = new double[capacity];
+        this.yValues = new double[capacity];
+        this.start = 0;
+        this.count = 0;
+        resetBounds();
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The smallest x-value.
+     */
+    @Override
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The largest x-value.
+     */
+    @Override
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The smallest y-value.
+     */
+    @Override
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The largest y-value.
+     */
+    @Override
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns an unmodifiable list containing a new {@link XYDataItem} for
+     * each item in the series.  This is provided for compatibility only, as it
+     * allocates one object per item.
+     *
+     * @return The list of data items.
+     */
+    @Override
+    public List<XYDataItem> getItems() {
+        List<XYDataItem> result = new ArrayList<>(this.count);
+        for (int i = 0; i < this.count; i++) {
+            result.add(getRawDataItem(i));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series,
+     * removing items from the start of the series if necessary (in which case
+     * a {@link SeriesChangeEvent} is sent to all registered listeners).
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    @Override
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        int remove = this.count - maximum;
+        if (remove > 0) {
+            this.start += remove;
+            this.count -= remove;
+            pyramidInvalidated();
+            findBoundsByIteration();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (x, y) item ({@code null} not permitted).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(XYDataItem item, boolean notify) {
+        Args.nullNotPermitted(item, "item");
+        add(item.getXValue(), item.getYValue(), notify);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value ({@code null} not permitted).
+     * @param y  the y-value ({@code null} permitted).
+     * @param notify  a flag the controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(Number x, Number y, boolean notify) {
+        Args.nullNotPermitted(x, "x");
+        add(x.doubleValue(), toDouble(y), notify);
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value ({@code null} permitted).
+     */
+    @Override
+    public void add(double x, Number y) {
+        add(x, toDouble(y), true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value ({@code null} permitted).
+     * @param notify  a flag the controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(double x, Number y, boolean notify) {
+        add(x, toDouble(y), notify);
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    @Override
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series (in the correct position if the
+     * {@code autoSort} flag is set for the series) and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  No objects are
+     * allocated unless the storage arrays need to grow.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value ({@code Double.NaN} for a missing value).
+     * @param notify  a flag the controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     {@code allowDuplicateXValues} flag is not set for this series.
+     */
+    @Override
+    public void add(double x, double y, boolean notify) {
+        int index;
+        if (getAutoSort()) {
+            index = upperBound(x);
+            if (!getAllowDuplicateXValues() && index > 0
+                    && this.xValues[this.start + index - 1] == x) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+        else {
+            if (!getAllowDuplicateXValues() && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            index = this.count;
+        }
+        insert(index, x, y);
+        updateBoundsForAddedItem(x, y);
+        if (this.count > getMaximumItemCount()) {
+            removeFirst();
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based).
+     */
+    @Override
+    public void delete(int start, int end) {
+        Args.requireInRange(start, "start", 0, this.count - 1);
+        Args.requireInRange(end, "end", start, this.count - 1);
+        removeRange(start, end - start + 1);
+        findBoundsByIteration();
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     *
+     * @return The item removed.
+     */
+    @Override
+    public XYDataItem remove(int index) {
+        XYDataItem removed = getRawDataItem(index);
+        removeRange(index, 1);
+        updateBoundsForRemovedItem(removed.getXValue(), removed.getYValue());
+        fireSeriesChanged();
+        return removed;
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    @Override
+    public void clear() {
+        if (this.count > 0) {
+            this.start = 0;
+            this.count = 0;
+            pyramidInvalidated();
+            resetBounds();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    public XYDataItem getDataItem(int index) {
+        return getRawDataItem(index);
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     * Unlike the superclass, changes to the returned item are not reflected
+     * in the series.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    XYDataItem getRawDataItem(int index) {
+        checkIndex(index);
+        return new XYDataItem(this.xValues[this.start + index],
+                this.yValues[this.start + index]);
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never {@code null}).
+     */
+    @Override
+    public Number getX(int index) {
+        return getXValue(index);
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value ({@code null} for a missing value).
+     */
+    @Override
+    public Number getY(int index) {
+        double y = getYValue(index);
+        return Double.isNaN(y) ? null : y;
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[this.start + index];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value ({@code Double.NaN} for a missing value).
+     */
+    @Override
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[this.start + index];
+    }
+
+    /**
+     * Updates the value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value ({@code null} permitted).
+     */
+    @Override
+    public void updateByIndex(int index, Number y) {
+        checkIndex(index);
+        setYValue(index, toDouble(y));
+        fireSeriesChanged();
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return The item that was overwritten, if any.
+     */
+    @Override
+    public XYDataItem addOrUpdate(double x, double y) {
+        if (getAllowDuplicateXValues()) {
+            add(x, y, true);
+            return null;
+        }
+        XYDataItem overwritten = null;
+        int index = indexOf(x);
+        if (index >= 0) {
+            overwritten = getRawDataItem(index);
+            setYValue(index, y);
+        }
+        else {
+            insert(getAutoSort() ? -index - 1 : this.count, x, y);
+            updateBoundsForAddedItem(x, y);
+            if (this.count > getMaximumItemCount()) {
+                removeFirst();
+            }
+        }
+        fireSeriesChanged();
+        return overwritten;
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the data item ({@code null} not permitted).
+     *
+     * @return A copy of the overwritten data item, or {@code null} if no
+     *         item was overwritten.
+     */
+    @Override
+    public XYDataItem addOrUpdate(XYDataItem item) {
+        Args.nullNotPermitted(item, "item");
+        return addOrUpdate(item.getXValue(), item.getYValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.
+     *
+     * @param x  the x-value ({@code null} not permitted).
+     *
+     * @return The index.
+     */
+    @Override
+    public int indexOf(Number x) {
+        Args.nullNotPermitted(x, "x");
+        return indexOf(x.doubleValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For a
+     * sorted series the negative value has the same meaning as the result of
+     * {@link Arrays#binarySearch(double[], double)}, for an unsorted series it
+     * is always {@code -1}.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        if (getAutoSort()) {
+            int low = 0;
+            int high = this.count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                double midX = this.xValues[this.start + mid];
+                if (midX < x) {
+                    low = mid + 1;
+                }
+                else if (midX > x) {
+                    high = mid - 1;
+                }
+                else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+        for (int i = 0; i < this.count; i++) {
+            if (this.xValues[this.start + i] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    @Override
+    public double[][] toArray() {
+        return new double[][] {
+            Arrays.copyOfRange(this.xValues, this.start, this.start
+                    + this.count),
+            Arrays.copyOfRange(this.yValues, this.start, this.start
+                    + this.count)};
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object clone() throws CloneNotSupportedException {
+        PrimitiveXYSeries<K> clone = (PrimitiveXYSeries) super.clone();
+        clone.xValues = this.xValues.clone();
+        clone.yValues = this.yValues.clone();
+        return clone;
+    }
+
+    /**
+     * Creates a new series by copying a subset of the data in this series.
+     *
+     * @param start  the index of the first item to copy.
+     * @param end  the index of the last item to copy.
+     *
+     * @return A series containing a copy of this series from start until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public XYSeries<K> createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        PrimitiveXYSeries<K> copy = (PrimitiveXYSeries) clone();
+        int n = this.count == 0 ? 0 : end - start + 1;
+        copy.xValues = new double[Math.max(1, n)];
+        copy.yValues = new double[Math.max(1, n)];
+        if (n > 0) {
+            System.arraycopy(this.xValues, this.start + start, copy.xValues,
+                    0, n);
+            System.arraycopy(this.yValues, this.start + start, copy.yValues,
+                    0, n);
+        }
+        copy.start = 0;
+        copy.count = n;
+        copy.findBoundsByIteration();
+        return copy;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        // the items are not held in the superclass data list, so the
+        // superclass method is not used
+        PrimitiveXYSeries<?> that = (PrimitiveXYSeries<?>) obj;
+        if (!getKey().equals(that.getKey())) {
+            return false;
+        }
+        if (getMaximumItemCount() != that.getMaximumItemCount()) {
+            return false;
+        }
+        if (getAutoSort() != that.getAutoSort()) {
+            return false;
+        }
+        if (getAllowDuplicateXValues() != that.getAllowDuplicateXValues()) {
+            return false;
+        }
+        if (this.count != that.count) {
+            return false;
+        }
+        for (int i = 0; i < this.count; i++) {
+            if (Double.doubleToLongBits(this.xValues[this.start + i])
+                    != Double.doubleToLongBits(that.xValues[that.start + i])) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.yValues[this.start + i])
+                    != Double.doubleToLongBits(that.yValues[that.start + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = getKey().hashCode();
+        result = 29 * result + getMaximumItemCount();
+        result = 29 * result + (getAutoSort() ? 1 : 0);
+        result = 29 * result + (getAllowDuplicateXValues() ? 1 : 0);
+        // it is too slow to look at every data item, so let's just look at
+        // the first, middle and last items...
+        result = 29 * result + this.count;
+        if (this.count > 0) {
+            result = 29 * result + hashItem(0);
+        }
+        if (this.count > 1) {
+            result = 29 * result + hashItem(this.count - 1);
+        }
+        if (this.count > 2) {
+            result = 29 * result + hashItem(this.count / 2);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a hash code for the item at the specified index.
+     *
+     * @param index  the item index.
+     *
+     * @return A hash code.
+     */
+    private int hashItem(int index) {
+        return 29 * Double.hashCode(this.xValues[this.start + index])
+                + Double.hashCode(this.yValues[this.start + index]);
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than
+     * {@code x} (a sorted series is assumed).
+     *
+     * @param x  the x-value.
+     *
+     * @return The insertion index.
+     */
+    private int upperBound(double x) {
+        // fast path for the common case of appending in x-order
+        if (this.count == 0 || this.xValues[this.start + this.count - 1] <= x) {
+            return this.count;
+        }
+        int low = 0;
+        int high = this.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[this.start + mid] <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Inserts a value pair at the specified index, growing or compacting the
+     * storage if required.
+     *
+     * @param index  the index ({@code 0} to {@code count}).
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insert(int index, double x, double y) {
+        if (this.start + this.count == this.xValues.length) {
+            ensureSpace();
+        }
+        int pos = this.start + index;
+        int tail = this.count - index;
+        if (tail > 0) {
+            System.arraycopy(this.xValues, pos, this.xValues, pos + 1, tail);
+            System.arraycopy(this.yValues, pos, this.yValues, pos + 1, tail);
+        }
+        this.xValues[pos] = x;
+        this.yValues[pos] = y;
+        this.count++;
+        pyramidItemAdded(index, y);
+    }
+
+    /**
+     * Makes room for at least one more item at the end of the storage arrays,
+     * either by moving the items back to the start of the arrays (when at
+     * least half of the capacity is unused) or by growing the arrays.
+     */
+    private void ensureSpace() {
+        int capacity = this.xValues.length;
+        if (this.start > 0 && this.count <= capacity / 2) {
+            System.arraycopy(this.xValues, this.start, this.xValues, 0,
+                    this.count);
+            System.arraycopy(this.yValues, this.start, this.yValues, 0,
+                    this.count);
+        }
+        else {
+            int newCapacity = Math.max(capacity + (capacity >> 1),
+                    this.count + 1);
+            double[] xs = new double[newCapacity];
+            double[] ys = new double[newCapacity];
+            System.arraycopy(this.xValues, this.start, xs, 0, this.count);
+            System.arraycopy(this.yValues, this.start, ys, 0, this.count);
+            this.xValues = xs;
+            this.yValues = ys;
+        }
+        this.start = 0;
+    }
+
+    /**
+     * Removes the first item in the series (without sending a change event).
+     */
+    private void removeFirst() {
+        double x = this.xValues[this.start];
+        double y = this.yValues[this.start];
+        this.start++;
+        this.count--;
+        if (this.count == 0) {
+            this.start = 0;
+        }
+        pyramidFirstItemRemoved();
+        updateBoundsForRemovedItem(x, y);
+    }
+
+    /**
+     * Removes a range of items (without updating the bounds or sending a
+     * change event).
+     *
+     * @param index  the index of the first item to remove.
+     * @param length  the number of items to remove.
+     */
+    private void removeRange(int index, int length) {
+        if (index == 0) {
+            this.start += length;
+            for (int i = 0; i < length; i++) {
+                pyramidFirstItemRemoved();
+            }
+        }
+        else {
+            pyramidInvalidated();
+            int pos = this.start + index;
+            int tail = this.count - index - length;
+            System.arraycopy(this.xValues, pos + length, this.xValues, pos,
+                    tail);
+            System.arraycopy(this.yValues, pos + length, this.yValues, pos,
+                    tail);
+        }
+        this.count -= length;
+        if (this.count == 0) {
+            this.start = 0;
+        }
+    }
+
+    /**
+     * Sets the y-value at the specified index and updates the bounds.
+     *
+     * @param index  the index.
+     * @param y  the new y-value.
+     */
+    private void setYValue(int index, double y) {
+        double oldY = this.yValues[this.start + index];
+        this.yValues[this.start + index] = y;
+        pyramidItemUpdated(index, y);
+        if (!Double.isNaN(oldY) && (oldY <= this.minY || oldY >= this.maxY)) {
+            findBoundsByIteration();
+        }
+        else if (!Double.isNaN(y)) {
+            this.minY = minIgnoreNaN(this.minY, y);
+            this.maxY = maxIgnoreNaN(this.maxY, y);
+        }
+    }
+
+    /**
+     * Checks that an item index is valid.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.count);
+        }
+    }
+
+    /**
+     * Resets the cached bounds to {@code Double.NaN}.
+     */
+    private void resetBounds() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Updates the cached bounds for an added item.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void updateBoundsForAddedItem(double x, double y) {
+        this.minX = minIgnoreNaN(this.minX, x);
+        this.maxX = maxIgnoreNaN(this.maxX, x);
+        this.minY = minIgnoreNaN(this.minY, y);
+        this.maxY = maxIgnoreNaN(this.maxY, y);
+    }
+
+    /**
+     * Updates the cached bounds on the basis that an item with the specified
+     * values has just been removed.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void updateBoundsForRemovedItem(double x, double y) {
+        boolean yBound = !Double.isNaN(y) && (y <= this.minY
+                || y >= this.maxY);
+        boolean xBound = !Double.isNaN(x) && (x <= this.minX
+                || x >= this.maxX);
+        if (yBound) {
+            findBoundsByIteration();
+        }
+        else if (xBound) {
+            if (getAutoSort() && this.count > 0) {
+                this.minX = this.xValues[this.start];
+                this.maxX = this.xValues[this.start + this.count - 1];
+            }
+            else {
+                findBoundsByIteration();
+            }
+        }
+    }
+
+    /**
+     * Recalculates the cached bounds by iterating over all the items.
+     */
+    private void findBoundsByIteration() {
+        resetBounds();
+        int end = this.start + this.count;
+        for (int i = this.start; i < end; i++) {
+            updateBoundsForAddedItem(this.xValues[i], this.yValues[i]);
+        }
+    }
+
+    /**
+     * Returns the minimum of two values, ignoring {@code Double.NaN}.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum of the two values.
+     */
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * Returns the maximum of two values, ignoring {@code Double.NaN}.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum of the two values.
+     */
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    /**
+     * Converts a possibly {@code null} number to a {@code double}.
+     *
+     * @param n  the number ({@code null} permitted).
+     *
+     * @return The value, or {@code Double.NaN} for {@code null}.
+     */
+    private static double toDouble(Number n) {
+        return n == null ? Double.NaN : n.doubleValue();
+    }
+
+}
@@ -0,0 +1,478 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * XYDensityDataset.java
+ * ---------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+
+/**
+ * A dataset wrapper that counts the points in each series of an underlying
+ * {@link XYDataset} into rectangular bins of a fixed size (in data space).
+ * Each bin that contains at least one point is an item in the corresponding
+ * series of this dataset, with the x- and y-values at the center of the bin
+ * and the z-value equal to the number of points in the bin.  The items are
+ * sorted by x-value (then y-value).
+ * <br><br>
+ * The bins are calculated in a single pass over each series when the
+ * dataset is created, and again when the underlying dataset changes.  The
+ * dataset can be drawn with an {@code XYBlockRenderer} (with the block
+ * width and height set to the bin width and height), while the
+ * {@code XYDensityRenderer} bins the points in screen space instead.
+ *
+ * @since 2.0.0
+ */
+public class XYDensityDataset<S extends Comparable<S>>
+        extends AbstractXYZDataset<S>
+        implements XYZDataset<S>, DatasetChangeListener {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 8065902079122465188L;
+
+    /** The underlying dataset. */
+    private final XYDataset<S> underlying;
+
+    /** The bin width. */
+    private final double binWidth;
+
+    /** The bin height. */
+    private final double binHeight;
+
+    /**
+     * The bins for each series (the bin keys and counts).  The array is
+     * replaced, never modified, when the underlying dataset changes.
+     */
+    private transient volatile Bins[] bins;
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param underlying  the underlying dataset ({@code null} not
+     *     permitted).
+     * @param binWidth  the bin width (in data units, must be positive).
+     * @param binHeight  the bin height (in data units, must be positive).
+     */
+    public XYDensityDataset(XYDataset<S> underlying, double binWidth,
+            double binHeight) {
+        Args.nullNotPermitted(underlying, "underlying");
+        if (!(binWidth > 0.0) || !(binHeight > 0.0)) {
+            throw new IllegalArgumentException(
+                    "Requires binWidth > 0 and binHeight > 0.");
+        }
+        this.underlying = underlying;
+        this.underlying.addChangeListener(this);
+        this.binWidth = binWidth;
+        this.binHeight = binHeight;
+        this.bins = calculateBins();
+    }
+
+    /**
+     * Returns the underlying dataset that was specified via the constructor.
+     *
+     * @return The underlying dataset (never {@code null}).
+     */
+    public XYDataset<S> getUnderlyingDataset() {
+        return this.underlying;
+    }
+
+    /**
+     * Returns the bin width.
+     *
+     * @return The bin width.
+     */
+    public double getBinWidth() {
+        return this.binWidth;
+    }
+
+    /**
+     * Returns the bin height.
+     *
+     * @return The bin height.
+     */
+    public double getBinHeight() {
+        return this.binHeight;
+    }
+
+    /**
+     * Returns the largest number of points in any bin (in any series), which
+     * is useful for setting the upper bound of a paint scale.
+     *
+     * @return The count (zero if the dataset is empty).
+     */
+    public int getMaximumCount() {
+        int result = 0;
+        for (Bins b : this.bins) {
+            for (int count : b.counts) {
+                result = Math.max(result, count);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.underlying.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The series key.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return this.underlying.getSeriesKey(series);
+    }
+
+    /**
+     * Returns {@link DomainOrder#ASCENDING}, since the items are sorted by
+     * x-value.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of bins in a series that contain at least one
+     * point.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return getBins(series).keys.length;
+    }
+
+    /**
+     * Returns the x-value at the center of a bin.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        int column = (int) (getBins(series).keys[item] >> 32);
+        return (column + 0.5) * this.binWidth;
+    }
+
+    /**
+     * Returns the x-value at the center of a bin.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value at the center of a bin.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        int row = (int) getBins(series).keys[item] ^ Integer.MIN_VALUE;
+        return (row + 0.5) * this.binHeight;
+    }
+
+    /**
+     * Returns the y-value at the center of a bin.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the number of points in a bin.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The count.
+     */
+    @Override
+    public double getZValue(int series, int item) {
+        return getBins(series).counts[item];
+    }
+
+    /**
+     * Returns the number of points in a bin.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The count.
+     */
+    @Override
+    public Number getZ(int series, int item) {
+        return getBins(series).counts[item];
+    }
+
+    /**
+     * Receives notification of a change to the underlying dataset,
+     * recalculates the bins and passes the notification on to the
+     * listeners of this dataset.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.bins = calculateBins();
+        notifyListeners(new DatasetChangeEvent(this, this));
+    }
+
+    /**
+     * Returns the bins for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The bins.
+     */
+    private Bins getBins(int series) {
+        return this.bins[series];
+    }
+
+    /**
+     * Counts the points in every series of the underlying dataset into
+     * bins.
+     *
+     * @return The bins for each series.
+     */
+    private Bins[] calculateBins() {
+        Bins[] result = new Bins[this.underlying.getSeriesCount()];
+        for (int s = 0; s < result.length; s++) {
+            result[s] = calculateBins(s);
+        }
+        return result;
+    }
+
+    /**
+     * Counts the points in a series into bins.  Each bin is identified by a
+     * key with the column index in the high 32 bits and the row index (with
+     * the sign bit flipped, so that the keys sort by row within a column) in
+     * the low 32 bits.
+     *
+     * @param series  the series index.
+     *
+     * @return The bins.
+     */
+    private Bins calculateBins(int series) {
+        BinCounter counter = new BinCounter();
+        int itemCount = this.underlying.getItemCount(series);
+        for (int i = 0; i < itemCount; i++) {
+            double x = this.underlying.getXValue(series, i);
+            double y = this.underlying.getYValue(series, i);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            int column = (int) Math.floor(x / this.binWidth);
+            int row = (int) Math.floor(y / this.binHeight);
+            counter.increment(((long) column << 32)
+                    | ((row ^ Integer.MIN_VALUE) & 0xFFFFFFFFL));
+        }
+        return counter.toBins();
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.underlying.addChangeListener(this);
+        this.bins = calculateBins();
+    }
+
+    /**
+     * The non-empty bins for one series.
+     */
+    private static class Bins {
+
+        /** The bin keys, in ascending order. */
+        final long[] keys;
+
+        /** The counts for the bins. */
+        final int[] counts;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param keys  the keys.
+         * @param counts  the counts.
+         */
+        Bins(long[] keys, int[] counts) {
+            this.keys = keys;
+            this.counts = counts;
+        }
+    }
+
+    /**
+     * A hash table (with open addressing) that counts the points in each
+     * bin, without creating an object for each point.
+     */
+    private static class BinCounter {
+
+        /** The keys (valid where the count is non-zero). */
+        private long[] keys = new long[64];
+
+        /** The counts. */
+        private int[] counts = new int[64];
+
+        /** The number of bins in the table. */
+        private int size;
+
+        /**
+         * Adds one to the count for a bin.
+         *
+         * @param key  the bin key.
+         */
+        void increment(long key) {
+            int mask = this.keys.length - 1;
+            int i = hash(key) & mask;
+            while (this.counts[i] != 0 && this.keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (this.counts[i] == 0) {
+                this.keys[i] = key;
+                this.size++;
+            }
+            this.counts[i]++;
+            if (this.size * 2 > this.keys.length) {
+                resize();
+            }
+        }
+
+        /**
+         * Doubles the capacity of the table.
+         */
+        private void resize() {
+            long[] oldKeys = this.keys;
+            int[] oldCounts = this.counts;
+            this.keys = new long[oldKeys.length * 2];
+            this.counts = new int[oldCounts.length * 2];
+            int mask = this.keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldCounts[j] != 0) {
+                    int i = hash(oldKeys[j]) & mask;
+                    while (this.counts[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    this.keys[i] = oldKeys[j];
+                    this.counts[i] = oldCounts[j];
+                }
+            }
+        }
+
+        /**
+         * Returns a hash code for a key.
+         *
+         * @param key  the key.
+         *
+         * @return The hash code.
+         */
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        /**
+         * Returns the bins, sorted by key.
+         *
+         * @return The bins.
+         */
+        Bins toBins() {
+            long[] sortedKeys = new long[this.size];
+            int n = 0;
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.counts[i] != 0) {
+                    sortedKeys[n++] = this.keys[i];
+                }
+            }
+            Arrays.sort(sortedKeys);
+            int[] sortedCounts = new int[this.size];
+            int mask = this.keys.length - 1;
+            for (int j = 0; j < n; j++) {
+                int i = hash(sortedKeys[j]) & mask;
+                while (this.keys[i] != sortedKeys[j]
+                        || this.counts[i] == 0) {
+                    i = (i + 1) & mask;
+                }
+                sortedCounts[j] = this.counts[i];
+            }
+            return new Bins(sortedKeys, sortedCounts);
+        }
+    }
+
+}
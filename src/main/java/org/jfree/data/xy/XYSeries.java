@@ -49,6 +49,7 @@ import java.util.Objects;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
 
+import org.jfree.data.general.MinMaxPyramid;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -97,6 +98,18 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     /** The highest y-value in the series, excluding Double.NaN values. */
     private double maxY;
 
+    /**
+     * A flag that controls whether or not a {@link MinMaxPyramid} is
+     * maintained for the y-values in the series.
+     */
+    private boolean minMaxPyramidEnabled;
+
+    /**
+     * The min/max pyramid for the y-values ({@code null} if the pyramid is
+     * not enabled or needs to be rebuilt).
+     */
+    private transient MinMaxPyramid pyramid;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -201,6 +214,116 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         return this.maxY;
     }
 
+    /**
+     * Returns {@code true} if a {@link MinMaxPyramid} is maintained for the
+     * y-values in this series, and {@code false} otherwise.  The default
+     * value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setMinMaxPyramidEnabled(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isMinMaxPyramidEnabled() {
+        return this.minMaxPyramidEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not a {@link MinMaxPyramid} is
+     * maintained for the y-values in this series.  When enabled, renderers
+     * that reduce the number of items drawn (see
+     * {@code XYLineAndShapeRenderer.setUseDecimation(boolean)}) can find the
+     * minimum and maximum in each pixel column without visiting every item,
+     * at the cost of some memory and a small overhead for each change to
+     * the series.  Items appended at the end of the series, removed from the
+     * start of the series or updated in place are applied to the pyramid
+     * incrementally, other changes cause it to be rebuilt on the next call to
+     * {@link #getMinMaxPyramid()}.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @since 2.0.0
+     */
+    public void setMinMaxPyramidEnabled(boolean enabled) {
+        this.minMaxPyramidEnabled = enabled;
+        this.pyramid = null;
+    }
+
+    /**
+     * Returns the min/max pyramid for the y-values in this series, building
+     * it if necessary.  The pyramid should be treated as read-only.
+     *
+     * @return The pyramid, or {@code null} if it is not enabled.
+     *
+     * @see #setMinMaxPyramidEnabled(boolean)
+     *
+     * @since 2.0.0
+     */
+    public MinMaxPyramid getMinMaxPyramid() {
+        if (!this.minMaxPyramidEnabled) {
+            return null;
+        }
+        if (this.pyramid == null) {
+            int count = getItemCount();
+            double[] values = new double[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = getYValue(i);
+            }
+            this.pyramid = new MinMaxPyramid(values);
+        }
+        return this.pyramid;
+    }
+
+    /**
+     * Updates the min/max pyramid (if there is one) after an item has been
+     * inserted into the series.
+     *
+     * @param index  the index of the new item.
+     * @param y  the y-value of the new item.
+     */
+    void pyramidItemAdded(int index, double y) {
+        if (this.pyramid != null) {
+            if (index == getItemCount() - 1) {
+                this.pyramid.add(y);
+            }
+            else {
+                this.pyramid = null;
+            }
+        }
+    }
+
+    /**
+     * Updates the min/max pyramid (if there is one) after the first item has
+     * been removed from the series.
+     */
+    void pyramidFirstItemRemoved() {
+        if (this.pyramid != null) {
+            this.pyramid.removeFirst();
+        }
+    }
+
+    /**
+     * Updates the min/max pyramid (if there is one) after the y-value for an
+     * item has changed.
+     *
+     * @param index  the item index.
+     * @param y  the new y-value.
+     */
+    void pyramidItemUpdated(int index, double y) {
+        if (this.pyramid != null) {
+            this.pyramid.set(index, y);
+        }
+    }
+
+    /**
+     * Discards the min/max pyramid so that it will be rebuilt when next
+     * required.
+     */
+    void pyramidInvalidated() {
+        this.pyramid = null;
+    }
+
     /**
      * Updates the cached values for the minimum and maximum data values.
      *
@@ -348,6 +471,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
+            pyramidInvalidated();
             findBoundsByIteration();
             fireSeriesChanged();
         }
@@ -503,9 +627,13 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
             this.data.add(item);
         }
         updateBoundsForAddedItem(item);
+        int last = this.data.size() - 1;
+        pyramidItemAdded(this.data.get(last) == item ? last : -1,
+                item.getYValue());
         if (getItemCount() > this.maximumItemCount) {
             XYDataItem removed = this.data.remove(0);
             updateBoundsForRemovedItem(removed);
+            pyramidFirstItemRemoved();
         }
         if (notify) {
             fireSeriesChanged();
@@ -521,6 +649,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      */
     public void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
+        pyramidInvalidated();
         findBoundsByIteration();
         fireSeriesChanged();
     }
@@ -536,6 +665,12 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     public XYDataItem remove(int index) {
         XYDataItem removed = this.data.remove(index);
         updateBoundsForRemovedItem(removed);
+        if (index == 0) {
+            pyramidFirstItemRemoved();
+        }
+        else {
+            pyramidInvalidated();
+        }
         fireSeriesChanged();
         return removed;
     }
@@ -561,6 +696,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            pyramidInvalidated();
             this.minX = Double.NaN;
             this.maxX = Double.NaN;
             this.minY = Double.NaN;
@@ -616,6 +752,35 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         return getRawDataItem(index).getY();
     }
 
+    /**
+     * Returns the x-value at the specified index as a {@code double}
+     * primitive.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     *
+     * @since 2.0.0
+     */
+    public double getXValue(int index) {
+        return getRawDataItem(index).getXValue();
+    }
+
+    /**
+     * Returns the y-value at the specified index as a {@code double}
+     * primitive.  A {@code null} y-value is returned as
+     * {@code Double.NaN}.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value.
+     *
+     * @since 2.0.0
+     */
+    public double getYValue(int index) {
+        return getRawDataItem(index).getYValue();
+    }
+
     /**
      * A function to find the minimum of two values, but ignoring any
      * Double.NaN values.
@@ -673,6 +838,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
             iterate = oldY <= this.minY || oldY >= this.maxY;
         }
         item.setY(y);
+        pyramidItemUpdated(index, item.getYValue());
 
         if (iterate) {
             findBoundsByIteration();
@@ -763,6 +929,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setY(item.getY());
+            pyramidItemUpdated(index, existing.getYValue());
 
             if (iterate) {
                 findBoundsByIteration();
@@ -779,18 +946,16 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
             // new item...otherwise it will be just -1 and we should just
             // append the value to the list...
             item = (XYDataItem) item.clone();
-            if (this.autoSort) {
-                this.data.add(-index - 1, item);
-            }
-            else {
-                this.data.add(item);
-            }
+            int position = this.autoSort ? -index - 1 : this.data.size();
+            this.data.add(position, item);
             updateBoundsForAddedItem(item);
+            pyramidItemAdded(position, item.getYValue());
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 XYDataItem removed = this.data.remove(0);
                 updateBoundsForRemovedItem(removed);
+                pyramidFirstItemRemoved();
             }
         }
         fireSeriesChanged();
@@ -857,6 +1022,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     public Object clone() throws CloneNotSupportedException {
         XYSeries<K> clone = (XYSeries) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
+        clone.pyramid = null;
         return clone;
     }
 
@@ -876,6 +1042,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
 
         XYSeries<K> copy = (XYSeries) super.clone();
         copy.data = new ArrayList<>();
+        copy.pyramid = null;
         if (!this.data.isEmpty()) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = this.data.get(index);
@@ -907,7 +1074,9 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         if (obj == this) {
             return true;
         }
-        if (!(obj instanceof XYSeries)) {
+        // subclasses can store the items differently (for example, a
+        // PrimitiveXYSeries does not use the data list)
+        if (obj == null || getClass() != obj.getClass()) {
             return false;
         }
         if (!super.equals(obj)) {
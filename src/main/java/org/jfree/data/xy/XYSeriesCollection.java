@@ -58,6 +58,7 @@ import org.jfree.data.RangeInfo;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.gantt.TaskSeries;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.MinMaxPyramid;
 import org.jfree.data.general.Series;
 
 /**
@@ -67,7 +68,8 @@ import org.jfree.data.general.Series;
 public class XYSeriesCollection<S extends Comparable<S>> 
         extends AbstractIntervalXYDataset<S>
         implements IntervalXYDataset<S>, DomainInfo, RangeInfo, 
-        VetoableChangeListener, PublicCloneable, Serializable {
+        MinMaxPyramidInfo, VetoableChangeListener, PublicCloneable,
+        Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7590013825931496766L;
@@ -313,6 +315,21 @@ public class XYSeriesCollection<S extends Comparable<S>>
         return getSeries(series).getItemCount();
     }
 
+    /**
+     * Returns the min/max pyramid for the y-values in a series.
+     *
+     * @param series  the series (zero-based index).
+     *
+     * @return The pyramid, or {@code null} if it is not enabled for the
+     *     series (see {@link XYSeries#setMinMaxPyramidEnabled(boolean)}).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public MinMaxPyramid getMinMaxPyramid(int series) {
+        return getSeries(series).getMinMaxPyramid();
+    }
+
     /**
      * Returns the x-value for the specified series and item.
      *
@@ -367,6 +384,38 @@ public class XYSeriesCollection<S extends Comparable<S>>
         return s.getY(index);
     }
 
+    /**
+     * Returns the x-value (as a double primitive) for the specified series
+     * and item.  This is delegated to the series so that implementations
+     * backed by primitive storage do not need to create {@code Number}
+     * instances.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        XYSeries<S> s = this.data.get(series);
+        return s.getXValue(item);
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) for the specified series
+     * and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value ({@code Double.NaN} for a missing value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        XYSeries<S> s = this.data.get(series);
+        return s.getYValue(item);
+    }
+
     /**
      * Returns the starting Y value for the specified series and item.
      *
@@ -393,6 +442,62 @@ public class XYSeriesCollection<S extends Comparable<S>>
         return getY(series, item);
     }
 
+    /**
+     * Returns the starting x-value (as a double primitive) for the specified
+     * series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return this.intervalDelegate.getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the ending x-value (as a double primitive) for the specified
+     * series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return this.intervalDelegate.getEndXValue(series, item);
+    }
+
+    /**
+     * Returns the starting y-value (as a double primitive) for the specified
+     * series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the ending y-value (as a double primitive) for the specified
+     * series and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
     /**
      * Tests this collection for equality with an arbitrary object.
      *
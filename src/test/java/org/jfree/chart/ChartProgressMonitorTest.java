@@ -0,0 +1,172 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * ChartProgressMonitorTest.java
+ * -----------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressEventType;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ChartProgressMonitor} class.
+ */
+public class ChartProgressMonitorTest {
+
+    /**
+     * Creates a line chart with two series of 50000 items each.
+     *
+     * @return The chart.
+     */
+    private static JFreeChart createXYChart() {
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        for (int s = 0; s < 2; s++) {
+            XYSeries<String> series = new XYSeries<>("S" + s);
+            for (int i = 0; i < 50000; i++) {
+                series.add(i, (i * 7 + s) % 101);
+            }
+            dataset.addSeries(series);
+        }
+        return ChartFactory.createXYLineChart("Title", "X", "Y", dataset);
+    }
+
+    /**
+     * Draws a chart with a monitor.
+     *
+     * @param chart  the chart.
+     * @param monitor  the monitor ({@code null} permitted).
+     */
+    private static void draw(JFreeChart chart, ChartProgressMonitor monitor) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        if (monitor != null) {
+            g2.setRenderingHint(ChartHints.KEY_PROGRESS_MONITOR, monitor);
+        }
+        try {
+            chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300));
+            if (monitor == null) {
+                assertNull(ChartProgressMonitor.getMonitor(g2));
+            }
+        }
+        finally {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * The chart reports the percentage of items drawn to its progress
+     * listeners.
+     */
+    @Test
+    public void testProgressEvents() {
+        JFreeChart chart = createXYChart();
+        List<ChartProgressEvent> events = new ArrayList<>();
+        chart.addProgressListener(events::add);
+        draw(chart, null);
+        assertEquals(ChartProgressEventType.DRAWING_STARTED,
+                events.get(0).getType());
+        assertEquals(ChartProgressEventType.DRAWING_FINISHED,
+                events.get(events.size() - 1).getType());
+        int last = 0;
+        int inProgress = 0;
+        for (ChartProgressEvent event : events) {
+            if (event.getType() == ChartProgressEventType.DRAWING_IN_PROGRESS) {
+                assertTrue(event.getPercent() > last);
+                last = event.getPercent();
+                inProgress++;
+            }
+        }
+        assertTrue(inProgress > 2);
+        assertEquals(100, last);
+    }
+
+    /**
+     * A monitor that is cancelled during the drawing stops it.
+     */
+    @Test
+    public void testCancel() {
+        JFreeChart chart = createXYChart();
+        List<Integer> percents = new ArrayList<>();
+        ChartProgressMonitor monitor = new ChartProgressMonitor() {
+            @Override
+            protected void progressChanged(int percent) {
+                percents.add(percent);
+                if (percent >= 20) {
+                    cancel();
+                }
+            }
+        };
+        assertThrows(CancellationException.class, () -> draw(chart, monitor));
+        assertTrue(monitor.isCancelled());
+        assertTrue(monitor.getPercent() < 100);
+        assertEquals(monitor.getPercent(), percents.get(percents.size() - 1));
+    }
+
+    /**
+     * The category plot also reports its progress.
+     */
+    @Test
+    public void testCategoryPlot() {
+        DefaultCategoryDataset<String, String> dataset
+                = new DefaultCategoryDataset<>();
+        for (int c = 0; c < 20; c++) {
+            dataset.addValue(c * 1.0, "R1", "C" + c);
+            dataset.addValue(c + 1.0, "R2", "C" + c);
+        }
+        JFreeChart chart = ChartFactory.createBarChart("Title", "Category",
+                "Value", dataset);
+        ChartProgressMonitor monitor = new ChartProgressMonitor();
+        draw(chart, monitor);
+        assertEquals(100, monitor.getPercent());
+        ChartProgressMonitor cancelled = new ChartProgressMonitor();
+        cancelled.cancel();
+        assertThrows(CancellationException.class,
+                () -> draw(chart, cancelled));
+    }
+
+}
@@ -179,6 +179,12 @@ public class JFreeChartTest implements ChartChangeListener {
         assertNotEquals(chart1, chart2);
         chart2.setBackgroundImageAlpha(0.1f);
         assertEquals(chart1, chart2);
+
+        // changeEventInterval
+        chart1.setChangeEventInterval(40);
+        assertNotEquals(chart1, chart2);
+        chart2.setChangeEventInterval(40);
+        assertEquals(chart1, chart2);
     }
 
     /**
@@ -452,6 +458,67 @@ public class JFreeChartTest implements ChartChangeListener {
                 new DefaultPieDataset<String>()).getTitle().getText());
     }
 
+    /**
+     * Changes that arrive within the change event interval are merged into
+     * a single deferred event.
+     */
+    @Test
+    public void testChangeEventInterval() {
+        DefaultPieDataset<String> dataset = new DefaultPieDataset<>();
+        JFreeChart chart = ChartFactory.createPieChart("title", dataset);
+        chart.setChangeEventInterval(60000);
+        chart.addChangeListener(this);
+        this.lastChartChangeEvent = null;
+
+        // the first change is sent immediately
+        chart.getTitle().setText("T1");
+        assertNotNull(this.lastChartChangeEvent);
+        assertFalse(chart.isChangeEventPending());
+        this.lastChartChangeEvent = null;
+
+        // later changes are deferred and merged
+        chart.getTitle().setText("T2");
+        dataset.setValue("A", 1.0);
+        assertNull(this.lastChartChangeEvent);
+        assertTrue(chart.isChangeEventPending());
+
+        chart.flushChangeEvents();
+        assertNotNull(this.lastChartChangeEvent);
+        assertFalse(chart.isChangeEventPending());
+        this.lastChartChangeEvent = null;
+
+        // setting the interval to zero sends any pending event
+        chart.getTitle().setText("T3");
+        assertNull(this.lastChartChangeEvent);
+        chart.setChangeEventInterval(0);
+        assertNotNull(this.lastChartChangeEvent);
+        this.lastChartChangeEvent = null;
+        chart.getTitle().setText("T4");
+        assertNotNull(this.lastChartChangeEvent);
+    }
+
+    /**
+     * The clone of a chart should have its own plot, and its legend should
+     * display the items for that plot.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DefaultPieDataset<String> dataset = new DefaultPieDataset<>();
+        JFreeChart chart1 = ChartFactory.createPieChart("title", dataset);
+        JFreeChart chart2 = (JFreeChart) chart1.clone();
+        assertNotSame(chart1, chart2);
+        assertEquals(chart1, chart2);
+        assertNotSame(chart1.getPlot(), chart2.getPlot());
+        assertSame(chart2, chart2.getPlot().getChart());
+        assertNotSame(chart1.getLegend(), chart2.getLegend());
+        assertSame(chart2.getPlot(), chart2.getLegend().getSources()[0]);
+        assertSame(chart1.getPlot(), chart1.getLegend().getSources()[0]);
+        assertNotSame(chart1.getLegend().getItemContainer(),
+                chart2.getLegend().getItemContainer());
+    }
+
     /** The last ChartChangeEvent received. */
     private ChartChangeEvent lastChartChangeEvent;
 
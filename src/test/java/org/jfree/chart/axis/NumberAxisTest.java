@@ -36,8 +36,12 @@
 
 package org.jfree.chart.axis;
 
+import java.awt.Font;
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.text.DecimalFormat;
+import java.util.List;
 
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
@@ -389,4 +393,48 @@ public class NumberAxisTest {
         //assertEquals(0.0, axis.getLowerBound(), EPSILON);
     }
 
+    /**
+     * The ticks are reused while the range, area and font are unchanged,
+     * and recalculated when the axis changes.
+     */
+    @Test
+    public void testTickReuse() {
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 100.0);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 400.0, 100.0);
+        // the automatic tick unit selection starts from the current tick
+        // unit, so the first call can select a different unit
+        axis.refreshTicks(g2, new AxisState(), area, RectangleEdge.BOTTOM);
+        List ticks1 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        NumberTickUnit unit = axis.getTickUnit();
+        List ticks2 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertNotSame(ticks1, ticks2);
+        assertEquals(ticks1.size(), ticks2.size());
+        assertSame(ticks1.get(0), ticks2.get(0));
+        assertEquals(unit, axis.getTickUnit());
+
+        // a different area gives new ticks
+        List ticks3 = axis.refreshTicks(g2, new AxisState(),
+                new Rectangle2D.Double(0.0, 0.0, 100.0, 100.0),
+                RectangleEdge.BOTTOM);
+        assertNotSame(ticks1.get(0), ticks3.get(0));
+
+        // a change to the axis discards the ticks
+        axis.getTickLabel().setTickLabelFont(new Font("Dialog", Font.PLAIN,
+                20));
+        List ticks4 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertNotSame(ticks1.get(0), ticks4.get(0));
+        axis.setNumberFormatOverride(new DecimalFormat("0.00"));
+        List ticks5 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertEquals("0.00", ((Tick) ticks5.get(0)).getText());
+        g2.dispose();
+    }
+
 }
@@ -0,0 +1,151 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * IndexedEntityCollectionTest.java
+ * --------------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link IndexedEntityCollection} class.
+ */
+public class IndexedEntityCollectionTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        IndexedEntityCollection c1 = new IndexedEntityCollection();
+        IndexedEntityCollection c2 = new IndexedEntityCollection();
+        assertEquals(c1, c2);
+
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "ToolTip", "URL"));
+        assertNotEquals(c1, c2);
+        c2.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "ToolTip", "URL"));
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        IndexedEntityCollection c1 = new IndexedEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        IndexedEntityCollection c2 = CloneUtils.clone(c1);
+        assertNotSame(c1, c2);
+        assertEquals(c1, c2);
+        c1.clear();
+        assertNotEquals(c1, c2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        IndexedEntityCollection c1 = new IndexedEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        IndexedEntityCollection c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * The indexed lookup should return the same (topmost) entity as the
+     * linear search in {@link StandardEntityCollection}.
+     */
+    @Test
+    public void testGetEntityMatchesStandardCollection() {
+        IndexedEntityCollection c1 = new IndexedEntityCollection();
+        StandardEntityCollection c2 = new StandardEntityCollection();
+        // a large background entity, like the one added for the plot area
+        ChartEntity background = new ChartEntity(new Rectangle2D.Double(
+                0.0, 0.0, 500.0, 500.0));
+        c1.add(background);
+        c2.add(background);
+        Random random = new Random(123L);
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 500.0;
+            double y = random.nextDouble() * 500.0;
+            double w = 2.0 + random.nextDouble() * 20.0;
+            ChartEntity e = new ChartEntity(new Ellipse2D.Double(x, y, w, w));
+            c1.add(e);
+            c2.add(e);
+        }
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 520.0 - 10.0;
+            double y = random.nextDouble() * 520.0 - 10.0;
+            assertSame(c2.getEntity(x, y), c1.getEntity(x, y));
+        }
+
+        // adding an entity invalidates the index
+        ChartEntity top = new ChartEntity(new Rectangle2D.Double(
+                100.0, 100.0, 1.0, 1.0));
+        c1.add(top);
+        assertSame(top, c1.getEntity(100.5, 100.5));
+        c1.clear();
+        assertNull(c1.getEntity(100.5, 100.5));
+    }
+
+    /**
+     * The collection can be used to collect entities for a chart.
+     */
+    @Test
+    public void testChartRenderingInfo() {
+        ChartRenderingInfo info = new ChartRenderingInfo(
+                new IndexedEntityCollection());
+        info.getEntityCollection().add(new ChartEntity(
+                new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        assertNotNull(info.getEntityCollection().getEntity(2.0, 3.0));
+        info.clear();
+        assertEquals(0, info.getEntityCollection().getEntityCount());
+    }
+
+}
@@ -0,0 +1,354 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * LazyEntityCollectionTest.java
+ * -----------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYAreaRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link LazyEntityCollection} class.
+ */
+public class LazyEntityCollectionTest {
+
+    /**
+     * Creates a dataset with one series.
+     *
+     * @return The dataset.
+     */
+    private static XYSeriesCollection<String> createDataset() {
+        XYSeries<String> series = new XYSeries<>("S1");
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i % 10);
+        }
+        return new XYSeriesCollection<>(series);
+    }
+
+    /**
+     * Creates a collection with an entity, two recorded items and another
+     * entity.
+     *
+     * @param renderer  the renderer.
+     * @param dataset  the dataset.
+     *
+     * @return The collection.
+     */
+    private static LazyEntityCollection createCollection(
+            XYLineAndShapeRenderer renderer,
+            XYSeriesCollection<String> dataset) {
+        LazyEntityCollection c = new LazyEntityCollection();
+        c.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 100.0, 100.0),
+                "Plot", null));
+        c.addItem(renderer, dataset, 0, 3, null, 10.0, 10.0, 2.0);
+        c.addItem(renderer, dataset, 0, 4, new Rectangle2D.Double(18.0, 8.0,
+                4.0, 4.0), 0.0, 0.0, 2.0);
+        c.add(new ChartEntity(new Rectangle2D.Double(50.0, 50.0, 10.0, 10.0),
+                "Annotation", null));
+        return c;
+    }
+
+    /**
+     * The entities for the recorded items are created when they are
+     * accessed, in the order that they were added.
+     */
+    @Test
+    public void testGetEntity() {
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        renderer.setDefaultToolTipGenerator(new StandardXYToolTipGenerator());
+        XYSeriesCollection<String> dataset = createDataset();
+        LazyEntityCollection c = createCollection(renderer, dataset);
+        assertEquals(4, c.getEntityCount());
+        assertEquals(2, c.getItemCount());
+        assertEquals("Plot", c.getEntity(0).getToolTipText());
+        XYItemEntity e1 = (XYItemEntity) c.getEntity(1);
+        assertEquals(3, e1.getItem());
+        assertSame(dataset, e1.getDataset());
+        assertEquals("S1: (3, 3)", e1.getToolTipText());
+        assertEquals(new Ellipse2D.Double(8.0, 8.0, 4.0, 4.0), e1.getArea());
+        XYItemEntity e2 = (XYItemEntity) c.getEntity(2);
+        assertEquals(4, e2.getItem());
+        assertEquals(new Rectangle2D.Double(18.0, 8.0, 4.0, 4.0),
+                e2.getArea());
+        assertEquals("Annotation", c.getEntity(3).getToolTipText());
+        assertThrows(IndexOutOfBoundsException.class, () -> c.getEntity(4));
+
+        assertEquals(e1, c.getEntity(10.0, 10.0));
+        assertEquals(e2, c.getEntity(21.5, 8.5));
+        assertEquals("Plot", c.getEntity(11.9, 8.1).getToolTipText());
+        assertEquals("Annotation", c.getEntity(55.0, 55.0).getToolTipText());
+        assertNull(c.getEntity(120.0, 10.0));
+        assertEquals(4, c.getEntities().size());
+
+        c.clear();
+        assertEquals(0, c.getEntityCount());
+        assertNull(c.getEntity(10.0, 10.0));
+    }
+
+    /**
+     * Adding all the entities from another lazy collection copies the
+     * recorded items.
+     */
+    @Test
+    public void testAddAll() {
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        XYSeriesCollection<String> dataset = createDataset();
+        LazyEntityCollection c1 = createCollection(renderer, dataset);
+        LazyEntityCollection c2 = new LazyEntityCollection();
+        c2.addAll(c1);
+        assertEquals(2, c2.getItemCount());
+        assertEquals(c1, c2);
+        StandardEntityCollection c3 = new StandardEntityCollection();
+        c3.addAll(c1);
+        LazyEntityCollection c4 = new LazyEntityCollection();
+        c4.addAll(c3);
+        assertEquals(0, c4.getItemCount());
+        assertEquals(c1, c4);
+    }
+
+    /**
+     * Hotspots that are not rectangles or ellipses are kept as they are.
+     */
+    @Test
+    public void testPolygonHotspot() {
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        XYSeriesCollection<String> dataset = createDataset();
+        Path2D triangle = new Path2D.Double();
+        triangle.moveTo(0.0, 0.0);
+        triangle.lineTo(10.0, 0.0);
+        triangle.lineTo(0.0, 10.0);
+        triangle.closePath();
+        LazyEntityCollection c = new LazyEntityCollection();
+        c.addItem(renderer, dataset, 0, 2, triangle, 0.0, 0.0, 2.0);
+        assertSame(triangle, c.getEntity(0).getArea());
+        assertNotNull(c.getEntity(2.0, 2.0));
+        assertNull(c.getEntity(8.0, 8.0));
+        LazyEntityCollection copy = new LazyEntityCollection();
+        copy.addAll(c);
+        assertSame(triangle, copy.getEntity(0).getArea());
+        assertNull(copy.getEntity(8.0, 8.0));
+    }
+
+    /**
+     * The collection does not listen to the datasets (so it is not kept
+     * reachable by them), and the recorded items are discarded when the
+     * rendering info is cleared for the next drawing.
+     */
+    @Test
+    public void testDatasetChange() {
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        XYSeriesCollection<String> dataset = createDataset();
+        LazyEntityCollection c = createCollection(renderer, dataset);
+        ChartRenderingInfo info = new ChartRenderingInfo(c);
+        dataset.getSeries(0).remove(0);
+        assertEquals(2, c.getItemCount());
+        info.clear();
+        assertEquals(0, c.getItemCount());
+        assertEquals(0, c.getEntityCount());
+    }
+
+    /**
+     * The entity areas for an area chart (where the hotspots are polygons)
+     * are the same as for the standard collection.
+     */
+    @Test
+    public void testAreaChartEntities() {
+        XYSeries<String> series = new XYSeries<>("S1");
+        for (int i = 0; i < 20; i++) {
+            series.add(i, (i * 7) % 11);
+        }
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(series),
+                new NumberAxis("X"), new NumberAxis("Y"),
+                new XYAreaRenderer());
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), info1);
+        LazyEntityCollection lazy = new LazyEntityCollection();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300),
+                new ChartRenderingInfo(lazy));
+        g2.dispose();
+        assertEquals(20, lazy.getItemCount());
+        // the hotspots do not implement equals(Object), so compare the areas
+        EntityCollection standard = info1.getEntityCollection();
+        assertEquals(standard.getEntityCount(), lazy.getEntityCount());
+        for (int i = 0; i < lazy.getEntityCount(); i++) {
+            ChartEntity e1 = standard.getEntity(i);
+            ChartEntity e2 = lazy.getEntity(i);
+            assertEquals(e1.getClass(), e2.getClass());
+            assertTrue(new Area(e1.getArea()).equals(
+                    new Area(e2.getArea())));
+        }
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        LazyEntityCollection c1 = new LazyEntityCollection();
+        LazyEntityCollection c2 = new LazyEntityCollection();
+        assertEquals(c1, c2);
+
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "ToolTip", "URL"));
+        assertNotEquals(c1, c2);
+        c2.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "ToolTip", "URL"));
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        XYSeriesCollection<String> dataset = createDataset();
+        c1.addItem(renderer, dataset, 0, 1, null, 5.0, 5.0, 2.0);
+        assertNotEquals(c1, c2);
+        c2.addItem(renderer, dataset, 0, 1, null, 5.0, 5.0, 2.0);
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        LazyEntityCollection c1 = createCollection(
+                new XYLineAndShapeRenderer(), createDataset());
+        LazyEntityCollection c2 = CloneUtils.clone(c1);
+        assertNotSame(c1, c2);
+        assertEquals(c1, c2);
+        c1.clear();
+        assertNotEquals(c1, c2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.  The
+     * entities for the recorded items are created and written.
+     */
+    @Test
+    public void testSerialization() {
+        LazyEntityCollection c1 = createCollection(
+                new XYLineAndShapeRenderer(), createDataset());
+        LazyEntityCollection c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+        assertEquals(0, c2.getItemCount());
+    }
+
+    /**
+     * A chart drawn with a lazy collection finds the same items, with the
+     * same tool tips, as a chart drawn with the standard collection.
+     */
+    @Test
+    public void testChartEntities() {
+        XYSeries<String> series = new XYSeries<>("S1");
+        Random random = new Random(123L);
+        for (int i = 0; i < 1000; i++) {
+            series.add(i, random.nextDouble());
+        }
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection<>(series), PlotOrientation.VERTICAL,
+                true, true, false);
+        XYPlot<?> plot = (XYPlot) chart.getPlot();
+        ((XYLineAndShapeRenderer) plot.getRenderer()).setDefaultShapesVisible(
+                false);
+        BufferedImage image = new BufferedImage(600, 400,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 600, 400), info1);
+        LazyEntityCollection lazy = new LazyEntityCollection();
+        ChartRenderingInfo info2 = new ChartRenderingInfo(lazy);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 600, 400), info2);
+        g2.dispose();
+        assertTrue(lazy.getItemCount() > 0);
+        EntityCollection standard = info1.getEntityCollection();
+        assertEquals(standard.getEntityCount(), lazy.getEntityCount());
+        int itemCount = 0;
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 600.0;
+            double y = random.nextDouble() * 400.0;
+            ChartEntity e1 = standard.getEntity(x, y);
+            ChartEntity e2 = lazy.getEntity(x, y);
+            if (e1 instanceof XYItemEntity && e2 instanceof XYItemEntity) {
+                // the areas are recorded as floats, so on the edge of an
+                // area the result can differ
+                XYItemEntity ie1 = (XYItemEntity) e1;
+                XYItemEntity ie2 = (XYItemEntity) e2;
+                assertEquals(ie1.getItem(), ie2.getItem(), 1);
+                itemCount++;
+            }
+            else if (e1 != null && e2 != null) {
+                assertEquals(e1.getClass(), e2.getClass());
+            }
+            else {
+                assertEquals(e1 == null, e2 == null);
+            }
+        }
+        assertTrue(itemCount > 0);
+        XYItemEntity last1 = (XYItemEntity) standard.getEntity(
+                standard.getEntityCount() - 1);
+        XYItemEntity last2 = (XYItemEntity) lazy.getEntity(
+                lazy.getEntityCount() - 1);
+        assertEquals(last1.getItem(), last2.getItem());
+        assertEquals(last1.getToolTipText(), last2.getToolTipText());
+    }
+
+}
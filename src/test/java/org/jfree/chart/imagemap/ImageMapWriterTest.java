@@ -0,0 +1,248 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ImageMapWriterTest.java
+ * -----------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.imagemap;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.util.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ImageMapWriter} class.
+ */
+public class ImageMapWriterTest {
+
+    /**
+     * Creates rendering info for a chart with the specified area.
+     *
+     * @return The rendering info.
+     */
+    private static ChartRenderingInfo createInfo() {
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        info.setChartArea(new Rectangle2D.Double(0.0, 0.0, 400.0, 300.0));
+        return info;
+    }
+
+    /**
+     * Writes an image map to a string.
+     *
+     * @param writer  the image map writer.
+     * @param info  the rendering info.
+     *
+     * @return The image map.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static String write(ImageMapWriter writer,
+            ChartRenderingInfo info) throws IOException {
+        StringWriter out = new StringWriter();
+        writer.write(out, "map", info);
+        return out.toString();
+    }
+
+    /**
+     * For rectangles with integer coordinates the output is the same as
+     * the map from {@link ImageMapUtils}, and
+     * {@link ImageMapUtils#writeImageMap(PrintWriter, String,
+     * ChartRenderingInfo)} writes the same map as
+     * {@link ImageMapUtils#getImageMap(String, ChartRenderingInfo)}.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testSameAsImageMapUtils() throws IOException {
+        ChartRenderingInfo info = createInfo();
+        EntityCollection entities = info.getEntityCollection();
+        entities.add(new ChartEntity(new Rectangle2D.Double(1, 2, 3, 4),
+                "Tip 1", "index.html?x=1"));
+        entities.add(new ChartEntity(new Rectangle2D.Double(5, 6, 7, 8),
+                null, null));
+        entities.add(new ChartEntity(new Rectangle2D.Double(9, 10, 11, 12),
+                null, "index.html?x=\"2\""));
+        entities.add(new ChartEntity(new Rectangle2D.Double(9, 10, 11, 12),
+                "Tip <3>", null));
+        String expected = ImageMapUtils.getImageMap("map", info)
+                + StringUtils.getLineSeparator();
+        assertEquals(expected, write(new ImageMapWriter(), info));
+
+        StringWriter out = new StringWriter();
+        ImageMapUtils.writeImageMap(new PrintWriter(out), "map", info);
+        assertEquals(ImageMapUtils.getImageMap("map", info)
+                + System.lineSeparator(), out.toString());
+    }
+
+    /**
+     * Points that are on (or close to) the line through their neighbours are
+     * removed from a polygon, and coordinates are rounded.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testSimplifyPolygon() throws IOException {
+        Path2D path = new Path2D.Double();
+        path.moveTo(0.0, 0.0);
+        path.lineTo(10.2, 0.6);
+        path.lineTo(20.0, 0.0);
+        path.lineTo(20.0, 10.0);
+        path.lineTo(20.0, 10.2);
+        path.lineTo(9.6, 9.8);
+        path.lineTo(0.0, 10.0);
+        path.closePath();
+        ChartRenderingInfo info = createInfo();
+        info.getEntityCollection().add(new ChartEntity(path, "Tip", null));
+        String map = write(new ImageMapWriter(), info);
+        assertTrue(map.contains("<area shape=\"poly\" "
+                + "coords=\"0,0,10,1,20,0,20,10,0,10\""), map);
+
+        // with a larger tolerance, the point (10, 1) is also removed
+        ImageMapWriter writer = new ImageMapWriter();
+        writer.setTolerance(1.0);
+        map = write(writer, info);
+        assertTrue(map.contains("coords=\"0,0,20,0,20,10,0,10\""), map);
+
+        // a circle keeps its shape
+        info.getEntityCollection().clear();
+        info.getEntityCollection().add(new ChartEntity(new Ellipse2D.Double(
+                100.0, 100.0, 8.0, 8.0), "Tip", null));
+        map = write(new ImageMapWriter(), info);
+        int start = map.indexOf("coords=\"") + 8;
+        String[] coords = map.substring(start, map.indexOf('"', start))
+                .split(",");
+        assertTrue(coords.length >= 8, map);
+    }
+
+    /**
+     * With a cell size, only the topmost small entity in each cell is
+     * written, and larger entities are always written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testClustering() throws IOException {
+        ChartRenderingInfo info = createInfo();
+        EntityCollection entities = info.getEntityCollection();
+        entities.add(new ChartEntity(new Rectangle2D.Double(0, 0, 400, 300),
+                "Plot", null));
+        for (int i = 0; i < 1000; i++) {
+            double x = (i % 100) * 0.5;
+            double y = (i / 100) * 0.5;
+            entities.add(new ChartEntity(new Ellipse2D.Double(x, y, 2, 2),
+                    "Item " + i, null));
+        }
+        ImageMapWriter writer = new ImageMapWriter();
+        writer.setCellSize(10.0);
+        StringWriter out = new StringWriter();
+        // centres from 1.0 to 50.5 in x and 1.0 to 5.5 in y: 6 cells
+        assertEquals(7, writer.write(out, "map", info));
+        assertTrue(out.toString().contains("Item 999"));
+        assertTrue(out.toString().contains("Plot"));
+        assertFalse(out.toString().contains("Item 998"));
+
+        writer.setCellSize(0.0);
+        assertEquals(1001, writer.write(new StringWriter(), "map", info));
+    }
+
+    /**
+     * The maximum area count limits the number of tags, starting from the
+     * topmost entity.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testMaxAreaCount() throws IOException {
+        ChartRenderingInfo info = createInfo();
+        for (int i = 0; i < 10; i++) {
+            info.getEntityCollection().add(new ChartEntity(
+                    new Rectangle2D.Double(i, i, 5, 5), "Item " + i, null));
+        }
+        ImageMapWriter writer = new ImageMapWriter();
+        writer.setMaxAreaCount(3);
+        StringWriter out = new StringWriter();
+        assertEquals(3, writer.write(out, "map", info));
+        assertTrue(out.toString().contains("Item 7"));
+        assertFalse(out.toString().contains("Item 6"));
+        assertTrue(out.toString().endsWith("</map>"
+                + StringUtils.getLineSeparator()));
+    }
+
+    /**
+     * Writing to an output stream uses UTF-8.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testOutputStream() throws IOException {
+        ChartRenderingInfo info = createInfo();
+        info.getEntityCollection().add(new ChartEntity(
+                new Rectangle2D.Double(1, 2, 3, 4), "€ 100", null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(1, new ImageMapWriter().write(out, "map", info));
+        String map = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals(write(new ImageMapWriter(), info), map);
+        assertTrue(map.contains("€ 100"));
+    }
+
+    /**
+     * Some checks for the arguments.
+     */
+    @Test
+    public void testArguments() {
+        ImageMapWriter writer = new ImageMapWriter();
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.setTolerance(-1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.setCellSize(-1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.setMaxAreaCount(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.write(new StringWriter(), null,
+                        new ChartRenderingInfo()));
+    }
+
+}
@@ -39,13 +39,18 @@ package org.jfree.chart.plot;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
 import java.awt.Stroke;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
 
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.renderer.GrayPaintScale;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -119,6 +124,21 @@ public class FastScatterPlotTest {
         plot2.setRangePannable(true);
         assertEquals(plot1, plot2);
 
+        plot1.setUseRaster(true);
+        assertNotEquals(plot1, plot2);
+        plot2.setUseRaster(true);
+        assertEquals(plot1, plot2);
+
+        plot1.setDensityPaintScale(new GrayPaintScale(1.0, 10.0));
+        assertNotEquals(plot1, plot2);
+        plot2.setDensityPaintScale(new GrayPaintScale(1.0, 10.0));
+        assertEquals(plot1, plot2);
+
+        plot1.setUseParallelRaster(true);
+        assertNotEquals(plot1, plot2);
+        plot2.setUseParallelRaster(true);
+        assertEquals(plot1, plot2);
+
     }
 
     /**
@@ -212,6 +232,85 @@ public class FastScatterPlotTest {
         }
     }
 
+    /**
+     * Draws a chart to an image.
+     *
+     * @param plot  the plot.
+     *
+     * @return The image.
+     */
+    private static BufferedImage draw(FastScatterPlot plot) {
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200));
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Returns {@code true} if two images have the same pixels.
+     *
+     * @param image1  the first image.
+     * @param image2  the second image.
+     *
+     * @return A boolean.
+     */
+    private static boolean samePixels(BufferedImage image1,
+            BufferedImage image2) {
+        for (int x = 0; x < image1.getWidth(); x++) {
+            for (int y = 0; y < image1.getHeight(); y++) {
+                if (image1.getRGB(x, y) != image2.getRGB(x, y)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The points are drawn in the same positions in raster mode.
+     */
+    @Test
+    public void testDrawWithRaster() {
+        float[][] data = createData();
+        FastScatterPlot plot = new FastScatterPlot(data, new NumberAxis("X"),
+                new NumberAxis("Y"));
+        BufferedImage expected = draw(plot);
+        plot.setUseRaster(true);
+        assertTrue(samePixels(expected, draw(plot)));
+
+        // a paint that is not a color is drawn point by point
+        plot.setPaint(new GradientPaint(0f, 0f, Color.BLUE, 300f, 0f,
+                Color.GREEN));
+        plot.setUseRaster(false);
+        expected = draw(plot);
+        plot.setUseRaster(true);
+        assertTrue(samePixels(expected, draw(plot)));
+    }
+
+    /**
+     * The point counts are the same when they are calculated in parallel.
+     */
+    @Test
+    public void testDrawWithParallelRaster() {
+        Random random = new Random(1L);
+        float[][] data = new float[2][1000000];
+        for (int i = 0; i < data[0].length; i++) {
+            data[0][i] = (float) random.nextGaussian();
+            data[1][i] = (float) random.nextGaussian();
+        }
+        FastScatterPlot plot = new FastScatterPlot(data, new NumberAxis("X"),
+                new NumberAxis("Y"));
+        plot.setUseRaster(true);
+        plot.setDensityPaintScale(new GrayPaintScale(0.0, 1000.0));
+        BufferedImage expected = draw(plot);
+        assertNotEquals(Color.WHITE.getRGB(), expected.getRGB(150, 100));
+        plot.setUseParallelRaster(true);
+        assertTrue(samePixels(expected, draw(plot)));
+    }
+
     /**
      * Populates the data array with random values.
      *
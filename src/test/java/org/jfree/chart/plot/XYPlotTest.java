@@ -46,11 +46,13 @@ import java.awt.Stroke;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EventListener;
 import java.util.List;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartHints;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.legend.LegendItem;
 import org.jfree.chart.legend.LegendItemCollection;
@@ -60,6 +62,7 @@ import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.date.MonthConstants;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.renderer.xy.DefaultXYItemRenderer;
@@ -1415,4 +1418,70 @@ public class XYPlotTest {
         assertEquals(new Range(1.0, 6.0), plot.getDataRange(xAxis));
         assertEquals(new Range(2.0, 10.0), plot.getDataRange(yAxis)); // only y-values for items in the x-range        
     }    
+
+    /**
+     * Drawing the base layer then the data layer gives the same result as
+     * drawing the whole chart.
+     */
+    @Test
+    public void testDrawLayers() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        for (int i = 0; i < 20; i++) {
+            s1.add(i, i * i);
+        }
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s1);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset);
+        XYPlot<?> plot = (XYPlot) chart.getPlot();
+        plot.addDomainMarker(new ValueMarker(5.0));
+        plot.addAnnotation(new XYTextAnnotation("Text", 10.0, 100.0));
+
+        BufferedImage expected = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = expected.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200));
+        g2.dispose();
+
+        BufferedImage layered = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        g2 = layered.createGraphics();
+        g2.setRenderingHint(ChartHints.KEY_LAYER, ChartHints.VALUE_LAYER_BASE);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200));
+        g2.dispose();
+        g2 = layered.createGraphics();
+        g2.setRenderingHint(ChartHints.KEY_LAYER, ChartHints.VALUE_LAYER_DATA);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200));
+        g2.dispose();
+
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(expected.getRGB(x, y), layered.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * A change to a marker, annotation or crosshair is reported with the
+     * type DATA_AREA_UPDATED.
+     */
+    @Test
+    public void testDataAreaChangeEvents() {
+        XYPlot<String> plot = new XYPlot<>();
+        List<ChartChangeEventType> types = new ArrayList<>();
+        plot.addChangeListener(e -> types.add(e.getType()));
+        ValueMarker marker = new ValueMarker(1.0);
+        plot.addDomainMarker(marker);
+        marker.setValue(2.0);
+        XYTextAnnotation annotation = new XYTextAnnotation("A", 1.0, 2.0);
+        plot.addAnnotation(annotation);
+        annotation.setText("B");
+        plot.setDomainCrosshairVisible(true);
+        plot.setDomainCrosshairValue(3.0);
+        assertEquals(Arrays.asList(ChartChangeEventType.GENERAL,
+                ChartChangeEventType.DATA_AREA_UPDATED,
+                ChartChangeEventType.GENERAL,
+                ChartChangeEventType.DATA_AREA_UPDATED,
+                ChartChangeEventType.GENERAL,
+                ChartChangeEventType.DATA_AREA_UPDATED), types);
+    }
 }
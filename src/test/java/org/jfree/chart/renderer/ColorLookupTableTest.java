@@ -0,0 +1,139 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ColorLookupTableTest.java
+ * -------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Paint;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ColorLookupTable} class.
+ */
+public class ColorLookupTableTest {
+
+    /** Values to test, including values outside the range of the scales. */
+    private static final double[] VALUES = {Double.NaN,
+            Double.NEGATIVE_INFINITY, -1.0, -0.5, 0.0, 0.1, 0.25, 0.3, 0.5,
+            0.7, 0.75, 0.999, 1.0, 1.5, 2.0, Double.POSITIVE_INFINITY};
+
+    /**
+     * Checks that the table returns the same colors as the paint scale.
+     *
+     * @param scale  the paint scale.
+     */
+    private static void checkColors(PaintScale scale) {
+        ColorLookupTable table = ColorLookupTable.createFor(scale);
+        assertNotNull(table);
+        assertTrue(table.isExact());
+        for (double v : VALUES) {
+            Color c = (Color) scale.getPaint(v);
+            assertEquals(c.getRGB(), table.getARGB(v), "value " + v);
+        }
+        for (int i = 0; i <= 1000; i++) {
+            double v = -0.1 + i / 800.0;
+            Color c = (Color) scale.getPaint(v);
+            assertEquals(c.getRGB(), table.getARGB(v), "value " + v);
+        }
+    }
+
+    /**
+     * The colors for a {@link GrayPaintScale} are exact.
+     */
+    @Test
+    public void testGrayPaintScale() {
+        checkColors(new GrayPaintScale());
+        checkColors(new GrayPaintScale(-0.5, 1.5, 128));
+    }
+
+    /**
+     * The colors for a {@link LookupPaintScale} are exact.
+     */
+    @Test
+    public void testLookupPaintScale() {
+        LookupPaintScale scale = new LookupPaintScale(-0.5, 1.5, Color.GRAY);
+        checkColors(scale);
+        scale.add(0.25, Color.RED);
+        checkColors(scale);
+        scale.add(0.75, Color.BLUE);
+        scale.add(0.5, new Color(1, 2, 3, 4));
+        scale.add(0.0, Color.GREEN);
+        scale.add(1.0, Color.YELLOW);
+        checkColors(scale);
+    }
+
+    /**
+     * A general paint scale is sampled.
+     */
+    @Test
+    public void testSampledPaintScale() {
+        PaintScale scale = new GrayPaintScale(0.0, 1.0) {
+            @Override
+            public Paint getPaint(double value) {
+                return super.getPaint(1.0 - value);
+            }
+        };
+        ColorLookupTable table = ColorLookupTable.createFor(scale);
+        assertFalse(table.isExact());
+        assertEquals(Color.WHITE.getRGB(), table.getARGB(0.0));
+        assertEquals(Color.WHITE.getRGB(), table.getARGB(-1.0));
+        assertEquals(Color.BLACK.getRGB(), table.getARGB(1.0));
+        assertEquals(Color.BLACK.getRGB(), table.getARGB(
+                Double.POSITIVE_INFINITY));
+        for (int i = 0; i <= 100; i++) {
+            Color c = (Color) scale.getPaint(i / 100.0);
+            Color t = new Color(table.getARGB(i / 100.0), true);
+            assertEquals(c.getRed(), t.getRed(), 1);
+        }
+    }
+
+    /**
+     * No table is created if the paint scale returns a paint that is not a
+     * {@code Color}.
+     */
+    @Test
+    public void testNonColorPaint() {
+        LookupPaintScale scale = new LookupPaintScale();
+        scale.add(0.5, new GradientPaint(0f, 0f, Color.RED, 1f, 1f,
+                Color.BLUE));
+        assertNull(ColorLookupTable.createFor(scale));
+    }
+
+}
@@ -0,0 +1,375 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * DecimatedXYDatasetTest.java
+ * ---------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DecimatedXYDataset} class.
+ */
+public class DecimatedXYDatasetTest {
+
+    /**
+     * Creates a dataset with one series containing a noisy sine wave.
+     *
+     * @param itemCount  the number of items.
+     *
+     * @return The dataset.
+     */
+    private static XYSeriesCollection<String> createDataset(int itemCount) {
+        XYSeries<String> s = new XYSeries<>("S1");
+        for (int i = 0; i < itemCount; i++) {
+            s.add(i, Math.sin(i / 100.0) + ((i * 7919) % 13) / 10.0, false);
+        }
+        return new XYSeriesCollection<>(s);
+    }
+
+    /**
+     * The view contains at most four items per pixel column and always
+     * includes the minimum and maximum values.
+     */
+    @Test
+    public void testDecimation() {
+        XYSeriesCollection<String> dataset = createDataset(100000);
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 100000.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 100.0, 50.0);
+        DecimatedXYDataset<String> view = new DecimatedXYDataset<>(dataset,
+                axis, area, RectangleEdge.BOTTOM);
+        int count = view.getItemCount(0);
+        assertTrue(count <= 4 * 101);
+        assertTrue(count >= 100);
+
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int previous = -1;
+        for (int i = 0; i < count; i++) {
+            int sourceItem = view.getSourceItem(0, i);
+            assertTrue(sourceItem > previous);
+            previous = sourceItem;
+            assertEquals(dataset.getXValue(0, sourceItem), view.getXValue(0, i));
+            assertEquals(dataset.getYValue(0, sourceItem), view.getYValue(0, i));
+            min = Math.min(min, view.getYValue(0, i));
+            max = Math.max(max, view.getYValue(0, i));
+        }
+        assertEquals(0, view.getSourceItem(0, 0));
+        assertEquals(99999, view.getSourceItem(0, count - 1));
+        assertEquals(dataset.getRangeLowerBound(false), min);
+        assertEquals(dataset.getRangeUpperBound(false), max);
+    }
+
+    /**
+     * Only the visible items (plus one either side) are included.
+     */
+    @Test
+    public void testVisibleItemsOnly() {
+        XYSeriesCollection<String> dataset = createDataset(1000);
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(100.0, 200.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 1000.0, 50.0);
+        DecimatedXYDataset<String> view = new DecimatedXYDataset<>(dataset,
+                axis, area, RectangleEdge.BOTTOM);
+        assertEquals(103, view.getItemCount(0));
+        assertEquals(99, view.getSourceItem(0, 0));
+        assertEquals(201, view.getSourceItem(0, 102));
+    }
+
+    /**
+     * Items with a {@code null} y-value mark a gap and are retained.
+     */
+    @Test
+    public void testGapsRetained() {
+        XYSeriesCollection<String> dataset = createDataset(10000);
+        dataset.getSeries(0).updateByIndex(5000, null);
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 10000.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 10.0, 50.0);
+        DecimatedXYDataset<String> view = new DecimatedXYDataset<>(dataset,
+                axis, area, RectangleEdge.BOTTOM);
+        boolean found = false;
+        for (int i = 0; i < view.getItemCount(0); i++) {
+            if (view.getSourceItem(0, i) == 5000) {
+                found = true;
+                assertNull(view.getY(0, i));
+            }
+        }
+        assertTrue(found);
+    }
+
+    /**
+     * Series that are not sorted by x-value are not decimated.
+     */
+    @Test
+    public void testUnsortedSeries() {
+        XYSeries<String> s = new XYSeries<>("S1", false);
+        for (int i = 0; i < 1000; i++) {
+            s.add(1000 - i, i, false);
+        }
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s);
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 1000.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 10.0, 50.0);
+        DecimatedXYDataset<String> view = new DecimatedXYDataset<>(dataset,
+                axis, area, RectangleEdge.BOTTOM);
+        assertEquals(1000, view.getItemCount(0));
+        assertEquals(0, view.getSourceItem(0, 0));
+        assertEquals(999, view.getSourceItem(0, 999));
+        assertEquals(1.0, view.getXValue(0, 999));
+    }
+
+    /**
+     * A {@link DomainOrderCache} keeps the result of the order check until
+     * it is cleared, and checks items appended to a sorted series.
+     */
+    @Test
+    public void testDomainOrderCache() {
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 5.0, 6.0}});
+        dataset.addSeries("S2", new double[][] {{3.0, 2.0, 1.0},
+                {4.0, 5.0, 6.0}});
+        DomainOrderCache cache = new DomainOrderCache();
+        assertTrue(cache.isAscending(dataset, 0));
+        assertFalse(cache.isAscending(dataset, 1));
+
+        // the result is cached until the cache is cleared
+        dataset.addSeries("S2", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 5.0, 6.0}});
+        assertFalse(cache.isAscending(dataset, 1));
+        cache.clear();
+        assertTrue(cache.isAscending(dataset, 1));
+
+        // appended items are checked
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0, 0.5},
+                {4.0, 5.0, 6.0, 7.0}});
+        assertFalse(cache.isAscending(dataset, 0));
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0, 4.0, 5.0},
+                {4.0, 5.0, 6.0, 7.0, 8.0}});
+        cache.clear();
+        assertTrue(cache.isAscending(dataset, 0));
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0, 4.0, 5.0,
+                Double.NaN}, {4.0, 5.0, 6.0, 7.0, 8.0, 9.0}});
+        assertFalse(cache.isAscending(dataset, 0));
+
+        // a view that shares the cache uses the cached result
+        DecimatedXYDataset<String> view = new DecimatedXYDataset<>(dataset,
+                new NumberAxis("X"), new Rectangle2D.Double(0, 0, 10, 10),
+                RectangleEdge.BOTTOM, cache);
+        assertEquals(6, view.getItemCount(0));
+    }
+
+    /**
+     * A dataset that counts the calls to {@code getXValue()}.
+     */
+    private static class CountingXYDataset extends DefaultXYDataset<String> {
+
+        /** The number of calls to getXValue(). */
+        int xValueCount;
+
+        @Override
+        public double getXValue(int series, int item) {
+            this.xValueCount++;
+            return super.getXValue(series, item);
+        }
+    }
+
+    /**
+     * Creates an array containing the values from 0 to n - 1.
+     *
+     * @param n  the number of values.
+     *
+     * @return The array.
+     */
+    private static double[] sequence(int n) {
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+
+    /**
+     * When items are appended to a series, the {@link DomainOrderCache}
+     * checks only the new items (and the last item checked before).
+     */
+    @Test
+    public void testDomainOrderCacheAppend() {
+        CountingXYDataset dataset = new CountingXYDataset();
+        dataset.addSeries("S1", new double[][] {sequence(1000),
+                sequence(1000)});
+        DomainOrderCache cache = new DomainOrderCache();
+        assertTrue(cache.isAscending(dataset, 0));
+        assertEquals(1000, dataset.xValueCount);
+        assertTrue(cache.isAscending(dataset, 0));
+        assertEquals(1001, dataset.xValueCount);
+
+        // the dataset change event does not discard the state
+        dataset.xValueCount = 0;
+        dataset.addSeries("S1", new double[][] {sequence(1010),
+                sequence(1010)});
+        assertTrue(cache.isAscending(dataset, 0));
+        assertEquals(11, dataset.xValueCount);
+
+        // a series that shrinks is checked again
+        dataset.xValueCount = 0;
+        dataset.addSeries("S1", new double[][] {sequence(500),
+                sequence(500)});
+        assertTrue(cache.isAscending(dataset, 0));
+        assertEquals(500, dataset.xValueCount);
+
+        // so is a series with a different key, or a changed last value
+        dataset.xValueCount = 0;
+        dataset.removeSeries("S1");
+        dataset.addSeries("S2", new double[][] {sequence(500),
+                sequence(500)});
+        assertTrue(cache.isAscending(dataset, 0));
+        assertEquals(500, dataset.xValueCount);
+        double[] x = sequence(500);
+        x[499] = 1000.0;
+        dataset.addSeries("S2", new double[][] {x, sequence(500)});
+        dataset.xValueCount = 0;
+        assertTrue(cache.isAscending(dataset, 0));
+        assertEquals(501, dataset.xValueCount);
+    }
+
+    /**
+     * A sorted series is decimated even if the dataset does not declare an
+     * ascending domain order.
+     */
+    @Test
+    public void testSortedSeriesWithUnknownOrder() {
+        double[] x = new double[100000];
+        double[] y = new double[100000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i / 100.0);
+        }
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        dataset.addSeries("S1", new double[][] {x, y});
+        assertEquals(DomainOrder.NONE, dataset.getDomainOrder());
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 100000.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 100.0, 50.0);
+        DecimatedXYDataset<String> view = new DecimatedXYDataset<>(dataset,
+                axis, area, RectangleEdge.BOTTOM);
+        assertTrue(view.getItemCount(0) <= 4 * 101);
+        assertEquals(99999, view.getSourceItem(0, view.getItemCount(0) - 1));
+    }
+
+    /**
+     * Draws a chart with decimation enabled and checks that the entities
+     * refer to the plot's dataset.
+     */
+    @Test
+    public void testDrawWithDecimation() {
+        XYSeriesCollection<String> dataset = createDataset(20000);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, false, true, false);
+        XYPlot<?> plot = (XYPlot) chart.getPlot();
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer(true,
+                false);
+        renderer.setUseDecimation(true);
+        plot.setRenderer(renderer);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, info);
+        g2.dispose();
+        int itemEntities = 0;
+        for (ChartEntity entity : info.getEntityCollection().getEntities()) {
+            if (entity instanceof XYItemEntity) {
+                XYItemEntity e = (XYItemEntity) entity;
+                assertSame(dataset, e.getDataset());
+                itemEntities++;
+            }
+        }
+        assertTrue(itemEntities > 0);
+        assertTrue(itemEntities < 1000);
+    }
+
+    /**
+     * The items selected using a min/max pyramid should be the same as the
+     * items selected by visiting every item.
+     */
+    @Test
+    public void testDecimationWithMinMaxPyramid() {
+        XYSeriesCollection<String> dataset = createDataset(50000);
+        XYSeriesCollection<String> indexed = createDataset(50000);
+        for (int i = 0; i < 50000; i += 997) {
+            dataset.getSeries(0).updateByIndex(i, null);
+            indexed.getSeries(0).updateByIndex(i, null);
+        }
+        indexed.getSeries(0).setMinMaxPyramidEnabled(true);
+        assertNotNull(indexed.getMinMaxPyramid(0));
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(1234.5, 45678.9);
+        Rectangle2D area = new Rectangle2D.Double(10.0, 0.0, 333.0, 50.0);
+        DecimatedXYDataset<String> view1 = new DecimatedXYDataset<>(dataset,
+                axis, area, RectangleEdge.BOTTOM);
+        DecimatedXYDataset<String> view2 = new DecimatedXYDataset<>(indexed,
+                axis, area, RectangleEdge.BOTTOM);
+        assertEquals(view1.getItemCount(0), view2.getItemCount(0));
+        for (int i = 0; i < view1.getItemCount(0); i++) {
+            int item1 = view1.getSourceItem(0, i);
+            int item2 = view2.getSourceItem(0, i);
+            // ties for the min or max may select a different item
+            assertEquals(dataset.getYValue(0, item1),
+                    indexed.getYValue(0, item2));
+        }
+    }
+
+}
@@ -114,6 +114,27 @@ public class XYAreaRendererTest {
         r2.setGradientTransformer(new StandardGradientPaintTransformer(
                 GradientPaintTransformType.CENTER_VERTICAL));
         assertEquals(r1, r2);
+
+        r1.setUseDecimation(true);
+        assertNotEquals(r1, r2);
+        r2.setUseDecimation(true);
+        assertEquals(r1, r2);
+    }
+
+    /**
+     * A change event is sent only when the decimation flag changes.
+     */
+    @Test
+    public void testSetUseDecimation() {
+        XYAreaRenderer r = new XYAreaRenderer();
+        int[] events = new int[1];
+        r.addChangeListener(event -> events[0]++);
+        r.setUseDecimation(false);
+        assertEquals(0, events[0]);
+        r.setUseDecimation(true);
+        assertEquals(1, events[0]);
+        r.setUseDecimation(true);
+        assertEquals(1, events[0]);
     }
 
     /**
@@ -37,8 +37,18 @@
 package org.jfree.chart.renderer.xy;
 
 import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.XYPlot;
 
 import org.jfree.chart.renderer.GrayPaintScale;
 import org.jfree.chart.renderer.LookupPaintScale;
@@ -89,6 +99,61 @@ public class XYBlockRendererTest {
         r2.setPaintScale(new GrayPaintScale(0.0, 1.0));
         assertEquals(r1, r2);
 
+        // useRaster
+        r1.setUseRaster(true);
+        assertNotEquals(r1, r2);
+        r2.setUseRaster(true);
+        assertEquals(r1, r2);
+
+    }
+
+    /**
+     * In raster mode the blocks have the colors from the paint scale, and
+     * an entity is still created for each item.
+     */
+    @Test
+    public void testDrawWithRaster() {
+        double[][] data = new double[3][100];
+        for (int i = 0; i < 100; i++) {
+            data[0][i] = i % 10;
+            data[1][i] = i / 10;
+            data[2][i] = (i % 10 + i / 10) / 18.0;
+        }
+        DefaultXYZDataset<String> dataset = new DefaultXYZDataset<>();
+        dataset.addSeries("S1", data);
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(-0.5, 9.5);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(-0.5, 9.5);
+        XYBlockRenderer renderer = new XYBlockRenderer();
+        GrayPaintScale scale = new GrayPaintScale(0.0, 1.0);
+        renderer.setPaintScale(scale);
+        renderer.setUseRaster(true);
+        XYPlot<String> plot = new XYPlot<>(dataset, xAxis, yAxis, renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.removeLegend();
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), info);
+        g2.dispose();
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        for (int i = 0; i < 100; i++) {
+            int px = (int) xAxis.valueToJava2D(data[0][i], dataArea,
+                    RectangleEdge.BOTTOM);
+            int py = (int) yAxis.valueToJava2D(data[1][i], dataArea,
+                    RectangleEdge.LEFT);
+            Color c = (Color) scale.getPaint(data[2][i]);
+            assertEquals(c.getRGB(), image.getRGB(px, py));
+        }
+        int itemEntities = 0;
+        for (ChartEntity entity : info.getEntityCollection().getEntities()) {
+            if (entity instanceof XYItemEntity) {
+                itemEntities++;
+            }
+        }
+        assertEquals(100, itemEntities);
     }
 
     /**
@@ -0,0 +1,222 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * XYDensityRendererTest.java
+ * --------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.legend.PaintScaleLegend;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.GrayPaintScale;
+import org.jfree.chart.renderer.LookupPaintScale;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link XYDensityRenderer} class.
+ */
+public class XYDensityRendererTest {
+
+    /**
+     * Test that the equals() method distinguishes all fields.
+     */
+    @Test
+    public void testEquals() {
+        XYDensityRenderer r1 = new XYDensityRenderer();
+        XYDensityRenderer r2 = new XYDensityRenderer();
+        assertEquals(r1, r2);
+        assertEquals(r2, r1);
+
+        r1.setBinSize(5.0);
+        assertNotEquals(r1, r2);
+        r2.setBinSize(5.0);
+        assertEquals(r1, r2);
+
+        r1.setBinShape(DensityBinShape.HEXAGON);
+        assertNotEquals(r1, r2);
+        r2.setBinShape(DensityBinShape.HEXAGON);
+        assertEquals(r1, r2);
+
+        r1.setPaintScale(new GrayPaintScale(0.0, 10.0));
+        assertNotEquals(r1, r2);
+        r2.setPaintScale(new GrayPaintScale(0.0, 10.0));
+        assertEquals(r1, r2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        XYDensityRenderer r1 = new XYDensityRenderer();
+        LookupPaintScale scale1 = new LookupPaintScale();
+        r1.setPaintScale(scale1);
+        XYDensityRenderer r2 = CloneUtils.clone(r1);
+        assertNotSame(r1, r2);
+        assertSame(r1.getClass(), r2.getClass());
+        assertEquals(r1, r2);
+
+        // check independence
+        scale1.add(0.5, Color.RED);
+        assertNotEquals(r1, r2);
+        assertTrue(r1 instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        XYDensityRenderer r1 = new XYDensityRenderer();
+        r1.setBinShape(DensityBinShape.HEXAGON);
+        XYDensityRenderer r2 = TestUtils.serialised(r1);
+        assertEquals(r1, r2);
+    }
+
+    /**
+     * Draws a chart with two clusters of points, and checks the colors of
+     * the bins at the center of each cluster.
+     *
+     * @param shape  the bin shape.
+     */
+    private static void checkClusters(DensityBinShape shape) {
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 10.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(0.0, 10.0);
+        XYDensityRenderer renderer = new XYDensityRenderer();
+        renderer.setBinShape(shape);
+        renderer.setBinSize(20.0);
+        LookupPaintScale scale = new LookupPaintScale(0.0, 1000.0,
+                Color.WHITE);
+        scale.add(1.0, Color.RED);
+        scale.add(100.0, Color.BLUE);
+        renderer.setPaintScale(scale);
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        XYPlot<String> plot = new XYPlot<>(dataset, xAxis, yAxis, renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.removeLegend();
+        chart.setAntiAlias(false);
+
+        // find the data area, then put the clusters at bin centers
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), info);
+        Rectangle2D area = info.getPlotInfo().getDataArea();
+        boolean hexagon = shape == DensityBinShape.HEXAGON;
+        double rowHeight = hexagon ? 20.0 * Math.sqrt(3.0) / 2.0 : 20.0;
+        double rowOffset = hexagon ? 0.0 : 10.0;
+        // the centers of the bins at column 3, row 3 and column 10, row 6
+        // (odd rows of hexagons are offset by half a bin)
+        double[] px = {area.getX() + 70.0,
+                area.getX() + (hexagon ? 200.0 : 210.0)};
+        double[] py = {area.getY() + 3 * rowHeight + rowOffset,
+                area.getY() + 6 * rowHeight + rowOffset};
+        int[] counts = {150, 3};
+        double[][] data = new double[2][153];
+        int i = 0;
+        for (int c = 0; c < 2; c++) {
+            double x = xAxis.java2DToValue(px[c], area, RectangleEdge.BOTTOM);
+            double y = yAxis.java2DToValue(py[c], area, RectangleEdge.LEFT);
+            for (int j = 0; j < counts[c]; j++) {
+                data[0][i] = x;
+                data[1][i] = y;
+                i++;
+            }
+        }
+        dataset.addSeries("S1", data);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), info);
+        g2.dispose();
+        assertEquals(Color.BLUE.getRGB(), image.getRGB((int) px[0],
+                (int) py[0]));
+        assertEquals(Color.RED.getRGB(), image.getRGB((int) px[1],
+                (int) py[1]));
+        // a point between the clusters is not in a bin
+        assertNotEquals(Color.RED.getRGB(), image.getRGB(
+                (int) ((px[0] + px[1]) / 2), (int) ((py[0] + py[1]) / 2)));
+        assertNotEquals(Color.BLUE.getRGB(), image.getRGB(
+                (int) ((px[0] + px[1]) / 2), (int) ((py[0] + py[1]) / 2)));
+    }
+
+    /**
+     * Square bins.
+     */
+    @Test
+    public void testDrawSquareBins() {
+        checkClusters(DensityBinShape.SQUARE);
+    }
+
+    /**
+     * Hexagonal bins.
+     */
+    @Test
+    public void testDrawHexagonBins() {
+        checkClusters(DensityBinShape.HEXAGON);
+    }
+
+    /**
+     * The chart created by the factory method has a paint scale legend.
+     */
+    @Test
+    public void testCreateDensityChart() {
+        GrayPaintScale scale = new GrayPaintScale(0.0, 50.0);
+        JFreeChart chart = ChartFactory.createDensityChart("Title", "X", "Y",
+                new DefaultXYDataset<String>(), scale);
+        XYPlot<?> plot = (XYPlot<?>) chart.getPlot();
+        XYDensityRenderer renderer = (XYDensityRenderer) plot.getRenderer();
+        assertSame(scale, renderer.getPaintScale());
+        assertTrue(chart.getSubtitle(0) instanceof PaintScaleLegend);
+        assertNotNull(chart.createBufferedImage(300, 200));
+    }
+
+}
@@ -130,6 +130,11 @@ public class XYLineAndShapeRendererTest {
         assertNotEquals(r1, r2);
         r2.setDrawSeriesLineAsPath(true);
         assertEquals(r1, r2);
+
+        r1.setUseDecimation(true);
+        assertNotEquals(r1, r2);
+        r2.setUseDecimation(true);
+        assertEquals(r1, r2);
     }
 
     /**
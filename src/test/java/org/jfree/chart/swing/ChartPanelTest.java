@@ -37,19 +37,25 @@
 package org.jfree.chart.swing;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.JFreeChartEntity;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.ValueMarker;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.swing.SwingUtilities;
 import javax.swing.event.CaretListener;
 import java.awt.*;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.*;
 import java.util.ArrayList;
 import java.util.EventListener;
@@ -355,5 +361,92 @@ public class ChartPanelTest implements ChartChangeListener, ChartMouseListener {
         assertEquals(Color.MAGENTA, readPanel.getZoomFillPaint());
         assertEquals(Color.CYAN, readPanel.getZoomOutlinePaint());
     }
+
+    /**
+     * Paints a panel to an image.
+     *
+     * @param panel  the panel.
+     *
+     * @return The image.
+     */
+    private static BufferedImage paint(ChartPanel panel) {
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * When the buffer is drawn in layers, a change to a marker redraws the
+     * data layer only, and the result is the same as drawing the chart in
+     * one pass.
+     */
+    @Test
+    public void testLayeredBuffer() {
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 6.0, 5.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart", "X",
+                "Y", dataset, PlotOrientation.VERTICAL, true, true, false);
+        ValueMarker marker = new ValueMarker(1.5);
+        ((XYPlot) chart.getPlot()).addDomainMarker(marker);
+        ChartPanel panel = new ChartPanel(chart, true);
+        assertFalse(panel.isLayeredBuffer());
+        panel.setLayeredBuffer(true);
+        assertTrue(panel.isLayeredBuffer());
+        panel.setSize(300, 200);
+        paint(panel);
+        EntityCollection entities
+                = panel.getChartRenderingInfo().getEntityCollection();
+        int count = entities.getEntityCount();
+        assertTrue(entities.getEntity(0) instanceof JFreeChartEntity);
+
+        marker.setValue(2.5);
+        assertFalse(panel.getRefreshBuffer());
+        BufferedImage layered = paint(panel);
+        assertEquals(count, entities.getEntityCount());
+        assertTrue(entities.getEntity(0) instanceof JFreeChartEntity);
+
+        panel.setLayeredBuffer(false);
+        BufferedImage expected = paint(panel);
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(expected.getRGB(x, y), layered.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * In the asynchronous mode, the frame is drawn on a worker thread and
+     * swapped in on the event dispatch thread.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testAsyncRendering() throws Exception {
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 6.0, 5.0}});
+        JFreeChart chart = ChartFactory.createXYLineChart("TestChart", "X",
+                "Y", dataset, PlotOrientation.VERTICAL, true, true, false);
+        ChartPanel panel = new ChartPanel(chart, true);
+        assertFalse(panel.isAsyncRendering());
+        panel.setAsyncRendering(true);
+        panel.setSize(300, 200);
+        ChartRenderingInfo info = panel.getChartRenderingInfo();
+        paint(panel);
+        for (int i = 0; i < 100 && panel.getChartRenderingInfo() == info;
+                i++) {
+            Thread.sleep(50);
+            SwingUtilities.invokeAndWait(() -> { });
+        }
+        assertNotSame(info, panel.getChartRenderingInfo());
+        assertTrue(panel.getChartRenderingInfo().getEntityCollection()
+                .getEntityCount() > 0);
+        panel.setAsyncRendering(false);
+        assertFalse(panel.isAsyncRendering());
+    }
 }
 
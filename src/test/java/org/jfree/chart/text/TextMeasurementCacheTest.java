@@ -0,0 +1,124 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * TextMeasurementCacheTest.java
+ * -----------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.text;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link TextMeasurementCache} class.
+ */
+public class TextMeasurementCacheTest {
+
+    /**
+     * Restores the default capacity after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        TextMeasurementCache.setCapacity(
+                TextMeasurementCache.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * The cached measurements are the same as the direct measurements, and
+     * the caller can modify the returned bounds.
+     */
+    @Test
+    public void testMeasurements() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        Font font = new Font("Dialog", Font.PLAIN, 12);
+        FontMetrics fm = g2.getFontMetrics(font);
+        FontRenderContext frc = g2.getFontRenderContext();
+        for (int i = 0; i < 2; i++) {
+            Rectangle2D bounds = TextMeasurementCache.getStringBounds(
+                    "123.45", g2, fm);
+            Rectangle2D expected = fm.getStringBounds("123.45", g2);
+            assertEquals(expected.getWidth(), bounds.getWidth());
+            assertEquals(font.getLineMetrics("123.45", frc).getHeight(),
+                    bounds.getHeight(), 0.0001);
+            bounds.setRect(0.0, 0.0, 1.0, 1.0);
+            assertEquals(fm.stringWidth("123.45"),
+                    TextMeasurementCache.getStringWidth("123.45", fm));
+            assertEquals(font.getLineMetrics("ABCxyz", frc).getHeight(),
+                    TextMeasurementCache.getLineHeight("ABCxyz", font, frc));
+        }
+        Font bigger = font.deriveFont(24.0f);
+        assertTrue(TextMeasurementCache.getStringWidth("123.45",
+                g2.getFontMetrics(bigger)) > TextMeasurementCache
+                .getStringWidth("123.45", fm));
+        g2.dispose();
+    }
+
+    /**
+     * The cache holds no more than its capacity, and a capacity of zero
+     * disables it.
+     */
+    @Test
+    public void testCapacity() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        FontMetrics fm = g2.getFontMetrics(new Font("Dialog", Font.PLAIN,
+                10));
+        TextMeasurementCache.setCapacity(10);
+        for (int i = 0; i < 100; i++) {
+            TextUtils.getTextBounds(String.valueOf(i), g2, fm);
+        }
+        assertEquals(10, TextMeasurementCache.getSize());
+        TextMeasurementCache.setCapacity(5);
+        assertEquals(5, TextMeasurementCache.getSize());
+        TextMeasurementCache.setCapacity(0);
+        assertEquals(0, TextMeasurementCache.getSize());
+        TextUtils.getTextBounds("abc", g2, fm);
+        assertEquals(0, TextMeasurementCache.getSize());
+        assertThrows(IllegalArgumentException.class,
+                () -> TextMeasurementCache.setCapacity(-1));
+        g2.dispose();
+    }
+
+}
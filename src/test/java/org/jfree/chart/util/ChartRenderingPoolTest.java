@@ -0,0 +1,201 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * ChartRenderingPoolTest.java
+ * ---------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.encoders.EncoderUtil;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ChartRenderingPool} class.
+ */
+public class ChartRenderingPoolTest {
+
+    /**
+     * A dataset that counts its registered listeners.
+     */
+    static class CountingXYSeriesCollection
+            extends XYSeriesCollection<String> {
+
+        volatile int listenerCount;
+
+        CountingXYSeriesCollection(XYSeries<String> series) {
+            super(series);
+        }
+
+        @Override
+        public synchronized void addChangeListener(
+                DatasetChangeListener listener) {
+            super.addChangeListener(listener);
+            this.listenerCount++;
+        }
+
+        @Override
+        public synchronized void removeChangeListener(
+                DatasetChangeListener listener) {
+            super.removeChangeListener(listener);
+            this.listenerCount--;
+        }
+    }
+
+    /**
+     * Creates a dataset.
+     *
+     * @param n  a value used to vary the data.
+     *
+     * @return The dataset.
+     */
+    private static CountingXYSeriesCollection createDataset(int n) {
+        XYSeries<String> s = new XYSeries<>("S" + n);
+        for (int i = 0; i < 200; i++) {
+            s.add(i, Math.sin(i * (n + 1) / 50.0));
+        }
+        return new CountingXYSeriesCollection(s);
+    }
+
+    /**
+     * Charts rendered concurrently should match the same charts rendered
+     * one at a time, and no listeners should be left on the datasets.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testConcurrentRendering() throws Exception {
+        CountingXYSeriesCollection templateData = createDataset(0);
+        JFreeChart template = ChartFactory.createXYLineChart("Title", "X",
+                "Y", templateData);
+        int templateListeners = templateData.listenerCount;
+        List<CountingXYSeriesCollection> datasets = new ArrayList<>();
+        List<Future<byte[]>> results = new ArrayList<>();
+        try (ChartRenderingPool pool = new ChartRenderingPool(4)) {
+            for (int i = 0; i < 24; i++) {
+                CountingXYSeriesCollection d = createDataset(i % 6);
+                datasets.add(d);
+                results.add(pool.submit(template, d, 300, 200));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                JFreeChart chart = ChartFactory.createXYLineChart("Title",
+                        "X", "Y", createDataset(i % 6));
+                byte[] expected = EncoderUtil.encode(
+                        chart.createBufferedImage(300, 200), ImageFormat.PNG);
+                assertArrayEquals(expected, results.get(i).get());
+            }
+        }
+        assertEquals(templateListeners, templateData.listenerCount);
+        // the only listener left is the one the dataset registers itself
+        int initialListeners = createDataset(0).listenerCount;
+        for (CountingXYSeriesCollection d : datasets) {
+            assertEquals(initialListeners, d.listenerCount);
+        }
+        XYPlot<?> plot = (XYPlot) template.getPlot();
+        assertSame(templateData, plot.getDataset());
+    }
+
+    /**
+     * The rendering info is filled in by the worker thread.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testRenderingInfo() throws Exception {
+        JFreeChart template = ChartFactory.createXYLineChart("Title", "X",
+                "Y", createDataset(1));
+        ChartRenderingPool pool = new ChartRenderingPool(1);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        pool.submit(template, null, 200, 100, info).get();
+        assertTrue(pool.shutdown(10, TimeUnit.SECONDS));
+        assertEquals(200.0, info.getChartArea().getWidth());
+        assertTrue(info.getEntityCollection().getEntityCount() > 0);
+    }
+
+    /**
+     * A dataset of the wrong type is rejected when it is submitted.
+     */
+    @Test
+    public void testDatasetTypeChecked() {
+        JFreeChart template = ChartFactory.createXYLineChart("Title", "X",
+                "Y", createDataset(1));
+        try (ChartRenderingPool pool = new ChartRenderingPool(1)) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> pool.submit(template,
+                            new DefaultCategoryDataset<String, String>(), 200,
+                            100));
+        }
+    }
+
+    /**
+     * A snapshot is independent of the chart and does not listen to the
+     * datasets.
+     *
+     * @throws CloneNotSupportedException if there is a problem.
+     */
+    @Test
+    public void testSnapshot() throws CloneNotSupportedException {
+        CountingXYSeriesCollection dataset = createDataset(1);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset);
+        int listeners = dataset.listenerCount;
+        JFreeChart copy = ChartRenderingPool.snapshot(chart);
+        assertEquals(listeners, dataset.listenerCount);
+        XYPlot<?> plot = (XYPlot) chart.getPlot();
+        XYPlot<?> copyPlot = (XYPlot) copy.getPlot();
+        assertNotSame(plot, copyPlot);
+        assertNotSame(plot.getDomainAxis(), copyPlot.getDomainAxis());
+        assertSame(dataset, copyPlot.getDataset());
+        plot.getDomainAxis().setRange(10.0, 20.0);
+        assertNotEquals(plot.getDomainAxis().getRange(),
+                copyPlot.getDomainAxis().getRange());
+        assertThrows(IllegalArgumentException.class,
+                () -> ChartRenderingPool.snapshot(null));
+    }
+
+}
@@ -36,10 +36,15 @@
 
 package org.jfree.data.category;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.api.PublicCloneable;
+import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtils;
 
 import org.junit.jupiter.api.Test;
 
@@ -379,4 +384,89 @@ public class DefaultCategoryDatasetTest {
         assertTrue(pass);
     }
 
+    /**
+     * The range bounds should be updated as values are added, changed and
+     * removed.
+     */
+    @Test
+    public void testGetRangeBounds() {
+        DefaultCategoryDataset<String, String> d = new DefaultCategoryDataset<>();
+        assertNull(d.getRangeBounds(false));
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(5.0, "R1", "C2");
+        d.addValue(-2.0, "R2", "C1");
+        assertEquals(new Range(-2.0, 5.0), d.getRangeBounds(false));
+        assertEquals(new Range(1.0, 5.0), d.getRangeBounds(
+                Arrays.asList("R1"), false));
+
+        d.setValue(7.0, "R1", "C1");
+        assertEquals(new Range(-2.0, 7.0), d.getRangeBounds(false));
+        d.setValue(3.0, "R1", "C1");
+        assertEquals(new Range(-2.0, 5.0), d.getRangeBounds(false));
+        d.incrementValue(4.0, "R2", "C1");
+        assertEquals(new Range(2.0, 5.0), d.getRangeBounds(false));
+        d.setValue(null, "R1", "C2");
+        assertEquals(new Range(2.0, 3.0), d.getRangeBounds(false));
+        d.removeValue("R2", "C1");
+        assertEquals(new Range(3.0, 3.0), d.getRangeBounds(false));
+        assertNull(d.getRangeBounds(Arrays.asList("R2"), false));
+
+        d.addValue(9.0, "R2", "C2");
+        d.removeColumn("C1");
+        assertEquals(new Range(9.0, 9.0), d.getRangeBounds(false));
+        d.removeRow("R2");
+        assertNull(d.getRangeBounds(false));
+        d.addValue(4.0, "R3", "C3");
+        assertEquals(4.0, d.getRangeLowerBound(false));
+        assertEquals(4.0, d.getRangeUpperBound(false));
+        d.clear();
+        assertTrue(Double.isNaN(d.getRangeLowerBound(false)));
+    }
+
+    /**
+     * The tracked range bounds should match the bounds found by iterating
+     * over the data after a random sequence of changes.
+     */
+    @Test
+    public void testGetRangeBoundsMatchesIteration() {
+        DefaultCategoryDataset<String, String> d = new DefaultCategoryDataset<>();
+        Random random = new Random(11L);
+        for (int i = 0; i < 2000; i++) {
+            String row = "R" + random.nextInt(4);
+            String column = "C" + random.nextInt(10);
+            int op = random.nextInt(10);
+            if (op < 7) {
+                d.setValue(random.nextInt(100), row, column);
+            }
+            else if (op < 9) {
+                if (d.getRowIndex(row) >= 0 && d.getColumnIndex(column) >= 0) {
+                    d.removeValue(row, column);
+                }
+            }
+            else {
+                d.setValue(null, row, column);
+            }
+            assertEquals(DatasetUtils.iterateRangeBounds(d, false),
+                    d.getRangeBounds(false));
+        }
+    }
+
+    /**
+     * A change to a row whose bounds have not been requested yet must not
+     * hide the other values in the row.
+     */
+    @Test
+    public void testGetRangeBoundsForUnrequestedRow() {
+        DefaultCategoryDataset<String, String> d = new DefaultCategoryDataset<>();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(100.0, "R2", "C1");
+        d.addValue(-50.0, "R2", "C2");
+        assertEquals(new Range(1.0, 1.0), d.getRangeBounds(
+                Arrays.asList("R1"), false));
+        d.addValue(5.0, "R2", "C3");
+        assertEquals(new Range(-50.0, 100.0), d.getRangeBounds(
+                Arrays.asList("R2"), false));
+        assertEquals(new Range(-50.0, 100.0), d.getRangeBounds(false));
+    }
+
 }
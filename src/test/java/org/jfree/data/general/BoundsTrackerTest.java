@@ -0,0 +1,136 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * BoundsTrackerTest.java
+ * ----------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link BoundsTracker} class.
+ */
+public class BoundsTrackerTest {
+
+    /**
+     * Removing a value only invalidates the tracker when the value is one of
+     * the extremes.
+     */
+    @Test
+    public void testAddAndRemove() {
+        BoundsTracker t = new BoundsTracker();
+        assertNull(t.getBounds());
+        assertTrue(Double.isNaN(t.getLowerBound()));
+        t.add(1.0);
+        t.add(5.0);
+        t.add(3.0);
+        t.add(Double.NaN);
+        assertEquals(new Range(1.0, 5.0), t.getBounds());
+        assertEquals(3, t.getCount());
+        assertEquals(1, t.getNaNCount());
+
+        t.remove(3.0);
+        t.remove(Double.NaN);
+        assertTrue(t.isValid());
+        assertEquals(new Range(1.0, 5.0), t.getBounds());
+        assertEquals(0, t.getNaNCount());
+
+        t.remove(5.0);
+        assertFalse(t.isValid());
+
+        t.clear();
+        assertTrue(t.isValid());
+        t.add(2.0);
+        t.remove(2.0);
+        assertTrue(t.isValid());
+        assertNull(t.getBounds());
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        BoundsTracker t1 = new BoundsTracker();
+        BoundsTracker t2 = new BoundsTracker();
+        assertEquals(t1, t2);
+        t1.add(1.0);
+        assertNotEquals(t1, t2);
+        t2.add(1.0);
+        assertEquals(t1, t2);
+        t1.add(Double.NaN);
+        assertNotEquals(t1, t2);
+        t2.add(Double.NaN);
+        assertEquals(t1, t2);
+        t1.invalidate();
+        assertNotEquals(t1, t2);
+        t2.invalidate();
+        assertEquals(t1, t2);
+        assertEquals(t1.hashCode(), t2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        BoundsTracker t1 = new BoundsTracker();
+        t1.add(1.0);
+        BoundsTracker t2 = CloneUtils.clone(t1);
+        assertNotSame(t1, t2);
+        assertEquals(t1, t2);
+        t1.add(2.0);
+        assertNotEquals(t1, t2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        BoundsTracker t1 = new BoundsTracker();
+        t1.add(1.0);
+        t1.add(Double.NaN);
+        BoundsTracker t2 = TestUtils.serialised(t1);
+        assertEquals(t1, t2);
+    }
+
+}
@@ -0,0 +1,135 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * HeatMapUtilsTest.java
+ * ---------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Paint;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.renderer.GrayPaintScale;
+import org.jfree.chart.renderer.LookupPaintScale;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link HeatMapUtils} class.
+ */
+public class HeatMapUtilsTest {
+
+    /**
+     * Creates a dataset for testing.
+     *
+     * @return The dataset.
+     */
+    private static DefaultHeatMapDataset createDataset() {
+        DefaultHeatMapDataset dataset = new DefaultHeatMapDataset(20, 10,
+                0.0, 19.0, 0.0, 9.0);
+        for (int x = 0; x < 20; x++) {
+            for (int y = 0; y < 10; y++) {
+                dataset.setZValue(x, y, (x * 10 + y) / 200.0);
+            }
+        }
+        dataset.setZValue(3, 4, Double.NaN);
+        return dataset;
+    }
+
+    /**
+     * Each pixel has the color from the paint scale, with the y-values
+     * increasing up the image.
+     */
+    @Test
+    public void testCreateHeatMapImage() {
+        DefaultHeatMapDataset dataset = createDataset();
+        GrayPaintScale scale = new GrayPaintScale(0.0, 1.0, 200);
+        BufferedImage image = HeatMapUtils.createHeatMapImage(dataset, scale);
+        assertEquals(20, image.getWidth());
+        assertEquals(10, image.getHeight());
+        for (int x = 0; x < 20; x++) {
+            for (int y = 0; y < 10; y++) {
+                Color c = (Color) scale.getPaint(dataset.getZValue(x, y));
+                assertEquals(c.getRGB(), image.getRGB(x, 9 - y));
+            }
+        }
+    }
+
+    /**
+     * For a paint scale that the color lookup table can only sample, each
+     * pixel still has the exact color from the paint scale.
+     */
+    @Test
+    public void testCreateHeatMapImageWithSampledPaintScale() {
+        DefaultHeatMapDataset dataset = createDataset();
+        dataset.setZValue(5, 5, 2.0);
+        GrayPaintScale scale = new GrayPaintScale(0.0, 1.0) {
+            @Override
+            public Paint getPaint(double value) {
+                // colors that change faster than the table samples them, and
+                // a separate color for values above the upper bound
+                if (value > 1.0) {
+                    return Color.RED;
+                }
+                return super.getPaint((value * 37.0) % 1.0);
+            }
+        };
+        BufferedImage image = HeatMapUtils.createHeatMapImage(dataset, scale);
+        for (int x = 0; x < 20; x++) {
+            for (int y = 0; y < 10; y++) {
+                Color c = (Color) scale.getPaint(dataset.getZValue(x, y));
+                assertEquals(c.getRGB(), image.getRGB(x, 9 - y));
+            }
+        }
+        assertEquals(Color.RED.getRGB(), image.getRGB(5, 4));
+    }
+
+    /**
+     * A paint scale that returns paints that are not colors is still
+     * supported.
+     */
+    @Test
+    public void testCreateHeatMapImageWithGradientPaint() {
+        DefaultHeatMapDataset dataset = createDataset();
+        LookupPaintScale scale = new LookupPaintScale(0.0, 1.0, Color.RED);
+        scale.add(0.5, new GradientPaint(0f, 0f, Color.BLUE, 100f, 0f,
+                Color.BLUE));
+        BufferedImage image = HeatMapUtils.createHeatMapImage(dataset, scale);
+        assertEquals(Color.RED.getRGB(), image.getRGB(0, 9));
+        assertEquals(Color.BLUE.getRGB(), image.getRGB(19, 0));
+    }
+
+}
@@ -0,0 +1,199 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * MinMaxPyramidTest.java
+ * ----------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MinMaxPyramid} class.
+ */
+public class MinMaxPyramidTest {
+
+    /**
+     * Checks the results of the range queries against a linear search.
+     *
+     * @param expected  the expected values.
+     * @param p  the pyramid.
+     * @param random  a source of random ranges.
+     */
+    private static void check(List<Double> expected, MinMaxPyramid p,
+            Random random) {
+        int n = expected.size();
+        assertEquals(n, p.getItemCount());
+        for (int t = 0; t < 50 && n > 0; t++) {
+            int start = random.nextInt(n);
+            int end = start + random.nextInt(n - start);
+            double min = Double.NaN;
+            double max = Double.NaN;
+            int nan = -1;
+            for (int i = start; i <= end; i++) {
+                double v = expected.get(i);
+                if (Double.isNaN(v)) {
+                    nan = nan < 0 ? i : nan;
+                }
+                else {
+                    min = Double.isNaN(min) ? v : Math.min(min, v);
+                    max = Double.isNaN(max) ? v : Math.max(max, v);
+                }
+            }
+            int minIndex = p.getMinIndex(start, end);
+            int maxIndex = p.getMaxIndex(start, end);
+            if (Double.isNaN(min)) {
+                assertEquals(-1, minIndex);
+                assertEquals(-1, maxIndex);
+            }
+            else {
+                assertTrue(minIndex >= start && minIndex <= end);
+                assertTrue(maxIndex >= start && maxIndex <= end);
+                assertEquals(min, expected.get(minIndex));
+                assertEquals(max, expected.get(maxIndex));
+            }
+            assertEquals(nan, p.getNaNIndex(start, end));
+        }
+    }
+
+    /**
+     * Compares the pyramid with a list after a random sequence of appends,
+     * removals from the start and updates.
+     */
+    @Test
+    public void testIncrementalUpdates() {
+        Random random = new Random(17L);
+        MinMaxPyramid p = new MinMaxPyramid();
+        List<Double> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(10);
+            if (op < 6 || expected.isEmpty()) {
+                double v = random.nextInt(20) == 0 ? Double.NaN
+                        : random.nextGaussian();
+                p.add(v);
+                expected.add(v);
+            }
+            else if (op < 8) {
+                p.removeFirst();
+                expected.remove(0);
+            }
+            else {
+                int index = random.nextInt(expected.size());
+                double v = random.nextGaussian() * 3.0;
+                p.set(index, v);
+                expected.set(index, v);
+            }
+            if (i % 100 == 0) {
+                check(expected, p, random);
+            }
+        }
+        check(expected, p, random);
+        p.clear();
+        assertEquals(0, p.getItemCount());
+    }
+
+    /**
+     * Some checks for the level count.
+     */
+    @Test
+    public void testGetLevelCount() {
+        MinMaxPyramid p = new MinMaxPyramid();
+        assertEquals(0, p.getLevelCount());
+        p.add(1.0);
+        assertEquals(0, p.getLevelCount());
+        p.add(2.0);
+        assertEquals(1, p.getLevelCount());
+        for (int i = 0; i < 1022; i++) {
+            p.add(i);
+        }
+        assertEquals(10, p.getLevelCount());
+        p.removeFirst();
+        assertEquals(9, p.getLevelCount());
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        MinMaxPyramid p1 = new MinMaxPyramid(new double[] {1.0, 2.0, 3.0});
+        MinMaxPyramid p2 = new MinMaxPyramid();
+        assertNotEquals(p1, p2);
+        p2.add(0.0);
+        p2.add(1.0);
+        p2.add(2.0);
+        p2.add(3.0);
+        assertNotEquals(p1, p2);
+        p2.removeFirst();
+        assertEquals(p1, p2);
+        assertEquals(p1.hashCode(), p2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        MinMaxPyramid p1 = new MinMaxPyramid(new double[] {1.0, 2.0, 3.0});
+        MinMaxPyramid p2 = CloneUtils.clone(p1);
+        assertNotSame(p1, p2);
+        assertEquals(p1, p2);
+        p1.set(1, 5.0);
+        assertNotEquals(p1, p2);
+        assertEquals(1, p1.getMaxIndex(0, 2));
+        assertEquals(2, p2.getMaxIndex(0, 2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        MinMaxPyramid p1 = new MinMaxPyramid(new double[] {1.0, Double.NaN,
+                3.0});
+        MinMaxPyramid p2 = TestUtils.serialised(p1);
+        assertEquals(p1, p2);
+        assertEquals(1, p2.getNaNIndex(0, 2));
+    }
+
+}
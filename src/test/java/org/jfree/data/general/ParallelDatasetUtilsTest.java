@@ -0,0 +1,260 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * ParallelDatasetUtilsTest.java
+ * -----------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.DefaultTableXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.YIntervalDataItem;
+import org.jfree.data.xy.YIntervalSeries;
+import org.jfree.data.xy.YIntervalSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ParallelDatasetUtils} class.  The results must be
+ * the same as the results from the {@link DatasetUtils} methods.
+ */
+public class ParallelDatasetUtilsTest {
+
+    /**
+     * Creates a collection of series with random y-values (and some missing
+     * values).
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The collection.
+     */
+    private static XYSeriesCollection<String> createXYDataset(int seriesCount,
+            int itemCount) {
+        Random random = new Random(123L);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        for (int s = 0; s < seriesCount; s++) {
+            XYSeries<String> series = new XYSeries<>("S" + s, false, true);
+            for (int i = 0; i < itemCount; i++) {
+                Double y = (i % 1000 == 7) ? null : random.nextGaussian() * s;
+                series.add(Double.valueOf(i - s * 10.0), y, false);
+            }
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Returns the keys of the series in a dataset.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The keys.
+     */
+    private static List<String> keys(XYSeriesCollection<String> dataset) {
+        List<String> result = new ArrayList<>();
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            result.add(dataset.getSeriesKey(s));
+        }
+        return result;
+    }
+
+    /**
+     * The domain and range bounds for an XY dataset.
+     */
+    @Test
+    public void testXYDataset() {
+        XYSeriesCollection<String> dataset = createXYDataset(5, 30000);
+        List<String> keys = keys(dataset);
+        for (boolean includeInterval : new boolean[] {false, true}) {
+            assertEquals(DatasetUtils.iterateToFindDomainBounds(dataset, keys,
+                    includeInterval),
+                    ParallelDatasetUtils.iterateToFindDomainBounds(dataset,
+                    keys, includeInterval, 0));
+            Range xRange = new Range(-20.0, 25000.0);
+            assertEquals(DatasetUtils.iterateToFindRangeBounds(dataset, keys,
+                    xRange, includeInterval),
+                    ParallelDatasetUtils.iterateToFindRangeBounds(dataset,
+                    keys, xRange, includeInterval, 0));
+        }
+        // a subset of the series
+        List<String> visible = List.of("S1", "S3");
+        assertEquals(DatasetUtils.iterateToFindDomainBounds(dataset, visible,
+                false), ParallelDatasetUtils.iterateToFindDomainBounds(
+                dataset, visible, false, 0));
+
+        // the default threshold
+        assertEquals(DatasetUtils.iterateToFindDomainBounds(dataset, keys,
+                false), ParallelDatasetUtils.iterateToFindDomainBounds(
+                dataset, keys, false));
+        assertEquals(DatasetUtils.iterateToFindRangeBounds(dataset, keys,
+                new Range(0.0, 10.0), false),
+                ParallelDatasetUtils.iterateToFindRangeBounds(dataset, keys,
+                new Range(0.0, 10.0), false));
+    }
+
+    /**
+     * The range bounds for an interval dataset, with and without the
+     * intervals.
+     */
+    @Test
+    public void testIntervalXYDataset() {
+        Random random = new Random(456L);
+        YIntervalSeriesCollection<String> dataset
+                = new YIntervalSeriesCollection<>();
+        List<String> keys = new ArrayList<>();
+        for (int s = 0; s < 3; s++) {
+            YIntervalSeries<String> series = new YIntervalSeries<>("S" + s);
+            for (int i = 0; i < 20000; i++) {
+                double y = random.nextGaussian();
+                series.add(new YIntervalDataItem(i, y,
+                        y - random.nextDouble(), y + random.nextDouble()),
+                        false);
+            }
+            dataset.addSeries(series);
+            keys.add("S" + s);
+        }
+        Range xRange = new Range(100.0, 19000.0);
+        for (boolean includeInterval : new boolean[] {false, true}) {
+            Range expected = DatasetUtils.iterateToFindRangeBounds(dataset,
+                    keys, xRange, includeInterval);
+            assertEquals(expected, ParallelDatasetUtils
+                    .iterateToFindRangeBounds(dataset, keys, xRange,
+                    includeInterval, 0));
+        }
+    }
+
+    /**
+     * The range bounds for a category dataset, stacked and unstacked.
+     */
+    @Test
+    public void testCategoryDataset() {
+        Random random = new Random(789L);
+        DefaultCategoryDataset<String, Integer> dataset
+                = new DefaultCategoryDataset<>();
+        List<String> rows = new ArrayList<>();
+        for (int r = 0; r < 10; r++) {
+            rows.add("R" + r);
+            for (int c = 0; c < 3000; c++) {
+                Double value = (c % 500 == 3) ? null
+                        : random.nextGaussian() * 10.0;
+                dataset.addValue(value, "R" + r, Integer.valueOf(c));
+            }
+        }
+        assertEquals(DatasetUtils.iterateToFindRangeBounds(dataset, rows,
+                false), ParallelDatasetUtils.iterateToFindRangeBounds(
+                dataset, rows, false, 0));
+        assertEquals(DatasetUtils.findStackedRangeBounds(dataset, 0.0),
+                ParallelDatasetUtils.findStackedRangeBounds(dataset, 0.0, 0));
+        assertEquals(DatasetUtils.findStackedRangeBounds(dataset, 100.0),
+                ParallelDatasetUtils.findStackedRangeBounds(dataset, 100.0,
+                0));
+        assertEquals(DatasetUtils.findStackedRangeBounds(dataset, 0.0),
+                ParallelDatasetUtils.findStackedRangeBounds(dataset, 0.0));
+    }
+
+    /**
+     * The stacked range bounds for a table dataset.
+     */
+    @Test
+    public void testTableXYDataset() {
+        Random random = new Random(321L);
+        DefaultTableXYDataset<String> dataset = new DefaultTableXYDataset<>();
+        for (int s = 0; s < 4; s++) {
+            XYSeries<String> series = new XYSeries<>("S" + s, true, false);
+            for (int i = 0; i < 20000; i++) {
+                series.add(i, random.nextGaussian(), false);
+            }
+            dataset.addSeries(series);
+        }
+        assertEquals(DatasetUtils.findStackedRangeBounds(dataset, 0.0),
+                ParallelDatasetUtils.findStackedRangeBounds(dataset, 0.0, 0));
+        assertEquals(DatasetUtils.findStackedRangeBounds(dataset, 5.0),
+                ParallelDatasetUtils.findStackedRangeBounds(dataset, 5.0, 0));
+    }
+
+    /**
+     * Empty datasets have no bounds.
+     */
+    @Test
+    public void testEmptyDatasets() {
+        XYSeriesCollection<String> xy = createXYDataset(2, 0);
+        assertNull(ParallelDatasetUtils.iterateToFindDomainBounds(xy,
+                keys(xy), true, 0));
+        assertNull(ParallelDatasetUtils.iterateToFindRangeBounds(xy,
+                keys(xy), new Range(0.0, 1.0), true, 0));
+        assertNull(ParallelDatasetUtils.iterateToFindDomainBounds(xy,
+                new ArrayList<>(), true, 0));
+        DefaultCategoryDataset<String, String> category
+                = new DefaultCategoryDataset<>();
+        assertNull(ParallelDatasetUtils.iterateToFindRangeBounds(category,
+                new ArrayList<>(), true, 0));
+        assertNull(ParallelDatasetUtils.findStackedRangeBounds(category, 0.0,
+                0));
+        // values that are all missing
+        XYSeriesCollection<String> missing = new XYSeriesCollection<>();
+        XYSeries<String> series = new XYSeries<>("S1");
+        for (int i = 0; i < 20000; i++) {
+            series.add(i, null, false);
+        }
+        missing.addSeries(series);
+        assertNull(ParallelDatasetUtils.iterateToFindRangeBounds(missing,
+                List.of("S1"), new Range(0.0, 30000.0), false, 0));
+    }
+
+    /**
+     * Check that null arguments are rejected.
+     */
+    @Test
+    public void testNullArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelDatasetUtils.iterateToFindDomainBounds(null,
+                new ArrayList<String>(), false));
+        XYSeriesCollection<String> dataset = createXYDataset(1, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelDatasetUtils.iterateToFindRangeBounds(dataset,
+                keys(dataset), null, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelDatasetUtils.findStackedRangeBounds(
+                (DefaultTableXYDataset<String>) null, 0.0));
+    }
+
+}
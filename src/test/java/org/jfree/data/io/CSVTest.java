@@ -0,0 +1,212 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------
+ * CSVTest.java
+ * ------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.PrimitiveXYSeries;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CSV} class.
+ */
+public class CSVTest {
+
+    /**
+     * Reads a category dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testReadCategoryDataset() throws IOException {
+        CSV csv = new CSV();
+        CategoryDataset<String, String> dataset = csv.readCategoryDataset(
+                new StringReader("Row,\"C1\", C2 ,C3\nR1,1.0,2.0,3.0\n"
+                        + "\"R2\",4.0,,6.0\n"));
+        assertEquals(2, dataset.getRowCount());
+        assertEquals(3, dataset.getColumnCount());
+        assertEquals("C1", dataset.getColumnKey(0));
+        assertEquals("C2", dataset.getColumnKey(1));
+        assertEquals("R2", dataset.getRowKey(1));
+        assertEquals(3.0, dataset.getValue("R1", "C3"));
+        assertNull(dataset.getValue("R2", "C2"));
+        assertEquals(6.0, dataset.getValue("R2", "C3"));
+    }
+
+    /**
+     * Reads an XY dataset, with a semi-colon as the field delimiter.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testReadXYSeriesCollection() throws IOException {
+        CSV csv = new CSV(';', '\'');
+        XYSeriesCollection<String> dataset = csv.readXYSeriesCollection(
+                new StringReader("X;'S1';S2\n1;2.5;-1\n2;;-2\n3;3.5;-3e2"));
+        assertEquals(2, dataset.getSeriesCount());
+        XYSeries<String> s1 = dataset.getSeries("S1");
+        assertTrue(s1 instanceof PrimitiveXYSeries);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(2.0, s1.getXValue(1));
+        assertNull(s1.getY(1));
+        assertEquals(3.5, s1.getYValue(2));
+        assertEquals(-300.0, dataset.getSeries("S2").getYValue(2));
+    }
+
+    /**
+     * Data is appended to existing series, with one change event for each
+     * chunk of records and a progress notification after each chunk.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testChunkedAppends() throws IOException {
+        XYSeries<String> existing = new XYSeries<>("S1");
+        existing.add(-1.0, 0.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(
+                existing);
+        List<Integer> itemCounts = new ArrayList<>();
+        DatasetChangeListener listener = e -> itemCounts.add(
+                dataset.getItemCount(0));
+        dataset.addChangeListener(listener);
+        StringBuilder sb = new StringBuilder("X,S1,S2\n");
+        for (int i = 0; i < 25; i++) {
+            sb.append(i).append(',').append(i * 2).append(',').append(i * 3)
+                    .append('\n');
+        }
+        CSV csv = new CSV();
+        csv.setChunkSize(10);
+        List<Long> progress = new ArrayList<>();
+        csv.setProgressListener(progress::add);
+        csv.readXYSeriesCollection(new StringReader(sb.toString()), dataset);
+        assertSame(existing, dataset.getSeries(0));
+        assertEquals(26, existing.getItemCount());
+        assertEquals(25, dataset.getSeries(1).getItemCount());
+        assertEquals(List.of(10L, 20L, 25L), progress);
+        // one event for adding S2, then one for each series per chunk
+        assertEquals(List.of(1, 11, 11, 21, 21, 26, 26), itemCounts);
+    }
+
+    /**
+     * Reads a time series dataset, with times in milliseconds and in
+     * ISO-8601 format.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testReadTimeSeriesCollection() throws IOException {
+        CSV csv = new CSV();
+        TimeSeriesCollection<String> dataset = csv.readTimeSeriesCollection(
+                new StringReader("Time,A,B\n"
+                        + "1000,1.0,2.0\n"
+                        + "1970-01-01T00:00:02Z,3.0,\n"
+                        + "2022-05-15 21:35:57,5.0,6.0\n"
+                        + "2022-05-16,7.0,8.0\n"));
+        assertEquals(2, dataset.getSeriesCount());
+        TimeSeries<String> a = dataset.getSeries("A");
+        assertEquals(4, a.getItemCount());
+        assertEquals(new FixedMillisecond(1000L), a.getTimePeriod(0));
+        assertEquals(new FixedMillisecond(2000L), a.getTimePeriod(1));
+        long t = LocalDateTime.of(2022, 5, 15, 21, 35, 57)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertEquals(new FixedMillisecond(t), a.getTimePeriod(2));
+        assertEquals(5.0, a.getValue(2));
+        assertNull(dataset.getSeries("B").getValue(1));
+    }
+
+    /**
+     * Reads a file through a {@link MappedFileReader}.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testReadMappedFile(@TempDir Path dir) throws IOException {
+        StringBuilder sb = new StringBuilder("X,Y\n");
+        for (int i = 0; i < 10000; i++) {
+            sb.append(i).append(',').append(i / 8.0).append('\n');
+        }
+        Path file = dir.resolve("data.csv");
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+        try (MappedFileReader in = new MappedFileReader(file,
+                StandardCharsets.UTF_8, 4096)) {
+            XYSeriesCollection<String> dataset = new CSV()
+                    .readXYSeriesCollection(in);
+            assertEquals(10000, dataset.getItemCount(0));
+            assertEquals(9999 / 8.0, dataset.getYValue(0, 9999));
+        }
+    }
+
+    /**
+     * An empty input gives an empty dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testEmptyInput() throws IOException {
+        CSV csv = new CSV();
+        assertEquals(0, csv.readCategoryDataset(new StringReader(""))
+                .getRowCount());
+        assertEquals(0, csv.readXYSeriesCollection(new StringReader("\n"))
+                .getSeriesCount());
+        DefaultCategoryDataset<String, String> dataset
+                = new DefaultCategoryDataset<>();
+        assertSame(dataset, csv.readCategoryDataset(new StringReader(
+                "K,A\n"), dataset));
+    }
+
+}
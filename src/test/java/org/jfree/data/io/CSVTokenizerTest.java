@@ -0,0 +1,183 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * CSVTokenizerTest.java
+ * ---------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CSVTokenizer} class.
+ */
+public class CSVTokenizerTest {
+
+    /**
+     * Records, blank lines and the different line endings.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testRecords() throws IOException {
+        CSVTokenizer t = new CSVTokenizer(new StringReader(
+                "a, b ,c\r\n\r\n1,,3\n4\r5,6"), ',', '"');
+        assertTrue(t.nextRecord());
+        assertEquals(3, t.getFieldCount());
+        assertEquals("a", t.getString(0));
+        assertEquals("b", t.getString(1));
+        assertEquals("c", t.getString(2));
+        assertTrue(t.nextRecord());
+        assertEquals(3, t.getFieldCount());
+        assertEquals(1.0, t.getDouble(0));
+        assertTrue(t.isEmpty(1));
+        assertTrue(Double.isNaN(t.getDouble(1)));
+        assertEquals(3L, t.getLong(2));
+        assertTrue(t.isEmpty(3));
+        assertTrue(t.nextRecord());
+        assertEquals(1, t.getFieldCount());
+        assertTrue(t.nextRecord());
+        assertEquals(2, t.getFieldCount());
+        assertEquals(6.0, t.getDouble(1));
+        assertFalse(t.nextRecord());
+        assertFalse(t.nextRecord());
+        assertEquals(4, t.getRecordCount());
+    }
+
+    /**
+     * Quoted fields can contain delimiters, line breaks and (doubled) text
+     * delimiters.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testQuotedFields() throws IOException {
+        CSVTokenizer t = new CSVTokenizer(new StringReader(
+                "\"a,b\", \"say \"\"hi\"\"\" ,\"line\nbreak\",\"1.5\"\n"
+                + "\"unterminated"), ',', '"');
+        assertTrue(t.nextRecord());
+        assertEquals(4, t.getFieldCount());
+        assertEquals("a,b", t.getString(0));
+        assertEquals("say \"hi\"", t.getString(1));
+        assertEquals("line\nbreak", t.getString(2));
+        assertEquals(1.5, t.getDouble(3));
+        assertTrue(t.nextRecord());
+        assertEquals("unterminated", t.getString(0));
+        assertFalse(t.nextRecord());
+    }
+
+    /**
+     * Records that are longer than the buffer, or that cross the end of the
+     * buffer, are handled.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testSmallBuffer() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append(i).append(",\"").append("x".repeat(i)).append("\",")
+                    .append(i * 0.25).append('\n');
+        }
+        CSVTokenizer t = new CSVTokenizer(new StringReader(sb.toString()),
+                ',', '"', 16);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(t.nextRecord());
+            assertEquals(3, t.getFieldCount());
+            assertEquals(i, t.getLong(0));
+            assertEquals("x".repeat(i), t.getString(1));
+            assertEquals(i * 0.25, t.getDouble(2));
+        }
+        assertFalse(t.nextRecord());
+    }
+
+    /**
+     * The values parsed from the buffer should be identical to the values
+     * returned by {@code Double.parseDouble()}.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testGetDouble() throws IOException {
+        String[] values = {"0", "-0", "+1", "1.", ".5", "-.5", "1e3", "1E-3",
+                "2.5e+10", "123456789012345", "1234567890123456789",
+                "0.1", "0.000000000000000000000000001", "1e300", "1e-300",
+                "4.9e-324", "NaN", "-Infinity", "0x1p3", "00012.5000",
+                "9007199254740993"};
+        Random random = new Random(1L);
+        StringBuilder sb = new StringBuilder(String.join(",", values));
+        for (int i = 0; i < 1000; i++) {
+            sb.append(',').append(random.nextDouble() * Math.pow(10,
+                    random.nextInt(40) - 20));
+            sb.append(',').append((float) random.nextGaussian());
+        }
+        String[] fields = sb.toString().split(",");
+        CSVTokenizer t = new CSVTokenizer(new StringReader(sb.toString()),
+                ',', '"');
+        assertTrue(t.nextRecord());
+        assertEquals(fields.length, t.getFieldCount());
+        for (int i = 0; i < fields.length; i++) {
+            assertEquals(Double.doubleToLongBits(Double.parseDouble(
+                    fields[i])), Double.doubleToLongBits(t.getDouble(i)),
+                    fields[i]);
+        }
+    }
+
+    /**
+     * Invalid numbers are rejected.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testInvalidNumbers() throws IOException {
+        CSVTokenizer t = new CSVTokenizer(new StringReader(
+                "abc,1.2.3,1e,-,99999999999999999999,12a"), ',', '"');
+        assertTrue(t.nextRecord());
+        assertThrows(NumberFormatException.class, () -> t.getDouble(0));
+        assertThrows(NumberFormatException.class, () -> t.getDouble(1));
+        assertThrows(NumberFormatException.class, () -> t.getDouble(2));
+        assertThrows(NumberFormatException.class, () -> t.getDouble(3));
+        assertThrows(NumberFormatException.class, () -> t.getLong(4));
+        assertThrows(NumberFormatException.class, () -> t.getLong(5));
+        assertFalse(t.isInteger(3));
+        assertFalse(t.isInteger(5));
+        assertTrue(t.isInteger(4));
+    }
+
+}
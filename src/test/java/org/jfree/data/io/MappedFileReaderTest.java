@@ -0,0 +1,122 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * MappedFileReaderTest.java
+ * -------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MappedFileReader} class.
+ */
+public class MappedFileReaderTest {
+
+    /**
+     * Reads a file containing multi-byte characters with a small window, so
+     * that some characters are split across windows.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testRead(@TempDir Path dir) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("été ").append(i).append(" € 😀\n");
+        }
+        String expected = sb.toString();
+        Path file = dir.resolve("test.csv");
+        Files.write(file, expected.getBytes(StandardCharsets.UTF_8));
+        for (int windowSize : new int[] {16, 17, 1000, 1 << 20}) {
+            try (MappedFileReader in = new MappedFileReader(file,
+                    StandardCharsets.UTF_8, windowSize)) {
+                StringBuilder actual = new StringBuilder();
+                char[] buffer = new char[37];
+                int count = in.read(buffer, 0, buffer.length);
+                while (count >= 0) {
+                    actual.append(buffer, 0, count);
+                    count = in.read(buffer, 0, buffer.length);
+                }
+                assertEquals(expected, actual.toString());
+                assertEquals(in.getSize(), in.getPosition());
+                assertEquals(-1, in.read(buffer, 0, buffer.length));
+            }
+        }
+    }
+
+    /**
+     * An empty file.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testEmptyFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("empty.csv");
+        Files.write(file, new byte[0]);
+        try (MappedFileReader in = new MappedFileReader(file,
+                StandardCharsets.UTF_8)) {
+            assertEquals(-1, in.read(new char[10], 0, 10));
+        }
+    }
+
+    /**
+     * Reading from a closed reader fails.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testClosed(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("closed.csv");
+        Files.write(file, new byte[] {'a'});
+        MappedFileReader in = new MappedFileReader(file,
+                StandardCharsets.UTF_8);
+        in.close();
+        assertThrows(IOException.class, () -> in.read(new char[10], 0, 10));
+    }
+
+}
@@ -0,0 +1,314 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * MappedXYDatasetTest.java
+ * ------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.RendererUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MappedXYDataset} and {@link MappedXYSeriesWriter}
+ * classes.
+ */
+public class MappedXYDatasetTest {
+
+    /**
+     * Writes a series with the specified number of items, with x = i and
+     * y = i % 100 (and a missing y-value for item 5).
+     *
+     * @param file  the file.
+     * @param itemCount  the item count.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeSeries(Path file, int itemCount)
+            throws IOException {
+        try (MappedXYSeriesWriter writer = new MappedXYSeriesWriter(file)) {
+            for (int i = 0; i < itemCount; i++) {
+                writer.add(i, i == 5 ? Double.NaN : i % 100);
+            }
+            assertEquals(itemCount, writer.getItemCount());
+        }
+    }
+
+    /**
+     * Writes a file and reads the values back.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testWriteAndRead(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("s1.xy");
+        writeSeries(file, 100000);
+        assertEquals(MappedXYDataset.HEADER_SIZE + 2 * 100000 * 8L,
+                Files.size(file));
+        // the temporary column files are deleted
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+        MappedXYDataset<String> dataset = new MappedXYDataset<>();
+        dataset.addSeries("S1", file);
+        assertEquals(1, dataset.getSeriesCount());
+        assertEquals("S1", dataset.getSeriesKey(0));
+        assertEquals(DomainOrder.ASCENDING, dataset.getDomainOrder());
+        assertEquals(100000, dataset.getItemCount(0));
+        assertEquals(12345.0, dataset.getXValue(0, 12345));
+        assertEquals(45.0, dataset.getYValue(0, 12345));
+        assertNull(dataset.getY(0, 5));
+        assertEquals(12345.0, dataset.getStartXValue(0, 12345));
+        assertEquals(45.0, dataset.getEndYValue(0, 12345));
+        assertEquals(new Range(0.0, 99999.0), dataset.getDomainBounds(false));
+        assertEquals(new Range(0.0, 99.0), dataset.getRangeBounds(true));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> dataset.getXValue(0, 100000));
+    }
+
+    /**
+     * The layout of the file header is as documented.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testHeader(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("header.xy");
+        writeSeries(file, 3);
+        ByteBuffer b = ByteBuffer.wrap(Files.readAllBytes(file))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals('J', b.get(0));
+        assertEquals('Y', b.get(3));
+        assertEquals(1, b.getInt(4));
+        assertEquals(0, b.getInt(8));
+        assertEquals(3L, b.getLong(16));
+        assertEquals(2.0, b.getDouble(32));
+        assertEquals(2.0, b.getDouble(48));
+        assertEquals(1.0, b.getDouble(96 + 8));
+        assertEquals(2.0, b.getDouble(96 + 3 * 8 + 2 * 8));
+    }
+
+    /**
+     * A file with the interval columns.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testIntervals(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("intervals.xy");
+        try (MappedXYSeriesWriter writer = new MappedXYSeriesWriter(file,
+                true)) {
+            writer.add(1.0, 0.5, 1.5, 10.0, 9.0, 11.0);
+            writer.add(2.0, 1.5, 2.5, 20.0, 18.0, 22.0);
+        }
+        MappedXYDataset<String> dataset = new MappedXYDataset<>();
+        dataset.addSeries("S1", file);
+        assertEquals(1.5, dataset.getStartXValue(0, 1));
+        assertEquals(2.5, dataset.getEndXValue(0, 1));
+        assertEquals(18.0, dataset.getStartYValue(0, 1));
+        assertEquals(22.0, dataset.getEndYValue(0, 1));
+        assertEquals(new Range(1.0, 2.0), dataset.getDomainBounds(false));
+        assertEquals(new Range(0.5, 2.5), dataset.getDomainBounds(true));
+        assertEquals(new Range(10.0, 20.0), dataset.getRangeBounds(false));
+        assertEquals(new Range(9.0, 22.0), DatasetUtils.findRangeBounds(
+                dataset, true));
+    }
+
+    /**
+     * The range bounds within an x-range are found from the items in that
+     * x-range only.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testRangeBoundsForXRange(@TempDir Path dir)
+            throws IOException {
+        Path file = dir.resolve("s1.xy");
+        writeSeries(file, 1000);
+        MappedXYDataset<String> dataset = new MappedXYDataset<>();
+        dataset.addSeries("S1", file);
+        assertEquals(new Range(10.0, 20.0), dataset.getRangeBounds(
+                List.of("S1"), new Range(209.5, 220.0), false));
+        assertEquals(new Range(0.0, 99.0), dataset.getRangeBounds(
+                List.of("S1"), new Range(-1.0, 1000.0), false));
+        assertNull(dataset.getRangeBounds(List.of("S1"),
+                new Range(2000.0, 3000.0), false));
+        assertNull(dataset.getRangeBounds(List.of("S2"),
+                new Range(0.0, 3000.0), false));
+    }
+
+    /**
+     * The renderers use a binary search to find the visible items.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testFindLiveItems(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("s1.xy");
+        writeSeries(file, 100000);
+        MappedXYDataset<String> dataset = new MappedXYDataset<>();
+        dataset.addSeries("S1", file);
+        int[] items = RendererUtils.findLiveItems(dataset, 0, 500.5, 600.5);
+        assertEquals(501, items[0]);
+        assertEquals(600, items[1]);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, true, false, false);
+        XYPlot<?> plot = (XYPlot) chart.getPlot();
+        plot.getDomainAxis().setRange(500.0, 600.0);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100));
+        g2.dispose();
+    }
+
+    /**
+     * The x-values must be written in ascending order.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testUnsortedXValues(@TempDir Path dir) throws IOException {
+        try (MappedXYSeriesWriter writer = new MappedXYSeriesWriter(
+                dir.resolve("unsorted.xy"))) {
+            writer.add(2.0, 1.0);
+            writer.add(2.0, 1.0);
+            assertThrows(IllegalArgumentException.class,
+                    () -> writer.add(1.0, 1.0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> writer.add(Double.NaN, 1.0));
+        }
+    }
+
+    /**
+     * An empty series and a file that is not in the expected format.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testEmptyAndInvalidFiles(@TempDir Path dir)
+            throws IOException {
+        Path empty = dir.resolve("empty.xy");
+        writeSeries(empty, 0);
+        MappedXYDataset<String> dataset = new MappedXYDataset<>();
+        dataset.addSeries("S1", empty);
+        assertEquals(0, dataset.getItemCount(0));
+        assertNull(dataset.getDomainBounds(true));
+        assertTrue(Double.isNaN(dataset.getRangeLowerBound(false)));
+        Path invalid = dir.resolve("invalid.xy");
+        Files.write(invalid, new byte[200]);
+        assertThrows(IOException.class, () -> dataset.addSeries("S2",
+                invalid));
+        assertEquals(1, dataset.getSeriesCount());
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required
+     * fields.
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testEquals(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("s1.xy");
+        writeSeries(file, 10);
+        MappedXYDataset<String> d1 = new MappedXYDataset<>();
+        MappedXYDataset<String> d2 = new MappedXYDataset<>();
+        assertEquals(d1, d2);
+        d1.addSeries("S1", file);
+        assertNotEquals(d1, d2);
+        d2.addSeries("S1", file);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d1.removeSeries("S1");
+        assertEquals(0, d1.getSeriesCount());
+        assertNotEquals(d1, d2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality (the file
+     * is mapped again).
+     *
+     * @param dir  a temporary directory.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Test
+    public void testSerialization(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("s1.xy");
+        writeSeries(file, 10);
+        MappedXYDataset<String> d1 = new MappedXYDataset<>();
+        d1.addSeries("S1", file);
+        MappedXYDataset<String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(7.0, d2.getYValue(0, 7));
+    }
+
+}
@@ -40,7 +40,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -158,4 +160,67 @@ public class BoxAndWhiskerCalculatorTest {
         assertEquals(1.0, item.getMinRegularValue().doubleValue(), EPSILON);
         assertEquals(4.0, item.getMaxRegularValue().doubleValue(), EPSILON);
     }
+
+    /**
+     * The statistics calculated from an array (or a list, with the null and
+     * NaN items stripped) using selection are the same as those calculated
+     * by sorting the values.
+     */
+    @Test
+    public void testSelectionMatchesSorting() {
+        Random random = new Random(1L);
+        for (int n = 0; n < 300; n++) {
+            double[] v = new double[n];
+            List<Number> list = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                v[i] = i % 23 == 7 ? Double.NaN
+                        : (i % 3 == 0 ? random.nextInt(10)
+                        : random.nextGaussian() * 10.0);
+                list.add(v[i]);
+            }
+            if (n > 4) {
+                v[n - 1] = 1000.0;
+                v[n - 2] = -35.0;
+                list.set(n - 1, 1000.0);
+                list.set(n - 2, -35.0);
+            }
+            List<Number> sorted = new ArrayList<>();
+            for (double d : v) {
+                if (!Double.isNaN(d)) {
+                    sorted.add(d);
+                }
+            }
+            Collections.sort((List) sorted);
+            BoxAndWhiskerItem expected = BoxAndWhiskerCalculator
+                    .calculateBoxAndWhiskerStatistics(sorted, false);
+            checkItem(expected, BoxAndWhiskerCalculator
+                    .calculateBoxAndWhiskerStatisticsFromArray(v));
+            list.add(null);
+            Collections.shuffle(list, random);
+            checkItem(expected, BoxAndWhiskerCalculator
+                    .calculateBoxAndWhiskerStatistics(list));
+        }
+    }
+
+    /**
+     * Checks that two items have the same statistics.
+     *
+     * @param expected  the expected item.
+     * @param item  the item.
+     */
+    private static void checkItem(BoxAndWhiskerItem expected,
+            BoxAndWhiskerItem item) {
+        assertEquals(expected.getMean().doubleValue(),
+                item.getMean().doubleValue(), EPSILON);
+        assertEquals(expected.getMedian(), item.getMedian());
+        assertEquals(expected.getQ1(), item.getQ1());
+        assertEquals(expected.getQ3(), item.getQ3());
+        assertEquals(expected.getMinRegularValue(),
+                item.getMinRegularValue());
+        assertEquals(expected.getMaxRegularValue(),
+                item.getMaxRegularValue());
+        assertEquals(expected.getMinOutlier(), item.getMinOutlier());
+        assertEquals(expected.getMaxOutlier(), item.getMaxOutlier());
+        assertEquals(expected.getOutliers(), item.getOutliers());
+    }
 }
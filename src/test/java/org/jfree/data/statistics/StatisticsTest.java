@@ -48,6 +48,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -434,4 +435,42 @@ public class StatisticsTest {
         assertTrue(Double.isNaN(Statistics.getStdDev(new Double[]{1.0})));
     }
 
+    /**
+     * Some checks for the calculateMedianFromArray() method, which should
+     * give the same results as sorting the values.
+     */
+    @Test
+    public void testCalculateMedianFromArray() {
+        assertTrue(Double.isNaN(Statistics.calculateMedianFromArray(
+                new double[0])));
+        assertTrue(Double.isNaN(Statistics.calculateMedianFromArray(
+                new double[] {Double.NaN})));
+        double[] values = new double[] {3.0, Double.NaN, 1.0, 2.0, 4.0};
+        assertEquals(2.5, Statistics.calculateMedianFromArray(values),
+                EPSILON);
+        // the array is not modified
+        assertEquals(3.0, values[0]);
+        assertTrue(Double.isNaN(values[1]));
+
+        Random random = new Random(1L);
+        for (int n = 1; n < 200; n++) {
+            double[] v = new double[n];
+            List<Double> list = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                v[i] = random.nextInt(n / 2 + 1);
+                list.add(v[i]);
+            }
+            Collections.sort(list);
+            double expected = Statistics.calculateMedian(list, false);
+            assertEquals(expected, Statistics.calculateMedianFromArray(v),
+                    EPSILON);
+            Collections.shuffle(list, random);
+            assertEquals(expected, Statistics.calculateMedian(list), EPSILON);
+            List<Double> sublist = new ArrayList<>(list.subList(1, n));
+            Collections.sort(sublist);
+            assertEquals(Statistics.calculateMedian(sublist, false),
+                    Statistics.calculateMedian(list, 1, n - 1), EPSILON);
+        }
+    }
+
 }
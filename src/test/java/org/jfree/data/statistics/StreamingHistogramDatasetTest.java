@@ -0,0 +1,154 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------------
+ * StreamingHistogramDatasetTest.java
+ * ----------------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StreamingHistogramDataset} class.
+ */
+public class StreamingHistogramDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Some checks for the values returned by the dataset.
+     */
+    @Test
+    public void testValues() {
+        StreamingHistogramDataset<String> d = new StreamingHistogramDataset<>();
+        d.addSeries("S1", 4, 0.0, 4.0);
+        d.addValues("S1", new double[] {0.5, 1.5, 1.6, 3.0});
+        d.addValue("S1", 3.5);
+        assertEquals(1, d.getSeriesCount());
+        assertEquals("S1", d.getSeriesKey(0));
+        assertEquals(4, d.getItemCount(0));
+        assertEquals(1.5, d.getXValue(0, 1), EPSILON);
+        assertEquals(1.0, d.getStartXValue(0, 1), EPSILON);
+        assertEquals(2.0, d.getEndX(0, 1).doubleValue(), EPSILON);
+        assertEquals(2L, d.getY(0, 1));
+        assertEquals(2.0, d.getEndY(0, 3).doubleValue(), EPSILON);
+        d.setType(HistogramType.RELATIVE_FREQUENCY);
+        assertEquals(0.4, d.getYValue(0, 1), EPSILON);
+        d.setType(HistogramType.SCALE_AREA_TO_1);
+        assertEquals(0.4, d.getY(0, 1).doubleValue(), EPSILON);
+        assertThrows(IllegalArgumentException.class,
+                () -> d.addValue("S2", 1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> d.addSeries("S1", 4, 0.0, 4.0));
+    }
+
+    /**
+     * Partial histograms can be merged into a series, and each update sends
+     * one change event.
+     */
+    @Test
+    public void testMerge() {
+        StreamingHistogramDataset<String> d = new StreamingHistogramDataset<>();
+        d.addSeries("S1", 10, 0.0, 10.0);
+        int[] events = new int[1];
+        DatasetChangeListener listener = (DatasetChangeEvent e) -> events[0]++;
+        d.addChangeListener(listener);
+        StreamingHistogram partial = d.getHistogram("S1");
+        partial.add(new double[] {1.0, 2.0, 25.0});
+        d.merge("S1", partial);
+        d.addValues("S1", new double[] {3.0, 4.0});
+        assertEquals(2, events[0]);
+        StreamingHistogram h = d.getHistogram("S1");
+        assertEquals(5, h.getTotal());
+        assertTrue(h.getUpperBound() > 25.0);
+        d.removeSeries("S1");
+        assertEquals(0, d.getSeriesCount());
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required
+     * fields.
+     */
+    @Test
+    public void testEquals() {
+        StreamingHistogramDataset<String> d1 = new StreamingHistogramDataset<>();
+        StreamingHistogramDataset<String> d2 = new StreamingHistogramDataset<>();
+        assertEquals(d1, d2);
+        d1.addSeries("S1", 10, 0.0, 10.0);
+        assertNotEquals(d1, d2);
+        d2.addSeries("S1", 10, 0.0, 10.0);
+        assertEquals(d1, d2);
+        d1.addValue("S1", 5.0);
+        assertNotEquals(d1, d2);
+        d2.addValue("S1", 5.0);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d1.setType(HistogramType.RELATIVE_FREQUENCY);
+        assertNotEquals(d1, d2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        StreamingHistogramDataset<String> d1 = new StreamingHistogramDataset<>();
+        d1.addSeries("S1", 10, 0.0, 10.0);
+        StreamingHistogramDataset<String> d2
+                = (StreamingHistogramDataset<String>) d1.clone();
+        assertNotSame(d1, d2);
+        assertEquals(d1, d2);
+        d1.addValue("S1", 5.0);
+        assertNotEquals(d1, d2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        StreamingHistogramDataset<String> d1 = new StreamingHistogramDataset<>();
+        d1.addSeries("S1", 10, 0.0, 10.0);
+        d1.addValues("S1", new double[] {1.0, 2.0, 30.0});
+        StreamingHistogramDataset<String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+    }
+
+}
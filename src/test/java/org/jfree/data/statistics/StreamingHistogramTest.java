@@ -0,0 +1,237 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * StreamingHistogramTest.java
+ * ---------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StreamingHistogram} class.
+ */
+public class StreamingHistogramTest {
+
+    /**
+     * Checks that the counts in a histogram match the values, counting the
+     * values in each bin directly.
+     *
+     * @param h  the histogram.
+     * @param values  the values.
+     */
+    private static void checkCounts(StreamingHistogram h, double[] values) {
+        long total = 0;
+        for (int bin = 0; bin < h.getBinCount(); bin++) {
+            double start = h.getStartBoundary(bin);
+            double end = h.getEndBoundary(bin);
+            long expected = 0;
+            for (double v : values) {
+                if (v >= start && v < end) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, h.getCount(bin), "bin " + bin);
+            total += expected;
+        }
+        assertEquals(total, h.getTotal());
+    }
+
+    /**
+     * Values in the initial range.
+     */
+    @Test
+    public void testAdd() {
+        StreamingHistogram h = new StreamingHistogram(4, 0.0, 8.0);
+        assertEquals(2.0, h.getBinWidth());
+        h.add(0.0);
+        h.add(1.9);
+        h.add(2.0);
+        h.add(7.9);
+        h.add(Double.NaN);
+        h.add(Double.POSITIVE_INFINITY);
+        assertEquals(2, h.getCount(0));
+        assertEquals(1, h.getCount(1));
+        assertEquals(0, h.getCount(2));
+        assertEquals(1, h.getCount(3));
+        assertEquals(4, h.getTotal());
+        assertEquals(0.0, h.getLowerBound());
+        assertEquals(8.0, h.getUpperBound());
+    }
+
+    /**
+     * The range is moved when the occupied bins and the new value fit in
+     * the bins, and otherwise the bins are made wider.
+     */
+    @Test
+    public void testRangeExpansion() {
+        StreamingHistogram h = new StreamingHistogram(4, 0.0, 8.0);
+        h.add(7.0);
+        h.add(9.0);
+        // moved up by one bin
+        assertEquals(2.0, h.getLowerBound());
+        assertEquals(10.0, h.getUpperBound());
+        assertEquals(2.0, h.getBinWidth());
+        h.add(-1.0);
+        // rebinned to a bin width of 4, then moved down by one bin
+        assertEquals(4.0, h.getBinWidth());
+        assertEquals(-4.0, h.getLowerBound());
+        assertEquals(12.0, h.getUpperBound());
+        checkCounts(h, new double[] {7.0, 9.0, -1.0});
+
+        double[] values = new double[] {7.0, 9.0, -1.0, 1e6, -3.5e7, 0.25};
+        h.add(values, 3, 6);
+        checkCounts(h, values);
+    }
+
+    /**
+     * Random values added in chunks match the counts found directly.
+     */
+    @Test
+    public void testRandomValues() {
+        Random random = new Random(1L);
+        for (int trial = 0; trial < 20; trial++) {
+            double[] values = new double[2000];
+            double scale = Math.pow(10.0, random.nextInt(6));
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextGaussian() * scale
+                        + random.nextInt(3) * scale;
+            }
+            StreamingHistogram h = new StreamingHistogram(
+                    2 + random.nextInt(40), -1.0, 1.0);
+            for (int i = 0; i < values.length; i += 100) {
+                h.add(values, i, i + 100);
+            }
+            checkCounts(h, values);
+        }
+    }
+
+    /**
+     * Partial histograms built in parallel can be merged exactly.
+     */
+    @Test
+    public void testMerge() {
+        Random random = new Random(2L);
+        double[] values = new double[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 3.0)
+                    * (i % 2 == 0 ? 1.0 : -1.0);
+        }
+        StreamingHistogram sequential = new StreamingHistogram(32, 0.0, 1.0);
+        sequential.add(values);
+        StreamingHistogram merged = IntStream.range(0, 10).parallel()
+                .mapToObj(p -> {
+                    StreamingHistogram partial = new StreamingHistogram(32,
+                            0.0, 1.0);
+                    partial.add(values, p * 10000, (p + 1) * 10000);
+                    return partial;
+                }).reduce((a, b) -> {
+                    a.merge(b);
+                    return a;
+                }).get();
+        assertEquals(values.length, merged.getTotal());
+        checkCounts(merged, values);
+        checkCounts(sequential, values);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> merged.merge(new StreamingHistogram(32, 0.0, 2.0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> merged.merge(new StreamingHistogram(16, 0.0, 1.0)));
+    }
+
+    /**
+     * Some checks for the constructor arguments.
+     */
+    @Test
+    public void testConstructor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingHistogram(1, 0.0, 1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingHistogram(10, 1.0, 1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingHistogram(10, 0.0, Double.NaN));
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required
+     * fields.
+     */
+    @Test
+    public void testEquals() {
+        StreamingHistogram h1 = new StreamingHistogram(10, 0.0, 1.0);
+        StreamingHistogram h2 = new StreamingHistogram(10, 0.0, 1.0);
+        assertEquals(h1, h2);
+        h1.add(0.5);
+        assertNotEquals(h1, h2);
+        h2.add(0.5);
+        assertEquals(h1, h2);
+        assertEquals(h1.hashCode(), h2.hashCode());
+        h1.add(5.0);
+        assertNotEquals(h1, h2);
+        assertNotEquals(h1, new StreamingHistogram(10, 0.0, 2.0));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        StreamingHistogram h1 = new StreamingHistogram(10, 0.0, 1.0);
+        h1.add(0.5);
+        StreamingHistogram h2 = (StreamingHistogram) h1.clone();
+        assertNotSame(h1, h2);
+        assertEquals(h1, h2);
+        h1.add(0.5);
+        assertNotEquals(h1, h2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        StreamingHistogram h1 = new StreamingHistogram(10, 0.0, 1.0);
+        h1.add(new double[] {0.5, 12.0, -3.0});
+        StreamingHistogram h2 = TestUtils.serialised(h1);
+        assertEquals(h1, h2);
+    }
+
+}
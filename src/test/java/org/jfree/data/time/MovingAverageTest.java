@@ -37,7 +37,10 @@
 package org.jfree.data.time;
 
 import org.jfree.chart.date.MonthConstants;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -76,6 +79,96 @@ public class MovingAverageTest {
         assertEquals(12.5, value, EPSILON);
     }
 
+    /**
+     * Creates a daily time series with the specified values.
+     *
+     * @param values  the values.
+     *
+     * @return The series.
+     */
+    private TimeSeries<String> createDailyTimeSeries(double... values) {
+        TimeSeries<String> series = new TimeSeries<>("Series");
+        RegularTimePeriod day = new Day(1, MonthConstants.JANUARY, 2020);
+        for (double value : values) {
+            series.add(day, value);
+            day = day.next();
+        }
+        return series;
+    }
+
+    /**
+     * Creates a series with x-values 0, 1, 2... and the specified y-values.
+     *
+     * @param values  the y-values.
+     *
+     * @return The dataset.
+     */
+    private XYSeriesCollection<String> createXYDataset(double... values) {
+        XYSeries<String> series = new XYSeries<>("Series");
+        for (int i = 0; i < values.length; i++) {
+            series.add(i, values[i]);
+        }
+        return new XYSeriesCollection<>(series);
+    }
+
+    /**
+     * A {@code Double.NaN} value only affects the averages for the windows
+     * that contain it.
+     */
+    @Test
+    public void testNaNValues() {
+        double[] values = {1.0, 2.0, Double.NaN, 4.0, 5.0, 6.0};
+        double[] expected = {1.0, 1.5, Double.NaN, Double.NaN, 4.5, 5.5};
+        TimeSeries<String> ma = MovingAverage.createMovingAverage(
+                createDailyTimeSeries(values), "MA", 2, 0);
+        XYSeries ma2 = MovingAverage.createMovingAverage(
+                createXYDataset(values), 0, "MA", 2.0, 0.0);
+        assertEquals(expected.length, ma.getItemCount());
+        assertEquals(expected.length, ma2.getItemCount());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], ma.getValue(i).doubleValue(), EPSILON);
+            assertEquals(expected[i], ma2.getY(i).doubleValue(), EPSILON);
+        }
+    }
+
+    /**
+     * Infinite values only affect the averages for the windows that contain
+     * them.
+     */
+    @Test
+    public void testInfiniteValues() {
+        double[] values = {1.0, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, 4.0, 6.0};
+        TimeSeries<String> ma = MovingAverage.createMovingAverage(
+                createDailyTimeSeries(values), "MA", 2, 0);
+        assertEquals(Double.POSITIVE_INFINITY, ma.getValue(1).doubleValue());
+        assertTrue(Double.isNaN(ma.getValue(2).doubleValue()));
+        assertEquals(Double.NEGATIVE_INFINITY, ma.getValue(3).doubleValue());
+        assertEquals(5.0, ma.getValue(4).doubleValue(), EPSILON);
+    }
+
+    /**
+     * A very large value does not spoil the averages of the small values
+     * after it has left the window.
+     */
+    @Test
+    public void testValuesOfDifferentMagnitude() {
+        double[] values = {1e17, 1.0, 1.0, 3.0, 1e-3, 2e-3};
+        TimeSeries<String> ma = MovingAverage.createMovingAverage(
+                createDailyTimeSeries(values), "MA", 1, 0);
+        XYSeries ma2 = MovingAverage.createMovingAverage(
+                createXYDataset(values), 0, "MA", 1.0, 0.0);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], ma.getValue(i).doubleValue());
+            assertEquals(values[i], ma2.getY(i).doubleValue());
+        }
+        ma = MovingAverage.createMovingAverage(
+                createDailyTimeSeries(values), "MA", 2, 0);
+        assertEquals(2.0, ma.getValue(3).doubleValue(), EPSILON);
+        assertEquals(1.5005, ma.getValue(4).doubleValue(), EPSILON);
+        assertEquals(0.0015, ma.getValue(5).doubleValue(), EPSILON);
+    }
+
     /**
      * Creates a sample series.
      *
@@ -0,0 +1,287 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * RollingStatisticsTest.java
+ * --------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RollingStatistics} class.
+ */
+public class RollingStatisticsTest {
+
+    private static final double EPSILON = 0.0000001;
+
+    /**
+     * Creates a series of daily values (with some {@code null} values).
+     *
+     * @param count  the item count.
+     * @param seed  the random seed.
+     *
+     * @return The series.
+     */
+    private static TimeSeries<String> createSeries(int count, long seed) {
+        TimeSeries<String> series = new TimeSeries<>("Source");
+        Random random = new Random(seed);
+        RegularTimePeriod day = new Day(1, 1, 2022);
+        for (int i = 0; i < count; i++) {
+            series.add(day, i % 17 == 5 ? null
+                    : Math.round(random.nextGaussian() * 1000.0) / 10.0);
+            day = day.next();
+        }
+        return series;
+    }
+
+    /**
+     * Returns the non-null values in the window ending at item i.
+     *
+     * @param series  the series.
+     * @param i  the item index.
+     * @param w  the window size.
+     *
+     * @return The values, sorted.
+     */
+    private static double[] window(TimeSeries<String> series, int i, int w) {
+        return IntStream.rangeClosed(Math.max(0, i - w + 1),
+                i).mapToObj(series::getValue).filter(v -> v != null)
+                .mapToDouble(Number::doubleValue).sorted().toArray();
+    }
+
+    /**
+     * Checks a value against an expected value.
+     *
+     * @param expected  the expected value ({@code Double.NaN} for null).
+     * @param actual  the actual value.
+     */
+    private static void check(double expected, Number actual) {
+        if (Double.isNaN(expected)) {
+            assertNull(actual);
+        }
+        else {
+            assertEquals(expected, actual.doubleValue(), EPSILON);
+        }
+    }
+
+    /**
+     * Compares the output series with statistics calculated directly from
+     * the items in each window.
+     *
+     * @param source  the source series.
+     * @param w  the window size.
+     * @param stats  the output series (mean, standard deviation, min, max,
+     *     median and 90th percentile).
+     */
+    private static void checkAgainstBruteForce(TimeSeries<String> source,
+            int w, TimeSeries<?>[] stats) {
+        checkAgainstBruteForce(source, 0, w, stats);
+    }
+
+    /**
+     * Compares the output series with statistics calculated directly from
+     * the items in each window, where the output series contain the items
+     * from the specified offset in the source series.
+     *
+     * @param source  the source series.
+     * @param offset  the index of the first source item in the outputs.
+     * @param w  the window size.
+     * @param stats  the output series (mean, standard deviation, min, max,
+     *     median and 90th percentile).
+     */
+    private static void checkAgainstBruteForce(TimeSeries<String> source,
+            int offset, int w, TimeSeries<?>[] stats) {
+        for (TimeSeries<?> s : stats) {
+            assertEquals(source.getItemCount() - offset, s.getItemCount());
+        }
+        for (int j = 0; j < stats[0].getItemCount(); j++) {
+            int i = j + offset;
+            double[] v = window(source, i, w);
+            int n = v.length;
+            double mean = n > 0 ? Arrays.stream(v).sum() / n : Double.NaN;
+            double ss = 0.0;
+            for (double x : v) {
+                ss += (x - mean) * (x - mean);
+            }
+            assertEquals(source.getTimePeriod(i), stats[0].getTimePeriod(j));
+            check(mean, stats[0].getValue(j));
+            check(n > 1 ? Math.sqrt(ss / (n - 1)) : Double.NaN,
+                    stats[1].getValue(j));
+            check(n > 0 ? v[0] : Double.NaN, stats[2].getValue(j));
+            check(n > 0 ? v[n - 1] : Double.NaN, stats[3].getValue(j));
+            check(percentile(v, 50.0), stats[4].getValue(j));
+            check(percentile(v, 90.0), stats[5].getValue(j));
+        }
+    }
+
+    /**
+     * Returns a percentile of some sorted values.
+     *
+     * @param v  the values (sorted).
+     * @param p  the percentile.
+     *
+     * @return The percentile.
+     */
+    private static double percentile(double[] v, double p) {
+        if (v.length == 0) {
+            return Double.NaN;
+        }
+        double rank = p / 100.0 * (v.length - 1);
+        int lower = (int) rank;
+        int upper = Math.min(lower + 1, v.length - 1);
+        return v[lower] + (rank - lower) * (v[upper] - v[lower]);
+    }
+
+    /**
+     * Creates the outputs checked by {@link #checkAgainstBruteForce}.
+     *
+     * @param stats  the rolling statistics.
+     *
+     * @return The output series.
+     */
+    private static TimeSeries<?>[] addOutputs(
+            RollingStatistics<String> stats) {
+        return new TimeSeries<?>[] {stats.addMean("Mean"),
+                stats.addStandardDeviation("StdDev"),
+                stats.addMinimum("Min"), stats.addMaximum("Max"),
+                stats.addPercentile("Median", 50.0),
+                stats.addPercentile("P90", 90.0)};
+    }
+
+    /**
+     * The statistics match those calculated directly from each window.
+     */
+    @Test
+    public void testStatistics() {
+        TimeSeries<String> source = createSeries(500, 1L);
+        for (int w : new int[] {1, 2, 7, 30, 600}) {
+            RollingStatistics<String> stats = new RollingStatistics<>(source,
+                    w);
+            checkAgainstBruteForce(source, w, addOutputs(stats));
+        }
+    }
+
+    /**
+     * The statistics for items appended to an attached source series are
+     * added incrementally, and other changes cause a rebuild.
+     */
+    @Test
+    public void testAttached() {
+        TimeSeries<String> source = createSeries(50, 2L);
+        RollingStatistics<String> stats = new RollingStatistics<>(source, 10);
+        TimeSeries<?>[] outputs = addOutputs(stats);
+        stats.attach();
+        assertTrue(stats.isAttached());
+        int[] events = new int[1];
+        SeriesChangeListener listener = (SeriesChangeEvent e) -> events[0]++;
+        outputs[0].addChangeListener(listener);
+        RegularTimePeriod day = source.getNextTimePeriod();
+        for (int i = 0; i < 100; i++) {
+            source.add(day, i % 13 == 0 ? null : (double) (i % 29));
+            day = day.next();
+        }
+        assertEquals(100, events[0]);
+        checkAgainstBruteForce(source, 10, outputs);
+
+        // an update to the last item and removals trigger a rebuild
+        source.update(source.getItemCount() - 1, 1000.0);
+        checkAgainstBruteForce(source, 10, outputs);
+        source.delete(20, 40);
+        checkAgainstBruteForce(source, 10, outputs);
+        source.clear();
+        checkAgainstBruteForce(source, 10, outputs);
+
+        stats.detach();
+        assertFalse(stats.isAttached());
+        source.add(day, 1.0);
+        assertEquals(0, outputs[0].getItemCount());
+    }
+
+    /**
+     * When the source series has a maximum item count, the output series
+     * have the same maximum item count, and the statistics already
+     * calculated are not changed when the oldest source items are removed.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        TimeSeries<String> source = createSeries(20, 3L);
+        TimeSeries<String> all = createSeries(20, 3L);
+        source.setMaximumItemCount(20);
+        RollingStatistics<String> stats = new RollingStatistics<>(source, 5);
+        TimeSeries<?>[] outputs = addOutputs(stats);
+        stats.attach();
+        RegularTimePeriod day = source.getNextTimePeriod();
+        for (int i = 0; i < 30; i++) {
+            source.add(day, (double) i);
+            all.add(day, (double) i);
+            day = day.next();
+        }
+        assertEquals(20, source.getItemCount());
+        checkAgainstBruteForce(all, 30, 5, outputs);
+    }
+
+    /**
+     * The exponentially weighted moving average.
+     */
+    @Test
+    public void testExponentialMovingAverage() {
+        TimeSeries<String> source = new TimeSeries<>("Source");
+        source.add(new Day(1, 1, 2022), 10.0);
+        source.add(new Day(2, 1, 2022), 20.0);
+        source.add(new Day(3, 1, 2022), null);
+        source.add(new Day(4, 1, 2022), 0.0);
+        RollingStatistics<String> stats = new RollingStatistics<>(source, 3);
+        TimeSeries<String> ewma = stats.addExponentialMovingAverage("EWMA",
+                0.5);
+        assertEquals(10.0, ewma.getValue(0).doubleValue(), EPSILON);
+        assertEquals(15.0, ewma.getValue(1).doubleValue(), EPSILON);
+        assertEquals(15.0, ewma.getValue(2).doubleValue(), EPSILON);
+        assertEquals(7.5, ewma.getValue(3).doubleValue(), EPSILON);
+        assertThrows(IllegalArgumentException.class,
+                () -> stats.addExponentialMovingAverage("X", 0.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> stats.addPercentile("X", 101.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RollingStatistics<>(source, 0));
+    }
+
+}
@@ -475,4 +475,139 @@ public class TimeSeriesCollectionTest {
         collection.setXPosition(TimePeriodAnchor.END);
         assertNull(collection.getRangeBounds(Collections.singletonList("S1"), range, true));
     }
+
+    /**
+     * Checks the x-values for every item in a series against the values
+     * calculated from the time periods.
+     *
+     * @param c  the collection.
+     * @param series  the series index.
+     * @param zone  the time zone of the collection.
+     */
+    private static void checkXValues(TimeSeriesCollection<String> c,
+            int series, TimeZone zone) {
+        Calendar calendar = Calendar.getInstance(zone);
+        TimeSeries<String> s = c.getSeries(series);
+        for (int i = 0; i < s.getItemCount(); i++) {
+            RegularTimePeriod p = s.getTimePeriod(i);
+            assertEquals(p.getFirstMillisecond(calendar),
+                    c.getStartX(series, i).longValue());
+            assertEquals(p.getLastMillisecond(calendar),
+                    c.getEndX(series, i).longValue());
+            assertEquals(p.getMillisecond(c.getXPosition(), calendar),
+                    (long) c.getXValue(series, i));
+        }
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> c.getXValue(series, s.getItemCount()));
+    }
+
+    /**
+     * The x-values are cached by the series, and must be kept up to date as
+     * items are added and removed, with separate values for each time zone.
+     */
+    @Test
+    public void testCachedXValues() {
+        TimeZone london = TimeZone.getTimeZone("Europe/London");
+        TimeZone tokyo = TimeZone.getTimeZone("Asia/Tokyo");
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        TimeSeriesCollection<String> c1 = new TimeSeriesCollection<>(s1,
+                london);
+        TimeSeriesCollection<String> c2 = new TimeSeriesCollection<>(s1,
+                tokyo);
+        c1.setXPosition(TimePeriodAnchor.MIDDLE);
+        c2.setXPosition(TimePeriodAnchor.MIDDLE);
+        for (int d = 1; d <= 20; d += 2) {
+            s1.add(new Day(d, 3, 2022), d);
+        }
+        checkXValues(c1, 0, london);
+        checkXValues(c2, 0, tokyo);
+        assertNotEquals(c1.getXValue(0, 0), c2.getXValue(0, 0));
+
+        s1.add(new Day(30, 3, 2022), 1.0);
+        s1.add(new Day(2, 3, 2022), 1.0);
+        s1.addOrUpdate(new Day(4, 3, 2022), 2.0);
+        s1.addOrUpdate(new Day(31, 3, 2022), 2.0);
+        checkXValues(c1, 0, london);
+        checkXValues(c2, 0, tokyo);
+
+        s1.delete(new Day(4, 3, 2022));
+        s1.delete(0, 2);
+        checkXValues(c1, 0, london);
+        checkXValues(c2, 0, tokyo);
+
+        s1.setMaximumItemCount(5);
+        s1.add(new Day(1, 4, 2022), 3.0);
+        assertEquals(5, s1.getItemCount());
+        checkXValues(c1, 0, london);
+
+        s1.clear();
+        s1.add(new Day(1, 5, 2022), 4.0);
+        checkXValues(c1, 0, london);
+        checkXValues(c2, 0, tokyo);
+    }
+
+    /**
+     * In ring buffer mode, the oldest items are removed as new items are
+     * added.
+     *
+     * @throws CloneNotSupportedException if there is a problem copying the
+     *     series.
+     */
+    @Test
+    public void testCachedXValuesRingBuffer()
+            throws CloneNotSupportedException {
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.setRingBufferMode(true);
+        s1.setMaximumItemCount(100);
+        TimeSeriesCollection<String> c = new TimeSeriesCollection<>(s1, zone);
+        RegularTimePeriod p = new Hour(0, new Day(1, 1, 2022));
+        for (int i = 0; i < 1000; i++) {
+            s1.add(p, i);
+            p = p.next();
+            if (i % 97 == 0) {
+                checkXValues(c, 0, zone);
+            }
+        }
+        checkXValues(c, 0, zone);
+        TimeSeriesCollection<String> clone = new TimeSeriesCollection<>(
+                s1.createCopy(10, 20), zone);
+        checkXValues(clone, 0, zone);
+    }
+
+    /**
+     * The x-values can be read from several threads at the same time.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testCachedXValuesConcurrentReads() throws Exception {
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        RegularTimePeriod p = new Minute(0, new Hour(0, new Day(1, 1, 2022)));
+        for (int i = 0; i < 10000; i++) {
+            s1.add(p, i);
+            p = p.next();
+        }
+        TimeSeriesCollection<String> c = new TimeSeriesCollection<>(s1);
+        long expected = s1.getTimePeriod(9999).getFirstMillisecond(
+                Calendar.getInstance());
+        Thread[] threads = new Thread[4];
+        long[] results = new long[threads.length];
+        for (int t = 0; t < threads.length; t++) {
+            int index = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    results[index] = c.getStartX(0, i).longValue();
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (long result : results) {
+            assertEquals(expected, result);
+        }
+    }
+
 }
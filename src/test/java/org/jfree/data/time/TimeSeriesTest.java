@@ -45,6 +45,7 @@ import org.jfree.chart.TestUtils;
 import org.jfree.chart.date.MonthConstants;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxPyramid;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesChangeListener;
 import org.jfree.data.general.SeriesException;
@@ -1151,4 +1152,118 @@ public class TimeSeriesTest implements SeriesChangeListener {
                 ts.findValueRange(range, TimePeriodAnchor.END, tzone));
 
     }
+
+    /**
+     * Check that a series in ring buffer mode discards its oldest items and
+     * tracks the y-value bounds correctly as the window slides.
+     */
+    @Test
+    public void testRingBufferMode() {
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.setRingBufferMode(true);
+        assertTrue(s1.isRingBufferMode());
+        s1.setMaximumItemCount(3);
+        double[] values = {5.0, 1.0, 9.0, 4.0, 3.0, Double.NaN, 2.0, 8.0};
+        Second second = new Second(0, 0, 0, 1, 1, 2022);
+        TimeSeries<String> s2 = new TimeSeries<>("S1");
+        s2.setMaximumItemCount(3);
+        for (double v : values) {
+            s1.add(second, v);
+            s2.add(second, v);
+            second = (Second) second.next();
+            assertEquals(s2.getItemCount(), s1.getItemCount());
+            assertEquals(s2.getMinY(), s1.getMinY());
+            assertEquals(s2.getMaxY(), s1.getMaxY());
+            assertEquals(s2.findValueRange(), s1.findValueRange());
+        }
+        assertEquals(s1, s2);
+        assertEquals(new Range(2.0, 8.0), s1.findValueRange());
+
+        // updates and out of order additions fall back to recalculation
+        s1.update(1, 20.0);
+        assertEquals(20.0, s1.getMaxY());
+        s1.add(second, 1.0);
+        assertEquals(new Range(1.0, 20.0), s1.findValueRange());
+        s1.add(second.next(), 0.0);
+        assertEquals(new Range(0.0, 8.0), s1.findValueRange());
+    }
+
+    /**
+     * Check that items are aged out of a series in ring buffer mode.
+     */
+    @Test
+    public void testRingBufferModeMaximumItemAge() {
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.setRingBufferMode(true);
+        s1.setMaximumItemAge(2);
+        s1.add(new Year(2000), 10.0);
+        s1.add(new Year(2001), 1.0);
+        s1.add(new Year(2002), 2.0);
+        s1.add(new Year(2003), 3.0);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Range(1.0, 3.0), s1.findValueRange());
+        s1.add(new Year(2004), 4.0);
+        assertEquals(new Range(2.0, 4.0), s1.findValueRange());
+    }
+
+    /**
+     * A clone of a series in ring buffer mode is independent.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testRingBufferModeCloning() throws CloneNotSupportedException {
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.setRingBufferMode(true);
+        s1.setMaximumItemCount(2);
+        s1.add(new Year(2000), 10.0);
+        s1.add(new Year(2001), 1.0);
+        TimeSeries<String> s2 = CloneUtils.clone(s1);
+        assertTrue(s2.isRingBufferMode());
+        assertEquals(s1, s2);
+        s2.add(new Year(2002), 2.0);
+        assertNotEquals(s1, s2);
+        assertEquals(new Range(1.0, 10.0), s1.findValueRange());
+        assertEquals(new Range(1.0, 2.0), s2.findValueRange());
+
+        TimeSeries<String> s3 = TestUtils.serialised(s2);
+        assertEquals(s2, s3);
+        s3.add(new Year(2003), 3.0);
+        assertEquals(new Range(2.0, 3.0), s3.findValueRange());
+    }
+
+    /**
+     * Checks that the min/max pyramid is kept in step with the series,
+     * including in ring buffer mode.
+     */
+    @Test
+    public void testMinMaxPyramid() {
+        TimeSeries<String> s = new TimeSeries<>("S");
+        assertNull(s.getMinMaxPyramid());
+        s.setMinMaxPyramidEnabled(true);
+        s.setRingBufferMode(true);
+        s.setMaximumItemCount(10);
+        Year year = new Year(2000);
+        for (int i = 0; i < 20; i++) {
+            s.add(year, i);
+            year = (Year) year.next();
+        }
+        MinMaxPyramid p = s.getMinMaxPyramid();
+        assertEquals(10, p.getItemCount());
+        assertEquals(0, p.getMinIndex(0, 9));
+        assertEquals(9, p.getMaxIndex(0, 9));
+
+        s.add(year, -1.0);
+        s.update(0, 100.0);
+        assertSame(p, s.getMinMaxPyramid());
+        assertEquals(10, p.getItemCount());
+        assertEquals(9, p.getMinIndex(0, 9));
+        assertEquals(0, p.getMaxIndex(0, 9));
+        assertEquals(s.getValue(9).doubleValue(), p.getValue(9));
+
+        s.delete(new Year(2015));
+        assertNotSame(p, s.getMinMaxPyramid());
+        assertEquals(9, s.getMinMaxPyramid().getItemCount());
+    }
+
 }
@@ -39,6 +39,7 @@ package org.jfree.data.xy;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.api.PublicCloneable;
+import org.jfree.data.Range;
 
 import org.junit.jupiter.api.Test;
 
@@ -195,4 +196,28 @@ public class DefaultTableXYDatasetTest {
         assertTrue(pass);
     }
 
+    /**
+     * The domain and range bounds should follow changes to the series.
+     */
+    @Test
+    public void testBounds() {
+        DefaultTableXYDataset<String> d = new DefaultTableXYDataset<>();
+        assertNull(d.getRangeBounds(false));
+        XYSeries<String> s1 = new XYSeries<>("S1", true, false);
+        s1.add(1.0, 5.0);
+        s1.add(2.0, 3.0);
+        XYSeries<String> s2 = new XYSeries<>("S2", true, false);
+        s2.add(1.0, -1.0);
+        s2.add(2.0, 8.0);
+        d.addSeries(s1);
+        d.addSeries(s2);
+        assertEquals(new Range(1.0, 2.0), d.getDomainBounds(false));
+        assertEquals(new Range(-1.0, 8.0), d.getRangeBounds(false));
+        s2.updateByIndex(1, 4.0);
+        assertEquals(new Range(-1.0, 5.0), d.getRangeBounds(false));
+        d.removeSeries(1);
+        assertEquals(3.0, d.getRangeLowerBound(false));
+        assertEquals(5.0, d.getRangeUpperBound(false));
+    }
+
 }
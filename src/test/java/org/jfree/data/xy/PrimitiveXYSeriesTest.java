@@ -0,0 +1,312 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * PrimitiveXYSeriesTest.java
+ * --------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.general.MinMaxPyramid;
+import org.jfree.data.general.SeriesException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link PrimitiveXYSeries} class.
+ */
+public class PrimitiveXYSeriesTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("Series");
+        s1.add(1.0, 1.1);
+        PrimitiveXYSeries<String> s2 = new PrimitiveXYSeries<>("Series");
+        s2.add(1.0, 1.1);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+
+        s1.add(2.0, 2.2);
+        assertNotEquals(s1, s2);
+        s2.add(2.0, 2.2);
+        assertEquals(s1, s2);
+
+        s1.setMaximumItemCount(5);
+        assertNotEquals(s1, s2);
+        s2.setMaximumItemCount(5);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+
+        s1.add(3.0, null);
+        assertNotEquals(s1, s2);
+        s2.add(3.0, null);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+    }
+
+    /**
+     * A primitive series is not equal to an {@link XYSeries}, in either
+     * direction, even when the items are the same (or the series are empty).
+     */
+    @Test
+    public void testEqualsIsSymmetric() {
+        XYSeries<String> s1 = new XYSeries<>("Series");
+        PrimitiveXYSeries<String> s2 = new PrimitiveXYSeries<>("Series");
+        assertNotEquals(s1, s2);
+        assertNotEquals(s2, s1);
+        s2.add(1.0, 1.1);
+        assertNotEquals(s1, s2);
+        assertNotEquals(s2, s1);
+        s1.add(1.0, 1.1);
+        assertNotEquals(s1, s2);
+        assertNotEquals(s2, s1);
+    }
+
+    /**
+     * Series that are equal have the same hash code, whatever the position
+     * of the items in the underlying arrays.
+     */
+    @Test
+    public void testHashCode() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("Series");
+        s1.setMaximumItemCount(3);
+        PrimitiveXYSeries<String> s2 = new PrimitiveXYSeries<>("Series");
+        s2.setMaximumItemCount(3);
+        for (int i = 0; i < 5; i++) {
+            s1.add(i, i * 2.0);
+        }
+        for (int i = 2; i < 5; i++) {
+            s2.add(i, i * 2.0);
+        }
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+        s2.updateByIndex(1, 7.0);
+        assertNotEquals(s1.hashCode(), s2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works and the clone is independent.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.add(1.0, 100.0);
+        s1.add(2.0, null);
+        PrimitiveXYSeries<String> s2 = CloneUtils.clone(s1);
+        assertNotSame(s1, s2);
+        assertSame(s1.getClass(), s2.getClass());
+        assertEquals(s1, s2);
+
+        s2.add(4.0, 300.0);
+        assertNotEquals(s1, s2);
+        s1.add(4.0, 300.0);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("Series");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, null);
+        PrimitiveXYSeries<String> s2 = TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Items added out of order are sorted and duplicates follow existing
+     * items with the same x-value.
+     */
+    @Test
+    public void testAutoSort() {
+        PrimitiveXYSeries<String> s = new PrimitiveXYSeries<>("S");
+        s.add(3.0, 30.0);
+        s.add(1.0, 10.0);
+        s.add(2.0, 20.0);
+        s.add(2.0, 21.0);
+        assertEquals(4, s.getItemCount());
+        assertEquals(1.0, s.getXValue(0));
+        assertEquals(2.0, s.getXValue(1));
+        assertEquals(20.0, s.getYValue(1));
+        assertEquals(21.0, s.getYValue(2));
+        assertEquals(3.0, s.getXValue(3));
+        assertEquals(2.0, s.getXValue(s.indexOf(2.0)));
+        assertEquals(-4, s.indexOf(2.5));
+    }
+
+    /**
+     * Duplicate x-values are rejected when the series does not permit them,
+     * for both sorted and unsorted series.
+     */
+    @Test
+    public void testDuplicateXValues() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S", true,
+                false);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        assertThrows(SeriesException.class, () -> s1.add(1.0, 3.0));
+        assertEquals(2, s1.getItemCount());
+
+        PrimitiveXYSeries<String> s2 = new PrimitiveXYSeries<>("S", false,
+                false);
+        s2.add(2.0, 2.0);
+        s2.add(1.0, 1.0);
+        assertThrows(SeriesException.class, () -> s2.add(2.0, 3.0));
+        assertEquals(2.0, s2.getXValue(0));
+        assertEquals(1.0, s2.getXValue(1));
+    }
+
+    /**
+     * Check that the maximum item count is respected and that the bounds are
+     * updated as items are dropped from the start of the series.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        PrimitiveXYSeries<String> s = new PrimitiveXYSeries<>("S", true,
+                true, 2);
+        s.setMaximumItemCount(3);
+        for (int i = 0; i < 100; i++) {
+            s.add(i, 100 - i);
+        }
+        assertEquals(3, s.getItemCount());
+        assertEquals(97.0, s.getXValue(0));
+        assertEquals(99.0, s.getXValue(2));
+        assertEquals(97.0, s.getMinX());
+        assertEquals(99.0, s.getMaxX());
+        assertEquals(1.0, s.getMinY());
+        assertEquals(3.0, s.getMaxY());
+
+        s.setMaximumItemCount(1);
+        assertEquals(1, s.getItemCount());
+        assertEquals(99.0, s.getXValue(0));
+        assertEquals(1.0, s.getMaxY());
+    }
+
+    /**
+     * Some checks for removing and updating items.
+     */
+    @Test
+    public void testRemoveAndUpdate() {
+        PrimitiveXYSeries<String> s = new PrimitiveXYSeries<>("S", true,
+                false);
+        s.add(1.0, 5.0);
+        s.add(2.0, 9.0);
+        s.add(3.0, 1.0);
+        s.add(4.0, null);
+        assertNull(s.getY(3));
+        assertTrue(Double.isNaN(s.getYValue(3)));
+
+        XYDataItem removed = s.remove(1);
+        assertEquals(2.0, removed.getXValue());
+        assertEquals(5.0, s.getMaxY());
+
+        s.update(3.0, 20.0);
+        assertEquals(20.0, s.getMaxY());
+        XYDataItem old = s.addOrUpdate(3.0, 2.0);
+        assertEquals(20.0, old.getYValue());
+        assertEquals(5.0, s.getMaxY());
+        assertNull(s.addOrUpdate(2.5, 7.0));
+        assertEquals(2.5, s.getXValue(1));
+
+        s.delete(0, 1);
+        assertEquals(2, s.getItemCount());
+        assertEquals(3.0, s.getMinX());
+        s.clear();
+        assertEquals(0, s.getItemCount());
+        assertTrue(Double.isNaN(s.getMinX()));
+    }
+
+    /**
+     * The series can be used in an {@link XYSeriesCollection}.
+     */
+    @Test
+    public void testInCollection() {
+        PrimitiveXYSeries<String> s = new PrimitiveXYSeries<>("S");
+        s.add(1.0, 2.0);
+        s.add(3.0, 4.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s);
+        assertEquals(2, dataset.getItemCount(0));
+        assertEquals(3.0, dataset.getXValue(0, 1));
+        assertEquals(4.0, dataset.getYValue(0, 1));
+        assertEquals(1.0, dataset.getDomainLowerBound(false));
+        assertEquals(4.0, dataset.getRangeUpperBound(false));
+    }
+
+    /**
+     * Checks that the min/max pyramid is kept in step with the series.
+     */
+    @Test
+    public void testMinMaxPyramid() {
+        XYSeries<String> s = new PrimitiveXYSeries<>("S1");
+        assertNull(s.getMinMaxPyramid());
+        s.setMinMaxPyramidEnabled(true);
+        for (int i = 0; i < 100; i++) {
+            s.add(i, Math.sin(i / 10.0));
+        }
+        MinMaxPyramid p = s.getMinMaxPyramid();
+        assertEquals(100, p.getItemCount());
+
+        // incremental changes
+        s.add(100.0, 5.0);
+        s.remove(0);
+        s.updateByIndex(10, -5.0);
+        s.add(101.0, null);
+        assertSame(p, s.getMinMaxPyramid());
+        assertEquals(101, p.getItemCount());
+        assertEquals(99, p.getMaxIndex(0, 100));
+        assertEquals(10, p.getMinIndex(0, 100));
+        assertEquals(100, p.getNaNIndex(0, 100));
+
+        // an insertion causes the pyramid to be rebuilt
+        s.add(50.5, 7.0);
+        MinMaxPyramid p2 = s.getMinMaxPyramid();
+        assertNotSame(p, p2);
+        assertEquals(102, p2.getItemCount());
+        assertEquals(50, p2.getMaxIndex(0, 101));
+
+        s.setMaximumItemCount(50);
+        assertEquals(50, s.getMinMaxPyramid().getItemCount());
+        s.clear();
+        assertEquals(0, s.getMinMaxPyramid().getItemCount());
+    }
+
+}
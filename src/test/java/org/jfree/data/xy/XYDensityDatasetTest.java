@@ -0,0 +1,155 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2022, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * XYDensityDatasetTest.java
+ * -------------------------
+ * (C) Copyright 2022, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link XYDensityDataset} class.
+ */
+public class XYDensityDatasetTest {
+
+    /**
+     * The points are counted into bins, and the bins are sorted by x-value
+     * then y-value.
+     */
+    @Test
+    public void testBins() {
+        XYSeries<String> s = new XYSeries<>("S1", false);
+        s.add(0.5, 0.5);
+        s.add(0.7, 0.1);
+        s.add(-0.5, 2.5);
+        s.add(-0.5, -2.5);
+        s.add(1.0, 0.0);
+        s.add(1.0, null);
+        XYSeriesCollection<String> underlying = new XYSeriesCollection<>(s);
+        XYDensityDataset<String> dataset = new XYDensityDataset<>(underlying,
+                1.0, 2.0);
+        assertEquals(DomainOrder.ASCENDING, dataset.getDomainOrder());
+        assertEquals(1, dataset.getSeriesCount());
+        assertEquals("S1", dataset.getSeriesKey(0));
+        assertEquals(4, dataset.getItemCount(0));
+        assertEquals(-0.5, dataset.getXValue(0, 0));
+        assertEquals(-3.0, dataset.getYValue(0, 0));
+        assertEquals(1.0, dataset.getZValue(0, 0));
+        assertEquals(-0.5, dataset.getXValue(0, 1));
+        assertEquals(3.0, dataset.getYValue(0, 1));
+        assertEquals(0.5, dataset.getXValue(0, 2));
+        assertEquals(1.0, dataset.getYValue(0, 2));
+        assertEquals(2, dataset.getZ(0, 2));
+        assertEquals(1.5, dataset.getXValue(0, 3));
+        assertEquals(1.0, dataset.getYValue(0, 3));
+        assertEquals(2, dataset.getMaximumCount());
+    }
+
+    /**
+     * A large number of bins.
+     */
+    @Test
+    public void testManyBins() {
+        double[][] data = new double[2][100000];
+        for (int i = 0; i < 100000; i++) {
+            data[0][i] = i % 250;
+            data[1][i] = i / 250;
+        }
+        DefaultXYDataset<String> underlying = new DefaultXYDataset<>();
+        underlying.addSeries("S1", data);
+        XYDensityDataset<String> dataset = new XYDensityDataset<>(underlying,
+                10.0, 10.0);
+        int total = 0;
+        for (int i = 0; i < dataset.getItemCount(0); i++) {
+            total += (int) dataset.getZValue(0, i);
+            if (i > 0) {
+                assertTrue(dataset.getXValue(0, i - 1)
+                        <= dataset.getXValue(0, i));
+            }
+        }
+        assertEquals(100000, total);
+        assertEquals(25 * 40, dataset.getItemCount(0));
+    }
+
+    /**
+     * The bins are recalculated when the underlying dataset changes.
+     */
+    @Test
+    public void testUnderlyingChange() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(0.5, 0.5);
+        XYSeriesCollection<String> underlying = new XYSeriesCollection<>(s);
+        XYDensityDataset<String> dataset = new XYDensityDataset<>(underlying,
+                1.0, 1.0);
+        List<DatasetChangeEvent> events = new ArrayList<>();
+        dataset.addChangeListener(events::add);
+        assertEquals(1, dataset.getItemCount(0));
+        s.add(5.5, 0.5);
+        assertEquals(1, events.size());
+        assertEquals(2, dataset.getItemCount(0));
+        underlying.addSeries(new XYSeries<>("S2"));
+        assertEquals(2, dataset.getSeriesCount());
+        assertEquals(0, dataset.getItemCount(1));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check that the bins are
+     * restored and follow changes to the (restored) underlying dataset.
+     */
+    @Test
+    public void testSerialization() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(0.5, 0.5);
+        s.add(2.5, 1.5);
+        XYDensityDataset<String> d1 = new XYDensityDataset<>(
+                new XYSeriesCollection<>(s), 1.0, 1.0);
+        XYDensityDataset<String> d2 = TestUtils.serialised(d1);
+        assertEquals(2, d2.getItemCount(0));
+        assertEquals(2.5, d2.getXValue(0, 1));
+        assertEquals(1.0, d2.getZValue(0, 1));
+        XYSeriesCollection<String> underlying
+                = (XYSeriesCollection<String>) d2.getUnderlyingDataset();
+        underlying.getSeries(0).add(2.5, 1.5);
+        assertEquals(2.0, d2.getZValue(0, 1));
+    }
+
+}
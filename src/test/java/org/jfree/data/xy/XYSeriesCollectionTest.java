@@ -481,4 +481,31 @@ public class XYSeriesCollectionTest {
         assertEquals(6.0, r.getUpperBound(), EPSILON);
     }
 
+    /**
+     * A batch of changes sends a single change event when it ends.
+     */
+    @Test
+    public void testBeginEndUpdate() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        XYSeries<String> s2 = new XYSeries<>("S2");
+        XYSeriesCollection<String> c = new XYSeriesCollection<>();
+        DatasetChangeConfirmation listener = new DatasetChangeConfirmation();
+        c.addChangeListener(listener);
+        c.beginUpdate();
+        c.addSeries(s1);
+        c.addSeries(s2);
+        s1.add(1.0, 2.0);
+        s2.add(1.0, 3.0);
+        assertNull(listener.event);
+        c.endUpdate();
+        assertNotNull(listener.event);
+        assertSame(c, listener.event.getDataset());
+
+        listener.event = null;
+        c.beginUpdate();
+        c.endUpdate();
+        assertNull(listener.event);
+        assertThrows(IllegalStateException.class, () -> c.endUpdate());
+    }
+
 }
@@ -38,6 +38,7 @@ package org.jfree.data.xy;
 
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.general.MinMaxPyramid;
 import org.jfree.data.general.SeriesException;
 import org.junit.jupiter.api.Test;
 
@@ -760,4 +761,70 @@ public class XYSeriesTest {
         assertEquals(2.0, s1.getMaxY(), EPSILON);
     }
 
+    /**
+     * Checks that the min/max pyramid is kept in step with the series.
+     */
+    @Test
+    public void testMinMaxPyramid() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        assertNull(s.getMinMaxPyramid());
+        s.setMinMaxPyramidEnabled(true);
+        for (int i = 0; i < 100; i++) {
+            s.add(i, Math.sin(i / 10.0));
+        }
+        MinMaxPyramid p = s.getMinMaxPyramid();
+        assertEquals(100, p.getItemCount());
+
+        // incremental changes
+        s.add(100.0, 5.0);
+        s.remove(0);
+        s.updateByIndex(10, -5.0);
+        s.add(101.0, null);
+        assertSame(p, s.getMinMaxPyramid());
+        assertEquals(101, p.getItemCount());
+        assertEquals(99, p.getMaxIndex(0, 100));
+        assertEquals(10, p.getMinIndex(0, 100));
+        assertEquals(100, p.getNaNIndex(0, 100));
+
+        // an insertion causes the pyramid to be rebuilt
+        s.add(50.5, 7.0);
+        MinMaxPyramid p2 = s.getMinMaxPyramid();
+        assertNotSame(p, p2);
+        assertEquals(102, p2.getItemCount());
+        assertEquals(50, p2.getMaxIndex(0, 101));
+
+        s.setMaximumItemCount(50);
+        assertEquals(50, s.getMinMaxPyramid().getItemCount());
+        s.clear();
+        assertEquals(0, s.getMinMaxPyramid().getItemCount());
+    }
+
+    /**
+     * A batch of changes sends a single change event when it ends.
+     */
+    @Test
+    public void testBeginEndUpdate() {
+        XYSeries<String> s1 = new XYSeries<>("Series");
+        int[] events = new int[1];
+        s1.addChangeListener(e -> events[0]++);
+        s1.beginUpdate();
+        s1.beginUpdate();
+        assertTrue(s1.isUpdating());
+        for (int i = 0; i < 100; i++) {
+            s1.add(i, i);
+        }
+        s1.endUpdate();
+        assertEquals(0, events[0]);
+        s1.endUpdate();
+        assertFalse(s1.isUpdating());
+        assertEquals(1, events[0]);
+        assertEquals(100, s1.getItemCount());
+
+        // no event for a batch without changes
+        s1.beginUpdate();
+        s1.endUpdate();
+        assertEquals(1, events[0]);
+        assertThrows(IllegalStateException.class, () -> s1.endUpdate());
+    }
+
 }